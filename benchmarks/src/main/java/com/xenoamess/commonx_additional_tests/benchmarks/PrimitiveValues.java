@@ -0,0 +1,50 @@
+package com.xenoamess.commonx_additional_tests.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Random element sources for benchmark fixtures.
+ * <p>
+ * Benchmarks are written against double, and call {@code nextDouble(rnd)} to fill their lists,
+ * so that the same source code compiles for every primitive type once the type name is replaced.
+ *
+ * @author XenoAmess
+ */
+public final class PrimitiveValues {
+    private static final int BOUND = 1 << 12;
+
+    private PrimitiveValues() {
+    }
+
+    public static boolean nextBoolean(Random rnd) {
+        return rnd.nextBoolean();
+    }
+
+    public static byte nextByte(Random rnd) {
+        return (byte) rnd.nextInt(Byte.MAX_VALUE);
+    }
+
+    public static char nextChar(Random rnd) {
+        return (char) rnd.nextInt(BOUND);
+    }
+
+    public static short nextShort(Random rnd) {
+        return (short) rnd.nextInt(BOUND);
+    }
+
+    public static int nextInt(Random rnd) {
+        return rnd.nextInt(BOUND);
+    }
+
+    public static long nextLong(Random rnd) {
+        return rnd.nextInt(BOUND);
+    }
+
+    public static float nextFloat(Random rnd) {
+        return rnd.nextInt(BOUND);
+    }
+
+    public static double nextDouble(Random rnd) {
+        return rnd.nextInt(BOUND);
+    }
+}
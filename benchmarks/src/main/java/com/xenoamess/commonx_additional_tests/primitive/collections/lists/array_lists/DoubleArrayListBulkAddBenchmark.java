@@ -0,0 +1,101 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading size elements into an empty DoubleArrayList, per element or in bulk.
+ * <p>
+ * The per element jobs add one element at a time, boxed or not, and grow the list about log1.5(size) times.
+ * The bulk jobs use DoubleArrayLists, which grows once and copies with a single System.arraycopy,
+ * against DoubleArrayList.addAll of a boxed List.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class DoubleArrayListBulkAddBenchmark {
+    @Param({"1000", "1000000", "50000000"})
+    int size;
+
+    double[] source;
+    Double[] boxedSource;
+    List<Double> boxedList;
+    DoubleArrayList primitiveList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        source = new double[size];
+        boxedSource = new Double[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = PrimitiveValues.nextDouble(rnd);
+            boxedSource[i] = source[i];
+        }
+        boxedList = new ArrayList<>(size);
+        primitiveList = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            boxedList.add(boxedSource[i]);
+            primitiveList.addPrimitive(i, source[i]);
+        }
+    }
+
+    @Benchmark
+    public DoubleArrayList addBoxedPerElement() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (Double e : boxedSource)
+            list.add(e);
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList addPrimitivePerElement() {
+        DoubleArrayList list = new DoubleArrayList();
+        double[] source = this.source;
+        for (int i = 0; i < source.length; i++)
+            list.addPrimitive(i, source[i]);
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList addAllBoxedList() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addAll(boxedList);
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList bulkAddArray() {
+        DoubleArrayList list = new DoubleArrayList();
+        DoubleArrayLists.addAll(list, source, 0, source.length);
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList bulkAddPrimitiveList() {
+        DoubleArrayList list = new DoubleArrayList();
+        DoubleArrayLists.addAll(list, primitiveList);
+        return list;
+    }
+}
@@ -0,0 +1,111 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteDoubleArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long, Float
+
+/**
+ * DoubleArrayLists.equals and hashCode against the equals and hashCode a DoubleArrayList inherits,
+ * which box every element on the way.
+ * <p>
+ * equals compares two lists of the same elements, so it reads both to the end.
+ * The *Scalar jobs fork a plain jvm; the *Vector jobs fork with {@code --add-modules jdk.incubator.vector},
+ * so they need java 17 or later and a commonx_additional_tests built by the jdk17 profile,
+ * and each checks it really got the vector kernel.
+ * hashCodeCopyOnWrite hashes a CopyOnWriteDoubleArrayList nobody changes, so all but its first call hit the cache.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class DoubleArrayListEqualsBenchmark {
+    static final String ADD_VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    DoubleArrayList list;
+    DoubleArrayList copy;
+    CopyOnWriteDoubleArrayList copyOnWrite;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        double[] a = new double[size];
+        for (int i = 0; i < size; i++)
+            a[i] = PrimitiveValues.nextDouble(rnd);
+        list = new DoubleArrayList(size);
+        copy = new DoubleArrayList(size);
+        DoubleArrayLists.addAll(list, a, 0, size);
+        DoubleArrayLists.addAll(copy, a, 0, size);
+        copyOnWrite = new CopyOnWriteDoubleArrayList(a);
+    }
+
+    @Setup(Level.Trial)
+    public void checkKernel(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        if (benchmark.endsWith("Vector") && !DoubleArrayListScans.isVectorized()
+                || benchmark.endsWith("Scalar") && DoubleArrayListScans.isVectorized()) {
+            throw new IllegalStateException(benchmark + " runs with isVectorized() == " + DoubleArrayListScans.isVectorized());
+        }
+    }
+
+    @Benchmark
+    public boolean equalsBoxed() {
+        return list.equals(copy);
+    }
+
+    @Benchmark
+    public boolean equalsScalar() {
+        return DoubleArrayLists.equals(list, copy);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"-Xmx4g", ADD_VECTOR_MODULE})
+    public boolean equalsVector() {
+        return DoubleArrayLists.equals(list, copy);
+    }
+
+    @Benchmark
+    public int hashCodeBoxed() {
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeScalar() {
+        return DoubleArrayLists.hashCode(list);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"-Xmx4g", ADD_VECTOR_MODULE})
+    public int hashCodeVector() {
+        return DoubleArrayLists.hashCode(list);
+    }
+
+    @Benchmark
+    public int hashCodeCopyOnWrite() {
+        return copyOnWrite.hashCode();
+    }
+}
@@ -0,0 +1,117 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long
+
+/**
+ * Appending size elements to an empty GrowthPolicyDoubleArrayList, under each GrowthPolicy.
+ * <p>
+ * Besides the time, three counters describe each append run:
+ * bytesCopied is the total of the old arrays copied by the growths,
+ * and peakBytes the largest old plus new array, both alive while one growth copies.
+ * slackBytes is the capacity left unused at the end.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class DoubleArrayListGrowthBenchmark {
+    @Param({"1000", "1000000", "10000000"})
+    int size;
+
+    @Param({"oneAndAHalf", "doubling", "additive", "capped", "pageAligned"})
+    String policy;
+
+    double x;
+    GrowthPolicy growthPolicy;
+
+    /**
+     * Counts what each growth of an append run copies.
+     */
+    static final class CountingPolicy implements GrowthPolicy {
+        final GrowthPolicy policy;
+        long bytesCopied;
+        long peakBytes;
+        long capacity;
+
+        CountingPolicy(GrowthPolicy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        public int newCapacity(int oldCapacity, int minCapacity) {
+            int newCapacity = Math.max(policy.newCapacity(oldCapacity, minCapacity), minCapacity);
+            bytesCopied += (long) oldCapacity * Double.BYTES;
+            peakBytes = Math.max(peakBytes, ((long) oldCapacity + newCapacity) * Double.BYTES);
+            capacity = newCapacity;
+            return newCapacity;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CopyCounters {
+        public long bytesCopied;
+        public long peakBytes;
+        public long slackBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        x = PrimitiveValues.nextDouble(new Random(42L));
+        switch (policy) {
+            case "oneAndAHalf":
+                growthPolicy = GrowthPolicy.ONE_AND_A_HALF;
+                break;
+            case "doubling":
+                growthPolicy = GrowthPolicy.DOUBLING;
+                break;
+            case "additive":
+                growthPolicy = GrowthPolicy.additive(1 << 16);
+                break;
+            case "capped":
+                growthPolicy = GrowthPolicy.capped(GrowthPolicy.DOUBLING, 1 << 20);
+                break;
+            case "pageAligned":
+                growthPolicy = GrowthPolicy.pageAligned(GrowthPolicy.ONE_AND_A_HALF, Double.BYTES, 4096);
+                break;
+            default:
+                throw new IllegalArgumentException(policy);
+        }
+    }
+
+    @Benchmark
+    public DoubleArrayList append(CopyCounters counters) {
+        CountingPolicy countingPolicy = new CountingPolicy(growthPolicy);
+        DoubleArrayList list = new GrowthPolicyDoubleArrayList(countingPolicy);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, x);
+        // the same every run, so assigned rather than summed.
+        counters.bytesCopied = countingPolicy.bytesCopied;
+        counters.peakBytes = countingPolicy.peakBytes;
+        counters.slackBytes = (countingPolicy.capacity - size) * Double.BYTES;
+        return list;
+    }
+}
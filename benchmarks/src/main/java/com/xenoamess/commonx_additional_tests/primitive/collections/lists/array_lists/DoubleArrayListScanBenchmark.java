@@ -0,0 +1,136 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long, Float
+
+/**
+ * DoubleArrayListScans on scalar loops against the Vector API.
+ * <p>
+ * The *Scalar jobs fork a plain jvm, so DoubleArrayListScans falls back to one element at a time.
+ * The *Vector jobs fork with {@code --add-modules jdk.incubator.vector}, so they need java 17 or later,
+ * and a commonx_additional_tests built by the jdk17 profile; each checks it really got the vector kernel.
+ * getPrimitiveSum is the loop a caller would write without DoubleArrayListScans.
+ * indexOf looks for a value that is not in the list, so it scans all of it.
+ * <p>
+ * 1000 elements stay in L1, 100000 in L2, and 10000000 come from memory.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DoubleArrayListScanBenchmark {
+    static final String ADD_VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    DoubleArrayList list;
+    double absent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        list = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, PrimitiveValues.nextDouble(rnd));
+        do {
+            absent = PrimitiveValues.nextDouble(rnd);
+        } while (DoubleArrayListScans.containsPrimitive(list, absent));
+    }
+
+    @Setup(Level.Trial)
+    public void checkKernel(BenchmarkParams params) {
+        boolean vector = params.getBenchmark().endsWith("Vector");
+        if (vector != DoubleArrayListScans.isVectorized()) {
+            throw new IllegalStateException(params.getBenchmark() + " runs with isVectorized() == " + !vector);
+        }
+    }
+
+    @Benchmark
+    public double getPrimitiveSum() {
+        DoubleArrayList list = this.list;
+        double sum = 0;
+        for (int i = 0, size = list.size(); i < size; i++)
+            sum += list.getPrimitive(i);
+        return sum;
+    }
+
+    @Benchmark
+    public double sumScalar() {
+        return DoubleArrayListScans.sum(list);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ADD_VECTOR_MODULE)
+    public double sumVector() {
+        return DoubleArrayListScans.sum(list);
+    }
+
+    @Benchmark
+    public double minScalar() {
+        return DoubleArrayListScans.min(list);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ADD_VECTOR_MODULE)
+    public double minVector() {
+        return DoubleArrayListScans.min(list);
+    }
+
+    @Benchmark
+    public double maxScalar() {
+        return DoubleArrayListScans.max(list);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ADD_VECTOR_MODULE)
+    public double maxVector() {
+        return DoubleArrayListScans.max(list);
+    }
+
+    @Benchmark
+    public int indexOfScalar() {
+        return DoubleArrayListScans.indexOfPrimitive(list, absent);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ADD_VECTOR_MODULE)
+    public int indexOfVector() {
+        return DoubleArrayListScans.indexOfPrimitive(list, absent);
+    }
+
+    @Benchmark
+    public DoubleArrayList fillScalar() {
+        DoubleArrayListScans.fill(list, absent);
+        return list;
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ADD_VECTOR_MODULE)
+    public DoubleArrayList fillVector() {
+        DoubleArrayListScans.fill(list, absent);
+        return list;
+    }
+}
@@ -0,0 +1,92 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long, Short, Byte, Char, Float
+
+/**
+ * Sorting a DoubleArrayList of size random elements.
+ * <p>
+ * copySort is what callers did before DoubleArrayListSorts:
+ * copy out with toArrayPrimitive, Arrays.sort the copy, and copy it back.
+ * sortPrimitive and parallelSortPrimitive sort elementData in place.
+ * <p>
+ * Every job first reloads the unsorted elements with one System.arraycopy;
+ * reload measures that alone, to be subtracted from the others.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class DoubleArrayListSortBenchmark {
+    @Param({"1000", "100000", "10000000", "100000000"})
+    int size;
+
+    double[] source;
+    DoubleArrayList list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        source = new double[size];
+        for (int i = 0; i < size; i++)
+            source[i] = PrimitiveValues.nextDouble(rnd);
+        list = new DoubleArrayList(size);
+    }
+
+    void reloadList() {
+        list.clear();
+        DoubleArrayLists.addAll(list, source, 0, size);
+    }
+
+    @Benchmark
+    public DoubleArrayList reload() {
+        reloadList();
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList copySort() {
+        reloadList();
+        double[] a = list.toArrayPrimitive(new double[0]);
+        Arrays.sort(a);
+        list.clear();
+        DoubleArrayLists.addAll(list, a, 0, a.length);
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList sortPrimitive() {
+        reloadList();
+        DoubleArrayListSorts.sortPrimitive(list);
+        return list;
+    }
+
+    @Benchmark
+    public DoubleArrayList parallelSortPrimitive() {
+        reloadList();
+        DoubleArrayListSorts.parallelSortPrimitive(list);
+        return list;
+    }
+}
@@ -0,0 +1,101 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long, Float
+
+/**
+ * DoubleArrayLists.toString and appendTo against the toString a DoubleArrayList inherits,
+ * which boxes every element and makes a String of it on the way.
+ * <p>
+ * boxed and primitive make the whole String; writeBoxed and appendToWriter put the same text into a Writer
+ * that drops it, the first by way of that String, the second a chunk at a time.
+ * Run with {@code -prof gc} to see the allocation each takes per call.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class DoubleArrayListToStringBenchmark {
+    @Param({"100", "10000", "1000000"})
+    int size;
+
+    DoubleArrayList list;
+    final CountingWriter writer = new CountingWriter();
+
+    /**
+     * Counts the characters written to it, and keeps none.
+     */
+    static final class CountingWriter extends Writer {
+        long count;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(String str) {
+            count += str.length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        list = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, PrimitiveValues.nextDouble(rnd));
+    }
+
+    @Benchmark
+    public String boxed() {
+        return list.toString();
+    }
+
+    @Benchmark
+    public String primitive() {
+        return DoubleArrayLists.toString(list);
+    }
+
+    @Benchmark
+    public long writeBoxed() throws IOException {
+        writer.write(list.toString());
+        return writer.count;
+    }
+
+    @Benchmark
+    public long appendToWriter() throws IOException {
+        return DoubleArrayLists.appendTo(list, writer).count;
+    }
+}
@@ -0,0 +1,93 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * radixSortPrimitive against sortPrimitive and parallelSortPrimitive on a IntArrayList.
+ * <p>
+ * random keys need every pass of the radix sort.
+ * ids are a sequence, shuffled; they share their high byte, so the radix sort skips that pass.
+ * <p>
+ * Every job first reloads the unsorted elements; reload measures that alone.
+ *
+ * @author XenoAmess
+ * @see DoubleArrayListSortBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class IntArrayListRadixSortBenchmark {
+    @Param({"1000", "100000", "10000000", "100000000"})
+    int size;
+
+    @Param({"random", "ids"})
+    String keys;
+
+    int[] source;
+    IntArrayList list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        source = new int[size];
+        for (int i = 0; i < size; i++)
+            source[i] = "random".equals(keys) ? rnd.nextInt() : 100000000 + i;
+        for (int i = size - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = source[i];
+            source[i] = source[j];
+            source[j] = t;
+        }
+        list = new IntArrayList(size);
+    }
+
+    void reloadList() {
+        list.clear();
+        IntArrayLists.addAll(list, source, 0, size);
+    }
+
+    @Benchmark
+    public IntArrayList reload() {
+        reloadList();
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList sortPrimitive() {
+        reloadList();
+        IntArrayListSorts.sortPrimitive(list);
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList parallelSortPrimitive() {
+        reloadList();
+        IntArrayListSorts.parallelSortPrimitive(list);
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList radixSortPrimitive() {
+        reloadList();
+        IntArrayListSorts.radixSortPrimitive(list);
+        return list;
+    }
+}
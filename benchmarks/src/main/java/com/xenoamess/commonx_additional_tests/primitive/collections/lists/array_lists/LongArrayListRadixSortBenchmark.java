@@ -0,0 +1,94 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * radixSortPrimitive against sortPrimitive and parallelSortPrimitive on a LongArrayList.
+ * <p>
+ * random keys need every pass of the radix sort.
+ * timestamps are a second apart in milliseconds, shuffled; they share their high bytes,
+ * so the radix sort skips those passes.
+ * <p>
+ * Every job first reloads the unsorted elements; reload measures that alone.
+ *
+ * @author XenoAmess
+ * @see DoubleArrayListSortBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class LongArrayListRadixSortBenchmark {
+    @Param({"1000", "100000", "10000000", "100000000"})
+    int size;
+
+    @Param({"random", "timestamps"})
+    String keys;
+
+    long[] source;
+    LongArrayList list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        source = new long[size];
+        for (int i = 0; i < size; i++)
+            source[i] = "random".equals(keys) ? rnd.nextLong() : 1600000000000L + i * 1000L;
+        for (int i = size - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            long t = source[i];
+            source[i] = source[j];
+            source[j] = t;
+        }
+        list = new LongArrayList(size);
+    }
+
+    void reloadList() {
+        list.clear();
+        LongArrayLists.addAll(list, source, 0, size);
+    }
+
+    @Benchmark
+    public LongArrayList reload() {
+        reloadList();
+        return list;
+    }
+
+    @Benchmark
+    public LongArrayList sortPrimitive() {
+        reloadList();
+        LongArrayListSorts.sortPrimitive(list);
+        return list;
+    }
+
+    @Benchmark
+    public LongArrayList parallelSortPrimitive() {
+        reloadList();
+        LongArrayListSorts.parallelSortPrimitive(list);
+        return list;
+    }
+
+    @Benchmark
+    public LongArrayList radixSortPrimitive() {
+        reloadList();
+        LongArrayListSorts.radixSortPrimitive(list);
+        return list;
+    }
+}
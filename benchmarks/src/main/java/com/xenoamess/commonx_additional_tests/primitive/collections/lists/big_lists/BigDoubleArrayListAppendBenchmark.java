@@ -0,0 +1,56 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.big_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long
+
+/**
+ * Appends size elements to an empty list.
+ * <p>
+ * Sample time shows the tail latency:
+ * DoubleArrayList copies the whole backing array when it grows, while BigDoubleArrayList only
+ * allocates a new chunk and copies the chunk table.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class BigDoubleArrayListAppendBenchmark {
+    @Param({"100000", "10000000"})
+    int size;
+
+    @Param({"12", "16", "20"})
+    int chunkShift;
+
+    @Benchmark
+    public DoubleArrayList arrayListAppend() {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(list.size(), (double) i);
+        return list;
+    }
+
+    @Benchmark
+    public BigDoubleArrayList bigArrayListAppend() {
+        BigDoubleArrayList list = new BigDoubleArrayList(0, chunkShift);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive((double) i);
+        return list;
+    }
+}
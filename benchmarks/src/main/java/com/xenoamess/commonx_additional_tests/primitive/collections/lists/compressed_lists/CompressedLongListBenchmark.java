@@ -0,0 +1,115 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.compressed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayLists;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a CompressedLongList against the raw long[] of the LongArrayList it was frozen from.
+ * <p>
+ * sortedDense ids are 1 to 16 apart, sortedSparse ids up to 65536 apart, and random longs have no order at all.
+ * The sum jobs read every element, by index or by iterator; decode unpacks the whole list into a long[].
+ * rawBytes and compressedBytes are the bytes the elements take in each form, the same every run;
+ * divided by size they are the bytes per element.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class CompressedLongListBenchmark {
+    @Param({"1000000", "10000000"})
+    int size;
+
+    @Param({"sortedDense", "sortedSparse", "random"})
+    String distribution;
+
+    long[] raw;
+    CompressedLongList compressed;
+    long[] decoded;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long rawBytes;
+        public long compressedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        LongArrayList list = new LongArrayList(size);
+        long x = 0;
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case "sortedDense":
+                    x += 1 + rnd.nextInt(16);
+                    break;
+                case "sortedSparse":
+                    x += 1 + rnd.nextInt(1 << 16);
+                    break;
+                case "random":
+                    x = rnd.nextLong();
+                    break;
+                default:
+                    throw new IllegalArgumentException(distribution);
+            }
+            list.addPrimitive(i, x);
+        }
+        raw = list.toArrayPrimitive(new long[size]);
+        compressed = LongArrayLists.freezeCompressed(list);
+        decoded = new long[size];
+    }
+
+    @Benchmark
+    public long sumRaw(Footprint footprint) {
+        footprint.rawBytes = (long) size * Long.BYTES;
+        footprint.compressedBytes = compressed.sizeInBytes();
+        long[] a = raw;
+        long sum = 0;
+        for (int i = 0; i < a.length; i++)
+            sum += a[i];
+        return sum;
+    }
+
+    @Benchmark
+    public long sumGetPrimitive() {
+        CompressedLongList list = compressed;
+        long sum = 0;
+        for (int i = 0, n = list.size(); i < n; i++)
+            sum += list.getPrimitive(i);
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIterator() {
+        long sum = 0;
+        for (LongIterator it = compressed.iterator(); it.hasNext(); )
+            sum += it.nextPrimitive();
+        return sum;
+    }
+
+    @Benchmark
+    public long[] decode() {
+        return compressed.toArrayPrimitive(decoded);
+    }
+}
@@ -0,0 +1,144 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long
+
+/**
+ * 1 to 64 threads appending to one shared list:
+ * a ConcurrentDoubleAppendList, against a DoubleArrayList behind a lock, as callers had it before.
+ * <p>
+ * Throughput is appends per microsecond summed over all threads, so a flat line is no scaling at all.
+ * Both lists start empty each iteration, so neither grows without bound.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ConcurrentDoubleAppendListBenchmark {
+    ConcurrentDoubleAppendList appendList;
+    DoubleArrayList lockedList;
+    final Object lock = new Object();
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        appendList = new ConcurrentDoubleAppendList();
+        synchronized (lock) {
+            lockedList = new DoubleArrayList();
+        }
+    }
+
+    boolean append() {
+        return appendList.addPrimitive((double) 1);
+    }
+
+    boolean appendLocked() {
+        synchronized (lock) {
+            DoubleArrayList list = lockedList;
+            list.addPrimitive(list.size(), (double) 1);
+            return true;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean append01() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean append02() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean append04() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean append08() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean append16() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean append32() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean append64() {
+        return append();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean locked01() {
+        return appendLocked();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean locked02() {
+        return appendLocked();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean locked04() {
+        return appendLocked();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean locked08() {
+        return appendLocked();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean locked16() {
+        return appendLocked();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean locked32() {
+        return appendLocked();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean locked64() {
+        return appendLocked();
+    }
+}
@@ -0,0 +1,158 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists;
+
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long
+
+/**
+ * 1 to 64 threads reading one shared read-mostly list:
+ * a CopyOnWriteDoubleArrayList, against a CopyOnWriteArrayList&lt;Double&gt;, as callers had it before.
+ * <p>
+ * Each job reads the whole list once, summing its elements, through the iterator as a caller scanning it would.
+ * Throughput is scans per microsecond summed over all threads;
+ * reads take no lock, so it should grow with the threads up to the number of cores,
+ * unless the boxed list's allocation gets in the way.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CopyOnWriteDoubleArrayListBenchmark {
+    @Param({"16", "1024"})
+    int size;
+
+    CopyOnWriteDoubleArrayList primitiveList;
+    CopyOnWriteArrayList<Double> boxedList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        primitiveList = new CopyOnWriteDoubleArrayList();
+        boxedList = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double e = PrimitiveValues.nextDouble(rnd);
+            primitiveList.addPrimitive(e);
+            boxedList.add(e);
+        }
+    }
+
+    double scanPrimitive() {
+        double sum = 0;
+        for (DoubleIterator it = primitiveList.iterator(); it.hasNext(); )
+            sum += it.nextPrimitive();
+        return sum;
+    }
+
+    double scanBoxed() {
+        double sum = 0;
+        for (Double e : boxedList)
+            sum += e;
+        return sum;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double primitive01() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public double primitive02() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double primitive04() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public double primitive08() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public double primitive16() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public double primitive32() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public double primitive64() {
+        return scanPrimitive();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double boxed01() {
+        return scanBoxed();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public double boxed02() {
+        return scanBoxed();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double boxed04() {
+        return scanBoxed();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public double boxed08() {
+        return scanBoxed();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public double boxed16() {
+        return scanBoxed();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public double boxed32() {
+        return scanBoxed();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public double boxed64() {
+        return scanBoxed();
+    }
+}
@@ -0,0 +1,92 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue-like churn and traversal of DoubleLinkedList against PooledDoubleLinkedList.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate: gc.alloc.rate.norm is about one node per
+ * churn operation for DoubleLinkedList, and zero for PooledDoubleLinkedList.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PooledDoubleLinkedListBenchmark {
+    static final int OPERATIONS = 1000;
+
+    @Param({"16", "1000", "100000"})
+    int size;
+
+    DoubleLinkedList linkedList;
+    PooledDoubleLinkedList pooledList;
+    double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        linkedList = new DoubleLinkedList();
+        pooledList = new PooledDoubleLinkedList(size);
+        for (int i = 0; i < size; i++) {
+            double e = PrimitiveValues.nextDouble(rnd);
+            linkedList.addPrimitive(i, e);
+            pooledList.addLastPrimitive(e);
+        }
+        x = PrimitiveValues.nextDouble(rnd);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void linkedListChurn(Blackhole bh) {
+        DoubleLinkedList list = linkedList;
+        for (int i = 0; i < OPERATIONS; i++) {
+            list.addPrimitive(list.size(), x);
+            bh.consume(list.remove(0));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void pooledListChurn(Blackhole bh) {
+        PooledDoubleLinkedList list = pooledList;
+        for (int i = 0; i < OPERATIONS; i++) {
+            list.addLastPrimitive(x);
+            bh.consume(list.removeFirstPrimitive());
+        }
+    }
+
+    @Benchmark
+    public void linkedListIterate(Blackhole bh) {
+        for (DoubleIterator it = linkedList.iterator(); it.hasNext(); )
+            bh.consume(it.nextPrimitive());
+    }
+
+    @Benchmark
+    public void pooledListIterate(Blackhole bh) {
+        for (DoubleIterator it = pooledList.iterator(); it.hasNext(); )
+            bh.consume(it.nextPrimitive());
+    }
+}
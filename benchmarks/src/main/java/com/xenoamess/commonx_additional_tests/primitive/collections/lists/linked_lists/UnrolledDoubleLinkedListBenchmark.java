@@ -0,0 +1,119 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traversal and middle insertion of UnrolledDoubleLinkedList against DoubleLinkedList and DoubleArrayList.
+ * <p>
+ * The middle insert benchmarks position one list iterator at the middle, then add OPERATIONS elements
+ * through it and remove them again, so the size stays the same between invocations.
+ * The linked lists pay for the walk to the middle once; the array list shifts half of its elements
+ * on every operation.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class UnrolledDoubleLinkedListBenchmark {
+    static final int OPERATIONS = 1000;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"64"})
+    int blockSize;
+
+    DoubleLinkedList linkedList;
+    UnrolledDoubleLinkedList unrolledList;
+    DoubleArrayList arrayList;
+    double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        linkedList = new DoubleLinkedList();
+        unrolledList = new UnrolledDoubleLinkedList(blockSize);
+        arrayList = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++) {
+            double e = PrimitiveValues.nextDouble(rnd);
+            linkedList.addPrimitive(i, e);
+            unrolledList.addPrimitive(e);
+            arrayList.addPrimitive(i, e);
+        }
+        x = PrimitiveValues.nextDouble(rnd);
+    }
+
+    static void iterate(DoubleList list, Blackhole bh) {
+        for (DoubleIterator it = list.iterator(); it.hasNext(); )
+            bh.consume(it.nextPrimitive());
+    }
+
+    static void insertInTheMiddle(DoubleList list, double x, Blackhole bh) {
+        DoubleListIterator it = list.listIterator(list.size() >>> 1);
+        for (int i = 0; i < OPERATIONS; i++)
+            it.addPrimitive(x);
+        for (int i = 0; i < OPERATIONS; i++) {
+            bh.consume(it.previousPrimitive());
+            it.remove();
+        }
+    }
+
+    @Benchmark
+    public void linkedListIterate(Blackhole bh) {
+        iterate(linkedList, bh);
+    }
+
+    @Benchmark
+    public void unrolledListIterate(Blackhole bh) {
+        iterate(unrolledList, bh);
+    }
+
+    @Benchmark
+    public void arrayListIterate(Blackhole bh) {
+        iterate(arrayList, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void linkedListInsertInTheMiddle(Blackhole bh) {
+        insertInTheMiddle(linkedList, x, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void unrolledListInsertInTheMiddle(Blackhole bh) {
+        insertInTheMiddle(unrolledList, x, bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void arrayListInsertInTheMiddle(Blackhole bh) {
+        insertInTheMiddle(arrayList, x, bh);
+    }
+}
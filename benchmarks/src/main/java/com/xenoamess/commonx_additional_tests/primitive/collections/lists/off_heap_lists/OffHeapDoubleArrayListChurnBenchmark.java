@@ -0,0 +1,134 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.off_heap_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+// generated types: Int, Long
+
+/**
+ * Builds and drops lists of size elements over and over, while a large list is kept alive.
+ * <p>
+ * The gcTimeMillis and gcCount counters are the time spent in and the number of collections during
+ * each iteration, as reported by the GarbageCollectorMXBeans.
+ * Each benchmark only sets up its own retained list, so the on-heap runs keep it and all the churned
+ * backing arrays on the heap, while the off-heap runs leave the heap almost empty.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx2g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Benchmark)
+public class OffHeapDoubleArrayListChurnBenchmark {
+    @Param({"1000000"})
+    int size;
+
+    @State(Scope.Benchmark)
+    public static class RetainedOnHeap {
+        @Param({"100000000"})
+        int retainedSize;
+
+        DoubleArrayList list;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new DoubleArrayList(retainedSize);
+            for (int i = 0; i < retainedSize; i++)
+                list.addPrimitive(i, (double) i);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RetainedOffHeap {
+        @Param({"100000000"})
+        int retainedSize;
+
+        OffHeapDoubleArrayList list;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            list = new OffHeapDoubleArrayList(retainedSize);
+            for (int i = 0; i < retainedSize; i++)
+                list.addPrimitive((double) i);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            list.close();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class GcCounters {
+        public long gcCount;
+        public long gcTimeMillis;
+
+        private long startCount;
+        private long startTimeMillis;
+
+        private static long totalCount() {
+            long result = 0;
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+                result += Math.max(0, bean.getCollectionCount());
+            return result;
+        }
+
+        private static long totalTimeMillis() {
+            long result = 0;
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+                result += Math.max(0, bean.getCollectionTime());
+            return result;
+        }
+
+        @Setup(Level.Iteration)
+        public void start() {
+            gcCount = 0;
+            gcTimeMillis = 0;
+            startCount = totalCount();
+            startTimeMillis = totalTimeMillis();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            gcCount = totalCount() - startCount;
+            gcTimeMillis = totalTimeMillis() - startTimeMillis;
+        }
+    }
+
+    @Benchmark
+    public double onHeapChurn(RetainedOnHeap retained, GcCounters counters) {
+        DoubleArrayList list = new DoubleArrayList();
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, (double) i);
+        return list.getPrimitive(size - 1) + retained.list.getPrimitive(size);
+    }
+
+    @Benchmark
+    public double offHeapChurn(RetainedOffHeap retained, GcCounters counters) {
+        try (OffHeapDoubleArrayList list = new OffHeapDoubleArrayList()) {
+            for (int i = 0; i < size; i++)
+                list.addPrimitive((double) i);
+            return list.getPrimitive(size - 1) + retained.list.getPrimitive(size);
+        }
+    }
+}
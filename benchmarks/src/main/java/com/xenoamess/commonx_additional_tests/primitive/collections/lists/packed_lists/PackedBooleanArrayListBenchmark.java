@@ -0,0 +1,150 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.packed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PackedBooleanArrayList against java.util.BitSet, and against BooleanArrayList where that can answer at all.
+ * <p>
+ * density is the share of elements that are true.
+ * The bulk jobs combine the same two operands on every invocation;
+ * and and or reach a fixed point after the first, which costs them the same per word,
+ * and xor flips back and forth.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class PackedBooleanArrayListBenchmark {
+    @Param({"1000", "1000000", "100000000"})
+    int size;
+
+    @Param({"0.5", "0.001"})
+    double density;
+
+    PackedBooleanArrayList packed;
+    PackedBooleanArrayList otherPacked;
+    BitSet bitSet;
+    BitSet otherBitSet;
+    BooleanArrayList booleanArrayList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        packed = new PackedBooleanArrayList(size);
+        otherPacked = new PackedBooleanArrayList(size);
+        bitSet = new BitSet(size);
+        otherBitSet = new BitSet(size);
+        booleanArrayList = new BooleanArrayList(size);
+        for (int i = 0; i < size; i++) {
+            boolean e = rnd.nextDouble() < density;
+            boolean other = rnd.nextDouble() < density;
+            packed.addPrimitive(e);
+            otherPacked.addPrimitive(other);
+            bitSet.set(i, e);
+            otherBitSet.set(i, other);
+            booleanArrayList.addPrimitive(i, e);
+        }
+    }
+
+    @Benchmark
+    public int cardinalityPacked() {
+        return packed.cardinality();
+    }
+
+    @Benchmark
+    public int cardinalityBitSet() {
+        return bitSet.cardinality();
+    }
+
+    @Benchmark
+    public int cardinalityBooleanArrayList() {
+        BooleanArrayList list = booleanArrayList;
+        int sum = 0;
+        for (int i = 0, n = list.size(); i < n; i++)
+            if (list.getPrimitive(i))
+                sum++;
+        return sum;
+    }
+
+    @Benchmark
+    public long nextSetBitPacked() {
+        long sum = 0;
+        for (int i = packed.nextSetBit(0); i >= 0; i = packed.nextSetBit(i + 1))
+            sum += i;
+        return sum;
+    }
+
+    @Benchmark
+    public long nextSetBitBitSet() {
+        long sum = 0;
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1))
+            sum += i;
+        return sum;
+    }
+
+    @Benchmark
+    public long nextSetBitBooleanArrayList() {
+        BooleanArrayList list = booleanArrayList;
+        long sum = 0;
+        for (int i = 0, n = list.size(); i < n; i++)
+            if (list.getPrimitive(i))
+                sum += i;
+        return sum;
+    }
+
+    @Benchmark
+    public PackedBooleanArrayList andPacked() {
+        packed.and(otherPacked);
+        return packed;
+    }
+
+    @Benchmark
+    public BitSet andBitSet() {
+        bitSet.and(otherBitSet);
+        return bitSet;
+    }
+
+    @Benchmark
+    public PackedBooleanArrayList orPacked() {
+        packed.or(otherPacked);
+        return packed;
+    }
+
+    @Benchmark
+    public BitSet orBitSet() {
+        bitSet.or(otherBitSet);
+        return bitSet;
+    }
+
+    @Benchmark
+    public PackedBooleanArrayList xorPacked() {
+        packed.xor(otherPacked);
+        return packed;
+    }
+
+    @Benchmark
+    public BitSet xorBitSet() {
+        bitSet.xor(otherBitSet);
+        return bitSet;
+    }
+}
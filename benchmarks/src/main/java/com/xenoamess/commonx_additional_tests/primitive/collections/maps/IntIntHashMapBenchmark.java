@@ -0,0 +1,114 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.maps;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An IntIntHashMap against a HashMap&lt;Integer, Integer&gt;, on the steps our pipelines run.
+ * <p>
+ * count tallies size keys drawn from distinct values, with addTo or merge;
+ * build puts size distinct keys into a map; join looks up size probe keys, half of them absent, in a built map.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class IntIntHashMapBenchmark {
+    @Param({"10000", "1000000"})
+    int size;
+
+    @Param({"100", "100000"})
+    int distinct;
+
+    int[] keys;
+    int[] buildKeys;
+    int[] probeKeys;
+    IntIntHashMap primitiveMap;
+    HashMap<Integer, Integer> boxedMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        keys = new int[size];
+        for (int i = 0; i < size; i++)
+            keys[i] = rnd.nextInt(distinct);
+        buildKeys = new int[size];
+        probeKeys = new int[size];
+        for (int i = 0; i < size; i++) {
+            buildKeys[i] = rnd.nextInt();
+            probeKeys[i] = rnd.nextBoolean() ? buildKeys[rnd.nextInt(i + 1)] : rnd.nextInt();
+        }
+        primitiveMap = buildPrimitive();
+        boxedMap = buildBoxed();
+    }
+
+    @Benchmark
+    public IntIntHashMap countPrimitive() {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int key : keys)
+            map.addTo(key, 1);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> countBoxed() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (int key : keys)
+            map.merge(key, 1, Integer::sum);
+        return map;
+    }
+
+    @Benchmark
+    public IntIntHashMap buildPrimitive() {
+        IntIntHashMap map = new IntIntHashMap();
+        int[] a = buildKeys;
+        for (int i = 0; i < a.length; i++)
+            map.put(a[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> buildBoxed() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        int[] a = buildKeys;
+        for (int i = 0; i < a.length; i++)
+            map.put(a[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public long joinPrimitive() {
+        IntIntHashMap map = primitiveMap;
+        long sum = 0;
+        for (int key : probeKeys)
+            sum += map.getOrDefault(key, -1);
+        return sum;
+    }
+
+    @Benchmark
+    public long joinBoxed() {
+        HashMap<Integer, Integer> map = boxedMap;
+        long sum = 0;
+        for (int key : probeKeys)
+            sum += map.getOrDefault(key, -1);
+        return sum;
+    }
+}
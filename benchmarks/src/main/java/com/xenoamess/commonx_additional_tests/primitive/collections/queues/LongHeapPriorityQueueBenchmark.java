@@ -0,0 +1,110 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.queues;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A LongHeapPriorityQueue of the given arity against a PriorityQueue&lt;Long&gt;, holding size deadlines.
+ * <p>
+ * hold is a timer's steady state: poll the earliest deadline, then offer a new one a random delay after it,
+ * OPERATIONS times, so the size never changes.
+ * build makes a queue of size deadlines, by heapifying a LongArrayList or offering them one at a time.
+ * Run with -prof gc to see the Long each boxed offer allocates.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class LongHeapPriorityQueueBenchmark {
+    private static final int OPERATIONS = 1024;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"2", "4"})
+    int arity;
+
+    long[] delays;
+    LongArrayList deadlines;
+    ArrayList<Long> boxedDeadlines;
+    LongHeapPriorityQueue primitiveQueue;
+    PriorityQueue<Long> boxedQueue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        delays = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++)
+            delays[i] = 1 + rnd.nextInt(1 << 20);
+        deadlines = new LongArrayList(size);
+        for (int i = 0; i < size; i++)
+            deadlines.addPrimitive(i, rnd.nextInt(1 << 20));
+        boxedDeadlines = new ArrayList<>(deadlines);
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        primitiveQueue = new LongHeapPriorityQueue(deadlines, arity, null);
+        boxedQueue = new PriorityQueue<>(boxedDeadlines);
+    }
+
+    @Benchmark
+    public long holdPrimitive() {
+        LongHeapPriorityQueue q = primitiveQueue;
+        long last = 0;
+        for (long delay : delays) {
+            last = q.pollPrimitive();
+            q.offerPrimitive(last + delay);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public long holdBoxed() {
+        PriorityQueue<Long> q = boxedQueue;
+        long last = 0;
+        for (long delay : delays) {
+            last = q.poll();
+            q.offer(last + delay);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public LongHeapPriorityQueue buildHeapify() {
+        return new LongHeapPriorityQueue(deadlines, arity, null);
+    }
+
+    @Benchmark
+    public LongHeapPriorityQueue buildOffer() {
+        LongHeapPriorityQueue q = new LongHeapPriorityQueue(arity, size, null);
+        for (int i = 0; i < size; i++)
+            q.offerPrimitive(deadlines.getPrimitive(i));
+        return q;
+    }
+
+    @Benchmark
+    public PriorityQueue<Long> buildBoxed() {
+        return new PriorityQueue<>(boxedDeadlines);
+    }
+}
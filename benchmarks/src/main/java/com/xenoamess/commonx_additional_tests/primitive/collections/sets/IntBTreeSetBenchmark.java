@@ -0,0 +1,138 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An IntBTreeSet against a TreeSet&lt;Integer&gt; holding the same size random ints.
+ * <p>
+ * insert builds a set from nothing; contains looks up 1024 keys, half of them absent;
+ * rangeScan sums the keys of 1024 subSets, each about width keys wide.
+ * btreeBytes is IntBTreeSet.sizeInBytes(); treeSetBytes counts 56 bytes a key, a TreeMap.Entry of 40
+ * and an Integer of 16 with compressed oops, which is what a TreeSet&lt;Integer&gt; takes.
+ * Divided by size they are the bytes per key.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class IntBTreeSetBenchmark {
+    private static final int OPERATIONS = 1024;
+
+    private static final long TREE_SET_BYTES_PER_KEY = 56;
+
+    @Param({"10000", "1000000"})
+    int size;
+
+    @Param({"100"})
+    int width;
+
+    int[] keys;
+    int[] probes;
+    IntBTreeSet btree;
+    TreeSet<Integer> treeSet;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long btreeBytes;
+        public long treeSetBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        keys = new int[size];
+        for (int i = 0; i < size; i++)
+            keys[i] = rnd.nextInt();
+        probes = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++)
+            probes[i] = rnd.nextBoolean() ? keys[rnd.nextInt(size)] : rnd.nextInt();
+        btree = insertBTree();
+        treeSet = insertTreeSet();
+    }
+
+    @Benchmark
+    public IntBTreeSet insertBTree() {
+        IntBTreeSet set = new IntBTreeSet();
+        for (int key : keys)
+            set.addPrimitive(key);
+        return set;
+    }
+
+    @Benchmark
+    public TreeSet<Integer> insertTreeSet() {
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int key : keys)
+            set.add(key);
+        return set;
+    }
+
+    @Benchmark
+    public int containsBTree(Footprint footprint) {
+        footprint.btreeBytes = btree.sizeInBytes();
+        footprint.treeSetBytes = treeSet.size() * TREE_SET_BYTES_PER_KEY;
+        int found = 0;
+        for (int probe : probes)
+            if (btree.containsPrimitive(probe))
+                found++;
+        return found;
+    }
+
+    @Benchmark
+    public int containsTreeSet() {
+        int found = 0;
+        for (int probe : probes)
+            if (treeSet.contains(probe))
+                found++;
+        return found;
+    }
+
+    /**
+     * Returns the end of a range from from that holds about width of the keys, spread evenly over all ints.
+     */
+    int rangeEnd(int from) {
+        long to = from + (1L << 32) / size * width;
+        return (int) Math.min(to, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public long rangeScanBTree() {
+        long sum = 0;
+        for (int from : probes) {
+            for (IntIterator it = btree.subSet(from, rangeEnd(from)).iterator(); it.hasNext(); )
+                sum += it.nextPrimitive();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanTreeSet() {
+        long sum = 0;
+        for (int from : probes) {
+            for (int key : treeSet.subSet(from, rangeEnd(from)))
+                sum += key;
+        }
+        return sum;
+    }
+}
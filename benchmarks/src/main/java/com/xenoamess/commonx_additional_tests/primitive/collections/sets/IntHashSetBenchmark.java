@@ -0,0 +1,106 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deduplicating size ints drawn from distinct values: an IntHashSet against a HashSet&lt;Integer&gt;.
+ * <p>
+ * dedup adds them one by one, dedupAddAll adds the IntArrayList holding them in one call,
+ * and iterate sums a deduplicated set.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class IntHashSetBenchmark {
+    @Param({"10000", "1000000"})
+    int size;
+
+    @Param({"100", "100000"})
+    int distinct;
+
+    int[] values;
+    IntArrayList list;
+    IntHashSet primitiveSet;
+    HashSet<Integer> boxedSet;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        values = new int[size];
+        list = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = rnd.nextInt(distinct);
+            list.addPrimitive(i, values[i]);
+        }
+        primitiveSet = dedupPrimitive();
+        boxedSet = dedupBoxed();
+    }
+
+    @Benchmark
+    public IntHashSet dedupPrimitive() {
+        IntHashSet set = new IntHashSet();
+        for (int value : values)
+            set.addPrimitive(value);
+        return set;
+    }
+
+    @Benchmark
+    public HashSet<Integer> dedupBoxed() {
+        HashSet<Integer> set = new HashSet<>();
+        for (int value : values)
+            set.add(value);
+        return set;
+    }
+
+    @Benchmark
+    public IntHashSet dedupAddAllPrimitive() {
+        IntHashSet set = new IntHashSet();
+        set.addAll(list);
+        return set;
+    }
+
+    @Benchmark
+    public HashSet<Integer> dedupAddAllBoxed() {
+        HashSet<Integer> set = new HashSet<>();
+        set.addAll(list);
+        return set;
+    }
+
+    @Benchmark
+    public long iteratePrimitive() {
+        long sum = 0;
+        for (IntIterator it = primitiveSet.iterator(); it.hasNext(); )
+            sum += it.nextPrimitive();
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateBoxed() {
+        long sum = 0;
+        for (int value : boxedSet)
+            sum += value;
+        return sum;
+    }
+}
@@ -0,0 +1,73 @@
+package com.xenoamess.commonx_additional_tests.primitive.spliterators;
+
+// generated types: Int, Long
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential and fork-join aggregation over a DoubleArrayList,
+ * through the boxed Stream of commonx and through DoubleListSpliterator.
+ *
+ * @author XenoAmess
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DoubleListSpliteratorBenchmark {
+    @Param({"10000000"})
+    int size;
+
+    DoubleArrayList list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        list = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, PrimitiveValues.nextDouble(rnd));
+    }
+
+    @Benchmark
+    public double boxedStreamSum() {
+        return list.stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Benchmark
+    public double boxedParallelStreamSum() {
+        return list.parallelStream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Benchmark
+    public double doubleStreamSum() {
+        return DoubleListSpliterator.doubleStream(list).sum();
+    }
+
+    @Benchmark
+    public double parallelDoubleStreamSum() {
+        return DoubleListSpliterator.parallelDoubleStream(list).sum();
+    }
+
+    @Benchmark
+    public long parallelDoubleStreamCount() {
+        return DoubleListSpliterator.parallelDoubleStream(list).filter(e -> e > 1).count();
+    }
+}
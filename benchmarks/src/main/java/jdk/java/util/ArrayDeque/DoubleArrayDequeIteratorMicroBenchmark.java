@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2007, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/*
+ * This is not a regression test, but a micro-benchmark.
+ *
+ * The ArrayDeque jobs of the jdk IteratorMicroBenchmark, ported to JMH,
+ * next to the same jobs on DoubleArrayDeque.
+ * The queue jobs compare DoubleArrayDeque to DoubleLinkedList used as a queue.
+ *
+ * @author Martin Buchholz
+ */
+
+package jdk.java.util.ArrayDeque;
+
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import com.xenoamess.commonx_additional_tests.primitive.collections.deques.DoubleArrayDeque;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DoubleArrayDequeIteratorMicroBenchmark {
+    static final int OPERATIONS = 1000;
+
+    @Param({"5", "1000", "100000"})
+    int size;
+
+    ArrayDeque<Double> jad;
+    DoubleArrayDeque ad;
+    DoubleLinkedList ll;
+    double x;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        jad = new ArrayDeque<>(size);
+        ad = new DoubleArrayDeque(size);
+        ll = new DoubleLinkedList();
+        for (int i = 0; i < size; i++) {
+            double e = PrimitiveValues.nextDouble(rnd);
+            jad.addLast(e);
+            ad.addLastPrimitive(e);
+            ll.addPrimitive(i, e);
+        }
+        x = PrimitiveValues.nextDouble(rnd);
+    }
+
+    @Benchmark
+    public void jdkArrayDequeIteratorLoop(Blackhole bh) {
+        for (Iterator<Double> it = jad.iterator(); it.hasNext(); )
+            bh.consume(it.next());
+    }
+
+    @Benchmark
+    public void jdkArrayDequeDescendingIteratorLoop(Blackhole bh) {
+        for (Iterator<Double> it = jad.descendingIterator(); it.hasNext(); )
+            bh.consume(it.next());
+    }
+
+    @Benchmark
+    public boolean jdkArrayDequeRemoveIf(Blackhole bh) {
+        return jad.removeIf(n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    public void arrayDequeIteratorLoop(Blackhole bh) {
+        for (DoubleIterator it = ad.iterator(); it.hasNext(); )
+            bh.consume(it.nextPrimitive());
+    }
+
+    @Benchmark
+    public void arrayDequeDescendingIteratorLoop(Blackhole bh) {
+        for (DoubleIterator it = ad.descendingIterator(); it.hasNext(); )
+            bh.consume(it.nextPrimitive());
+    }
+
+    @Benchmark
+    public boolean arrayDequeRemoveIf(Blackhole bh) {
+        return ad.removeIf(n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    public boolean arrayDequeRemoveIfPrimitive(Blackhole bh) {
+        return ad.removeIfPrimitive(n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void jdkArrayDequeQueue(Blackhole bh) {
+        ArrayDeque<Double> q = jad;
+        for (int i = 0; i < OPERATIONS; i++) {
+            q.addLast(x);
+            bh.consume(q.pollFirst());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void arrayDequeQueue(Blackhole bh) {
+        DoubleArrayDeque q = ad;
+        for (int i = 0; i < OPERATIONS; i++) {
+            q.addLastPrimitive(x);
+            bh.consume(q.pollFirstPrimitive());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void linkedListQueue(Blackhole bh) {
+        DoubleLinkedList q = ll;
+        for (int i = 0; i < OPERATIONS; i++) {
+            q.addPrimitive(q.size(), x);
+            bh.consume(q.remove(0));
+        }
+    }
+}
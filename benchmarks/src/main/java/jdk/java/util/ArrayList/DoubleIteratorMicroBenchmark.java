@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2007, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/*
+ * This is not a regression test, but a micro-benchmark.
+ *
+ * Ported from the jdk IteratorMicroBenchmark to JMH.
+ * The "Short ArrayList" jobs of the original are covered by the smallest size param.
+ *
+ * @author Martin Buchholz
+ */
+
+package jdk.java.util.ArrayList;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.DoubleLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayLists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DoubleIteratorMicroBenchmark {
+    @Param({"5", "1000", "100000"})
+    int size;
+
+    DoubleArrayList al;
+    ArrayList<Double> jal;
+    double[] a;
+    Double[] boxed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        al = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++)
+            al.add(PrimitiveValues.nextDouble(rnd));
+        jal = new ArrayList<>(al);
+        a = al.toArrayPrimitive(new double[size]);
+        boxed = new Double[size];
+    }
+
+    private static DoubleList asSubList(DoubleList list) {
+        return list.subList(0, list.size());
+    }
+
+    private static <T> Iterable<T> backwards(final List<T> list) {
+        return new Iterable<T>() {
+            public Iterator<T> iterator() {
+                return new Iterator<T>() {
+                    final ListIterator<T> it = list.listIterator(list.size());
+
+                    public boolean hasNext() {
+                        return it.hasPrevious();
+                    }
+
+                    public T next() {
+                        return it.previous();
+                    }
+
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+        };
+    }
+
+    @Benchmark
+    public void arrayLoop(Blackhole bh) {
+        double[] a = this.a;
+        for (int j = 0; j < a.length; ++j)
+            bh.consume(a[j]);
+    }
+
+    @Benchmark
+    public void descendingArrayLoop(Blackhole bh) {
+        double[] a = this.a;
+        for (int j = a.length - 1; j >= 0; j--)
+            bh.consume(a[j]);
+    }
+
+    @Benchmark
+    public void jdkArrayListGetLoop(Blackhole bh) {
+        int size = jal.size();
+        for (int j = 0; j < size; ++j)
+            bh.consume(jal.get(j));
+    }
+
+    @Benchmark
+    public void jdkArrayListIterateForLoop(Blackhole bh) {
+        for (Double n : jal)
+            bh.consume(n);
+    }
+
+    @Benchmark
+    public void arrayListGetLoop(Blackhole bh) {
+        int size = al.size();
+        for (int j = 0; j < size; ++j)
+            bh.consume(al.get(j));
+    }
+
+    @Benchmark
+    public void arrayListGetPrimitiveLoop(Blackhole bh) {
+        int size = al.size();
+        for (int j = 0; j < size; ++j)
+            bh.consume(al.getPrimitive(j));
+    }
+
+    @Benchmark
+    public void arrayListIterateForLoop(Blackhole bh) {
+        for (Double n : al)
+            bh.consume(n);
+    }
+
+    @Benchmark
+    public void arrayListIteratorNextPrimitiveLoop(Blackhole bh) {
+        DoubleIterator it = al.iterator();
+        while (it.hasNext())
+            bh.consume(it.nextPrimitive());
+    }
+
+    @Benchmark
+    public void arrayListDescendingListIteratorLoop(Blackhole bh) {
+        DoubleListIterator it = al.listIterator(al.size());
+        while (it.hasPrevious())
+            bh.consume(it.previousPrimitive());
+    }
+
+    @Benchmark
+    public void arrayListListIteratorLoop(Blackhole bh) {
+        DoubleListIterator it = al.listIterator();
+        while (it.hasNext())
+            bh.consume(it.nextPrimitive());
+    }
+
+    @Benchmark
+    public void arrayListForEach(Blackhole bh) {
+        al.forEach(n -> bh.consume(n));
+    }
+
+    @Benchmark
+    public void arrayListForEachPrimitive(Blackhole bh) {
+        DoubleArrayLists.forEachPrimitive(al, n -> bh.consume(n));
+    }
+
+    @Benchmark
+    public void arrayListIteratorForEachRemaining(Blackhole bh) {
+        al.iterator().forEachRemaining(n -> bh.consume(n));
+    }
+
+    @Benchmark
+    public void arrayListSpliteratorForEachRemaining(Blackhole bh) {
+        al.spliterator().forEachRemaining(n -> bh.consume(n));
+    }
+
+    @Benchmark
+    public void arrayListSpliteratorTryAdvance(Blackhole bh) {
+        Spliterator<Double> spliterator = al.spliterator();
+        do {
+        } while (spliterator.tryAdvance(n -> bh.consume(n)));
+    }
+
+    @Benchmark
+    public boolean arrayListRemoveIf(Blackhole bh) {
+        return al.removeIf(n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    public boolean arrayListSubListRemoveIf(Blackhole bh) {
+        return asSubList(al).removeIf(n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    public boolean arrayListRemoveIfPrimitive(Blackhole bh) {
+        return DoubleArrayLists.removeIfPrimitive(al, n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    public boolean arrayListSubListRemoveIfPrimitive(Blackhole bh) {
+        return DoubleLists.removeIfPrimitive(asSubList(al), n -> {
+            bh.consume(n);
+            return false;
+        });
+    }
+
+    @Benchmark
+    public void arrayListSubListGetLoop(Blackhole bh) {
+        DoubleList sl = asSubList(al);
+        int size = sl.size();
+        for (int j = 0; j < size; ++j)
+            bh.consume(sl.getPrimitive(j));
+    }
+
+    @Benchmark
+    public void arrayListSubListIterateForLoop(Blackhole bh) {
+        for (Double n : asSubList(al))
+            bh.consume(n);
+    }
+
+    @Benchmark
+    public void arrayListSubListSubListSubListIterateForLoop(Blackhole bh) {
+        for (Double n : asSubList(asSubList(asSubList(al))))
+            bh.consume(n);
+    }
+
+    @Benchmark
+    public void arrayListBackwardsWrapperListIteratorForLoop(Blackhole bh) {
+        for (Double n : backwards(al))
+            bh.consume(n);
+    }
+
+    @Benchmark
+    public void arrayListBackwardsWrapperSubListListIteratorForLoop(Blackhole bh) {
+        for (Double n : backwards(asSubList(al)))
+            bh.consume(n);
+    }
+
+    @Benchmark
+    public Object[] arrayListToArray() {
+        return al.toArray();
+    }
+
+    @Benchmark
+    public Double[] arrayListToArrayA() {
+        return al.toArray(boxed);
+    }
+
+    @Benchmark
+    public double[] arrayListToArrayPrimitiveA() {
+        return al.toArrayPrimitive(a);
+    }
+
+    @Benchmark
+    public Object[] arrayListSubListToArray() {
+        return asSubList(al).toArray();
+    }
+
+    @Benchmark
+    public Double[] arrayListSubListToArrayA() {
+        return asSubList(al).toArray(boxed);
+    }
+
+    @Benchmark
+    public double[] arrayListSubListToArrayPrimitiveA() {
+        return asSubList(al).toArrayPrimitive(a);
+    }
+}
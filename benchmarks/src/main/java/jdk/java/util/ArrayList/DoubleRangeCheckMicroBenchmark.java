@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2007, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+/*
+ * This is not a regression test, but a micro-benchmark.
+ *
+ * Ported from the jdk RangeCheckMicroBenchmark to JMH.
+ *
+ * @author Martin Buchholz
+ */
+
+package jdk.java.util.ArrayList;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.benchmarks.PrimitiveValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DoubleRangeCheckMicroBenchmark {
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    DoubleArrayList list;
+    DoubleList sublist;
+    Double[] xs;
+    double[] primitiveXs;
+    Double x;
+    double primitiveX;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42L);
+        list = new DoubleArrayList();
+        for (int i = 0; i < size; i++)
+            list.add(PrimitiveValues.nextDouble(rnd));
+        sublist = list.subList(0, list.size());
+        xs = list.toArray(new Double[size]);
+        primitiveXs = list.toArrayPrimitive(new double[size]);
+        primitiveX = PrimitiveValues.nextDouble(rnd);
+        x = primitiveX;
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        for (int k = 0; k < size; k++)
+            bh.consume(list.get(k));
+    }
+
+    @Benchmark
+    public void getPrimitive(Blackhole bh) {
+        for (int k = 0; k < size; k++)
+            bh.consume(list.getPrimitive(k));
+    }
+
+    @Benchmark
+    public void set() {
+        for (int k = 0; k < size; k++)
+            list.set(k, xs[k]);
+    }
+
+    @Benchmark
+    public void setPrimitive() {
+        for (int k = 0; k < size; k++)
+            list.setPrimitive(k, primitiveXs[k]);
+    }
+
+    @Benchmark
+    public void getSet() {
+        for (int k = 0; k < size; k++)
+            list.set(k, list.get(size - k - 1));
+    }
+
+    @Benchmark
+    public void getSetPrimitive() {
+        for (int k = 0; k < size; k++)
+            list.setPrimitive(k, list.getPrimitive(size - k - 1));
+    }
+
+    @Benchmark
+    public void addRemoveAtEnd() {
+        for (int k = 0; k < size - 1; k++) {
+            list.add(size, x);
+            list.remove(size);
+        }
+    }
+
+    @Benchmark
+    public void addPrimitiveRemoveAtEnd() {
+        for (int k = 0; k < size - 1; k++) {
+            list.addPrimitive(size, primitiveX);
+            list.remove(size);
+        }
+    }
+
+    @Benchmark
+    public void subListGet(Blackhole bh) {
+        for (int k = 0; k < size; k++)
+            bh.consume(sublist.get(k));
+    }
+
+    @Benchmark
+    public void subListGetPrimitive(Blackhole bh) {
+        for (int k = 0; k < size; k++)
+            bh.consume(sublist.getPrimitive(k));
+    }
+
+    @Benchmark
+    public void subListSet() {
+        for (int k = 0; k < size; k++)
+            sublist.set(k, xs[k]);
+    }
+
+    @Benchmark
+    public void subListSetPrimitive() {
+        for (int k = 0; k < size; k++)
+            sublist.setPrimitive(k, primitiveXs[k]);
+    }
+
+    @Benchmark
+    public void subListGetSet() {
+        for (int k = 0; k < size; k++)
+            sublist.set(k, sublist.get(size - k - 1));
+    }
+
+    @Benchmark
+    public void subListGetSetPrimitive() {
+        for (int k = 0; k < size; k++)
+            sublist.setPrimitive(k, sublist.getPrimitive(size - k - 1));
+    }
+
+    @Benchmark
+    public void subListAddRemoveAtEnd() {
+        for (int k = 0; k < size - 1; k++) {
+            sublist.add(size, x);
+            sublist.remove(size);
+        }
+    }
+
+    @Benchmark
+    public void subListAddPrimitiveRemoveAtEnd() {
+        for (int k = 0; k < size - 1; k++) {
+            sublist.addPrimitive(size, primitiveX);
+            sublist.remove(size);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.xenoamess.commonx_additional_tests;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the benchmarks of the other seven primitive types from the Double ones.
+ * <p>
+ * Run by the benchmarks module at generate-sources.
+ * For every {@code *Double*.java} under the source directory, one file per other primitive type is written
+ * to the output directory, at the same relative path.
+ * A file already present in the source directory under the generated name is left alone,
+ * so a type that needs special care can still be hand-written.
+ * A template that only makes sense for some types names them in a line like
+ * {@code // generated types: Int, Long}.
+ * <p>
+ * Usage: {@code BenchmarkGenerator <sourceDirectory> <outputDirectory>}
+ *
+ * @author XenoAmess
+ */
+public class BenchmarkGenerator {
+    private static final String TEMPLATE_TYPE = "Double";
+
+    private static final Pattern BOXED_PATTERN = Pattern.compile("\\bDouble\\b");
+    private static final Pattern PRIMITIVE_PATTERN = Pattern.compile("\\bdouble(?![a-z0-9_])");
+    private static final Pattern GENERATED_TYPES_PATTERN =
+            Pattern.compile("^\\s*//\\s*generated types:(.*)$", Pattern.MULTILINE);
+
+    enum PrimitiveType {
+        BOOLEAN("Boolean", "boolean", "Boolean"),
+        BYTE("Byte", "byte", "Byte"),
+        CHAR("Char", "char", "Character"),
+        SHORT("Short", "short", "Short"),
+        INT("Int", "int", "Integer"),
+        LONG("Long", "long", "Long"),
+        FLOAT("Float", "float", "Float");
+
+        final String camelName;
+        final String primitiveName;
+        final String boxedName;
+
+        PrimitiveType(String camelName, String primitiveName, String boxedName) {
+            this.camelName = camelName;
+            this.primitiveName = primitiveName;
+            this.boxedName = boxedName;
+        }
+
+        static PrimitiveType ofCamelName(String camelName) {
+            for (PrimitiveType type : values()) {
+                if (type.camelName.equals(camelName)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("unknown primitive type: " + camelName);
+        }
+
+        String convert(String source) {
+            String result = BOXED_PATTERN.matcher(source).replaceAll(Matcher.quoteReplacement(boxedName));
+            result = result.replace(TEMPLATE_TYPE, camelName);
+            result = PRIMITIVE_PATTERN.matcher(result).replaceAll(Matcher.quoteReplacement(primitiveName));
+            return result.replace(TEMPLATE_TYPE.toUpperCase(), camelName.toUpperCase());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: BenchmarkGenerator <sourceDirectory> <outputDirectory>");
+        }
+        generate(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    static EnumSet<PrimitiveType> generatedTypes(String source) {
+        Matcher matcher = GENERATED_TYPES_PATTERN.matcher(source);
+        if (!matcher.find()) {
+            return EnumSet.allOf(PrimitiveType.class);
+        }
+        EnumSet<PrimitiveType> result = EnumSet.noneOf(PrimitiveType.class);
+        for (String camelName : matcher.group(1).split(",")) {
+            result.add(PrimitiveType.ofCamelName(camelName.trim()));
+        }
+        return result;
+    }
+
+    public static void generate(Path sourceDirectory, Path outputDirectory) throws IOException {
+        List<Path> templates;
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            templates = paths
+                    .filter(path -> path.getFileName().toString().contains(TEMPLATE_TYPE))
+                    .filter(path -> path.getFileName().toString().endsWith(".java"))
+                    .collect(Collectors.toList());
+        }
+        int generatedCount = 0;
+        for (Path template : templates) {
+            Path relativeDirectory = sourceDirectory.relativize(template.getParent());
+            String templateName = template.getFileName().toString();
+            String source = new String(Files.readAllBytes(template), StandardCharsets.UTF_8);
+            for (PrimitiveType type : generatedTypes(source)) {
+                String generatedName = templateName.replaceFirst(TEMPLATE_TYPE, type.camelName);
+                if (Files.exists(template.resolveSibling(generatedName))) {
+                    continue;
+                }
+                Path generated = outputDirectory.resolve(relativeDirectory).resolve(generatedName);
+                Files.createDirectories(generated.getParent());
+                Files.write(generated, type.convert(source).getBytes(StandardCharsets.UTF_8));
+                generatedCount++;
+            }
+        }
+        System.out.println("generated " + generatedCount + " benchmarks into " + outputDirectory.toAbsolutePath());
+    }
+}
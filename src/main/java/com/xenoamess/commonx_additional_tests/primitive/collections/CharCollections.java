@@ -0,0 +1,208 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections;
+
+import com.xenoamess.commons.primitive.collections.AbstractCharCollection;
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * toString and appendTo for any char collection, without boxing.
+ * <p>
+ * AbstractCollection.toString boxes each element and makes a String of it, only to copy that into its StringBuilder.
+ * These append each char to the StringBuilder with StringBuilder.append(char), which writes its characters in place,
+ * so the only objects made are the StringBuilder, presized to the exact length of the text, and the String.
+ * toString reads the elements twice for that: once to add up their lengths, once to append them.
+ * appendTo writes into a StringBuilder directly, and into any other Appendable, a Writer say,
+ * a chunk of CHUNK_SIZE characters at a time, so a huge collection never becomes one String.
+ * <p>
+ * The text is that of AbstractCollection.toString, "[a, b, c]".
+ * No char collection can hold itself, so the "(this Collection)" case never comes up.
+ *
+ * @author XenoAmess
+ * @see java.util.AbstractCollection#toString()
+ */
+public final class CharCollections {
+    /**
+     * The number of characters appendTo gathers before it passes them to an Appendable other than a StringBuilder.
+     */
+    public static final int CHUNK_SIZE = 8192;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private CharCollections() {
+    }
+
+    /**
+     * Returns the same String as AbstractCollection.toString would for c.
+     *
+     * @param c the collection
+     * @return the elements of c in the order of its iterator, as "[e1, e2, ...]"
+     */
+    public static String toString(AbstractCharCollection c) {
+        return toString(c.iterator(), c.iterator());
+    }
+
+    /**
+     * Returns the same String as AbstractCollection.toString would for list.
+     *
+     * @param list the list
+     * @return the elements of list in order, as "[e1, e2, ...]"
+     */
+    public static String toString(CharList list) {
+        return toString(list.iterator(), list.iterator());
+    }
+
+    /**
+     * Returns the same String as Arrays.toString would for a[off] to a[off + len - 1].
+     *
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than a.length
+     */
+    public static String toString(char[] a, int off, int len) {
+        checkRange(a, off, len);
+        return toString(new ArrayItr(a, off, len), new ArrayItr(a, off, len));
+    }
+
+    /**
+     * Appends what toString(c) returns to out.
+     *
+     * @param c   the collection
+     * @param out where to append
+     * @return out
+     * @throws IOException if out does
+     */
+    public static <A extends Appendable> A appendTo(AbstractCharCollection c, A out) throws IOException {
+        Objects.requireNonNull(out);
+        return appendTo(c.iterator(), out);
+    }
+
+    /**
+     * Appends what toString(list) returns to out.
+     *
+     * @param list the list
+     * @param out  where to append
+     * @return out
+     * @throws IOException if out does
+     */
+    public static <A extends Appendable> A appendTo(CharList list, A out) throws IOException {
+        Objects.requireNonNull(out);
+        return appendTo(list.iterator(), out);
+    }
+
+    /**
+     * Appends what toString(a, off, len) returns to out.
+     *
+     * @return out
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than a.length
+     * @throws IOException               if out does
+     */
+    public static <A extends Appendable> A appendTo(char[] a, int off, int len, A out) throws IOException {
+        checkRange(a, off, len);
+        Objects.requireNonNull(out);
+        return appendTo(new ArrayItr(a, off, len), out);
+    }
+
+    private static void checkRange(char[] a, int off, int len) {
+        if (off < 0 || len < 0 || len > a.length - off) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + a.length);
+        }
+    }
+
+    /**
+     * Adds up the length of the text with one iterator, then appends the elements from the other.
+     */
+    private static String toString(CharIterator counting, CharIterator elements) {
+        long length = 2;
+        if (counting.hasNext()) {
+            length += length(counting.nextPrimitive());
+            while (counting.hasNext()) {
+                length += 2 + length(counting.nextPrimitive());
+            }
+        }
+        StringBuilder sb = new StringBuilder((int) Math.min(length, MAX_ARRAY_SIZE));
+        return appendTo(elements, sb).toString();
+    }
+
+    /**
+     * Returns the number of characters StringBuilder.append(char) appends for e.
+     */
+    static int length(char e) {
+        return 1;
+    }
+
+    private static StringBuilder appendTo(CharIterator it, StringBuilder sb) {
+        sb.append('[');
+        if (it.hasNext()) {
+            sb.append(it.nextPrimitive());
+            while (it.hasNext()) {
+                sb.append(", ").append(it.nextPrimitive());
+            }
+        }
+        return sb.append(']');
+    }
+
+    private static <A extends Appendable> A appendTo(CharIterator it, A out) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendTo(it, (StringBuilder) out);
+            return out;
+        }
+        // an element never takes more than 32 characters, so the chunk never grows.
+        StringBuilder chunk = new StringBuilder(CHUNK_SIZE + 32);
+        char[] buffer = out instanceof Writer ? new char[chunk.capacity()] : null;
+        chunk.append('[');
+        if (it.hasNext()) {
+            chunk.append(it.nextPrimitive());
+            while (it.hasNext()) {
+                if (chunk.length() >= CHUNK_SIZE) {
+                    flush(chunk, buffer, out);
+                }
+                chunk.append(", ").append(it.nextPrimitive());
+            }
+        }
+        chunk.append(']');
+        flush(chunk, buffer, out);
+        return out;
+    }
+
+    /**
+     * Passes the chunk on to out, straight from a char[] if out is a Writer, then empties it.
+     */
+    private static void flush(StringBuilder chunk, char[] buffer, Appendable out) throws IOException {
+        if (buffer != null) {
+            int n = chunk.length();
+            chunk.getChars(0, n, buffer, 0);
+            ((Writer) out).write(buffer, 0, n);
+        } else {
+            out.append(chunk);
+        }
+        chunk.setLength(0);
+    }
+
+    private static final class ArrayItr implements CharIterator {
+        private final char[] a;
+        private int cursor;
+        private final int end;
+
+        ArrayItr(char[] a, int off, int len) {
+            this.a = a;
+            this.cursor = off;
+            this.end = off + len;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < end;
+        }
+
+        @Override
+        public char nextPrimitive() {
+            if (cursor >= end) {
+                throw new NoSuchElementException();
+            }
+            return a[cursor++];
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections;
+
+import com.xenoamess.commons.primitive.collections.AbstractDoubleCollection;
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * toString and appendTo for any double collection, without boxing.
+ * <p>
+ * AbstractCollection.toString boxes each element and makes a String of it, only to copy that into its StringBuilder.
+ * These append each double to the StringBuilder with StringBuilder.append(double), which writes its characters in place,
+ * so the only objects made are the StringBuilder and the String.
+ * The length of a double as text is not known before it is formatted,
+ * so the StringBuilder is presized to a guess of GUESSED_LENGTH characters an element, and grows if that is short.
+ * appendTo writes into a StringBuilder directly, and into any other Appendable, a Writer say,
+ * a chunk of CHUNK_SIZE characters at a time, so a huge collection never becomes one String.
+ * <p>
+ * The text is that of AbstractCollection.toString, "[1.0, -2.5, NaN]".
+ * No double collection can hold itself, so the "(this Collection)" case never comes up.
+ *
+ * @author XenoAmess
+ * @see java.util.AbstractCollection#toString()
+ */
+public final class DoubleCollections {
+    /**
+     * The number of characters appendTo gathers before it passes them to an Appendable other than a StringBuilder.
+     */
+    public static final int CHUNK_SIZE = 8192;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private DoubleCollections() {
+    }
+
+    /**
+     * Returns the same String as AbstractCollection.toString would for c.
+     *
+     * @param c the collection
+     * @return the elements of c in the order of its iterator, as "[e1, e2, ...]"
+     */
+    public static String toString(AbstractDoubleCollection c) {
+        return appendTo(c.iterator(), new StringBuilder(guessLength(c.size()))).toString();
+    }
+
+    /**
+     * Returns the same String as AbstractCollection.toString would for list.
+     *
+     * @param list the list
+     * @return the elements of list in order, as "[e1, e2, ...]"
+     */
+    public static String toString(DoubleList list) {
+        return appendTo(list.iterator(), new StringBuilder(guessLength(list.size()))).toString();
+    }
+
+    /**
+     * Returns the same String as Arrays.toString would for a[off] to a[off + len - 1].
+     *
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than a.length
+     */
+    public static String toString(double[] a, int off, int len) {
+        checkRange(a, off, len);
+        return appendTo(new ArrayItr(a, off, len), new StringBuilder(guessLength(len))).toString();
+    }
+
+    /**
+     * Appends what toString(c) returns to out.
+     *
+     * @param c   the collection
+     * @param out where to append
+     * @return out
+     * @throws IOException if out does
+     */
+    public static <A extends Appendable> A appendTo(AbstractDoubleCollection c, A out) throws IOException {
+        Objects.requireNonNull(out);
+        return appendTo(c.iterator(), out);
+    }
+
+    /**
+     * Appends what toString(list) returns to out.
+     *
+     * @param list the list
+     * @param out  where to append
+     * @return out
+     * @throws IOException if out does
+     */
+    public static <A extends Appendable> A appendTo(DoubleList list, A out) throws IOException {
+        Objects.requireNonNull(out);
+        return appendTo(list.iterator(), out);
+    }
+
+    /**
+     * Appends what toString(a, off, len) returns to out.
+     *
+     * @return out
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than a.length
+     * @throws IOException               if out does
+     */
+    public static <A extends Appendable> A appendTo(double[] a, int off, int len, A out) throws IOException {
+        checkRange(a, off, len);
+        Objects.requireNonNull(out);
+        return appendTo(new ArrayItr(a, off, len), out);
+    }
+
+    private static void checkRange(double[] a, int off, int len) {
+        if (off < 0 || len < 0 || len > a.length - off) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + a.length);
+        }
+    }
+
+    /**
+     * Characters a double takes as text, on a guess, with the ", " after it.
+     */
+    static final int GUESSED_LENGTH = 20;
+
+    private static int guessLength(int size) {
+        return (int) Math.min(2 + (long) size * GUESSED_LENGTH, MAX_ARRAY_SIZE);
+    }
+
+    private static StringBuilder appendTo(DoubleIterator it, StringBuilder sb) {
+        sb.append('[');
+        if (it.hasNext()) {
+            sb.append(it.nextPrimitive());
+            while (it.hasNext()) {
+                sb.append(", ").append(it.nextPrimitive());
+            }
+        }
+        return sb.append(']');
+    }
+
+    private static <A extends Appendable> A appendTo(DoubleIterator it, A out) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendTo(it, (StringBuilder) out);
+            return out;
+        }
+        // an element never takes more than 32 characters, so the chunk never grows.
+        StringBuilder chunk = new StringBuilder(CHUNK_SIZE + 32);
+        char[] buffer = out instanceof Writer ? new char[chunk.capacity()] : null;
+        chunk.append('[');
+        if (it.hasNext()) {
+            chunk.append(it.nextPrimitive());
+            while (it.hasNext()) {
+                if (chunk.length() >= CHUNK_SIZE) {
+                    flush(chunk, buffer, out);
+                }
+                chunk.append(", ").append(it.nextPrimitive());
+            }
+        }
+        chunk.append(']');
+        flush(chunk, buffer, out);
+        return out;
+    }
+
+    /**
+     * Passes the chunk on to out, straight from a char[] if out is a Writer, then empties it.
+     */
+    private static void flush(StringBuilder chunk, char[] buffer, Appendable out) throws IOException {
+        if (buffer != null) {
+            int n = chunk.length();
+            chunk.getChars(0, n, buffer, 0);
+            ((Writer) out).write(buffer, 0, n);
+        } else {
+            out.append(chunk);
+        }
+        chunk.setLength(0);
+    }
+
+    private static final class ArrayItr implements DoubleIterator {
+        private final double[] a;
+        private int cursor;
+        private final int end;
+
+        ArrayItr(double[] a, int off, int len) {
+            this.a = a;
+            this.cursor = off;
+            this.end = off + len;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < end;
+        }
+
+        @Override
+        public double nextPrimitive() {
+            if (cursor >= end) {
+                throw new NoSuchElementException();
+            }
+            return a[cursor++];
+        }
+    }
+}
@@ -0,0 +1,626 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.deques;
+
+import com.xenoamess.commons.primitive.collections.AbstractCharCollection;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.CharCollections;
+import com.xenoamess.commonx_additional_tests.primitive.functions.CharPredicate;
+
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A Deque of char values in a circular array, like ArrayDeque without the boxing.
+ * <p>
+ * The array length is always a power of two, so wrapping an index is a mask instead of a branch.
+ * head is the index of the first element and tail the index the next addLast writes to;
+ * the array doubles when an add makes them meet.
+ * <p>
+ * The primitive methods never box. pollFirstPrimitive, pollLastPrimitive, peekFirstPrimitive and
+ * peekLastPrimitive return 0 on an empty deque, where their boxed versions return null.
+ * Iterators, both ascending and descending, are fail-fast and support remove.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see java.util.ArrayDeque
+ */
+public class CharArrayDeque extends AbstractCollection<Character> implements Deque<Character>, AbstractCharCollection, Cloneable {
+    private static final int MIN_INITIAL_CAPACITY = 8;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    transient char[] elements;
+    transient int head;
+    transient int tail;
+
+    protected transient int modCount;
+
+    public CharArrayDeque() {
+        this.elements = new char[16];
+    }
+
+    /**
+     * @param numElements the number of elements the deque holds without growing
+     * @throws IllegalArgumentException if numElements is negative
+     */
+    public CharArrayDeque(int numElements) {
+        if (numElements < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+        }
+        this.elements = new char[calculateSize(numElements)];
+    }
+
+    public CharArrayDeque(Collection<? extends Character> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Returns the smallest power of two that can hold numElements, one slot being always free.
+     */
+    private static int calculateSize(int numElements) {
+        if (numElements >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_INITIAL_CAPACITY, Integer.highestOneBit(numElements) << 1);
+    }
+
+    private void grow() {
+        int p = head;
+        int n = elements.length;
+        if (n == MAX_CAPACITY) {
+            throw new IllegalStateException("Sorry, deque too big");
+        }
+        int r = n - p;
+        char[] a = new char[n << 1];
+        System.arraycopy(elements, p, a, 0, r);
+        System.arraycopy(elements, 0, a, r, p);
+        elements = a;
+        head = 0;
+        tail = n;
+    }
+
+    @Override
+    public int size() {
+        return (tail - head) & (elements.length - 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public void addFirstPrimitive(char e) {
+        modCount++;
+        elements[head = (head - 1) & (elements.length - 1)] = e;
+        if (head == tail) {
+            grow();
+        }
+    }
+
+    public void addLastPrimitive(char e) {
+        modCount++;
+        elements[tail] = e;
+        if ((tail = (tail + 1) & (elements.length - 1)) == head) {
+            grow();
+        }
+    }
+
+    @Override
+    public void addFirst(Character e) {
+        addFirstPrimitive(e);
+    }
+
+    @Override
+    public void addLast(Character e) {
+        addLastPrimitive(e);
+    }
+
+    @Override
+    public boolean offerFirst(Character e) {
+        addFirstPrimitive(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(Character e) {
+        addLastPrimitive(e);
+        return true;
+    }
+
+    private char unlinkFirst() {
+        modCount++;
+        int h = head;
+        char result = elements[h];
+        head = (h + 1) & (elements.length - 1);
+        return result;
+    }
+
+    private char unlinkLast() {
+        modCount++;
+        int t = (tail - 1) & (elements.length - 1);
+        tail = t;
+        return elements[t];
+    }
+
+    /**
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public char removeFirstPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return unlinkFirst();
+    }
+
+    /**
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public char removeLastPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return unlinkLast();
+    }
+
+    /**
+     * Removes and returns the first element, or returns 0 if this deque is empty.
+     */
+    public char pollFirstPrimitive() {
+        return head == tail ? 0 : unlinkFirst();
+    }
+
+    /**
+     * Removes and returns the last element, or returns 0 if this deque is empty.
+     */
+    public char pollLastPrimitive() {
+        return head == tail ? 0 : unlinkLast();
+    }
+
+    @Override
+    public Character removeFirst() {
+        return removeFirstPrimitive();
+    }
+
+    @Override
+    public Character removeLast() {
+        return removeLastPrimitive();
+    }
+
+    @Override
+    public Character pollFirst() {
+        return head == tail ? null : unlinkFirst();
+    }
+
+    @Override
+    public Character pollLast() {
+        return head == tail ? null : unlinkLast();
+    }
+
+    /**
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public char getFirstPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    /**
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public char getLastPrimitive() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        return elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    /**
+     * Returns the first element, or 0 if this deque is empty.
+     */
+    public char peekFirstPrimitive() {
+        return head == tail ? 0 : elements[head];
+    }
+
+    /**
+     * Returns the last element, or 0 if this deque is empty.
+     */
+    public char peekLastPrimitive() {
+        return head == tail ? 0 : elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    @Override
+    public Character getFirst() {
+        return getFirstPrimitive();
+    }
+
+    @Override
+    public Character getLast() {
+        return getLastPrimitive();
+    }
+
+    @Override
+    public Character peekFirst() {
+        return head == tail ? null : elements[head];
+    }
+
+    @Override
+    public Character peekLast() {
+        return head == tail ? null : elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    public boolean removeFirstOccurrencePrimitive(char o) {
+        int mask = elements.length - 1;
+        for (int i = head; i != tail; i = (i + 1) & mask) {
+            if (o == elements[i]) {
+                delete(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean removeLastOccurrencePrimitive(char o) {
+        int mask = elements.length - 1;
+        for (int i = (tail - 1) & mask; i != ((head - 1) & mask); i = (i - 1) & mask) {
+            if (o == elements[i]) {
+                delete(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return o instanceof Character && removeFirstOccurrencePrimitive((Character) o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        return o instanceof Character && removeLastOccurrencePrimitive((Character) o);
+    }
+
+    /**
+     * Removes the element at the physical index i, shifting whichever side of it is shorter.
+     *
+     * @return true if the elements after i moved one slot back, false if the ones before it moved forward
+     */
+    boolean delete(int i) {
+        char[] elements = this.elements;
+        int mask = elements.length - 1;
+        int h = head;
+        int t = tail;
+        int front = (i - h) & mask;
+        int back = (t - i - 1) & mask;
+        modCount++;
+        if (front < back) {
+            if (h <= i) {
+                System.arraycopy(elements, h, elements, h + 1, front);
+            } else {
+                System.arraycopy(elements, 0, elements, 1, i);
+                elements[0] = elements[mask];
+                System.arraycopy(elements, h, elements, h + 1, mask - h);
+            }
+            head = (h + 1) & mask;
+            return false;
+        } else {
+            if (i < t) {
+                System.arraycopy(elements, i + 1, elements, i, back);
+            } else {
+                System.arraycopy(elements, i + 1, elements, i, mask - i);
+                elements[mask] = elements[0];
+                System.arraycopy(elements, 1, elements, 0, t);
+            }
+            tail = (t - 1) & mask;
+            return true;
+        }
+    }
+
+    /**
+     * Removes every element filter matches, keeping the order of the others, in two passes:
+     * the first tests every element and marks the matches, the second compacts the others in place.
+     * As in ArrayDeque, if filter throws the deque is unchanged,
+     * and if filter modifies the deque a ConcurrentModificationException is thrown.
+     *
+     * @param filter the predicate
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if filter modified this deque
+     */
+    public boolean removeIfPrimitive(CharPredicate filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        char[] elements = this.elements;
+        int mask = elements.length - 1;
+        int h = head;
+        int size = (tail - h) & mask;
+        int i = 0;
+        while (i < size && !filter.test(elements[(h + i) & mask])) {
+            i++;
+        }
+        if (i == size) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+        // bit k of deathRow is set if the element i + k after head matches.
+        long[] deathRow = new long[((size - i - 1) >> 6) + 1];
+        deathRow[0] = 1L;
+        for (int j = i + 1; j < size; j++) {
+            if (filter.test(elements[(h + j) & mask])) {
+                deathRow[(j - i) >> 6] |= 1L << (j - i);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        int w = i;
+        for (int j = i + 1; j < size; j++) {
+            if ((deathRow[(j - i) >> 6] & (1L << (j - i))) == 0) {
+                elements[(h + w++) & mask] = elements[(h + j) & mask];
+            }
+        }
+        tail = (h + w) & mask;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Character> filter) {
+        Objects.requireNonNull(filter);
+        return removeIfPrimitive(filter::test);
+    }
+
+    @Override
+    public boolean add(Character e) {
+        addLastPrimitive(e);
+        return true;
+    }
+
+    public boolean addPrimitive(char e) {
+        addLastPrimitive(e);
+        return true;
+    }
+
+    /**
+     * Adds the elements of c at the end, in the order of c's iterator.
+     * c is copied first, so c can be this deque.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Character> c) {
+        Object[] a = c.toArray();
+        for (Object o : a) {
+            addLastPrimitive((Character) o);
+        }
+        return a.length != 0;
+    }
+
+    @Override
+    public boolean offer(Character e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public Character remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public Character poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public Character element() {
+        return getFirst();
+    }
+
+    @Override
+    public Character peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(Character e) {
+        addFirst(e);
+    }
+
+    @Override
+    public Character pop() {
+        return removeFirst();
+    }
+
+    public void pushPrimitive(char e) {
+        addFirstPrimitive(e);
+    }
+
+    public char popPrimitive() {
+        return removeFirstPrimitive();
+    }
+
+    public boolean containsPrimitive(char o) {
+        int mask = elements.length - 1;
+        for (int i = head; i != tail; i = (i + 1) & mask) {
+            if (o == elements[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Character && containsPrimitive((Character) o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        head = 0;
+        tail = 0;
+    }
+
+    public char[] toArrayPrimitive(char[] a) {
+        int size = size();
+        if (a.length < size) {
+            a = new char[size];
+        }
+        if (head <= tail) {
+            System.arraycopy(elements, head, a, 0, size);
+        } else {
+            int front = elements.length - head;
+            System.arraycopy(elements, head, a, 0, front);
+            System.arraycopy(elements, 0, a, front, tail);
+        }
+        return a;
+    }
+
+    @Override
+    public CharArrayDeque clone() {
+        CharArrayDeque clone;
+        try {
+            clone = (CharArrayDeque) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.elements = elements.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Formats the elements with CharCollections, without boxing.
+     */
+    @Override
+    public String toString() {
+        return CharCollections.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return CharCollections.appendTo(this, out);
+    }
+
+    @Override
+    public CharIterator iterator() {
+        return new DeqIterator();
+    }
+
+    @Override
+    public CharIterator descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    private class DeqIterator implements CharIterator {
+        private int cursor = head;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != tail;
+        }
+
+        @Override
+        public char nextPrimitive() {
+            checkForComodification();
+            if (cursor == tail) {
+                throw new NoSuchElementException();
+            }
+            lastRet = cursor;
+            cursor = (cursor + 1) & (elements.length - 1);
+            return elements[lastRet];
+        }
+
+        @Override
+        public Character next() {
+            return nextPrimitive();
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (delete(lastRet)) {
+                cursor = (cursor - 1) & (elements.length - 1);
+            }
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class DescendingIterator implements CharIterator {
+        /**
+         * One past the element next returns, going backwards.
+         */
+        private int cursor = tail;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != head;
+        }
+
+        @Override
+        public char nextPrimitive() {
+            checkForComodification();
+            if (cursor == head) {
+                throw new NoSuchElementException();
+            }
+            cursor = (cursor - 1) & (elements.length - 1);
+            lastRet = cursor;
+            return elements[lastRet];
+        }
+
+        @Override
+        public Character next() {
+            return nextPrimitive();
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (!delete(lastRet)) {
+                cursor = (cursor + 1) & (elements.length - 1);
+            }
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ByteList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.iterators.ByteListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any ByteList, without boxing.
+ * <p>
+ * A ByteArrayList is sorted in place by {@link ByteArrayListSorts}.
+ * Any other list, sub lists of a ByteArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a ByteArrayList without the copy, use the range methods of ByteArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class ByteListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private ByteListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(byte[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(ByteList list) {
+        if (list instanceof ByteArrayList) {
+            ByteArrayListSorts.sortPrimitive((ByteArrayList) list);
+            return;
+        }
+        byte[] a = list.toArrayPrimitive(new byte[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(ByteList list) {
+        if (list instanceof ByteArrayList) {
+            ByteArrayListSorts.parallelSortPrimitive((ByteArrayList) list);
+            return;
+        }
+        byte[] a = list.toArrayPrimitive(new byte[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(ByteList list, byte[] a) {
+        ByteListIterator it = list.listIterator();
+        for (byte e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see ByteArrayListSorts#binarySearchPrimitive(ByteArrayList, byte)
+     */
+    public static int binarySearchPrimitive(ByteList list, byte key) {
+        if (list instanceof ByteArrayList) {
+            return ByteArrayListSorts.binarySearchPrimitive((ByteArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(ByteList list, byte key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Byte.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(ByteList list, byte key) {
+        int low = 0;
+        int high = list.size() - 1;
+        ByteListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Byte.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static byte get(ByteListIterator it, int index) {
+        byte e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.iterators.CharListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any CharList, without boxing.
+ * <p>
+ * A CharArrayList is sorted in place by {@link CharArrayListSorts}.
+ * Any other list, sub lists of a CharArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a CharArrayList without the copy, use the range methods of CharArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class CharListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private CharListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(char[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(CharList list) {
+        if (list instanceof CharArrayList) {
+            CharArrayListSorts.sortPrimitive((CharArrayList) list);
+            return;
+        }
+        char[] a = list.toArrayPrimitive(new char[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(CharList list) {
+        if (list instanceof CharArrayList) {
+            CharArrayListSorts.parallelSortPrimitive((CharArrayList) list);
+            return;
+        }
+        char[] a = list.toArrayPrimitive(new char[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(CharList list, char[] a) {
+        CharListIterator it = list.listIterator();
+        for (char e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see CharArrayListSorts#binarySearchPrimitive(CharArrayList, char)
+     */
+    public static int binarySearchPrimitive(CharList list, char key) {
+        if (list instanceof CharArrayList) {
+            return CharArrayListSorts.binarySearchPrimitive((CharArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(CharList list, char key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Character.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(CharList list, char key) {
+        int low = 0;
+        int high = list.size() - 1;
+        CharListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Character.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static char get(CharListIterator it, int index) {
+        char e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,240 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractCharList;
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import com.xenoamess.commons.primitive.iterators.CharListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayLists;
+import com.xenoamess.commonx_additional_tests.primitive.functions.CharConsumer;
+import com.xenoamess.commonx_additional_tests.primitive.functions.CharPredicate;
+import com.xenoamess.commonx_additional_tests.primitive.functions.CharUnaryOperator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * removeIf, replaceAll, forEach, equals and hashCode for any CharList, without boxing.
+ * <p>
+ * A CharArrayList goes to {@link CharArrayLists}, which works on its elementData.
+ * Any other RandomAccess list, sub lists of a CharArrayList included, is read with getPrimitive
+ * and compacted with setPrimitive, then its tail is removed with one subList(w, size).clear(),
+ * so removeIfPrimitive is O(n) in all instead of O(n) per removed element.
+ * Other lists are traversed by their primitive iterators.
+ * <p>
+ * As in ArrayList, removeIfPrimitive on a RandomAccess list tests every element before removing any,
+ * so the list is unchanged if filter throws.
+ * If the function modifies the list, ConcurrentModificationException is thrown,
+ * as far as the list's modCount can tell.
+ *
+ * @author XenoAmess
+ * @see java.util.ArrayList#removeIf(java.util.function.Predicate)
+ */
+public final class CharLists {
+    private static final MethodHandle GET_MOD_COUNT = lookupModCount();
+
+    private CharLists() {
+    }
+
+    private static MethodHandle lookupModCount() {
+        try {
+            Field modCount = AbstractCharList.class.getDeclaredField("modCount");
+            modCount.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(modCount);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the modCount of list, or 0 if it cannot be read.
+     */
+    private static int modCount(CharList list) {
+        if (GET_MOD_COUNT == null || !(list instanceof AbstractCharList)) {
+            return 0;
+        }
+        try {
+            return (int) GET_MOD_COUNT.invoke(list);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void checkForComodification(CharList list, int expectedModCount, int expectedSize) {
+        if (modCount(list) != expectedModCount || list.size() != expectedSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Removes every element of list filter matches.
+     *
+     * @param list   the list
+     * @param filter the predicate
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if filter modified list
+     */
+    public static boolean removeIfPrimitive(CharList list, CharPredicate filter) {
+        Objects.requireNonNull(filter);
+        if (list instanceof CharArrayList && CharArrayLists.isDirectAccessSupported()) {
+            return CharArrayLists.removeIfPrimitive((CharArrayList) list, filter);
+        }
+        if (!(list instanceof RandomAccess)) {
+            boolean removed = false;
+            for (CharIterator it = list.iterator(); it.hasNext(); ) {
+                if (filter.test(it.nextPrimitive())) {
+                    it.remove();
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+        int expectedModCount = modCount(list);
+        int size = list.size();
+        int i = 0;
+        while (i < size && !filter.test(list.getPrimitive(i))) {
+            i++;
+        }
+        if (i == size) {
+            checkForComodification(list, expectedModCount, size);
+            return false;
+        }
+        // bit k of deathRow is set if the element at i + k matches.
+        long[] deathRow = new long[((size - i - 1) >> 6) + 1];
+        deathRow[0] = 1L;
+        for (int j = i + 1; j < size; j++) {
+            if (filter.test(list.getPrimitive(j))) {
+                deathRow[(j - i) >> 6] |= 1L << (j - i);
+            }
+        }
+        checkForComodification(list, expectedModCount, size);
+        int w = i;
+        for (int j = i + 1; j < size; j++) {
+            if ((deathRow[(j - i) >> 6] & (1L << (j - i))) == 0) {
+                list.setPrimitive(w++, list.getPrimitive(j));
+            }
+        }
+        list.subList(w, size).clear();
+        return true;
+    }
+
+    /**
+     * Replaces each element of list with the result of operator on it.
+     *
+     * @param list     the list
+     * @param operator the operator
+     * @throws ConcurrentModificationException if operator modified list
+     */
+    public static void replaceAllPrimitive(CharList list, CharUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        if (list instanceof CharArrayList && CharArrayLists.isDirectAccessSupported()) {
+            CharArrayLists.replaceAllPrimitive((CharArrayList) list, operator);
+            return;
+        }
+        int expectedModCount = modCount(list);
+        int size = list.size();
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                list.setPrimitive(i, operator.applyAsChar(list.getPrimitive(i)));
+            }
+        } else {
+            for (CharListIterator it = list.listIterator(); it.hasNext(); ) {
+                it.setPrimitive(operator.applyAsChar(it.nextPrimitive()));
+            }
+        }
+        checkForComodification(list, expectedModCount, size);
+    }
+
+    /**
+     * Performs action on each element of list, in order.
+     *
+     * @param list   the list
+     * @param action the action
+     * @throws ConcurrentModificationException if action modified list
+     */
+    public static void forEachPrimitive(CharList list, CharConsumer action) {
+        Objects.requireNonNull(action);
+        if (list instanceof CharArrayList && CharArrayLists.isDirectAccessSupported()) {
+            CharArrayLists.forEachPrimitive((CharArrayList) list, action);
+            return;
+        }
+        int expectedModCount = modCount(list);
+        int size = list.size();
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                action.accept(list.getPrimitive(i));
+                checkForComodification(list, expectedModCount, size);
+            }
+        } else {
+            for (CharIterator it = list.iterator(); it.hasNext(); ) {
+                action.accept(it.nextPrimitive());
+            }
+        }
+    }
+
+    /**
+     * Returns whether o is a List of the same elements as list, in the same order, as List.equals.
+     * A CharArrayList goes to {@link CharArrayLists#equals(CharArrayList, Object)}, which compares elementData.
+     * Any other list is read with its primitive iterator, and so is o if it is a CharList,
+     * so only the elements of a List of another kind are boxed.
+     *
+     * @param list the list
+     * @param o    the object to compare list with
+     * @return true if o is a List of the same elements in the same order
+     */
+    public static boolean equals(CharList list, Object o) {
+        if (list instanceof CharArrayList && CharArrayLists.isDirectAccessSupported()) {
+            return CharArrayLists.equals((CharArrayList) list, o);
+        }
+        if (o == list) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        CharIterator it = list.iterator();
+        if (o instanceof CharList) {
+            CharIterator oit = ((CharList) o).iterator();
+            while (it.hasNext() && oit.hasNext()) {
+                if (Character.compare(it.nextPrimitive(), oit.nextPrimitive()) != 0) {
+                    return false;
+                }
+            }
+            return !(it.hasNext() || oit.hasNext());
+        }
+        Iterator<?> oit = ((List<?>) o).iterator();
+        while (it.hasNext() && oit.hasNext()) {
+            Object e = oit.next();
+            if (!(e instanceof Character) || Character.compare(it.nextPrimitive(), (Character) e) != 0) {
+                return false;
+            }
+        }
+        return !(it.hasNext() || oit.hasNext());
+    }
+
+    /**
+     * Returns what List.hashCode returns for list, without boxing.
+     * A CharArrayList goes to {@link CharArrayLists#hashCode(CharArrayList)}.
+     *
+     * @param list the list
+     * @return the hash code of list
+     */
+    public static int hashCode(CharList list) {
+        if (list instanceof CharArrayList && CharArrayLists.isDirectAccessSupported()) {
+            return CharArrayLists.hashCode((CharArrayList) list);
+        }
+        int hashCode = 1;
+        for (CharIterator it = list.iterator(); it.hasNext(); ) {
+            hashCode = 31 * hashCode + Character.hashCode(it.nextPrimitive());
+        }
+        return hashCode;
+    }
+}
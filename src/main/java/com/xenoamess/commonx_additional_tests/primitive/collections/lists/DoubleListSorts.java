@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any DoubleList, without boxing.
+ * <p>
+ * A DoubleArrayList is sorted in place by {@link DoubleArrayListSorts}.
+ * Any other list, sub lists of a DoubleArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a DoubleArrayList without the copy, use the range methods of DoubleArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class DoubleListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private DoubleListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(double[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(DoubleList list) {
+        if (list instanceof DoubleArrayList) {
+            DoubleArrayListSorts.sortPrimitive((DoubleArrayList) list);
+            return;
+        }
+        double[] a = list.toArrayPrimitive(new double[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(DoubleList list) {
+        if (list instanceof DoubleArrayList) {
+            DoubleArrayListSorts.parallelSortPrimitive((DoubleArrayList) list);
+            return;
+        }
+        double[] a = list.toArrayPrimitive(new double[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(DoubleList list, double[] a) {
+        DoubleListIterator it = list.listIterator();
+        for (double e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see DoubleArrayListSorts#binarySearchPrimitive(DoubleArrayList, double)
+     */
+    public static int binarySearchPrimitive(DoubleList list, double key) {
+        if (list instanceof DoubleArrayList) {
+            return DoubleArrayListSorts.binarySearchPrimitive((DoubleArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(DoubleList list, double key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(DoubleList list, double key) {
+        int low = 0;
+        int high = list.size() - 1;
+        DoubleListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static double get(DoubleListIterator it, int index) {
+        double e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import com.xenoamess.commons.primitive.iterators.FloatListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.FloatArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any FloatList, without boxing.
+ * <p>
+ * A FloatArrayList is sorted in place by {@link FloatArrayListSorts}.
+ * Any other list, sub lists of a FloatArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a FloatArrayList without the copy, use the range methods of FloatArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class FloatListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private FloatListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(float[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(FloatList list) {
+        if (list instanceof FloatArrayList) {
+            FloatArrayListSorts.sortPrimitive((FloatArrayList) list);
+            return;
+        }
+        float[] a = list.toArrayPrimitive(new float[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(FloatList list) {
+        if (list instanceof FloatArrayList) {
+            FloatArrayListSorts.parallelSortPrimitive((FloatArrayList) list);
+            return;
+        }
+        float[] a = list.toArrayPrimitive(new float[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(FloatList list, float[] a) {
+        FloatListIterator it = list.listIterator();
+        for (float e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see FloatArrayListSorts#binarySearchPrimitive(FloatArrayList, float)
+     */
+    public static int binarySearchPrimitive(FloatList list, float key) {
+        if (list instanceof FloatArrayList) {
+            return FloatArrayListSorts.binarySearchPrimitive((FloatArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(FloatList list, float key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Float.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(FloatList list, float key) {
+        int low = 0;
+        int high = list.size() - 1;
+        FloatListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Float.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static float get(FloatListIterator it, int index) {
+        float e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
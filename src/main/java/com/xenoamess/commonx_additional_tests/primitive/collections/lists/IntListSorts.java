@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.iterators.IntListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any IntList, without boxing.
+ * <p>
+ * A IntArrayList is sorted in place by {@link IntArrayListSorts}.
+ * Any other list, sub lists of a IntArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a IntArrayList without the copy, use the range methods of IntArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class IntListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private IntListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(int[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(IntList list) {
+        if (list instanceof IntArrayList) {
+            IntArrayListSorts.sortPrimitive((IntArrayList) list);
+            return;
+        }
+        int[] a = list.toArrayPrimitive(new int[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(IntList list) {
+        if (list instanceof IntArrayList) {
+            IntArrayListSorts.parallelSortPrimitive((IntArrayList) list);
+            return;
+        }
+        int[] a = list.toArrayPrimitive(new int[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(IntList list, int[] a) {
+        IntListIterator it = list.listIterator();
+        for (int e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see IntArrayListSorts#binarySearchPrimitive(IntArrayList, int)
+     */
+    public static int binarySearchPrimitive(IntList list, int key) {
+        if (list instanceof IntArrayList) {
+            return IntArrayListSorts.binarySearchPrimitive((IntArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(IntList list, int key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(IntList list, int key) {
+        int low = 0;
+        int high = list.size() - 1;
+        IntListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static int get(IntListIterator it, int index) {
+        int e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
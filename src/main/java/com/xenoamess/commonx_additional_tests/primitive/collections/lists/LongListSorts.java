@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.LongList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.iterators.LongListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any LongList, without boxing.
+ * <p>
+ * A LongArrayList is sorted in place by {@link LongArrayListSorts}.
+ * Any other list, sub lists of a LongArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a LongArrayList without the copy, use the range methods of LongArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class LongListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private LongListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(long[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(LongList list) {
+        if (list instanceof LongArrayList) {
+            LongArrayListSorts.sortPrimitive((LongArrayList) list);
+            return;
+        }
+        long[] a = list.toArrayPrimitive(new long[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(LongList list) {
+        if (list instanceof LongArrayList) {
+            LongArrayListSorts.parallelSortPrimitive((LongArrayList) list);
+            return;
+        }
+        long[] a = list.toArrayPrimitive(new long[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(LongList list, long[] a) {
+        LongListIterator it = list.listIterator();
+        for (long e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see LongArrayListSorts#binarySearchPrimitive(LongArrayList, long)
+     */
+    public static int binarySearchPrimitive(LongList list, long key) {
+        if (list instanceof LongArrayList) {
+            return LongArrayListSorts.binarySearchPrimitive((LongArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(LongList list, long key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(LongList list, long key) {
+        int low = 0;
+        int high = list.size() - 1;
+        LongListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static long get(LongListIterator it, int index) {
+        long e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
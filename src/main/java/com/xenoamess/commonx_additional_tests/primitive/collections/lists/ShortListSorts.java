@@ -0,0 +1,140 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ShortList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+import com.xenoamess.commons.primitive.iterators.ShortListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ShortArrayListSorts;
+
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * sortPrimitive, parallelSortPrimitive and binarySearchPrimitive for any ShortList, without boxing.
+ * <p>
+ * A ShortArrayList is sorted in place by {@link ShortArrayListSorts}.
+ * Any other list, sub lists of a ShortArrayList included, is copied with toArrayPrimitive,
+ * sorted there and written back through its list iterator, as List.sort does;
+ * that changes no modCount, so a sub list stays usable after being sorted.
+ * To sort a range of a ShortArrayList without the copy, use the range methods of ShortArrayListSorts.
+ * <p>
+ * binarySearchPrimitive is Collections.binarySearch without boxing:
+ * indexed for RandomAccess and short lists, by a list iterator otherwise.
+ *
+ * @author XenoAmess
+ * @see java.util.Collections#binarySearch(java.util.List, Object)
+ */
+public final class ShortListSorts {
+    private static final int BINARYSEARCH_THRESHOLD = 5000;
+
+    private ShortListSorts() {
+    }
+
+    /**
+     * Sorts list into ascending order, as Arrays.sort(short[]) would.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(ShortList list) {
+        if (list instanceof ShortArrayList) {
+            ShortArrayListSorts.sortPrimitive((ShortArrayList) list);
+            return;
+        }
+        short[] a = list.toArrayPrimitive(new short[0]);
+        Arrays.sort(a);
+        writeBack(list, a);
+    }
+
+    /**
+     * Sorts list into ascending order with Arrays.parallelSort.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(ShortList list) {
+        if (list instanceof ShortArrayList) {
+            ShortArrayListSorts.parallelSortPrimitive((ShortArrayList) list);
+            return;
+        }
+        short[] a = list.toArrayPrimitive(new short[0]);
+        Arrays.parallelSort(a);
+        writeBack(list, a);
+    }
+
+    private static void writeBack(ShortList list, short[] a) {
+        ShortListIterator it = list.listIterator();
+        for (short e : a) {
+            it.nextPrimitive();
+            it.setPrimitive(e);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1)
+     * @see ShortArrayListSorts#binarySearchPrimitive(ShortArrayList, short)
+     */
+    public static int binarySearchPrimitive(ShortList list, short key) {
+        if (list instanceof ShortArrayList) {
+            return ShortArrayListSorts.binarySearchPrimitive((ShortArrayList) list, key);
+        }
+        if (list instanceof RandomAccess || list.size() < BINARYSEARCH_THRESHOLD) {
+            return indexedBinarySearch(list, key);
+        }
+        return iteratorBinarySearch(list, key);
+    }
+
+    private static int indexedBinarySearch(ShortList list, short key) {
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Short.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int iteratorBinarySearch(ShortList list, short key) {
+        int low = 0;
+        int high = list.size() - 1;
+        ShortListIterator it = list.listIterator();
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Short.compare(get(it, mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Moves it to index and returns the element there, as Collections.get does.
+     */
+    private static short get(ShortListIterator it, int index) {
+        short e;
+        int pos = it.nextIndex();
+        if (pos <= index) {
+            do {
+                e = it.nextPrimitive();
+            } while (pos++ < index);
+        } else {
+            do {
+                e = it.previousPrimitive();
+            } while (--pos > index);
+        }
+        return e;
+    }
+}
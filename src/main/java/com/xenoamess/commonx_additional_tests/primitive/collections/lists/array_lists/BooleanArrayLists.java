@@ -0,0 +1,568 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.AbstractBooleanCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractBooleanList;
+import com.xenoamess.commons.primitive.collections.lists.BooleanList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.BooleanCollections;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.BooleanLists;
+import com.xenoamess.commonx_additional_tests.primitive.functions.BooleanConsumer;
+import com.xenoamess.commonx_additional_tests.primitive.functions.BooleanPredicate;
+import com.xenoamess.commonx_additional_tests.primitive.functions.BooleanUnaryOperator;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Bulk operations on a BooleanArrayList that box nothing.
+ * <p>
+ * BooleanArrayList.addAll takes a boxed Collection and adds element by element.
+ * The addAll methods here grow the list at most once and copy the whole range with one System.arraycopy,
+ * writing to the list's elementData directly.
+ * removeIfPrimitive, replaceAllPrimitive and forEachPrimitive work on elementData too,
+ * with the same fail-fast checks as their ArrayList counterparts.
+ * ensureCapacity grows elementData as far as a {@link GrowthPolicy} says.
+ * toString and appendTo format elementData with {@link BooleanCollections}.
+ * equals and hashCode read elementData too; equals of two of them compares their elementData ranges.
+ * If the fields of BooleanArrayList are not accessible, all of them fall back to its public methods.
+ *
+ * @author XenoAmess
+ * @see java.util.ArrayList#addAll(int, Collection)
+ */
+public final class BooleanArrayLists {
+    private static final MethodHandle GET_ELEMENT_DATA;
+    private static final MethodHandle SET_ELEMENT_DATA;
+    private static final MethodHandle SET_SIZE;
+    private static final MethodHandle GET_MOD_COUNT;
+    private static final MethodHandle SET_MOD_COUNT;
+
+    static {
+        MethodHandle getElementData = null;
+        MethodHandle setElementData = null;
+        MethodHandle setSize = null;
+        MethodHandle getModCount = null;
+        MethodHandle setModCount = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Field elementData = BooleanArrayList.class.getDeclaredField("elementData");
+            Field size = BooleanArrayList.class.getDeclaredField("size");
+            Field modCount = AbstractBooleanList.class.getDeclaredField("modCount");
+            elementData.setAccessible(true);
+            size.setAccessible(true);
+            modCount.setAccessible(true);
+            getElementData = lookup.unreflectGetter(elementData);
+            setElementData = lookup.unreflectSetter(elementData);
+            setSize = lookup.unreflectSetter(size);
+            getModCount = lookup.unreflectGetter(modCount);
+            setModCount = lookup.unreflectSetter(modCount);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            getElementData = null;
+        }
+        GET_ELEMENT_DATA = getElementData;
+        SET_ELEMENT_DATA = setElementData;
+        SET_SIZE = setSize;
+        GET_MOD_COUNT = getModCount;
+        SET_MOD_COUNT = setModCount;
+    }
+
+    private BooleanArrayLists() {
+    }
+
+    /**
+     * Whether the bulk methods write to elementData directly on this jvm.
+     */
+    public static boolean isDirectAccessSupported() {
+        return GET_ELEMENT_DATA != null;
+    }
+
+    /**
+     * Appends src[off] to src[off + len - 1] to list.
+     *
+     * @param list the list
+     * @param src  the elements
+     * @param off  index of the first element in src
+     * @param len  number of elements
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if off or len are out of the bounds of src
+     */
+    public static boolean addAll(BooleanArrayList list, boolean[] src, int off, int len) {
+        return addAll(list, list.size(), src, off, len);
+    }
+
+    /**
+     * Inserts all of src at index.
+     *
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public static boolean addAll(BooleanArrayList list, int index, boolean[] src) {
+        return addAll(list, index, src, 0, src.length);
+    }
+
+    /**
+     * Inserts src[off] to src[off + len - 1] at index, shifting the elements from index to the right.
+     *
+     * @param list  the list
+     * @param index where the first element goes
+     * @param src   the elements
+     * @param off   index of the first element in src
+     * @param len   number of elements
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if index is out of range,
+     *                                   or if off or len are out of the bounds of src
+     * @throws OutOfMemoryError          if the list would hold more than Integer.MAX_VALUE elements
+     */
+    public static boolean addAll(BooleanArrayList list, int index, boolean[] src, int off, int len) {
+        int size = list.size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (off < 0 || len < 0 || off > src.length - len) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + src.length);
+        }
+        if (len == 0) {
+            return false;
+        }
+        int newSize = size + len;
+        if (newSize < 0) {
+            throw new OutOfMemoryError("Required array length " + size + " + " + len + " is too large");
+        }
+        list.ensureCapacity(newSize);
+        if (GET_ELEMENT_DATA == null) {
+            addAllSlow(list, index, src, off, len);
+            return true;
+        }
+        try {
+            boolean[] elementData = elementData(list);
+            System.arraycopy(elementData, index, elementData, index + len, size - index);
+            System.arraycopy(src, off, elementData, index, len);
+            setSize(list, newSize);
+            setModCount(list, modCount(list) + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return true;
+    }
+
+    private static boolean[] elementData(BooleanArrayList list) throws Throwable {
+        return (boolean[]) GET_ELEMENT_DATA.invoke(list);
+    }
+
+    /**
+     * Returns the elementData of list, whose first list.size() elements are its elements,
+     * or null if it is not accessible.
+     */
+    static boolean[] elementDataOrNull(BooleanArrayList list) {
+        if (GET_ELEMENT_DATA == null) {
+            return null;
+        }
+        try {
+            return elementData(list);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Increments the modCount of list, as ArrayList.sort does although it changes no size.
+     * Does nothing if it is not accessible.
+     */
+    static void incrementModCount(BooleanArrayList list) {
+        if (GET_ELEMENT_DATA == null) {
+            return;
+        }
+        try {
+            setModCount(list, modCount(list) + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void setElementData(BooleanArrayList list, boolean[] elementData) throws Throwable {
+        SET_ELEMENT_DATA.invoke(list, elementData);
+    }
+
+    private static void setSize(BooleanArrayList list, int size) throws Throwable {
+        SET_SIZE.invoke(list, size);
+    }
+
+    private static int modCount(BooleanArrayList list) throws Throwable {
+        return (int) GET_MOD_COUNT.invoke(list);
+    }
+
+    private static void setModCount(BooleanArrayList list, int modCount) throws Throwable {
+        SET_MOD_COUNT.invoke(list, modCount);
+    }
+
+    /**
+     * Grows list, if needed, to hold at least minCapacity elements,
+     * to the capacity policy gives but never less than minCapacity.
+     * Like ArrayList.ensureCapacity, increments modCount if elementData was replaced.
+     * <p>
+     * If the fields of BooleanArrayList are not accessible, this is list.ensureCapacity(minCapacity),
+     * and the list grows as it does by itself.
+     *
+     * @param list        the list
+     * @param minCapacity the capacity needed
+     * @param policy      how far to grow
+     * @throws OutOfMemoryError if minCapacity is negative, as when size + n overflowed
+     */
+    public static void ensureCapacity(BooleanArrayList list, int minCapacity, GrowthPolicy policy) {
+        Objects.requireNonNull(policy);
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array length " + Integer.toUnsignedString(minCapacity)
+                    + " is too large");
+        }
+        if (GET_ELEMENT_DATA == null) {
+            list.ensureCapacity(minCapacity);
+            return;
+        }
+        try {
+            boolean[] es = elementData(list);
+            int oldCapacity = es.length;
+            if (minCapacity <= oldCapacity) {
+                return;
+            }
+            int newCapacity = Math.max(policy.newCapacity(oldCapacity, minCapacity), minCapacity);
+            setElementData(list, Arrays.copyOf(es, newCapacity));
+            setModCount(list, modCount(list) + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void addAllSlow(BooleanArrayList list, int index, boolean[] src, int off, int len) {
+        if (index == list.size()) {
+            for (int i = 0; i < len; i++) {
+                list.addPrimitive(index + i, src[off + i]);
+            }
+        } else {
+            list.addAll(index, new BoxedView(src, off, len));
+        }
+    }
+
+    /**
+     * Appends all of c to list.
+     * Nothing is boxed for a primitive source: another BooleanArrayList is copied once, straight from its elementData,
+     * and any other AbstractBooleanCollection, list itself included, is copied to an array of its size first.
+     * Any other source goes through BooleanArrayList.addAll.
+     *
+     * @return true if list changed
+     */
+    public static boolean addAll(BooleanArrayList list, Collection<? extends Boolean> c) {
+        return addAll(list, list.size(), c);
+    }
+
+    /**
+     * Inserts all of c at index, in the order of c's iterator.
+     *
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @see #addAll(BooleanArrayList, Collection)
+     */
+    public static boolean addAll(BooleanArrayList list, int index, Collection<? extends Boolean> c) {
+        if (c instanceof BooleanArrayList && c != list) {
+            boolean[] es = elementDataOrNull((BooleanArrayList) c);
+            if (es != null) {
+                return addAll(list, index, es, 0, c.size());
+            }
+        }
+        if (c instanceof AbstractBooleanCollection) {
+            boolean[] a = ((AbstractBooleanCollection) c).toArrayPrimitive(new boolean[c.size()]);
+            return addAll(list, index, a, 0, a.length);
+        }
+        return list.addAll(index, c);
+    }
+
+    /**
+     * Removes every element filter matches, in two passes over elementData:
+     * the first tests every element and marks the matches, the second compacts the others in place.
+     * As in ArrayList, if filter throws the list is unchanged,
+     * and if filter modifies the list a ConcurrentModificationException is thrown.
+     *
+     * @param list   the list
+     * @param filter the predicate
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if filter modified list
+     */
+    public static boolean removeIfPrimitive(BooleanArrayList list, BooleanPredicate filter) {
+        Objects.requireNonNull(filter);
+        if (GET_ELEMENT_DATA == null) {
+            return BooleanLists.removeIfPrimitive(list, filter);
+        }
+        try {
+            int expectedModCount = modCount(list);
+            boolean[] es = elementData(list);
+            int size = list.size();
+            int i = 0;
+            while (i < size && !filter.test(es[i])) {
+                i++;
+            }
+            if (i == size) {
+                if (modCount(list) != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return false;
+            }
+            // bit k of deathRow is set if the element at i + k matches.
+            long[] deathRow = new long[((size - i - 1) >> 6) + 1];
+            deathRow[0] = 1L;
+            for (int j = i + 1; j < size; j++) {
+                if (filter.test(es[j])) {
+                    deathRow[(j - i) >> 6] |= 1L << (j - i);
+                }
+            }
+            if (modCount(list) != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int w = i;
+            for (int j = i + 1; j < size; j++) {
+                if ((deathRow[(j - i) >> 6] & (1L << (j - i))) == 0) {
+                    es[w++] = es[j];
+                }
+            }
+            setSize(list, w);
+            setModCount(list, expectedModCount + 1);
+            return true;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Replaces each element with the result of operator on it.
+     *
+     * @param list     the list
+     * @param operator the operator
+     * @throws ConcurrentModificationException if operator modified list
+     */
+    public static void replaceAllPrimitive(BooleanArrayList list, BooleanUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        if (GET_ELEMENT_DATA == null) {
+            BooleanLists.replaceAllPrimitive(list, operator);
+            return;
+        }
+        try {
+            int expectedModCount = modCount(list);
+            boolean[] es = elementData(list);
+            int size = list.size();
+            for (int i = 0; modCount(list) == expectedModCount && i < size; i++) {
+                es[i] = operator.applyAsBoolean(es[i]);
+            }
+            if (modCount(list) != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            // as ArrayList.replaceAll does.
+            setModCount(list, expectedModCount + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Performs action on each element, in order.
+     *
+     * @param list   the list
+     * @param action the action
+     * @throws ConcurrentModificationException if action modified list
+     */
+    public static void forEachPrimitive(BooleanArrayList list, BooleanConsumer action) {
+        Objects.requireNonNull(action);
+        if (GET_ELEMENT_DATA == null) {
+            BooleanLists.forEachPrimitive(list, action);
+            return;
+        }
+        try {
+            int expectedModCount = modCount(list);
+            boolean[] es = elementData(list);
+            int size = list.size();
+            for (int i = 0; modCount(list) == expectedModCount && i < size; i++) {
+                action.accept(es[i]);
+            }
+            if (modCount(list) != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the same String as list.toString(), appending elementData straight into a presized StringBuilder.
+     *
+     * @param list the list
+     * @return the elements of list, as "[e1, e2, ...]"
+     * @see BooleanCollections#toString(boolean[], int, int)
+     */
+    public static String toString(BooleanArrayList list) {
+        boolean[] es = elementDataOrNull(list);
+        if (es == null) {
+            return BooleanCollections.toString((BooleanList) list);
+        }
+        return BooleanCollections.toString(es, 0, list.size());
+    }
+
+    /**
+     * Appends what toString(list) returns to out, a chunk at a time unless out is a StringBuilder,
+     * so a huge list can be streamed to a Writer without ever becoming one String.
+     *
+     * @param list the list
+     * @param out  where to append
+     * @return out
+     * @throws IOException if out does
+     */
+    public static <A extends Appendable> A appendTo(BooleanArrayList list, A out) throws IOException {
+        boolean[] es = elementDataOrNull(list);
+        if (es == null) {
+            return BooleanCollections.appendTo((BooleanList) list, out);
+        }
+        return BooleanCollections.appendTo(es, 0, list.size(), out);
+    }
+
+    /**
+     * Returns list.equals(o), without boxing the elements of list.
+     * Against another BooleanArrayList it compares the two elementData ranges.
+     * Against any other BooleanList it reads o with its primitive iterator,
+     * and only against a List of another kind does it box, and then only the elements of o.
+     *
+     * @param list the list
+     * @param o    the object to compare list with
+     * @return true if o is a List of the same elements in the same order
+     */
+    public static boolean equals(BooleanArrayList list, Object o) {
+        if (o == list) {
+            return true;
+        }
+        boolean[] es = elementDataOrNull(list);
+        if (es == null) {
+            return BooleanLists.equals(list, o);
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        int size = list.size();
+        if (((List<?>) o).size() != size) {
+            return false;
+        }
+        if (o instanceof BooleanArrayList) {
+            return rangeEquals(es, elementDataOrNull((BooleanArrayList) o), size);
+        }
+        if (o instanceof BooleanList) {
+            BooleanIterator it = ((BooleanList) o).iterator();
+            for (int i = 0; i < size; i++) {
+                if (!it.hasNext() || Boolean.compare(es[i], it.nextPrimitive()) != 0) {
+                    return false;
+                }
+            }
+            return !it.hasNext();
+        }
+        Iterator<?> it = ((List<?>) o).iterator();
+        for (int i = 0; i < size; i++) {
+            if (!it.hasNext()) {
+                return false;
+            }
+            Object e = it.next();
+            if (!(e instanceof Boolean) || Boolean.compare(es[i], (Boolean) e) != 0) {
+                return false;
+            }
+        }
+        return !it.hasNext();
+    }
+
+    private static boolean rangeEquals(boolean[] a, boolean[] b, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns list.hashCode(), computed on elementData without boxing.
+     *
+     * @param list the list
+     * @return the hash code of list
+     * @see #hashCode(boolean[], int, int)
+     */
+    public static int hashCode(BooleanArrayList list) {
+        boolean[] es = elementDataOrNull(list);
+        if (es == null) {
+            return BooleanLists.hashCode(list);
+        }
+        return hashCode(es, 0, list.size());
+    }
+
+    /**
+     * Returns what List.hashCode returns for a list of a[off] to a[off + len - 1].
+     * Four elements a step, as 31^4 * h + 31^3 * e0 + 31^2 * e1 + 31 * e2 + e3,
+     * so that the multiplications of a step need not wait on one another.
+     *
+     * @throws IndexOutOfBoundsException if off or len are out of the bounds of a
+     */
+    public static int hashCode(boolean[] a, int off, int len) {
+        if (off < 0 || len < 0 || off > a.length - len) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + a.length);
+        }
+        int h = 1;
+        int i = off;
+        for (int upperBound = off + len - 3; i < upperBound; i += 4) {
+            h = 923521 * h + 29791 * Boolean.hashCode(a[i]) + 961 * Boolean.hashCode(a[i + 1])
+                    + 31 * Boolean.hashCode(a[i + 2]) + Boolean.hashCode(a[i + 3]);
+        }
+        for (int end = off + len; i < end; i++) {
+            h = 31 * h + Boolean.hashCode(a[i]);
+        }
+        return h;
+    }
+
+    /**
+     * A boxed read-only view of a range of a boolean[], for the fallback path.
+     */
+    private static final class BoxedView extends AbstractList<Boolean> implements RandomAccess {
+        private final boolean[] src;
+        private final int off;
+        private final int len;
+
+        BoxedView(boolean[] src, int off, int len) {
+            this.src = src;
+            this.off = off;
+            this.len = len;
+        }
+
+        @Override
+        public Boolean get(int index) {
+            return src[off + index];
+        }
+
+        @Override
+        public int size() {
+            return len;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Sorting and binary search of a ByteArrayList in place, on its elementData.
+ * <p>
+ * sortPrimitive runs Arrays.sort and parallelSortPrimitive runs Arrays.parallelSort
+ * on the list's own array, so nothing is copied out and back as with toArrayPrimitive.
+ * Elements are ordered as by Arrays.sort(byte[]).
+ * As ArrayList.sort does, both increment the modCount of the list once,
+ * so iterators and sub lists of it made before the sort fail fast afterwards.
+ * <p>
+ * If the fields of ByteArrayList are not accessible, the list is copied to an array,
+ * sorted there and written back with setPrimitive.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commonx_additional_tests.primitive.collections.lists.ByteListSorts
+ */
+public final class ByteArrayListSorts {
+    private ByteArrayListSorts() {
+    }
+
+    private static void rangeCheck(int size, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex);
+        }
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException("toIndex: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Sorts list into ascending order.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(ByteArrayList list) {
+        sortPrimitive(list, 0, list.size());
+    }
+
+    /**
+     * Sorts the elements from fromIndex, inclusive, to toIndex, exclusive, into ascending order.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to sort
+     * @param toIndex   index after the last element to sort
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static void sortPrimitive(ByteArrayList list, int fromIndex, int toIndex) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        byte[] elementData = ByteArrayLists.elementDataOrNull(list);
+        if (elementData == null) {
+            byte[] a = list.toArrayPrimitive(new byte[0]);
+            Arrays.sort(a, fromIndex, toIndex);
+            writeBack(list, a, fromIndex, toIndex);
+            return;
+        }
+        Arrays.sort(elementData, fromIndex, toIndex);
+        ByteArrayLists.incrementModCount(list);
+    }
+
+    /**
+     * Sorts list into ascending order, with Arrays.parallelSort.
+     * Lists shorter than 8192 elements are sorted in the calling thread, as by sortPrimitive.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(ByteArrayList list) {
+        parallelSortPrimitive(list, 0, list.size());
+    }
+
+    /**
+     * Sorts the elements from fromIndex, inclusive, to toIndex, exclusive, into ascending order,
+     * with Arrays.parallelSort.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to sort
+     * @param toIndex   index after the last element to sort
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static void parallelSortPrimitive(ByteArrayList list, int fromIndex, int toIndex) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        byte[] elementData = ByteArrayLists.elementDataOrNull(list);
+        if (elementData == null) {
+            byte[] a = list.toArrayPrimitive(new byte[0]);
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            writeBack(list, a, fromIndex, toIndex);
+            return;
+        }
+        Arrays.parallelSort(elementData, fromIndex, toIndex);
+        ByteArrayLists.incrementModCount(list);
+    }
+
+    private static void writeBack(ByteArrayList list, byte[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            list.setPrimitive(i, a[i]);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     * If list holds key more than once, any of them may be found.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1),
+     * where the insertion point is the index of the first element greater than key, or list.size()
+     * @see Arrays#binarySearch(byte[], byte)
+     */
+    public static int binarySearchPrimitive(ByteArrayList list, byte key) {
+        return binarySearchPrimitive(list, 0, list.size(), key);
+    }
+
+    /**
+     * Searches the elements from fromIndex, inclusive, to toIndex, exclusive,
+     * which must be sorted in ascending order, for key.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to search
+     * @param toIndex   index after the last element to search
+     * @param key       the value to search for
+     * @return index of key, if it is in the range; otherwise (-(insertion point) - 1)
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     * @see Arrays#binarySearch(byte[], int, int, byte)
+     */
+    public static int binarySearchPrimitive(ByteArrayList list, int fromIndex, int toIndex, byte key) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        byte[] elementData = ByteArrayLists.elementDataOrNull(list);
+        if (elementData != null) {
+            return Arrays.binarySearch(elementData, fromIndex, toIndex, key);
+        }
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Byte.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
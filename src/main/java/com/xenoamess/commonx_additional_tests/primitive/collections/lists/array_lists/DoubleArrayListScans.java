@@ -0,0 +1,215 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+
+import java.util.NoSuchElementException;
+
+/**
+ * sum, min, max, indexOf, contains and fill over a DoubleArrayList or a range of a double[],
+ * and hashCode and equals over ranges of double[].
+ * <p>
+ * On java 17 or later, when this library was built by the jdk17 profile
+ * and the jvm runs with {@code --add-modules jdk.incubator.vector},
+ * the loops run on SIMD registers through the Vector API, several elements per instruction.
+ * Otherwise they run one element at a time.
+ * {@link #isVectorized()} tells which one this jvm uses.
+ * <p>
+ * min and max follow Math.min and Math.max, and indexOf compares with ==.
+ * hashCode and equals give what List.hashCode and List.equals would for the ranges as lists.
+ * A vectorized sum of floating point elements adds them in another order,
+ * so it can differ from the sequential sum in the last bits.
+ * <p>
+ * The list methods read the list's elementData in place; see {@link DoubleArrayLists}.
+ * None of them changes the modCount of the list.
+ *
+ * @author XenoAmess
+ */
+public final class DoubleArrayListScans {
+    static final String VECTOR_KERNEL =
+            "com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.VectorDoubleScanKernel";
+
+    private static final DoubleScanKernel KERNEL = loadKernel();
+
+    private DoubleArrayListScans() {
+    }
+
+    private static DoubleScanKernel loadKernel() {
+        try {
+            return (DoubleScanKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // not built by the jdk17 profile, older jvm, or jdk.incubator.vector not added.
+            return ScalarDoubleScanKernel.INSTANCE;
+        }
+    }
+
+    /**
+     * Whether the methods here run on the Vector API on this jvm.
+     */
+    public static boolean isVectorized() {
+        return KERNEL != ScalarDoubleScanKernel.INSTANCE;
+    }
+
+    private static void rangeCheck(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * Returns the elements of list, in an array at least list.size() long.
+     */
+    private static double[] elements(DoubleArrayList list) {
+        double[] elementData = DoubleArrayLists.elementDataOrNull(list);
+        return elementData != null ? elementData : list.toArrayPrimitive(new double[0]);
+    }
+
+    /**
+     * @return the sum of a[fromIndex] to a[toIndex - 1], or 0 if the range is empty
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; a.length
+     */
+    public static double sum(double[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return KERNEL.sum(a, fromIndex, toIndex);
+    }
+
+    /**
+     * @return the smallest of a[fromIndex] to a[toIndex - 1]
+     * @throws NoSuchElementException         if the range is empty
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; a.length
+     */
+    public static double min(double[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            throw new NoSuchElementException();
+        }
+        return KERNEL.min(a, fromIndex, toIndex);
+    }
+
+    /**
+     * @return the largest of a[fromIndex] to a[toIndex - 1]
+     * @throws NoSuchElementException         if the range is empty
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; a.length
+     */
+    public static double max(double[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            throw new NoSuchElementException();
+        }
+        return KERNEL.max(a, fromIndex, toIndex);
+    }
+
+    /**
+     * @return the index in a of the first element of a[fromIndex] to a[toIndex - 1] that is == x, or -1
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; a.length
+     */
+    public static int indexOf(double[] a, int fromIndex, int toIndex, double x) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return KERNEL.indexOf(a, fromIndex, toIndex, x);
+    }
+
+    /**
+     * Sets a[fromIndex] to a[toIndex - 1] to x.
+     *
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; a.length
+     */
+    public static void fill(double[] a, int fromIndex, int toIndex, double x) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        KERNEL.fill(a, fromIndex, toIndex, x);
+    }
+
+    /**
+     * @return what List.hashCode returns for a list of a[fromIndex] to a[toIndex - 1]
+     * @throws IllegalArgumentException       if fromIndex &gt; toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; a.length
+     */
+    public static int hashCode(double[] a, int fromIndex, int toIndex) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return KERNEL.hashCode(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Compares the ranges as Arrays.equals does, so NaN equals NaN and 0.0 does not equal -0.0.
+     *
+     * @return true if a[aFromIndex] to a[aToIndex - 1] and b[bFromIndex] to b[bToIndex - 1]
+     * are the same elements in the same order
+     * @throws IllegalArgumentException       if aFromIndex &gt; aToIndex or bFromIndex &gt; bToIndex
+     * @throws ArrayIndexOutOfBoundsException if a range is out of the bounds of its array
+     */
+    public static boolean equals(double[] a, int aFromIndex, int aToIndex, double[] b, int bFromIndex, int bToIndex) {
+        rangeCheck(a.length, aFromIndex, aToIndex);
+        rangeCheck(b.length, bFromIndex, bToIndex);
+        int length = aToIndex - aFromIndex;
+        return length == bToIndex - bFromIndex && KERNEL.equals(a, aFromIndex, b, bFromIndex, length);
+    }
+
+    /**
+     * @return the sum of the elements of list, or 0 if it is empty
+     */
+    public static double sum(DoubleArrayList list) {
+        return KERNEL.sum(elements(list), 0, list.size());
+    }
+
+    /**
+     * @return the smallest element of list
+     * @throws NoSuchElementException if list is empty
+     */
+    public static double min(DoubleArrayList list) {
+        int size = list.size();
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return KERNEL.min(elements(list), 0, size);
+    }
+
+    /**
+     * @return the largest element of list
+     * @throws NoSuchElementException if list is empty
+     */
+    public static double max(DoubleArrayList list) {
+        int size = list.size();
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return KERNEL.max(elements(list), 0, size);
+    }
+
+    /**
+     * @return the index of the first element of list that is == x, or -1
+     */
+    public static int indexOfPrimitive(DoubleArrayList list, double x) {
+        return KERNEL.indexOf(elements(list), 0, list.size(), x);
+    }
+
+    /**
+     * @return true if an element of list is == x
+     */
+    public static boolean containsPrimitive(DoubleArrayList list, double x) {
+        return indexOfPrimitive(list, x) >= 0;
+    }
+
+    /**
+     * Sets every element of list to x.
+     */
+    public static void fill(DoubleArrayList list, double x) {
+        int size = list.size();
+        double[] elementData = DoubleArrayLists.elementDataOrNull(list);
+        if (elementData == null) {
+            for (int i = 0; i < size; i++) {
+                list.setPrimitive(i, x);
+            }
+            return;
+        }
+        KERNEL.fill(elementData, 0, size, x);
+    }
+}
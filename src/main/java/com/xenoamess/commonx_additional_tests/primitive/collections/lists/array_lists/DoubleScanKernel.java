@@ -0,0 +1,33 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+/**
+ * The loops behind {@link DoubleArrayListScans}, over a[fromIndex] to a[toIndex - 1].
+ * Ranges are checked by the caller; min and max are only called on non-empty ranges.
+ *
+ * @author XenoAmess
+ */
+interface DoubleScanKernel {
+    double sum(double[] a, int fromIndex, int toIndex);
+
+    double min(double[] a, int fromIndex, int toIndex);
+
+    double max(double[] a, int fromIndex, int toIndex);
+
+    /**
+     * Returns the index of the first element == x, or -1.
+     */
+    int indexOf(double[] a, int fromIndex, int toIndex, double x);
+
+    void fill(double[] a, int fromIndex, int toIndex, double x);
+
+    /**
+     * Returns the hash code List.hashCode gives a list of a[fromIndex] to a[toIndex - 1].
+     */
+    int hashCode(double[] a, int fromIndex, int toIndex);
+
+    /**
+     * Returns whether a[aFromIndex] to a[aFromIndex + length - 1] are b[bFromIndex] to b[bFromIndex + length - 1],
+     * compared as Arrays.equals compares them.
+     */
+    boolean equals(double[] a, int aFromIndex, double[] b, int bFromIndex, int length);
+}
@@ -0,0 +1,550 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.AbstractFloatCollection;
+import com.xenoamess.commons.primitive.collections.lists.AbstractFloatList;
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import com.xenoamess.commons.primitive.iterators.FloatIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.FloatCollections;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.FloatLists;
+import com.xenoamess.commonx_additional_tests.primitive.functions.FloatConsumer;
+import com.xenoamess.commonx_additional_tests.primitive.functions.FloatPredicate;
+import com.xenoamess.commonx_additional_tests.primitive.functions.FloatUnaryOperator;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Bulk operations on a FloatArrayList that box nothing.
+ * <p>
+ * FloatArrayList.addAll takes a boxed Collection and adds element by element.
+ * The addAll methods here grow the list at most once and copy the whole range with one System.arraycopy,
+ * writing to the list's elementData directly.
+ * removeIfPrimitive, replaceAllPrimitive and forEachPrimitive work on elementData too,
+ * with the same fail-fast checks as their ArrayList counterparts.
+ * ensureCapacity grows elementData as far as a {@link GrowthPolicy} says.
+ * toString and appendTo format elementData with {@link FloatCollections}.
+ * equals and hashCode read elementData too; equals of two of them compares their elementData ranges.
+ * If the fields of FloatArrayList are not accessible, all of them fall back to its public methods.
+ *
+ * @author XenoAmess
+ * @see java.util.ArrayList#addAll(int, Collection)
+ */
+public final class FloatArrayLists {
+    private static final MethodHandle GET_ELEMENT_DATA;
+    private static final MethodHandle SET_ELEMENT_DATA;
+    private static final MethodHandle SET_SIZE;
+    private static final MethodHandle GET_MOD_COUNT;
+    private static final MethodHandle SET_MOD_COUNT;
+
+    static {
+        MethodHandle getElementData = null;
+        MethodHandle setElementData = null;
+        MethodHandle setSize = null;
+        MethodHandle getModCount = null;
+        MethodHandle setModCount = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Field elementData = FloatArrayList.class.getDeclaredField("elementData");
+            Field size = FloatArrayList.class.getDeclaredField("size");
+            Field modCount = AbstractFloatList.class.getDeclaredField("modCount");
+            elementData.setAccessible(true);
+            size.setAccessible(true);
+            modCount.setAccessible(true);
+            getElementData = lookup.unreflectGetter(elementData);
+            setElementData = lookup.unreflectSetter(elementData);
+            setSize = lookup.unreflectSetter(size);
+            getModCount = lookup.unreflectGetter(modCount);
+            setModCount = lookup.unreflectSetter(modCount);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            getElementData = null;
+        }
+        GET_ELEMENT_DATA = getElementData;
+        SET_ELEMENT_DATA = setElementData;
+        SET_SIZE = setSize;
+        GET_MOD_COUNT = getModCount;
+        SET_MOD_COUNT = setModCount;
+    }
+
+    private FloatArrayLists() {
+    }
+
+    /**
+     * Whether the bulk methods write to elementData directly on this jvm.
+     */
+    public static boolean isDirectAccessSupported() {
+        return GET_ELEMENT_DATA != null;
+    }
+
+    /**
+     * Appends src[off] to src[off + len - 1] to list.
+     *
+     * @param list the list
+     * @param src  the elements
+     * @param off  index of the first element in src
+     * @param len  number of elements
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if off or len are out of the bounds of src
+     */
+    public static boolean addAll(FloatArrayList list, float[] src, int off, int len) {
+        return addAll(list, list.size(), src, off, len);
+    }
+
+    /**
+     * Inserts all of src at index.
+     *
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public static boolean addAll(FloatArrayList list, int index, float[] src) {
+        return addAll(list, index, src, 0, src.length);
+    }
+
+    /**
+     * Inserts src[off] to src[off + len - 1] at index, shifting the elements from index to the right.
+     *
+     * @param list  the list
+     * @param index where the first element goes
+     * @param src   the elements
+     * @param off   index of the first element in src
+     * @param len   number of elements
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if index is out of range,
+     *                                   or if off or len are out of the bounds of src
+     * @throws OutOfMemoryError          if the list would hold more than Integer.MAX_VALUE elements
+     */
+    public static boolean addAll(FloatArrayList list, int index, float[] src, int off, int len) {
+        int size = list.size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (off < 0 || len < 0 || off > src.length - len) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + src.length);
+        }
+        if (len == 0) {
+            return false;
+        }
+        int newSize = size + len;
+        if (newSize < 0) {
+            throw new OutOfMemoryError("Required array length " + size + " + " + len + " is too large");
+        }
+        list.ensureCapacity(newSize);
+        if (GET_ELEMENT_DATA == null) {
+            addAllSlow(list, index, src, off, len);
+            return true;
+        }
+        try {
+            float[] elementData = elementData(list);
+            System.arraycopy(elementData, index, elementData, index + len, size - index);
+            System.arraycopy(src, off, elementData, index, len);
+            setSize(list, newSize);
+            setModCount(list, modCount(list) + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return true;
+    }
+
+    private static float[] elementData(FloatArrayList list) throws Throwable {
+        return (float[]) GET_ELEMENT_DATA.invoke(list);
+    }
+
+    /**
+     * Returns the elementData of list, whose first list.size() elements are its elements,
+     * or null if it is not accessible.
+     */
+    static float[] elementDataOrNull(FloatArrayList list) {
+        if (GET_ELEMENT_DATA == null) {
+            return null;
+        }
+        try {
+            return elementData(list);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Increments the modCount of list, as ArrayList.sort does although it changes no size.
+     * Does nothing if it is not accessible.
+     */
+    static void incrementModCount(FloatArrayList list) {
+        if (GET_ELEMENT_DATA == null) {
+            return;
+        }
+        try {
+            setModCount(list, modCount(list) + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void setElementData(FloatArrayList list, float[] elementData) throws Throwable {
+        SET_ELEMENT_DATA.invoke(list, elementData);
+    }
+
+    private static void setSize(FloatArrayList list, int size) throws Throwable {
+        SET_SIZE.invoke(list, size);
+    }
+
+    private static int modCount(FloatArrayList list) throws Throwable {
+        return (int) GET_MOD_COUNT.invoke(list);
+    }
+
+    private static void setModCount(FloatArrayList list, int modCount) throws Throwable {
+        SET_MOD_COUNT.invoke(list, modCount);
+    }
+
+    /**
+     * Grows list, if needed, to hold at least minCapacity elements,
+     * to the capacity policy gives but never less than minCapacity.
+     * Like ArrayList.ensureCapacity, increments modCount if elementData was replaced.
+     * <p>
+     * If the fields of FloatArrayList are not accessible, this is list.ensureCapacity(minCapacity),
+     * and the list grows as it does by itself.
+     *
+     * @param list        the list
+     * @param minCapacity the capacity needed
+     * @param policy      how far to grow
+     * @throws OutOfMemoryError if minCapacity is negative, as when size + n overflowed
+     */
+    public static void ensureCapacity(FloatArrayList list, int minCapacity, GrowthPolicy policy) {
+        Objects.requireNonNull(policy);
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array length " + Integer.toUnsignedString(minCapacity)
+                    + " is too large");
+        }
+        if (GET_ELEMENT_DATA == null) {
+            list.ensureCapacity(minCapacity);
+            return;
+        }
+        try {
+            float[] es = elementData(list);
+            int oldCapacity = es.length;
+            if (minCapacity <= oldCapacity) {
+                return;
+            }
+            int newCapacity = Math.max(policy.newCapacity(oldCapacity, minCapacity), minCapacity);
+            setElementData(list, Arrays.copyOf(es, newCapacity));
+            setModCount(list, modCount(list) + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void addAllSlow(FloatArrayList list, int index, float[] src, int off, int len) {
+        if (index == list.size()) {
+            for (int i = 0; i < len; i++) {
+                list.addPrimitive(index + i, src[off + i]);
+            }
+        } else {
+            list.addAll(index, new BoxedView(src, off, len));
+        }
+    }
+
+    /**
+     * Appends all of c to list.
+     * Nothing is boxed for a primitive source: another FloatArrayList is copied once, straight from its elementData,
+     * and any other AbstractFloatCollection, list itself included, is copied to an array of its size first.
+     * Any other source goes through FloatArrayList.addAll.
+     *
+     * @return true if list changed
+     */
+    public static boolean addAll(FloatArrayList list, Collection<? extends Float> c) {
+        return addAll(list, list.size(), c);
+    }
+
+    /**
+     * Inserts all of c at index, in the order of c's iterator.
+     *
+     * @return true if list changed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @see #addAll(FloatArrayList, Collection)
+     */
+    public static boolean addAll(FloatArrayList list, int index, Collection<? extends Float> c) {
+        if (c instanceof FloatArrayList && c != list) {
+            float[] es = elementDataOrNull((FloatArrayList) c);
+            if (es != null) {
+                return addAll(list, index, es, 0, c.size());
+            }
+        }
+        if (c instanceof AbstractFloatCollection) {
+            float[] a = ((AbstractFloatCollection) c).toArrayPrimitive(new float[c.size()]);
+            return addAll(list, index, a, 0, a.length);
+        }
+        return list.addAll(index, c);
+    }
+
+    /**
+     * Removes every element filter matches, in two passes over elementData:
+     * the first tests every element and marks the matches, the second compacts the others in place.
+     * As in ArrayList, if filter throws the list is unchanged,
+     * and if filter modifies the list a ConcurrentModificationException is thrown.
+     *
+     * @param list   the list
+     * @param filter the predicate
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if filter modified list
+     */
+    public static boolean removeIfPrimitive(FloatArrayList list, FloatPredicate filter) {
+        Objects.requireNonNull(filter);
+        if (GET_ELEMENT_DATA == null) {
+            return FloatLists.removeIfPrimitive(list, filter);
+        }
+        try {
+            int expectedModCount = modCount(list);
+            float[] es = elementData(list);
+            int size = list.size();
+            int i = 0;
+            while (i < size && !filter.test(es[i])) {
+                i++;
+            }
+            if (i == size) {
+                if (modCount(list) != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return false;
+            }
+            // bit k of deathRow is set if the element at i + k matches.
+            long[] deathRow = new long[((size - i - 1) >> 6) + 1];
+            deathRow[0] = 1L;
+            for (int j = i + 1; j < size; j++) {
+                if (filter.test(es[j])) {
+                    deathRow[(j - i) >> 6] |= 1L << (j - i);
+                }
+            }
+            if (modCount(list) != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int w = i;
+            for (int j = i + 1; j < size; j++) {
+                if ((deathRow[(j - i) >> 6] & (1L << (j - i))) == 0) {
+                    es[w++] = es[j];
+                }
+            }
+            setSize(list, w);
+            setModCount(list, expectedModCount + 1);
+            return true;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Replaces each element with the result of operator on it.
+     *
+     * @param list     the list
+     * @param operator the operator
+     * @throws ConcurrentModificationException if operator modified list
+     */
+    public static void replaceAllPrimitive(FloatArrayList list, FloatUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+        if (GET_ELEMENT_DATA == null) {
+            FloatLists.replaceAllPrimitive(list, operator);
+            return;
+        }
+        try {
+            int expectedModCount = modCount(list);
+            float[] es = elementData(list);
+            int size = list.size();
+            for (int i = 0; modCount(list) == expectedModCount && i < size; i++) {
+                es[i] = operator.applyAsFloat(es[i]);
+            }
+            if (modCount(list) != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            // as ArrayList.replaceAll does.
+            setModCount(list, expectedModCount + 1);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Performs action on each element, in order.
+     *
+     * @param list   the list
+     * @param action the action
+     * @throws ConcurrentModificationException if action modified list
+     */
+    public static void forEachPrimitive(FloatArrayList list, FloatConsumer action) {
+        Objects.requireNonNull(action);
+        if (GET_ELEMENT_DATA == null) {
+            FloatLists.forEachPrimitive(list, action);
+            return;
+        }
+        try {
+            int expectedModCount = modCount(list);
+            float[] es = elementData(list);
+            int size = list.size();
+            for (int i = 0; modCount(list) == expectedModCount && i < size; i++) {
+                action.accept(es[i]);
+            }
+            if (modCount(list) != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the same String as list.toString(), appending elementData straight into a presized StringBuilder.
+     *
+     * @param list the list
+     * @return the elements of list, as "[e1, e2, ...]"
+     * @see FloatCollections#toString(float[], int, int)
+     */
+    public static String toString(FloatArrayList list) {
+        float[] es = elementDataOrNull(list);
+        if (es == null) {
+            return FloatCollections.toString((FloatList) list);
+        }
+        return FloatCollections.toString(es, 0, list.size());
+    }
+
+    /**
+     * Appends what toString(list) returns to out, a chunk at a time unless out is a StringBuilder,
+     * so a huge list can be streamed to a Writer without ever becoming one String.
+     *
+     * @param list the list
+     * @param out  where to append
+     * @return out
+     * @throws IOException if out does
+     */
+    public static <A extends Appendable> A appendTo(FloatArrayList list, A out) throws IOException {
+        float[] es = elementDataOrNull(list);
+        if (es == null) {
+            return FloatCollections.appendTo((FloatList) list, out);
+        }
+        return FloatCollections.appendTo(es, 0, list.size(), out);
+    }
+
+    /**
+     * Returns list.equals(o), without boxing the elements of list.
+     * Against another FloatArrayList it compares the two elementData ranges, with {@link FloatArrayListScans#equals}.
+     * Against any other FloatList it reads o with its primitive iterator,
+     * and only against a List of another kind does it box, and then only the elements of o.
+     *
+     * @param list the list
+     * @param o    the object to compare list with
+     * @return true if o is a List of the same elements in the same order
+     */
+    public static boolean equals(FloatArrayList list, Object o) {
+        if (o == list) {
+            return true;
+        }
+        float[] es = elementDataOrNull(list);
+        if (es == null) {
+            return FloatLists.equals(list, o);
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        int size = list.size();
+        if (((List<?>) o).size() != size) {
+            return false;
+        }
+        if (o instanceof FloatArrayList) {
+            return FloatArrayListScans.equals(es, 0, size, elementDataOrNull((FloatArrayList) o), 0, size);
+        }
+        if (o instanceof FloatList) {
+            FloatIterator it = ((FloatList) o).iterator();
+            for (int i = 0; i < size; i++) {
+                if (!it.hasNext() || Float.compare(es[i], it.nextPrimitive()) != 0) {
+                    return false;
+                }
+            }
+            return !it.hasNext();
+        }
+        Iterator<?> it = ((List<?>) o).iterator();
+        for (int i = 0; i < size; i++) {
+            if (!it.hasNext()) {
+                return false;
+            }
+            Object e = it.next();
+            if (!(e instanceof Float) || Float.compare(es[i], (Float) e) != 0) {
+                return false;
+            }
+        }
+        return !it.hasNext();
+    }
+
+    /**
+     * Returns list.hashCode(), computed on elementData without boxing.
+     *
+     * @param list the list
+     * @return the hash code of list
+     * @see #hashCode(float[], int, int)
+     */
+    public static int hashCode(FloatArrayList list) {
+        float[] es = elementDataOrNull(list);
+        if (es == null) {
+            return FloatLists.hashCode(list);
+        }
+        return hashCode(es, 0, list.size());
+    }
+
+    /**
+     * Returns what List.hashCode returns for a list of a[off] to a[off + len - 1].
+     * It runs on the Vector API where {@link FloatArrayListScans} does,
+     * and four elements a step otherwise, so that the multiplications of a step need not wait on one another.
+     *
+     * @throws IndexOutOfBoundsException if off or len are out of the bounds of a
+     */
+    public static int hashCode(float[] a, int off, int len) {
+        if (off < 0 || len < 0 || off > a.length - len) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + a.length);
+        }
+        return FloatArrayListScans.hashCode(a, off, off + len);
+    }
+
+    /**
+     * A boxed read-only view of a range of a float[], for the fallback path.
+     */
+    private static final class BoxedView extends AbstractList<Float> implements RandomAccess {
+        private final float[] src;
+        private final int off;
+        private final int len;
+
+        BoxedView(float[] src, int off, int len) {
+            this.src = src;
+            this.off = off;
+            this.len = len;
+        }
+
+        @Override
+        public Float get(int index) {
+            return src[off + index];
+        }
+
+        @Override
+        public int size() {
+            return len;
+        }
+    }
+}
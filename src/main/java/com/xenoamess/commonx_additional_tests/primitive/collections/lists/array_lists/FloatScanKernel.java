@@ -0,0 +1,33 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+/**
+ * The loops behind {@link FloatArrayListScans}, over a[fromIndex] to a[toIndex - 1].
+ * Ranges are checked by the caller; min and max are only called on non-empty ranges.
+ *
+ * @author XenoAmess
+ */
+interface FloatScanKernel {
+    float sum(float[] a, int fromIndex, int toIndex);
+
+    float min(float[] a, int fromIndex, int toIndex);
+
+    float max(float[] a, int fromIndex, int toIndex);
+
+    /**
+     * Returns the index of the first element == x, or -1.
+     */
+    int indexOf(float[] a, int fromIndex, int toIndex, float x);
+
+    void fill(float[] a, int fromIndex, int toIndex, float x);
+
+    /**
+     * Returns the hash code List.hashCode gives a list of a[fromIndex] to a[toIndex - 1].
+     */
+    int hashCode(float[] a, int fromIndex, int toIndex);
+
+    /**
+     * Returns whether a[aFromIndex] to a[aFromIndex + length - 1] are b[bFromIndex] to b[bFromIndex + length - 1],
+     * compared as Arrays.equals compares them.
+     */
+    boolean equals(float[] a, int aFromIndex, float[] b, int bFromIndex, int length);
+}
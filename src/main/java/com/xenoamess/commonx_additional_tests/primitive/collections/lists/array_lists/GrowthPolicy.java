@@ -0,0 +1,112 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+/**
+ * How far a primitive ArrayList grows its elementData when it is full.
+ * <p>
+ * The JDK grows an ArrayList by half its capacity, {@link #ONE_AND_A_HALF}.
+ * That wastes up to a third of a very large list, and copies a small hot list more often than needed.
+ * The other policies trade copies against memory:
+ * {@link #DOUBLING} copies least, {@link #additive(int)} wastes least,
+ * {@link #capped(GrowthPolicy, int)} grows geometrically up to a fixed step,
+ * and {@link #pageAligned(GrowthPolicy, int, int)} rounds the array up to whole pages.
+ * <p>
+ * A policy is used by {@link DoubleArrayLists#ensureCapacity(
+ *com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList, int, GrowthPolicy)}
+ * and the like, and by {@link GrowthPolicyDoubleArrayList} and the like on each add.
+ *
+ * @author XenoAmess
+ * @see java.util.ArrayList#ensureCapacity(int)
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * The largest array a jvm is known to allocate, as in ArrayList.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The capacity geometric policies grow an empty list to, as ArrayList does.
+     */
+    int DEFAULT_CAPACITY = 10;
+
+    /**
+     * oldCapacity + oldCapacity / 2, as ArrayList.
+     */
+    GrowthPolicy ONE_AND_A_HALF = (oldCapacity, minCapacity) ->
+            Math.max(DEFAULT_CAPACITY, clamp((long) oldCapacity + (oldCapacity >> 1)));
+
+    /**
+     * 2 * oldCapacity.
+     */
+    GrowthPolicy DOUBLING = (oldCapacity, minCapacity) ->
+            Math.max(DEFAULT_CAPACITY, clamp((long) oldCapacity << 1));
+
+    /**
+     * Returns the capacity to grow to, from oldCapacity, to hold at least minCapacity elements.
+     * A result smaller than minCapacity is raised to minCapacity by the caller,
+     * so a policy only has to say how eagerly to grow.
+     *
+     * @param oldCapacity the length of elementData now
+     * @param minCapacity the capacity needed, greater than oldCapacity
+     * @return the new capacity
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * Returns capacity as an int, or MAX_ARRAY_SIZE if it is larger.
+     */
+    static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_ARRAY_SIZE);
+    }
+
+    /**
+     * Grows by increment elements at a time.
+     *
+     * @param increment elements added per growth
+     * @throws IllegalArgumentException if increment is less than 1
+     */
+    static GrowthPolicy additive(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("Illegal increment: " + increment);
+        }
+        return (oldCapacity, minCapacity) -> clamp((long) oldCapacity + increment);
+    }
+
+    /**
+     * Grows as policy does, but by at most maxIncrement elements at a time.
+     *
+     * @param policy       the policy to cap
+     * @param maxIncrement most elements added per growth
+     * @throws IllegalArgumentException if maxIncrement is less than 1
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        if (maxIncrement < 1) {
+            throw new IllegalArgumentException("Illegal maxIncrement: " + maxIncrement);
+        }
+        return (oldCapacity, minCapacity) ->
+                Math.min(policy.newCapacity(oldCapacity, minCapacity), clamp((long) oldCapacity + maxIncrement));
+    }
+
+    /**
+     * Grows as policy does, then rounds the array up to a whole number of pages,
+     * counting the elements only, not the array header.
+     *
+     * @param policy       the policy to align
+     * @param elementBytes size of one element, such as Double.BYTES
+     * @param pageBytes    size of a page, a power of two
+     * @throws IllegalArgumentException if elementBytes is not positive, or pageBytes is not a power of two
+     */
+    static GrowthPolicy pageAligned(GrowthPolicy policy, int elementBytes, int pageBytes) {
+        if (elementBytes < 1) {
+            throw new IllegalArgumentException("Illegal elementBytes: " + elementBytes);
+        }
+        if (pageBytes < 1 || (pageBytes & (pageBytes - 1)) != 0) {
+            throw new IllegalArgumentException("Illegal pageBytes: " + pageBytes);
+        }
+        return (oldCapacity, minCapacity) -> {
+            long bytes = (long) Math.max(policy.newCapacity(oldCapacity, minCapacity), minCapacity) * elementBytes;
+            long alignedBytes = (bytes + pageBytes - 1) & -pageBytes;
+            return clamp(alignedBytes / elementBytes);
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A BooleanArrayList that grows as its {@link GrowthPolicy} says, instead of by half its capacity.
+ * <p>
+ * Every add, addAll and ensureCapacity first makes room through
+ * {@link BooleanArrayLists#ensureCapacity(BooleanArrayList, int, GrowthPolicy)},
+ * so BooleanArrayList itself never has to grow.
+ * trimToSize is that of BooleanArrayList.
+ *
+ * @author XenoAmess
+ */
+public class GrowthPolicyBooleanArrayList extends BooleanArrayList {
+    private final GrowthPolicy growthPolicy;
+
+    public GrowthPolicyBooleanArrayList(GrowthPolicy growthPolicy) {
+        super();
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GrowthPolicyBooleanArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Makes room for n more elements.
+     */
+    private void grow(int n) {
+        BooleanArrayLists.ensureCapacity(this, size() + n, growthPolicy);
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (!BooleanArrayLists.isDirectAccessSupported()) {
+            super.ensureCapacity(minCapacity);
+        } else if (minCapacity > 0) {
+            BooleanArrayLists.ensureCapacity(this, minCapacity, growthPolicy);
+        }
+    }
+
+    @Override
+    public void addPrimitive(int index, boolean element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.addPrimitive(index, element);
+    }
+
+    @Override
+    public boolean add(Boolean element) {
+        grow(1);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, Boolean element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Boolean> c) {
+        grow(c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Boolean> c) {
+        rangeCheckForAdd(index);
+        grow(c.size());
+        return super.addAll(index, c);
+    }
+
+    /**
+     * Compares elementData with {@link BooleanArrayLists#equals(BooleanArrayList, Object)}, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return BooleanArrayLists.equals(this, o);
+    }
+
+    /**
+     * Hashes elementData with {@link BooleanArrayLists#hashCode(BooleanArrayList)}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        return BooleanArrayLists.hashCode(this);
+    }
+
+    /**
+     * Formats elementData with BooleanArrayLists, without boxing.
+     */
+    @Override
+    public String toString() {
+        return BooleanArrayLists.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return BooleanArrayLists.appendTo(this, out);
+    }
+}
@@ -0,0 +1,127 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A ByteArrayList that grows as its {@link GrowthPolicy} says, instead of by half its capacity.
+ * <p>
+ * Every add, addAll and ensureCapacity first makes room through
+ * {@link ByteArrayLists#ensureCapacity(ByteArrayList, int, GrowthPolicy)},
+ * so ByteArrayList itself never has to grow.
+ * trimToSize is that of ByteArrayList.
+ *
+ * @author XenoAmess
+ */
+public class GrowthPolicyByteArrayList extends ByteArrayList {
+    private final GrowthPolicy growthPolicy;
+
+    public GrowthPolicyByteArrayList(GrowthPolicy growthPolicy) {
+        super();
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GrowthPolicyByteArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Makes room for n more elements.
+     */
+    private void grow(int n) {
+        ByteArrayLists.ensureCapacity(this, size() + n, growthPolicy);
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (!ByteArrayLists.isDirectAccessSupported()) {
+            super.ensureCapacity(minCapacity);
+        } else if (minCapacity > 0) {
+            ByteArrayLists.ensureCapacity(this, minCapacity, growthPolicy);
+        }
+    }
+
+    @Override
+    public void addPrimitive(int index, byte element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.addPrimitive(index, element);
+    }
+
+    @Override
+    public boolean add(Byte element) {
+        grow(1);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, Byte element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Byte> c) {
+        grow(c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Byte> c) {
+        rangeCheckForAdd(index);
+        grow(c.size());
+        return super.addAll(index, c);
+    }
+
+    /**
+     * Compares elementData with {@link ByteArrayLists#equals(ByteArrayList, Object)}, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return ByteArrayLists.equals(this, o);
+    }
+
+    /**
+     * Hashes elementData with {@link ByteArrayLists#hashCode(ByteArrayList)}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        return ByteArrayLists.hashCode(this);
+    }
+
+    /**
+     * Formats elementData with ByteArrayLists, without boxing.
+     */
+    @Override
+    public String toString() {
+        return ByteArrayLists.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return ByteArrayLists.appendTo(this, out);
+    }
+}
@@ -0,0 +1,127 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A CharArrayList that grows as its {@link GrowthPolicy} says, instead of by half its capacity.
+ * <p>
+ * Every add, addAll and ensureCapacity first makes room through
+ * {@link CharArrayLists#ensureCapacity(CharArrayList, int, GrowthPolicy)},
+ * so CharArrayList itself never has to grow.
+ * trimToSize is that of CharArrayList.
+ *
+ * @author XenoAmess
+ */
+public class GrowthPolicyCharArrayList extends CharArrayList {
+    private final GrowthPolicy growthPolicy;
+
+    public GrowthPolicyCharArrayList(GrowthPolicy growthPolicy) {
+        super();
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GrowthPolicyCharArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Makes room for n more elements.
+     */
+    private void grow(int n) {
+        CharArrayLists.ensureCapacity(this, size() + n, growthPolicy);
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (!CharArrayLists.isDirectAccessSupported()) {
+            super.ensureCapacity(minCapacity);
+        } else if (minCapacity > 0) {
+            CharArrayLists.ensureCapacity(this, minCapacity, growthPolicy);
+        }
+    }
+
+    @Override
+    public void addPrimitive(int index, char element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.addPrimitive(index, element);
+    }
+
+    @Override
+    public boolean add(Character element) {
+        grow(1);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, Character element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Character> c) {
+        grow(c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Character> c) {
+        rangeCheckForAdd(index);
+        grow(c.size());
+        return super.addAll(index, c);
+    }
+
+    /**
+     * Compares elementData with {@link CharArrayLists#equals(CharArrayList, Object)}, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return CharArrayLists.equals(this, o);
+    }
+
+    /**
+     * Hashes elementData with {@link CharArrayLists#hashCode(CharArrayList)}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        return CharArrayLists.hashCode(this);
+    }
+
+    /**
+     * Formats elementData with CharArrayLists, without boxing.
+     */
+    @Override
+    public String toString() {
+        return CharArrayLists.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return CharArrayLists.appendTo(this, out);
+    }
+}
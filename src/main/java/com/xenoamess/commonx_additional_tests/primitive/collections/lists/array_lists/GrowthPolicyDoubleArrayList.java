@@ -0,0 +1,127 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A DoubleArrayList that grows as its {@link GrowthPolicy} says, instead of by half its capacity.
+ * <p>
+ * Every add, addAll and ensureCapacity first makes room through
+ * {@link DoubleArrayLists#ensureCapacity(DoubleArrayList, int, GrowthPolicy)},
+ * so DoubleArrayList itself never has to grow.
+ * trimToSize is that of DoubleArrayList.
+ *
+ * @author XenoAmess
+ */
+public class GrowthPolicyDoubleArrayList extends DoubleArrayList {
+    private final GrowthPolicy growthPolicy;
+
+    public GrowthPolicyDoubleArrayList(GrowthPolicy growthPolicy) {
+        super();
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GrowthPolicyDoubleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Makes room for n more elements.
+     */
+    private void grow(int n) {
+        DoubleArrayLists.ensureCapacity(this, size() + n, growthPolicy);
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (!DoubleArrayLists.isDirectAccessSupported()) {
+            super.ensureCapacity(minCapacity);
+        } else if (minCapacity > 0) {
+            DoubleArrayLists.ensureCapacity(this, minCapacity, growthPolicy);
+        }
+    }
+
+    @Override
+    public void addPrimitive(int index, double element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.addPrimitive(index, element);
+    }
+
+    @Override
+    public boolean add(Double element) {
+        grow(1);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, Double element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        grow(c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        rangeCheckForAdd(index);
+        grow(c.size());
+        return super.addAll(index, c);
+    }
+
+    /**
+     * Compares elementData with {@link DoubleArrayLists#equals(DoubleArrayList, Object)}, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return DoubleArrayLists.equals(this, o);
+    }
+
+    /**
+     * Hashes elementData with {@link DoubleArrayLists#hashCode(DoubleArrayList)}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        return DoubleArrayLists.hashCode(this);
+    }
+
+    /**
+     * Formats elementData with DoubleArrayLists, without boxing.
+     */
+    @Override
+    public String toString() {
+        return DoubleArrayLists.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return DoubleArrayLists.appendTo(this, out);
+    }
+}
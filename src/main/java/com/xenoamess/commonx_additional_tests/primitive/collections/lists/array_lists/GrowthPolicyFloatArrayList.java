@@ -0,0 +1,127 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A FloatArrayList that grows as its {@link GrowthPolicy} says, instead of by half its capacity.
+ * <p>
+ * Every add, addAll and ensureCapacity first makes room through
+ * {@link FloatArrayLists#ensureCapacity(FloatArrayList, int, GrowthPolicy)},
+ * so FloatArrayList itself never has to grow.
+ * trimToSize is that of FloatArrayList.
+ *
+ * @author XenoAmess
+ */
+public class GrowthPolicyFloatArrayList extends FloatArrayList {
+    private final GrowthPolicy growthPolicy;
+
+    public GrowthPolicyFloatArrayList(GrowthPolicy growthPolicy) {
+        super();
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GrowthPolicyFloatArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Makes room for n more elements.
+     */
+    private void grow(int n) {
+        FloatArrayLists.ensureCapacity(this, size() + n, growthPolicy);
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (!FloatArrayLists.isDirectAccessSupported()) {
+            super.ensureCapacity(minCapacity);
+        } else if (minCapacity > 0) {
+            FloatArrayLists.ensureCapacity(this, minCapacity, growthPolicy);
+        }
+    }
+
+    @Override
+    public void addPrimitive(int index, float element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.addPrimitive(index, element);
+    }
+
+    @Override
+    public boolean add(Float element) {
+        grow(1);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, Float element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Float> c) {
+        grow(c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Float> c) {
+        rangeCheckForAdd(index);
+        grow(c.size());
+        return super.addAll(index, c);
+    }
+
+    /**
+     * Compares elementData with {@link FloatArrayLists#equals(FloatArrayList, Object)}, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return FloatArrayLists.equals(this, o);
+    }
+
+    /**
+     * Hashes elementData with {@link FloatArrayLists#hashCode(FloatArrayList)}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        return FloatArrayLists.hashCode(this);
+    }
+
+    /**
+     * Formats elementData with FloatArrayLists, without boxing.
+     */
+    @Override
+    public String toString() {
+        return FloatArrayLists.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return FloatArrayLists.appendTo(this, out);
+    }
+}
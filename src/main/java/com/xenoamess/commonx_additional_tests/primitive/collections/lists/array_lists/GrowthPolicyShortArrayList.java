@@ -0,0 +1,127 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A ShortArrayList that grows as its {@link GrowthPolicy} says, instead of by half its capacity.
+ * <p>
+ * Every add, addAll and ensureCapacity first makes room through
+ * {@link ShortArrayLists#ensureCapacity(ShortArrayList, int, GrowthPolicy)},
+ * so ShortArrayList itself never has to grow.
+ * trimToSize is that of ShortArrayList.
+ *
+ * @author XenoAmess
+ */
+public class GrowthPolicyShortArrayList extends ShortArrayList {
+    private final GrowthPolicy growthPolicy;
+
+    public GrowthPolicyShortArrayList(GrowthPolicy growthPolicy) {
+        super();
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public GrowthPolicyShortArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    public GrowthPolicy growthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Makes room for n more elements.
+     */
+    private void grow(int n) {
+        ShortArrayLists.ensureCapacity(this, size() + n, growthPolicy);
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (!ShortArrayLists.isDirectAccessSupported()) {
+            super.ensureCapacity(minCapacity);
+        } else if (minCapacity > 0) {
+            ShortArrayLists.ensureCapacity(this, minCapacity, growthPolicy);
+        }
+    }
+
+    @Override
+    public void addPrimitive(int index, short element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.addPrimitive(index, element);
+    }
+
+    @Override
+    public boolean add(Short element) {
+        grow(1);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, Short element) {
+        rangeCheckForAdd(index);
+        grow(1);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Short> c) {
+        grow(c.size());
+        return super.addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Short> c) {
+        rangeCheckForAdd(index);
+        grow(c.size());
+        return super.addAll(index, c);
+    }
+
+    /**
+     * Compares elementData with {@link ShortArrayLists#equals(ShortArrayList, Object)}, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return ShortArrayLists.equals(this, o);
+    }
+
+    /**
+     * Hashes elementData with {@link ShortArrayLists#hashCode(ShortArrayList)}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        return ShortArrayLists.hashCode(this);
+    }
+
+    /**
+     * Formats elementData with ShortArrayLists, without boxing.
+     */
+    @Override
+    public String toString() {
+        return ShortArrayLists.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return ShortArrayLists.appendTo(this, out);
+    }
+}
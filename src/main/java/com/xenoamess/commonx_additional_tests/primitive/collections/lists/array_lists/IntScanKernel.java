@@ -0,0 +1,33 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+/**
+ * The loops behind {@link IntArrayListScans}, over a[fromIndex] to a[toIndex - 1].
+ * Ranges are checked by the caller; min and max are only called on non-empty ranges.
+ *
+ * @author XenoAmess
+ */
+interface IntScanKernel {
+    int sum(int[] a, int fromIndex, int toIndex);
+
+    int min(int[] a, int fromIndex, int toIndex);
+
+    int max(int[] a, int fromIndex, int toIndex);
+
+    /**
+     * Returns the index of the first element == x, or -1.
+     */
+    int indexOf(int[] a, int fromIndex, int toIndex, int x);
+
+    void fill(int[] a, int fromIndex, int toIndex, int x);
+
+    /**
+     * Returns the hash code List.hashCode gives a list of a[fromIndex] to a[toIndex - 1].
+     */
+    int hashCode(int[] a, int fromIndex, int toIndex);
+
+    /**
+     * Returns whether a[aFromIndex] to a[aFromIndex + length - 1] are b[bFromIndex] to b[bFromIndex + length - 1],
+     * compared as Arrays.equals compares them.
+     */
+    boolean equals(int[] a, int aFromIndex, int[] b, int bFromIndex, int length);
+}
@@ -0,0 +1,252 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Sorting and binary search of a LongArrayList in place, on its elementData.
+ * <p>
+ * sortPrimitive runs Arrays.sort and parallelSortPrimitive runs Arrays.parallelSort
+ * on the list's own array, so nothing is copied out and back as with toArrayPrimitive.
+ * Elements are ordered as by Arrays.sort(long[]).
+ * As ArrayList.sort does, both increment the modCount of the list once,
+ * so iterators and sub lists of it made before the sort fail fast afterwards.
+ * <p>
+ * radixSortPrimitive sorts the same way in O(n), with a scratch array as long as the list.
+ * <p>
+ * If the fields of LongArrayList are not accessible, the list is copied to an array,
+ * sorted there and written back with setPrimitive.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commonx_additional_tests.primitive.collections.lists.LongListSorts
+ */
+public final class LongArrayListSorts {
+    private LongArrayListSorts() {
+    }
+
+    private static void rangeCheck(int size, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex);
+        }
+        if (toIndex > size) {
+            throw new IndexOutOfBoundsException("toIndex: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Sorts list into ascending order.
+     *
+     * @param list the list
+     */
+    public static void sortPrimitive(LongArrayList list) {
+        sortPrimitive(list, 0, list.size());
+    }
+
+    /**
+     * Sorts the elements from fromIndex, inclusive, to toIndex, exclusive, into ascending order.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to sort
+     * @param toIndex   index after the last element to sort
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static void sortPrimitive(LongArrayList list, int fromIndex, int toIndex) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        long[] elementData = LongArrayLists.elementDataOrNull(list);
+        if (elementData == null) {
+            long[] a = list.toArrayPrimitive(new long[0]);
+            Arrays.sort(a, fromIndex, toIndex);
+            writeBack(list, a, fromIndex, toIndex);
+            return;
+        }
+        Arrays.sort(elementData, fromIndex, toIndex);
+        LongArrayLists.incrementModCount(list);
+    }
+
+    /**
+     * Sorts list into ascending order, with Arrays.parallelSort.
+     * Lists shorter than 8192 elements are sorted in the calling thread, as by sortPrimitive.
+     *
+     * @param list the list
+     */
+    public static void parallelSortPrimitive(LongArrayList list) {
+        parallelSortPrimitive(list, 0, list.size());
+    }
+
+    /**
+     * Sorts the elements from fromIndex, inclusive, to toIndex, exclusive, into ascending order,
+     * with Arrays.parallelSort.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to sort
+     * @param toIndex   index after the last element to sort
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     */
+    public static void parallelSortPrimitive(LongArrayList list, int fromIndex, int toIndex) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        long[] elementData = LongArrayLists.elementDataOrNull(list);
+        if (elementData == null) {
+            long[] a = list.toArrayPrimitive(new long[0]);
+            Arrays.parallelSort(a, fromIndex, toIndex);
+            writeBack(list, a, fromIndex, toIndex);
+            return;
+        }
+        Arrays.parallelSort(elementData, fromIndex, toIndex);
+        LongArrayLists.incrementModCount(list);
+    }
+
+    private static void writeBack(LongArrayList list, long[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            list.setPrimitive(i, a[i]);
+        }
+    }
+
+    /**
+     * Searches list, which must be sorted in ascending order, for key.
+     * If list holds key more than once, any of them may be found.
+     *
+     * @param list the list
+     * @param key  the value to search for
+     * @return index of key, if it is in list; otherwise (-(insertion point) - 1),
+     * where the insertion point is the index of the first element greater than key, or list.size()
+     * @see Arrays#binarySearch(long[], long)
+     */
+    public static int binarySearchPrimitive(LongArrayList list, long key) {
+        return binarySearchPrimitive(list, 0, list.size(), key);
+    }
+
+    /**
+     * Searches the elements from fromIndex, inclusive, to toIndex, exclusive,
+     * which must be sorted in ascending order, for key.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to search
+     * @param toIndex   index after the last element to search
+     * @param key       the value to search for
+     * @return index of key, if it is in the range; otherwise (-(insertion point) - 1)
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     * @see Arrays#binarySearch(long[], int, int, long)
+     */
+    public static int binarySearchPrimitive(LongArrayList list, int fromIndex, int toIndex, long key) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        long[] elementData = LongArrayLists.elementDataOrNull(list);
+        if (elementData != null) {
+            return Arrays.binarySearch(elementData, fromIndex, toIndex, key);
+        }
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(list.getPrimitive(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Below this many elements radixSortPrimitive runs Arrays.sort instead,
+     * which is faster than eight counting passes over a scratch array.
+     */
+    static final int RADIX_SORT_THRESHOLD = 1 << 11;
+
+    /**
+     * Sorts list into ascending order with an LSD radix sort, one byte per pass.
+     * The result is the same as that of sortPrimitive.
+     * <p>
+     * Takes O(n) time and a scratch array of list.size() elements.
+     * A byte that is the same in every element costs no pass,
+     * so keys that share their high bytes, like ids from a sequence, sort in fewer passes.
+     *
+     * @param list the list
+     */
+    public static void radixSortPrimitive(LongArrayList list) {
+        radixSortPrimitive(list, 0, list.size());
+    }
+
+    /**
+     * Sorts the elements from fromIndex, inclusive, to toIndex, exclusive, into ascending order,
+     * with an LSD radix sort.
+     *
+     * @param list      the list
+     * @param fromIndex index of the first element to sort
+     * @param toIndex   index after the last element to sort
+     * @throws IllegalArgumentException  if fromIndex &gt; toIndex
+     * @throws IndexOutOfBoundsException if fromIndex &lt; 0 or toIndex &gt; list.size()
+     * @see #radixSortPrimitive(LongArrayList)
+     */
+    public static void radixSortPrimitive(LongArrayList list, int fromIndex, int toIndex) {
+        rangeCheck(list.size(), fromIndex, toIndex);
+        long[] elementData = LongArrayLists.elementDataOrNull(list);
+        if (elementData == null) {
+            long[] a = list.toArrayPrimitive(new long[0]);
+            radixSort(a, fromIndex, toIndex);
+            writeBack(list, a, fromIndex, toIndex);
+            return;
+        }
+        radixSort(elementData, fromIndex, toIndex);
+        LongArrayLists.incrementModCount(list);
+    }
+
+    static void radixSort(long[] a, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        if (n < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+        // counts of each byte value, for every byte of the keys at once.
+        // the sign bit is flipped, so that negative keys come first in unsigned byte order.
+        int[] counts = new int[Long.BYTES << 8];
+        for (int i = fromIndex; i < toIndex; i++) {
+            long key = a[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < Long.BYTES; pass++) {
+                counts[(pass << 8) | (int) ((key >>> (pass << 3)) & 0xff)]++;
+            }
+        }
+        long[] src = a;
+        int srcOff = fromIndex;
+        long[] dst = null;
+        int dstOff = 0;
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int base = pass << 8;
+            int shift = pass << 3;
+            if (counts[base | (int) (((src[srcOff] ^ Long.MIN_VALUE) >>> shift) & 0xff)] == n) {
+                continue;
+            }
+            if (dst == null) {
+                dst = new long[n];
+            }
+            int sum = 0;
+            for (int b = base; b < base + 256; b++) {
+                int count = counts[b];
+                counts[b] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < n; i++) {
+                long e = src[srcOff + i];
+                dst[dstOff + counts[base | (int) (((e ^ Long.MIN_VALUE) >>> shift) & 0xff)]++] = e;
+            }
+            long[] t = src;
+            src = dst;
+            dst = t;
+            int tOff = srcOff;
+            srcOff = dstOff;
+            dstOff = tOff;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcOff, a, fromIndex, n);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import java.util.Arrays;
+
+/**
+ * Plain loops, one element at a time. Used when the Vector API is not available.
+ *
+ * @author XenoAmess
+ */
+final class ScalarDoubleScanKernel implements DoubleScanKernel {
+    static final ScalarDoubleScanKernel INSTANCE = new ScalarDoubleScanKernel();
+
+    private ScalarDoubleScanKernel() {
+    }
+
+    @Override
+    public double sum(double[] a, int fromIndex, int toIndex) {
+        double sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] a, int fromIndex, int toIndex) {
+        double min = a[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] a, int fromIndex, int toIndex) {
+        double max = a[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int indexOf(double[] a, int fromIndex, int toIndex, double x) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (a[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void fill(double[] a, int fromIndex, int toIndex, double x) {
+        Arrays.fill(a, fromIndex, toIndex, x);
+    }
+
+    /**
+     * Four elements a step, as 31^4 * h + 31^3 * e0 + 31^2 * e1 + 31 * e2 + e3,
+     * so that the multiplications of a step do not wait on one another.
+     */
+    @Override
+    public int hashCode(double[] a, int fromIndex, int toIndex) {
+        int h = 1;
+        int i = fromIndex;
+        for (int upperBound = toIndex - 3; i < upperBound; i += 4) {
+            h = 923521 * h + 29791 * Double.hashCode(a[i]) + 961 * Double.hashCode(a[i + 1])
+                    + 31 * Double.hashCode(a[i + 2]) + Double.hashCode(a[i + 3]);
+        }
+        for (; i < toIndex; i++) {
+            h = 31 * h + Double.hashCode(a[i]);
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(double[] a, int aFromIndex, double[] b, int bFromIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            if (Double.doubleToLongBits(a[aFromIndex + i]) != Double.doubleToLongBits(b[bFromIndex + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
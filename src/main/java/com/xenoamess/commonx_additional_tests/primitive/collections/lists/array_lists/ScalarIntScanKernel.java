@@ -0,0 +1,84 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import java.util.Arrays;
+
+/**
+ * Plain loops, one element at a time. Used when the Vector API is not available.
+ *
+ * @author XenoAmess
+ */
+final class ScalarIntScanKernel implements IntScanKernel {
+    static final ScalarIntScanKernel INSTANCE = new ScalarIntScanKernel();
+
+    private ScalarIntScanKernel() {
+    }
+
+    @Override
+    public int sum(int[] a, int fromIndex, int toIndex) {
+        int sum = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] a, int fromIndex, int toIndex) {
+        int min = a[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] a, int fromIndex, int toIndex) {
+        int max = a[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int indexOf(int[] a, int fromIndex, int toIndex, int x) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (a[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void fill(int[] a, int fromIndex, int toIndex, int x) {
+        Arrays.fill(a, fromIndex, toIndex, x);
+    }
+
+    /**
+     * Four elements a step, as 31^4 * h + 31^3 * e0 + 31^2 * e1 + 31 * e2 + e3,
+     * so that the multiplications of a step do not wait on one another.
+     */
+    @Override
+    public int hashCode(int[] a, int fromIndex, int toIndex) {
+        int h = 1;
+        int i = fromIndex;
+        for (int upperBound = toIndex - 3; i < upperBound; i += 4) {
+            h = 923521 * h + 29791 * a[i] + 961 * a[i + 1] + 31 * a[i + 2] + a[i + 3];
+        }
+        for (; i < toIndex; i++) {
+            h = 31 * h + a[i];
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(int[] a, int aFromIndex, int[] b, int bFromIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aFromIndex + i] != b[bFromIndex + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
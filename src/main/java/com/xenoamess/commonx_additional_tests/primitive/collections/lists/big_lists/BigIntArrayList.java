@@ -0,0 +1,351 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.big_lists;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * A resizable list of int elements with long indexes, which can hold more than Integer.MAX_VALUE elements.
+ * <p>
+ * Elements are kept in chunks of a fixed power-of-two size.
+ * Growing the list allocates new chunks and never copies the existing ones,
+ * so the cost of an append does not depend on how big the list already is.
+ * <p>
+ * The iterator is fail-fast, like the iterator of {@link java.util.ArrayList}.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList
+ */
+public class BigIntArrayList {
+    /**
+     * Default chunk size is 1 &lt;&lt; 16 elements.
+     */
+    public static final int DEFAULT_CHUNK_SHIFT = 16;
+
+    /**
+     * The table of chunks of every list that has none.
+     */
+    private static final int[][] EMPTY_CHUNKS = {};
+
+    private final int chunkShift;
+    private final int chunkMask;
+
+    int[][] chunks;
+
+    /**
+     * Number of chunks allocated. Slots of chunks after it are null.
+     */
+    private int chunkCount;
+
+    private long size;
+
+    protected int modCount = 0;
+
+    public BigIntArrayList() {
+        this.chunkShift = DEFAULT_CHUNK_SHIFT;
+        this.chunkMask = (1 << DEFAULT_CHUNK_SHIFT) - 1;
+        this.chunks = EMPTY_CHUNKS;
+    }
+
+    public BigIntArrayList(long initialCapacity) {
+        this(initialCapacity, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * @param initialCapacity the initial capacity of the list
+     * @param chunkShift      each chunk holds {@code 1 << chunkShift} elements
+     * @throws IllegalArgumentException if the initial capacity is negative, or chunkShift is not in [0, 30]
+     */
+    public BigIntArrayList(long initialCapacity, int chunkShift) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        if (chunkShift < 0 || chunkShift > 30) {
+            throw new IllegalArgumentException("Illegal chunkShift: " + chunkShift);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = EMPTY_CHUNKS;
+        this.ensureCapacityInternal(initialCapacity);
+    }
+
+    public BigIntArrayList(Collection<? extends Integer> c) {
+        this();
+        this.addAll(c);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements the list can hold without allocating a new chunk.
+     */
+    public long capacity() {
+        return (long) chunkCount << chunkShift;
+    }
+
+    public int chunkSize() {
+        return 1 << chunkShift;
+    }
+
+    private int chunk(long index) {
+        return (int) (index >>> chunkShift);
+    }
+
+    private int offset(long index) {
+        return (int) (index & chunkMask);
+    }
+
+    private void rangeCheck(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void rangeCheckForAdd(long index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    /**
+     * Increases the capacity, if necessary, to hold at least minCapacity elements.
+     * A negative minCapacity is ignored.
+     */
+    public void ensureCapacity(long minCapacity) {
+        if (minCapacity > capacity()) {
+            modCount++;
+            ensureCapacityInternal(minCapacity);
+        }
+    }
+
+    private void ensureCapacityInternal(long minCapacity) {
+        long minChunks = (minCapacity + chunkMask) >>> chunkShift;
+        if (minChunks <= chunkCount) {
+            return;
+        }
+        if (minChunks > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Required capacity " + minCapacity + " is too large");
+        }
+        if (minChunks > chunks.length) {
+            // only the table of chunks is copied; the chunks themselves stay in place.
+            int oldLength = chunks.length;
+            int newLength = (int) Math.max(minChunks, Math.min(Integer.MAX_VALUE - 8, oldLength + (oldLength >> 1)));
+            chunks = Arrays.copyOf(chunks, newLength);
+        }
+        for (int i = chunkCount; i < minChunks; i++) {
+            chunks[i] = new int[1 << chunkShift];
+        }
+        chunkCount = (int) minChunks;
+    }
+
+    /**
+     * Releases the chunks that hold no element.
+     */
+    public void trimToSize() {
+        modCount++;
+        int usedChunks = (int) ((size + chunkMask) >>> chunkShift);
+        if (usedChunks < chunks.length) {
+            chunks = usedChunks == 0 ? EMPTY_CHUNKS : Arrays.copyOf(chunks, usedChunks);
+            chunkCount = usedChunks;
+        }
+    }
+
+    public int getPrimitive(long index) {
+        rangeCheck(index);
+        return chunks[chunk(index)][offset(index)];
+    }
+
+    public int setPrimitive(long index, int element) {
+        rangeCheck(index);
+        int[] chunk = chunks[chunk(index)];
+        int offset = offset(index);
+        int oldValue = chunk[offset];
+        chunk[offset] = element;
+        return oldValue;
+    }
+
+    public boolean addPrimitive(int e) {
+        modCount++;
+        long s = size;
+        if (s == capacity()) {
+            ensureCapacityInternal(s + 1);
+        }
+        chunks[chunk(s)][offset(s)] = e;
+        size = s + 1;
+        return true;
+    }
+
+    /**
+     * Inserts the element at the specified position, shifting the subsequent elements to the right.
+     */
+    public void addPrimitive(long index, int element) {
+        rangeCheckForAdd(index);
+        if (index == size) {
+            addPrimitive(element);
+            return;
+        }
+        modCount++;
+        long s = size;
+        if (s == capacity()) {
+            ensureCapacityInternal(s + 1);
+        }
+        int firstChunk = chunk(index);
+        for (int c = chunk(s); c >= firstChunk; c--) {
+            int[] chunk = chunks[c];
+            int start = c == firstChunk ? offset(index) : 0;
+            int end = c == chunk(s) ? offset(s) + 1 : chunk.length;
+            System.arraycopy(chunk, start, chunk, start + 1, end - 1 - start);
+            if (c > firstChunk) {
+                int[] previous = chunks[c - 1];
+                chunk[0] = previous[previous.length - 1];
+            }
+        }
+        chunks[firstChunk][offset(index)] = element;
+        size = s + 1;
+    }
+
+    /**
+     * Removes the element at the specified position, shifting the subsequent elements to the left.
+     *
+     * @return the element removed
+     */
+    public int removeByIndex(long index) {
+        rangeCheck(index);
+        modCount++;
+        int oldValue = chunks[chunk(index)][offset(index)];
+        long last = size - 1;
+        int lastChunk = chunk(last);
+        for (int c = chunk(index); c <= lastChunk; c++) {
+            int[] chunk = chunks[c];
+            int start = c == chunk(index) ? offset(index) : 0;
+            int end = c == lastChunk ? offset(last) : chunk.length - 1;
+            System.arraycopy(chunk, start + 1, chunk, start, end - start);
+            if (c < lastChunk) {
+                chunk[chunk.length - 1] = chunks[c + 1][0];
+            }
+        }
+        size = last;
+        return oldValue;
+    }
+
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Appends len elements of src, starting at off.
+     * At most one new chunk table is allocated, and elements are copied chunk by chunk.
+     */
+    public boolean addAll(int[] src, int off, int len) {
+        if (off < 0 || len < 0 || off > src.length - len) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + src.length);
+        }
+        modCount++;
+        if (len == 0) {
+            return false;
+        }
+        ensureCapacityInternal(size + len);
+        long s = size;
+        while (len > 0) {
+            int[] chunk = chunks[chunk(s)];
+            int offset = offset(s);
+            int n = Math.min(len, chunk.length - offset);
+            System.arraycopy(src, off, chunk, offset, n);
+            s += n;
+            off += n;
+            len -= n;
+        }
+        size = s;
+        return true;
+    }
+
+    /**
+     * Appends all elements of other. Appending a list to itself doubles it.
+     */
+    public boolean addAll(BigIntArrayList other) {
+        long numNew = other.size;
+        modCount++;
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacityInternal(size + numNew);
+        long copied = 0;
+        while (copied < numNew) {
+            int[] chunk = other.chunks[other.chunk(copied)];
+            int offset = other.offset(copied);
+            int n = (int) Math.min(numNew - copied, chunk.length - offset);
+            addAll(chunk, offset, n);
+            copied += n;
+        }
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends Integer> c) {
+        modCount++;
+        ensureCapacityInternal(size + c.size());
+        boolean modified = false;
+        for (Integer e : c) {
+            addPrimitive(e);
+            modified = true;
+        }
+        return modified;
+    }
+
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements IntIterator {
+        long cursor;
+        long lastRet = -1;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            checkForComodification();
+            long i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return chunks[chunk(i)][offset(lastRet = i)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            BigIntArrayList.this.removeByIndex(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
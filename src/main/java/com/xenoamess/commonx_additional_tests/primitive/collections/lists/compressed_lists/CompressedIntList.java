@@ -0,0 +1,251 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.compressed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable IntList that keeps its elements bit-packed in blocks, frame of reference style.
+ * <p>
+ * The elements are cut into blocks of {@link #BLOCK_SIZE}.
+ * A block keeps its smallest element as reference, and each element as its distance from the reference,
+ * in as many bits as the largest distance needs.
+ * A sorted list of ids, whose blocks each span a small range, so takes a few bits per element instead of 32,
+ * and no list takes more than 32 bits per element plus a few bytes per block.
+ * <p>
+ * The skip index keeps the reference, bit width and first word of each block,
+ * so getPrimitive reads at most two words, whatever the index.
+ * The iterator and toArrayPrimitive unpack a block at a time.
+ * Deltas between neighbours in varints would pack sorted ids a little tighter,
+ * but a get would then have to decode its block from the start.
+ * <p>
+ * Every mutator throws UnsupportedOperationException.
+ * Being immutable, the list may be read from any number of threads.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayLists#freezeCompressed
+ */
+public final class CompressedIntList extends AbstractIntList implements RandomAccess {
+    /**
+     * The number of elements in a block. The last block may hold fewer.
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    private static final int BLOCK_SHIFT = 7;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private final int size;
+
+    /**
+     * The distances of all blocks, each block starting at a word of its own.
+     */
+    private final long[] data;
+
+    /**
+     * The smallest element of each block.
+     */
+    private final int[] references;
+
+    /**
+     * The index in data of the first word of each block.
+     */
+    private final int[] firstWords;
+
+    /**
+     * The bits per distance of each block, 0 if all of its elements are the same.
+     */
+    private final byte[] widths;
+
+    private CompressedIntList(int size, long[] data, int[] references, int[] firstWords, byte[] widths) {
+        this.size = size;
+        this.data = data;
+        this.references = references;
+        this.firstWords = firstWords;
+        this.widths = widths;
+    }
+
+    /**
+     * Returns a CompressedIntList of the elements of a from index from, inclusive, to index to, exclusive.
+     *
+     * @throws IndexOutOfBoundsException if from is negative, to is more than a.length, or from is more than to
+     */
+    public static CompressedIntList copyOf(int[] a, int from, int to) {
+        if (from < 0 || to > a.length || from > to) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + a.length);
+        }
+        int size = to - from;
+        int blocks = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        int[] references = new int[blocks];
+        int[] firstWords = new int[blocks];
+        byte[] widths = new byte[blocks];
+        int words = 0;
+        for (int block = 0; block < blocks; block++) {
+            int start = from + (block << BLOCK_SHIFT);
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int min = a[start];
+            int max = a[start];
+            for (int i = start + 1; i < end; i++) {
+                min = Math.min(min, a[i]);
+                max = Math.max(max, a[i]);
+            }
+            int width = BITS_PER_WORD - Long.numberOfLeadingZeros((long) max - min);
+            references[block] = min;
+            widths[block] = (byte) width;
+            firstWords[block] = words;
+            words += ((end - start) * width + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD;
+        }
+        long[] data = new long[words];
+        for (int block = 0; block < blocks; block++) {
+            int width = widths[block];
+            if (width == 0) {
+                continue;
+            }
+            int start = from + (block << BLOCK_SHIFT);
+            int end = Math.min(start + BLOCK_SIZE, to);
+            int reference = references[block];
+            int first = firstWords[block];
+            for (int i = start, bit = 0; i < end; i++, bit += width) {
+                long distance = (a[i] - reference) & 0xFFFFFFFFL;
+                int word = first + (bit >>> ADDRESS_BITS_PER_WORD);
+                int offset = bit & (BITS_PER_WORD - 1);
+                data[word] |= distance << offset;
+                if (offset + width > BITS_PER_WORD) {
+                    data[word + 1] |= distance >>> (BITS_PER_WORD - offset);
+                }
+            }
+        }
+        return new CompressedIntList(size, data, references, firstWords, widths);
+    }
+
+    /**
+     * Returns a CompressedIntList of the elements of list.
+     */
+    public static CompressedIntList copyOf(IntList list) {
+        if (list instanceof CompressedIntList) {
+            return (CompressedIntList) list;
+        }
+        int[] a = list.toArrayPrimitive(new int[list.size()]);
+        return copyOf(a, 0, list.size());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the bytes taken by the arrays of this list, not counting their headers.
+     * The same elements take size() * Integer.BYTES in an int[].
+     */
+    public long sizeInBytes() {
+        return (long) data.length * Long.BYTES
+                + (long) references.length * Integer.BYTES
+                + (long) firstWords.length * Integer.BYTES
+                + widths.length;
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public int getPrimitive(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+        int block = index >>> BLOCK_SHIFT;
+        int width = widths[block];
+        if (width == 0) {
+            return references[block];
+        }
+        int bit = (index & (BLOCK_SIZE - 1)) * width;
+        int word = firstWords[block] + (bit >>> ADDRESS_BITS_PER_WORD);
+        int offset = bit & (BITS_PER_WORD - 1);
+        long distance = data[word] >>> offset;
+        if (offset + width > BITS_PER_WORD) {
+            distance |= data[word + 1] << (BITS_PER_WORD - offset);
+        }
+        return references[block] + (int) (distance & (-1L >>> (BITS_PER_WORD - width)));
+    }
+
+    /**
+     * Unpacks the elements of block into dst from dstPos on, and returns how many there are.
+     */
+    private int decodeBlock(int block, int[] dst, int dstPos) {
+        int n = Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+        int width = widths[block];
+        int reference = references[block];
+        if (width == 0) {
+            for (int i = 0; i < n; i++) {
+                dst[dstPos + i] = reference;
+            }
+            return n;
+        }
+        long[] data = this.data;
+        long mask = -1L >>> (BITS_PER_WORD - width);
+        int word = firstWords[block];
+        int offset = 0;
+        for (int i = 0; i < n; i++) {
+            long distance = data[word] >>> offset;
+            offset += width;
+            if (offset >= BITS_PER_WORD) {
+                offset -= BITS_PER_WORD;
+                word++;
+                if (offset != 0) {
+                    distance |= data[word] << (width - offset);
+                }
+            }
+            dst[dstPos + i] = reference + (int) (distance & mask);
+        }
+        return n;
+    }
+
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        if (a.length < size) {
+            a = new int[size];
+        }
+        for (int block = 0, pos = 0; pos < size; block++) {
+            pos += decodeBlock(block, a, pos);
+        }
+        return a;
+    }
+
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Unpacks one block ahead into a buffer, and returns from the buffer.
+     */
+    private class Itr implements IntIterator {
+        final int[] buffer = new int[BLOCK_SIZE];
+        int nextBlock;
+        int cursor;
+        int limit;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < limit || nextBlock < references.length;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            if (cursor == limit) {
+                if (nextBlock == references.length) {
+                    throw new NoSuchElementException();
+                }
+                limit = decodeBlock(nextBlock++, buffer, 0);
+                cursor = 0;
+            }
+            return buffer[cursor++];
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractLongList;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A LongList that any number of threads may append to at once, without a lock.
+ * <p>
+ * The elements live in segments that grow twofold, so a segment, once there, is never copied.
+ * An append reserves its index with one atomic increment, installs the segment holding that index
+ * by compareAndSet if no thread has yet, writes the element, then marks the index written in the segment's bitmap.
+ * <p>
+ * An index is published once it and every index before it are written.
+ * {@link #size()} is the number of published indices, and never goes down.
+ * getPrimitive of an index that is published, or written, takes a fixed number of steps and never waits.
+ * The iterator and toArrayPrimitive take the size once when they start,
+ * so they see a consistent snapshot, not whatever is appended while they run.
+ * listIterator and subList, inherited, read the live size instead.
+ * <p>
+ * Elements cannot be set or removed; those methods throw UnsupportedOperationException.
+ *
+ * @author XenoAmess
+ * @see java.util.concurrent.ConcurrentLinkedQueue
+ */
+public class ConcurrentLongAppendList extends AbstractLongList implements RandomAccess {
+    /**
+     * log2 of the capacity of the first segment.
+     */
+    private static final int FIRST_SEGMENT_SHIFT = 5;
+
+    private static final int FIRST_SEGMENT_CAPACITY = 1 << FIRST_SEGMENT_SHIFT;
+
+    /**
+     * The largest size of a list, so that index + FIRST_SEGMENT_CAPACITY is still an int.
+     */
+    public static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_CAPACITY + 1;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    /**
+     * Segment k holds the indices from FIRST_SEGMENT_CAPACITY * (2^k - 1) on, 2^k * FIRST_SEGMENT_CAPACITY of them.
+     */
+    private final AtomicReferenceArray<Segment> segments =
+            new AtomicReferenceArray<>(Integer.SIZE - 1 - FIRST_SEGMENT_SHIFT);
+
+    /**
+     * The next index to hand out. May run past MAX_SIZE when appends fail.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * A lower bound of the number of published indices, raised by size().
+     */
+    private final AtomicInteger published = new AtomicInteger();
+
+    private static final class Segment {
+        final long[] values;
+
+        /**
+         * Bit i is set once values[i] is written.
+         * Setting it is a volatile write, so whoever sees it set sees values[i] too.
+         */
+        final AtomicLongArray written;
+
+        Segment(int capacity) {
+            this.values = new long[capacity];
+            this.written = new AtomicLongArray((capacity + Long.SIZE - 1) >>> ADDRESS_BITS_PER_WORD);
+        }
+
+        /**
+         * Marks the n indices from offset on written, a word at a time.
+         */
+        void markWritten(int offset, int n) {
+            while (n > 0) {
+                int bit = offset & (Long.SIZE - 1);
+                int m = Math.min(n, Long.SIZE - bit);
+                long mask = (-1L >>> (Long.SIZE - m)) << bit;
+                written.accumulateAndGet(offset >>> ADDRESS_BITS_PER_WORD, mask, (word, bits) -> word | bits);
+                offset += m;
+                n -= m;
+            }
+        }
+
+        boolean isWritten(int offset) {
+            return (written.get(offset >>> ADDRESS_BITS_PER_WORD) & (1L << offset)) != 0;
+        }
+
+        /**
+         * Returns how many indices from offset on, up to the end of offset's word, are written.
+         */
+        int writtenRun(int offset) {
+            long word = written.get(offset >>> ADDRESS_BITS_PER_WORD);
+            // the bits shifted in at the top are clear, so the run stops at the end of the word.
+            return Long.numberOfTrailingZeros(~(word >>> offset));
+        }
+    }
+
+    public ConcurrentLongAppendList() {
+    }
+
+    private static int segmentIndex(int index) {
+        return (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(index + FIRST_SEGMENT_CAPACITY)) - FIRST_SEGMENT_SHIFT;
+    }
+
+    private static int segmentStart(int segmentIndex) {
+        return (FIRST_SEGMENT_CAPACITY << segmentIndex) - FIRST_SEGMENT_CAPACITY;
+    }
+
+    /**
+     * Returns segment k, installing it first if no thread has.
+     */
+    private Segment segment(int k) {
+        Segment segment = segments.get(k);
+        if (segment == null) {
+            Segment newSegment = new Segment(FIRST_SEGMENT_CAPACITY << k);
+            segment = segments.compareAndSet(k, null, newSegment) ? newSegment : segments.get(k);
+        }
+        return segment;
+    }
+
+    /**
+     * Reserves n indices and returns the first.
+     *
+     * @throws IllegalStateException if the list would grow past MAX_SIZE
+     */
+    private int reserve(int n) {
+        int first = reserved.getAndAdd(n);
+        if (first < 0 || first > MAX_SIZE - n) {
+            throw new IllegalStateException("list is full");
+        }
+        return first;
+    }
+
+    /**
+     * Appends e. Safe to call from any number of threads at once.
+     *
+     * @throws IllegalStateException if the list already holds MAX_SIZE elements
+     */
+    public boolean addPrimitive(long e) {
+        int index = reserve(1);
+        int k = segmentIndex(index);
+        int offset = index - segmentStart(k);
+        Segment segment = segment(k);
+        segment.values[offset] = e;
+        segment.markWritten(offset, 1);
+        return true;
+    }
+
+    @Override
+    public boolean add(Long e) {
+        return addPrimitive(e);
+    }
+
+    /**
+     * Appends len elements of src from off on, at consecutive indices, even while other threads append.
+     *
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than src.length
+     * @throws IllegalStateException     if the list would grow past MAX_SIZE
+     */
+    public boolean addAllPrimitive(long[] src, int off, int len) {
+        Objects.requireNonNull(src);
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + src.length);
+        }
+        if (len == 0) {
+            return false;
+        }
+        int index = reserve(len);
+        while (len > 0) {
+            int k = segmentIndex(index);
+            int offset = index - segmentStart(k);
+            Segment segment = segment(k);
+            int n = Math.min(len, segment.values.length - offset);
+            System.arraycopy(src, off, segment.values, offset, n);
+            segment.markWritten(offset, n);
+            index += n;
+            off += n;
+            len -= n;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of published elements: those appended, with no append before them still under way.
+     * Never goes down, and only moves up to MAX_SIZE.
+     */
+    @Override
+    public int size() {
+        int p = published.get();
+        while (true) {
+            int k = segmentIndex(p);
+            if (k >= segments.length()) {
+                return p;
+            }
+            Segment segment = segments.get(k);
+            if (segment == null) {
+                return p;
+            }
+            int run = segment.writtenRun(p - segmentStart(k));
+            if (run == 0) {
+                return p;
+            }
+            // another thread raising it too only makes the next read larger.
+            published.compareAndSet(p, p + run);
+            p = published.get();
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size();
+    }
+
+    /**
+     * Returns the element at index, which must be published, or at least written.
+     * Never waits.
+     *
+     * @throws IndexOutOfBoundsException if index is negative, or nothing is written there yet
+     */
+    @Override
+    public long getPrimitive(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+        int k = segmentIndex(index);
+        if (k < segments.length()) {
+            Segment segment = segments.get(k);
+            int offset = index - segmentStart(k);
+            if (segment != null && (index < published.get() || segment.isWritten(offset))) {
+                return segment.values[offset];
+            }
+        }
+        throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+    }
+
+    /**
+     * Copies the elements published when it is called, a segment at a time.
+     */
+    @Override
+    public long[] toArrayPrimitive(long[] a) {
+        int size = size();
+        if (a.length < size) {
+            a = new long[size];
+        }
+        for (int k = 0, copied = 0; copied < size; k++) {
+            long[] values = segments.get(k).values;
+            int n = Math.min(values.length, size - copied);
+            System.arraycopy(values, 0, a, copied, n);
+            copied += n;
+        }
+        return a;
+    }
+
+    /**
+     * Returns an iterator over the elements published when it is called.
+     */
+    @Override
+    public LongIterator iterator() {
+        return new SnapshotItr(size());
+    }
+
+    private class SnapshotItr implements LongIterator {
+        final int size;
+        int cursor;
+        int segmentIndex = -1;
+        long[] values;
+        int offset;
+
+        SnapshotItr(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public long nextPrimitive() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            if (values == null || offset == values.length) {
+                values = segments.get(++segmentIndex).values;
+                offset = 0;
+            }
+            cursor++;
+            return values[offset++];
+        }
+    }
+}
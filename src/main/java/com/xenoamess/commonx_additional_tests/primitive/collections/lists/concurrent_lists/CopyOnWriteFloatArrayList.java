@@ -0,0 +1,787 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractFloatList;
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.iterators.FloatIterator;
+import com.xenoamess.commons.primitive.iterators.FloatListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.FloatCollections;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.FloatArrayLists;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A thread-safe FloatList in which every change makes a fresh copy of the underlying float[],
+ * like {@link java.util.concurrent.CopyOnWriteArrayList}, but with no boxing.
+ * <p>
+ * Reads never lock: they read the current array from a volatile field, and an array once published is never written.
+ * Writers copy under a lock, so a change costs O(n); use it where reads far outnumber writes.
+ * <p>
+ * Iterators traverse the array as it was when they were created. They never throw ConcurrentModificationException,
+ * never see a later change, and do not support remove, set or add.
+ * A subList is a view checked against the array it was made from,
+ * and throws ConcurrentModificationException once the list is changed other than through it.
+ *
+ * @author XenoAmess
+ * @see java.util.concurrent.CopyOnWriteArrayList
+ */
+public class CopyOnWriteFloatArrayList extends AbstractFloatList implements RandomAccess {
+    private static final float[] EMPTY_ELEMENTDATA = {};
+
+    /**
+     * Guards all writers. Readers never take it.
+     */
+    final transient Object lock = new Object();
+
+    private transient volatile float[] array;
+
+    /**
+     * The array hashCode last hashed, and its hash code.
+     * An array once published is never written, so the hash code holds for as long as the list holds that array,
+     * and a list hashed far more often than it is changed hashes each array once.
+     * setArray drops it, so that it seldom keeps an array alive after the list has let go of it.
+     */
+    private transient volatile HashedArray hashed;
+
+    private static final class HashedArray {
+        final float[] array;
+        final int hashCode;
+
+        HashedArray(float[] array, int hashCode) {
+            this.array = array;
+            this.hashCode = hashCode;
+        }
+    }
+
+    final float[] getArray() {
+        return array;
+    }
+
+    final void setArray(float[] a) {
+        array = a;
+        hashed = null;
+    }
+
+    public CopyOnWriteFloatArrayList() {
+        setArray(EMPTY_ELEMENTDATA);
+    }
+
+    /**
+     * Creates a list holding the elements of c, in the order of c's iterator.
+     */
+    public CopyOnWriteFloatArrayList(Collection<? extends Float> c) {
+        float[] es;
+        if (c.getClass() == CopyOnWriteFloatArrayList.class) {
+            es = ((CopyOnWriteFloatArrayList) c).getArray();
+        } else {
+            es = new float[c.size()];
+            int i = 0;
+            for (Float e : c) {
+                if (i == es.length) {
+                    es = Arrays.copyOf(es, i + 1);
+                }
+                es[i++] = e;
+            }
+            if (i != es.length) {
+                es = Arrays.copyOf(es, i);
+            }
+        }
+        setArray(es);
+    }
+
+    /**
+     * Creates a list holding a copy of toCopyIn.
+     */
+    public CopyOnWriteFloatArrayList(float[] toCopyIn) {
+        setArray(Arrays.copyOf(toCopyIn, toCopyIn.length));
+    }
+
+    @Override
+    public int size() {
+        return getArray().length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private static int indexOfRange(float o, float[] es, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Float.compare(o, es[i]) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfRange(float o, float[] es, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (Float.compare(o, es[i]) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Float)) {
+            return -1;
+        }
+        float[] es = getArray();
+        return indexOfRange((Float) o, es, 0, es.length);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Float)) {
+            return -1;
+        }
+        float[] es = getArray();
+        return lastIndexOfRange((Float) o, es, 0, es.length);
+    }
+
+    private static String outOfBoundsMsg(int index, int size) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public float getPrimitive(int index) {
+        float[] es = getArray();
+        if (index < 0 || index >= es.length) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index, es.length));
+        }
+        return es[index];
+    }
+
+    @Override
+    public Float get(int index) {
+        return getPrimitive(index);
+    }
+
+    @Override
+    public float setPrimitive(int index, float element) {
+        synchronized (lock) {
+            float[] es = getArray();
+            if (index < 0 || index >= es.length) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index, es.length));
+            }
+            float oldValue = es[index];
+            if (Float.compare(oldValue, element) != 0) {
+                es = es.clone();
+                es[index] = element;
+            }
+            // a volatile write even when nothing changed, so that set happens-before later reads.
+            setArray(es);
+            return oldValue;
+        }
+    }
+
+    @Override
+    public Float set(int index, Float element) {
+        return setPrimitive(index, element);
+    }
+
+    public boolean addPrimitive(float e) {
+        synchronized (lock) {
+            float[] es = getArray();
+            int len = es.length;
+            es = Arrays.copyOf(es, len + 1);
+            es[len] = e;
+            setArray(es);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean add(Float e) {
+        return addPrimitive(e);
+    }
+
+    @Override
+    public void addPrimitive(int index, float element) {
+        synchronized (lock) {
+            float[] es = getArray();
+            int len = es.length;
+            if (index > len || index < 0) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index, len));
+            }
+            float[] newElements = new float[len + 1];
+            System.arraycopy(es, 0, newElements, 0, index);
+            System.arraycopy(es, index, newElements, index + 1, len - index);
+            newElements[index] = element;
+            setArray(newElements);
+        }
+    }
+
+    @Override
+    public void add(int index, Float element) {
+        addPrimitive(index, element);
+    }
+
+    @Override
+    public Float remove(int index) {
+        synchronized (lock) {
+            float[] es = getArray();
+            int len = es.length;
+            if (index < 0 || index >= len) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index, len));
+            }
+            float oldValue = es[index];
+            float[] newElements = new float[len - 1];
+            System.arraycopy(es, 0, newElements, 0, index);
+            System.arraycopy(es, index + 1, newElements, index, len - index - 1);
+            setArray(newElements);
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes the first element equal to o, if any.
+     * Searches a snapshot without the lock, and only searches again under it if the list changed meanwhile.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Float)) {
+            return false;
+        }
+        float e = (Float) o;
+        float[] snapshot = getArray();
+        int index = indexOfRange(e, snapshot, 0, snapshot.length);
+        return index >= 0 && remove(e, snapshot, index);
+    }
+
+    private boolean remove(float o, float[] snapshot, int index) {
+        synchronized (lock) {
+            float[] current = getArray();
+            int len = current.length;
+            if (snapshot != current) {
+                index = indexOfRange(o, current, 0, len);
+                if (index < 0) {
+                    return false;
+                }
+            }
+            float[] newElements = new float[len - 1];
+            System.arraycopy(current, 0, newElements, 0, index);
+            System.arraycopy(current, index + 1, newElements, index, len - index - 1);
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * Appends e unless the list already holds an element equal to it.
+     *
+     * @return true if e was appended
+     */
+    public boolean addIfAbsentPrimitive(float e) {
+        float[] snapshot = getArray();
+        return indexOfRange(e, snapshot, 0, snapshot.length) < 0 && addIfAbsent(e, snapshot);
+    }
+
+    public boolean addIfAbsent(Float e) {
+        return addIfAbsentPrimitive(e);
+    }
+
+    private boolean addIfAbsent(float e, float[] snapshot) {
+        synchronized (lock) {
+            float[] current = getArray();
+            int len = current.length;
+            if (snapshot != current) {
+                // only the elements that differ from the snapshot, or were added since, can be e.
+                int common = Math.min(snapshot.length, len);
+                for (int i = 0; i < common; i++) {
+                    if (current[i] != snapshot[i] && Float.compare(e, current[i]) == 0) {
+                        return false;
+                    }
+                }
+                if (indexOfRange(e, current, common, len) >= 0) {
+                    return false;
+                }
+            }
+            float[] newElements = Arrays.copyOf(current, len + 1);
+            newElements[len] = e;
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    /**
+     * Appends len elements of src from off on, with a single copy of the list.
+     *
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than src.length
+     */
+    public boolean addAllPrimitive(float[] src, int off, int len) {
+        Objects.requireNonNull(src);
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + src.length);
+        }
+        if (len == 0) {
+            return false;
+        }
+        synchronized (lock) {
+            float[] es = getArray();
+            int oldLength = es.length;
+            es = Arrays.copyOf(es, oldLength + len);
+            System.arraycopy(src, off, es, oldLength, len);
+            setArray(es);
+            return true;
+        }
+    }
+
+    /**
+     * Appends the elements of c, in the order of c's iterator, at the end of the list as it is under the lock.
+     * c is read before the lock is taken, so c can be this list.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Float> c) {
+        float[] cs = toPrimitiveArray(c);
+        return addAllPrimitive(cs, 0, cs.length);
+    }
+
+    /**
+     * Inserts the elements of c at index, in the order of c's iterator, with a single copy of the list.
+     * c is read before the lock is taken, so c can be this list.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Float> c) {
+        float[] cs = toPrimitiveArray(c);
+        synchronized (lock) {
+            float[] es = getArray();
+            int len = es.length;
+            if (index > len || index < 0) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index, len));
+            }
+            if (cs.length == 0) {
+                return false;
+            }
+            float[] newElements = new float[len + cs.length];
+            System.arraycopy(es, 0, newElements, 0, index);
+            System.arraycopy(cs, 0, newElements, index, cs.length);
+            System.arraycopy(es, index, newElements, index + cs.length, len - index);
+            setArray(newElements);
+            return true;
+        }
+    }
+
+    private static float[] toPrimitiveArray(Collection<? extends Float> c) {
+        if (c.getClass() == CopyOnWriteFloatArrayList.class) {
+            return ((CopyOnWriteFloatArrayList) c).getArray();
+        }
+        Object[] a = c.toArray();
+        float[] cs = new float[a.length];
+        for (int i = 0; i < a.length; i++)
+            cs[i] = (Float) a[i];
+        return cs;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            setArray(EMPTY_ELEMENTDATA);
+        }
+    }
+
+    /**
+     * Copies the elements as they are at the time of the call.
+     */
+    @Override
+    public float[] toArrayPrimitive(float[] a) {
+        float[] es = getArray();
+        if (a.length < es.length) {
+            return es.clone();
+        }
+        System.arraycopy(es, 0, a, 0, es.length);
+        return a;
+    }
+
+    /**
+     * Compares o with the elements as they are at the time of the call.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        float[] es = getArray();
+        if (o instanceof CopyOnWriteFloatArrayList) {
+            return Arrays.equals(es, ((CopyOnWriteFloatArrayList) o).getArray());
+        }
+        if (o instanceof FloatList) {
+            FloatIterator it = ((FloatList) o).iterator();
+            for (float e : es) {
+                if (!it.hasNext() || Float.compare(e, it.nextPrimitive()) != 0) {
+                    return false;
+                }
+            }
+            return !it.hasNext();
+        }
+        Iterator<?> it = ((List<?>) o).iterator();
+        for (float e : es) {
+            if (!it.hasNext()) {
+                return false;
+            }
+            Object other = it.next();
+            if (!(other instanceof Float) || Float.compare(e, (Float) other) != 0) {
+                return false;
+            }
+        }
+        return !it.hasNext();
+    }
+
+    /**
+     * The hash code of the elements as they are at the time of the call, the same as {@link List#hashCode()}.
+     * Computed by {@link FloatArrayLists#hashCode(float[], int, int)} once per array; see hashed.
+     */
+    @Override
+    public int hashCode() {
+        float[] es = getArray();
+        HashedArray h = hashed;
+        if (h == null || h.array != es) {
+            h = new HashedArray(es, FloatArrayLists.hashCode(es, 0, es.length));
+            hashed = h;
+        }
+        return h.hashCode;
+    }
+
+    /**
+     * Formats a snapshot of the elements with FloatCollections, without boxing.
+     */
+    @Override
+    public String toString() {
+        float[] es = getArray();
+        return FloatCollections.toString(es, 0, es.length);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        float[] es = getArray();
+        return FloatCollections.appendTo(es, 0, es.length, out);
+    }
+
+    /**
+     * Returns an iterator over the elements as they are at the time of the call.
+     */
+    @Override
+    public FloatIterator iterator() {
+        return new COWIterator(getArray(), 0);
+    }
+
+    @Override
+    public FloatListIterator listIterator() {
+        return new COWIterator(getArray(), 0);
+    }
+
+    @Override
+    public FloatListIterator listIterator(int index) {
+        float[] es = getArray();
+        if (index < 0 || index > es.length) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index, es.length));
+        }
+        return new COWIterator(es, index);
+    }
+
+    static final class COWIterator implements FloatListIterator {
+        /**
+         * The array the iterator was made from, never written.
+         */
+        private final float[] snapshot;
+        private int cursor;
+
+        COWIterator(float[] snapshot, int initialCursor) {
+            this.snapshot = snapshot;
+            this.cursor = initialCursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @Override
+        public float nextPrimitive() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return snapshot[cursor++];
+        }
+
+        @Override
+        public Float next() {
+            return nextPrimitive();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public float previousPrimitive() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return snapshot[--cursor];
+        }
+
+        @Override
+        public Float previous() {
+            return previousPrimitive();
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setPrimitive(float e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(Float e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addPrimitive(float e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(Float e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Returns a view of the elements from fromIndex, inclusive, to toIndex, exclusive.
+     * Its methods take the lock and throw ConcurrentModificationException
+     * once the list has been changed other than through it.
+     */
+    @Override
+    public FloatList subList(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            float[] es = getArray();
+            if (fromIndex < 0 || toIndex > es.length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                        + ", Size: " + es.length);
+            }
+            return new COWSubList(es, fromIndex, toIndex);
+        }
+    }
+
+    private class COWSubList extends AbstractFloatList implements RandomAccess {
+        private final int offset;
+        private int size;
+        private float[] expectedArray;
+
+        COWSubList(float[] es, int offset, int toIndex) {
+            // caller holds the lock.
+            this.expectedArray = es;
+            this.offset = offset;
+            this.size = toIndex - offset;
+        }
+
+        private void checkForComodification() {
+            // caller holds the lock.
+            if (getArray() != expectedArray) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private float[] getArrayChecked() {
+            // caller holds the lock.
+            float[] a = getArray();
+            if (a != expectedArray) {
+                throw new ConcurrentModificationException();
+            }
+            return a;
+        }
+
+        private void rangeCheck(int index) {
+            // caller holds the lock.
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index, size));
+            }
+        }
+
+        private void rangeCheckForAdd(int index) {
+            // caller holds the lock.
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException(outOfBoundsMsg(index, size));
+            }
+        }
+
+        @Override
+        public int size() {
+            synchronized (lock) {
+                checkForComodification();
+                return size;
+            }
+        }
+
+        @Override
+        public float getPrimitive(int index) {
+            synchronized (lock) {
+                rangeCheck(index);
+                return getArrayChecked()[offset + index];
+            }
+        }
+
+        @Override
+        public Float get(int index) {
+            return getPrimitive(index);
+        }
+
+        @Override
+        public float setPrimitive(int index, float element) {
+            synchronized (lock) {
+                rangeCheck(index);
+                checkForComodification();
+                float x = CopyOnWriteFloatArrayList.this.setPrimitive(offset + index, element);
+                expectedArray = getArray();
+                return x;
+            }
+        }
+
+        @Override
+        public Float set(int index, Float element) {
+            return setPrimitive(index, element);
+        }
+
+        public boolean addPrimitive(float element) {
+            synchronized (lock) {
+                checkForComodification();
+                CopyOnWriteFloatArrayList.this.addPrimitive(offset + size, element);
+                expectedArray = getArray();
+                size++;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean add(Float element) {
+            return addPrimitive(element);
+        }
+
+        @Override
+        public void addPrimitive(int index, float element) {
+            synchronized (lock) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                CopyOnWriteFloatArrayList.this.addPrimitive(offset + index, element);
+                expectedArray = getArray();
+                size++;
+            }
+        }
+
+        @Override
+        public void add(int index, Float element) {
+            addPrimitive(index, element);
+        }
+
+        @Override
+        public Float remove(int index) {
+            synchronized (lock) {
+                rangeCheck(index);
+                checkForComodification();
+                Float result = CopyOnWriteFloatArrayList.this.remove(offset + index);
+                expectedArray = getArray();
+                size--;
+                return result;
+            }
+        }
+
+        @Override
+        public void clear() {
+            synchronized (lock) {
+                float[] es = getArrayChecked();
+                float[] newElements = new float[es.length - size];
+                System.arraycopy(es, 0, newElements, 0, offset);
+                System.arraycopy(es, offset + size, newElements, offset, es.length - offset - size);
+                setArray(newElements);
+                expectedArray = newElements;
+                size = 0;
+            }
+        }
+
+        @Override
+        public float[] toArrayPrimitive(float[] a) {
+            float[] es;
+            int size;
+            synchronized (lock) {
+                es = getArrayChecked();
+                size = this.size;
+            }
+            if (a.length < size) {
+                a = new float[size];
+            }
+            System.arraycopy(es, offset, a, 0, size);
+            return a;
+        }
+
+        @Override
+        public FloatIterator iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public FloatListIterator listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public FloatListIterator listIterator(int index) {
+            synchronized (lock) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new COWIterator(Arrays.copyOfRange(expectedArray, offset, offset + size), index);
+            }
+        }
+
+        @Override
+        public FloatList subList(int fromIndex, int toIndex) {
+            synchronized (lock) {
+                checkForComodification();
+                if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                    throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                            + ", Size: " + size);
+                }
+                return new COWSubList(expectedArray, fromIndex + offset, toIndex + offset);
+            }
+        }
+    }
+}
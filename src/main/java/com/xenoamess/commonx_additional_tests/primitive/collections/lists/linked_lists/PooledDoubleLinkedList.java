@@ -0,0 +1,475 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractDoubleList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked DoubleList without node objects.
+ * <p>
+ * Nodes are slots in three parallel arrays: values, next and prev.
+ * A removed slot goes to a free list and is reused by the next add,
+ * so a list whose size stays about the same (like a queue) allocates nothing after warm up.
+ * The arrays only grow, by half, when every slot is in use; {@link #clear()} releases all slots at once.
+ * <p>
+ * Behaves like DoubleLinkedList: positional access walks from the nearer end,
+ * and iterators are fail-fast.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList
+ */
+public class PooledDoubleLinkedList extends AbstractDoubleList implements Cloneable {
+    private static final int NIL = -1;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    double[] values;
+    int[] next;
+    int[] prev;
+
+    private int first = NIL;
+    private int last = NIL;
+    private int size;
+
+    /**
+     * Head of the free slot list, chained through next.
+     */
+    private int freeHead = NIL;
+
+    /**
+     * Slots at and after highWater were never used.
+     */
+    private int highWater;
+
+    public PooledDoubleLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of slots allocated up front
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public PooledDoubleLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.values = new double[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+    }
+
+    public PooledDoubleLinkedList(Collection<? extends Double> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    /**
+     * Returns the number of slots, used or not.
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    private int allocateSlot() {
+        int slot = freeHead;
+        if (slot != NIL) {
+            freeHead = next[slot];
+            return slot;
+        }
+        if (highWater == values.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void releaseSlot(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private void grow() {
+        int oldCapacity = values.length;
+        if (oldCapacity == MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity exceeds " + MAX_CAPACITY);
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY,
+                Math.max(DEFAULT_CAPACITY, oldCapacity + (long) (oldCapacity >> 1)));
+        values = Arrays.copyOf(values, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+    }
+
+    /**
+     * Links element before the slot succ, or last if succ is NIL.
+     */
+    private void linkBefore(double element, int succ) {
+        int slot = allocateSlot();
+        values[slot] = element;
+        int pred = succ == NIL ? last : prev[succ];
+        prev[slot] = pred;
+        next[slot] = succ;
+        if (succ == NIL) {
+            last = slot;
+        } else {
+            prev[succ] = slot;
+        }
+        if (pred == NIL) {
+            first = slot;
+        } else {
+            next[pred] = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    private double unlink(int slot) {
+        double element = values[slot];
+        int pred = prev[slot];
+        int succ = next[slot];
+        if (pred == NIL) {
+            first = succ;
+        } else {
+            next[pred] = succ;
+        }
+        if (succ == NIL) {
+            last = pred;
+        } else {
+            prev[succ] = pred;
+        }
+        releaseSlot(slot);
+        size--;
+        modCount++;
+        return element;
+    }
+
+    private int slot(int index) {
+        int slot;
+        if (index < (size >> 1)) {
+            slot = first;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = last;
+            for (int i = size - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double getPrimitive(int index) {
+        checkElementIndex(index);
+        return values[slot(index)];
+    }
+
+    @Override
+    public double setPrimitive(int index, double element) {
+        checkElementIndex(index);
+        int slot = slot(index);
+        double oldValue = values[slot];
+        values[slot] = element;
+        return oldValue;
+    }
+
+    @Override
+    public void addPrimitive(int index, double element) {
+        checkPositionIndex(index);
+        linkBefore(element, index == size ? NIL : slot(index));
+    }
+
+    @Override
+    public void add(int index, Double element) {
+        addPrimitive(index, element);
+    }
+
+    public boolean addPrimitive(double element) {
+        linkBefore(element, NIL);
+        return true;
+    }
+
+    @Override
+    public boolean add(Double element) {
+        return addPrimitive(element);
+    }
+
+    @Override
+    public Double remove(int index) {
+        checkElementIndex(index);
+        return unlink(slot(index));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts the elements of c at index, in the order of c's iterator.
+     * c is copied first, so c can be this list.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        checkPositionIndex(index);
+        Object[] a = c.toArray();
+        if (a.length == 0) {
+            return false;
+        }
+        int succ = index == size ? NIL : slot(index);
+        for (Object o : a) {
+            linkBefore((Double) o, succ);
+        }
+        return true;
+    }
+
+    public void addFirstPrimitive(double element) {
+        linkBefore(element, first);
+    }
+
+    public void addLastPrimitive(double element) {
+        linkBefore(element, NIL);
+    }
+
+    /**
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double getFirstPrimitive() {
+        if (first == NIL) {
+            throw new NoSuchElementException();
+        }
+        return values[first];
+    }
+
+    /**
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double getLastPrimitive() {
+        if (last == NIL) {
+            throw new NoSuchElementException();
+        }
+        return values[last];
+    }
+
+    /**
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double removeFirstPrimitive() {
+        if (first == NIL) {
+            throw new NoSuchElementException();
+        }
+        return unlink(first);
+    }
+
+    /**
+     * @throws NoSuchElementException if this list is empty
+     */
+    public double removeLastPrimitive() {
+        if (last == NIL) {
+            throw new NoSuchElementException();
+        }
+        return unlink(last);
+    }
+
+    /**
+     * Removes all elements and releases all slots, keeping the arrays.
+     */
+    @Override
+    public void clear() {
+        first = NIL;
+        last = NIL;
+        size = 0;
+        freeHead = NIL;
+        highWater = 0;
+        modCount++;
+    }
+
+    @Override
+    public double[] toArrayPrimitive(double[] a) {
+        if (a.length < size) {
+            a = new double[size];
+        }
+        int i = 0;
+        for (int slot = first; slot != NIL; slot = next[slot]) {
+            a[i++] = values[slot];
+        }
+        return a;
+    }
+
+    @Override
+    public PooledDoubleLinkedList clone() {
+        PooledDoubleLinkedList clone;
+        try {
+            clone = (PooledDoubleLinkedList) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.values = values.clone();
+        clone.next = next.clone();
+        clone.prev = prev.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    @Override
+    public DoubleIterator iterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public DoubleListIterator listIterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public DoubleListIterator listIterator(int index) {
+        checkPositionIndex(index);
+        return new ListItr(index);
+    }
+
+    private class ListItr implements DoubleListIterator {
+        private int lastReturned = NIL;
+        private int nextSlot;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            nextSlot = (index == size) ? NIL : slot(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public double nextPrimitive() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return values[lastReturned];
+        }
+
+        @Override
+        public Double next() {
+            return nextPrimitive();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public double previousPrimitive() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextSlot = (nextSlot == NIL) ? last : prev[nextSlot];
+            nextIndex--;
+            return values[lastReturned];
+        }
+
+        @Override
+        public Double previous() {
+            return previousPrimitive();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            // the slot goes to the free list on unlink, so read its successor first.
+            int lastNext = next[lastReturned];
+            unlink(lastReturned);
+            if (nextSlot == lastReturned) {
+                nextSlot = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = NIL;
+            expectedModCount++;
+        }
+
+        @Override
+        public void setPrimitive(double element) {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            values[lastReturned] = element;
+        }
+
+        @Override
+        public void set(Double element) {
+            setPrimitive(element);
+        }
+
+        @Override
+        public void addPrimitive(double element) {
+            checkForComodification();
+            lastReturned = NIL;
+            linkBefore(element, nextSlot);
+            nextIndex++;
+            expectedModCount++;
+        }
+
+        @Override
+        public void add(Double element) {
+            addPrimitive(element);
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractByteList;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import com.xenoamess.commons.primitive.iterators.ByteListIterator;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled doubly linked ByteList: each node holds a block of up to blockSize elements.
+ * <p>
+ * Iteration reads elements block by block, so it touches about one node per blockSize elements
+ * instead of one per element.
+ * Inserting into the middle shifts at most one block, splitting it in half when it is full.
+ * A node is unlinked when it gets empty, and merged with its successor when both fit in one block
+ * and it is less than half full.
+ * <p>
+ * Positional access walks from the nearer end, node by node.
+ * Iterators are fail-fast and support add, remove and set, like those of ByteLinkedList.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commons.primitive.collections.lists.linked_lists.ByteLinkedList
+ */
+public class UnrolledByteLinkedList extends AbstractByteList implements Cloneable {
+    /**
+     * Default number of elements per node.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    static final class Node {
+        byte[] elements;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int blockSize) {
+            this.elements = new byte[blockSize];
+        }
+    }
+
+    private final int blockSize;
+
+    transient Node first;
+    transient Node last;
+    private transient int size;
+
+    /**
+     * Offset inside the node returned by the last call of node, insert or removeAt.
+     * A field rather than a return value, so that locating an element allocates nothing.
+     */
+    private transient int walkOffset;
+
+    public UnrolledByteLinkedList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param blockSize the number of elements each node holds
+     * @throws IllegalArgumentException if blockSize is less than 2
+     */
+    public UnrolledByteLinkedList(int blockSize) {
+        if (blockSize < 2) {
+            throw new IllegalArgumentException("Illegal blockSize: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    public UnrolledByteLinkedList(Collection<? extends Byte> c) {
+        this();
+        this.addAll(c);
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    private void linkAfter(Node pred, Node node) {
+        Node succ = pred == null ? first : pred.next;
+        node.prev = pred;
+        node.next = succ;
+        if (pred == null) {
+            first = node;
+        } else {
+            pred.next = node;
+        }
+        if (succ == null) {
+            last = node;
+        } else {
+            succ.prev = node;
+        }
+    }
+
+    private void unlink(Node node) {
+        Node pred = node.prev;
+        Node succ = node.next;
+        if (pred == null) {
+            first = succ;
+        } else {
+            pred.next = succ;
+        }
+        if (succ == null) {
+            last = pred;
+        } else {
+            succ.prev = pred;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Returns the node holding the element at index, and sets walkOffset to its offset in that node.
+     */
+    private Node node(int index) {
+        if (index < (size >> 1)) {
+            Node x = first;
+            while (index >= x.count) {
+                index -= x.count;
+                x = x.next;
+            }
+            walkOffset = index;
+            return x;
+        } else {
+            Node x = last;
+            int start = size - x.count;
+            while (index < start) {
+                x = x.prev;
+                start -= x.count;
+            }
+            walkOffset = index - start;
+            return x;
+        }
+    }
+
+    /**
+     * Inserts element before the element at offset in node, or at the end of the list if node is null.
+     * Returns the node the element ended in, and sets walkOffset to its offset in that node.
+     */
+    private Node insert(Node node, int offset, byte element) {
+        if (node == null) {
+            Node l = last;
+            if (l == null || l.count == blockSize) {
+                l = new Node(blockSize);
+                linkAfter(last, l);
+            }
+            offset = l.count;
+            node = l;
+        } else if (node.count == blockSize) {
+            Node right = new Node(blockSize);
+            int half = blockSize >>> 1;
+            System.arraycopy(node.elements, half, right.elements, 0, blockSize - half);
+            right.count = blockSize - half;
+            node.count = half;
+            linkAfter(node, right);
+            if (offset > half) {
+                node = right;
+                offset -= half;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+        walkOffset = offset;
+        return node;
+    }
+
+    /**
+     * Removes the element at offset in node.
+     * Returns the node holding the element that followed it, or null if it was the last one,
+     * and sets walkOffset to its offset in that node.
+     */
+    private Node removeAt(Node node, int offset) {
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.count--;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            Node succ = node.next;
+            unlink(node);
+            walkOffset = 0;
+            return succ;
+        }
+        Node succ = node.next;
+        if (succ != null && node.count < (blockSize >>> 1) && node.count + succ.count <= blockSize) {
+            // the elements of succ go after the ones of node, so positions in node stay valid.
+            System.arraycopy(succ.elements, 0, node.elements, node.count, succ.count);
+            node.count += succ.count;
+            unlink(succ);
+        }
+        if (offset < node.count) {
+            walkOffset = offset;
+            return node;
+        }
+        walkOffset = 0;
+        return node.next;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte getPrimitive(int index) {
+        checkElementIndex(index);
+        Node node = node(index);
+        return node.elements[walkOffset];
+    }
+
+    @Override
+    public byte setPrimitive(int index, byte element) {
+        checkElementIndex(index);
+        Node node = node(index);
+        byte oldValue = node.elements[walkOffset];
+        node.elements[walkOffset] = element;
+        return oldValue;
+    }
+
+    @Override
+    public void addPrimitive(int index, byte element) {
+        checkPositionIndex(index);
+        if (index == size) {
+            insert(null, 0, element);
+        } else {
+            Node node = node(index);
+            insert(node, walkOffset, element);
+        }
+    }
+
+    @Override
+    public void add(int index, Byte element) {
+        addPrimitive(index, element);
+    }
+
+    public boolean addPrimitive(byte element) {
+        insert(null, 0, element);
+        return true;
+    }
+
+    @Override
+    public boolean add(Byte element) {
+        return addPrimitive(element);
+    }
+
+    @Override
+    public Byte remove(int index) {
+        checkElementIndex(index);
+        Node node = node(index);
+        byte oldValue = node.elements[walkOffset];
+        removeAt(node, walkOffset);
+        return oldValue;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Byte> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Inserts the elements of c at index, in the order of c's iterator.
+     * c is copied first, so c can be this list.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Byte> c) {
+        checkPositionIndex(index);
+        Object[] a = c.toArray();
+        if (a.length == 0) {
+            return false;
+        }
+        Node node = index == size ? null : node(index);
+        int offset = walkOffset;
+        for (Object o : a) {
+            Node inserted = insert(node, offset, (Byte) o);
+            if (node != null) {
+                // keep inserting before the same element, which is right after the one just inserted.
+                node = inserted;
+                offset = walkOffset + 1;
+                if (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        first = null;
+        last = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public byte[] toArrayPrimitive(byte[] a) {
+        if (a.length < size) {
+            a = new byte[size];
+        }
+        int i = 0;
+        for (Node x = first; x != null; x = x.next) {
+            System.arraycopy(x.elements, 0, a, i, x.count);
+            i += x.count;
+        }
+        return a;
+    }
+
+    @Override
+    public UnrolledByteLinkedList clone() {
+        UnrolledByteLinkedList clone;
+        try {
+            clone = (UnrolledByteLinkedList) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.first = null;
+        clone.last = null;
+        clone.modCount = 0;
+        for (Node x = first; x != null; x = x.next) {
+            Node copy = new Node(blockSize);
+            System.arraycopy(x.elements, 0, copy.elements, 0, x.count);
+            copy.count = x.count;
+            clone.linkAfter(clone.last, copy);
+        }
+        return clone;
+    }
+
+    @Override
+    public ByteIterator iterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public ByteListIterator listIterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public ByteListIterator listIterator(int index) {
+        checkPositionIndex(index);
+        return new ListItr(index);
+    }
+
+    private class ListItr implements ByteListIterator {
+        /**
+         * Node and offset of the element next returns; nextNode is null at the end.
+         */
+        private Node nextNode;
+        private int nextOffset;
+        private int nextIndex;
+        private Node lastNode;
+        private int lastOffset;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            if (index < size) {
+                nextNode = node(index);
+                nextOffset = walkOffset;
+            }
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public byte nextPrimitive() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastNode = nextNode;
+            lastOffset = nextOffset;
+            if (++nextOffset == nextNode.count) {
+                nextNode = nextNode.next;
+                nextOffset = 0;
+            }
+            nextIndex++;
+            return lastNode.elements[lastOffset];
+        }
+
+        @Override
+        public Byte next() {
+            return nextPrimitive();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public byte previousPrimitive() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            if (nextNode == null) {
+                nextNode = last;
+                nextOffset = last.count - 1;
+            } else if (nextOffset == 0) {
+                nextNode = nextNode.prev;
+                nextOffset = nextNode.count - 1;
+            } else {
+                nextOffset--;
+            }
+            lastNode = nextNode;
+            lastOffset = nextOffset;
+            nextIndex--;
+            return lastNode.elements[lastOffset];
+        }
+
+        @Override
+        public Byte previous() {
+            return previousPrimitive();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+            boolean afterNext = lastNode != nextNode || lastOffset != nextOffset;
+            nextNode = removeAt(lastNode, lastOffset);
+            nextOffset = walkOffset;
+            if (afterNext) {
+                nextIndex--;
+            }
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void setPrimitive(byte element) {
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastNode.elements[lastOffset] = element;
+        }
+
+        @Override
+        public void set(Byte element) {
+            setPrimitive(element);
+        }
+
+        @Override
+        public void addPrimitive(byte element) {
+            checkForComodification();
+            lastNode = null;
+            Node node = insert(nextNode, nextOffset, element);
+            if (nextNode != null) {
+                nextNode = node;
+                nextOffset = walkOffset + 1;
+                if (nextOffset == nextNode.count) {
+                    nextNode = nextNode.next;
+                    nextOffset = 0;
+                }
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(Byte element) {
+            addPrimitive(element);
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
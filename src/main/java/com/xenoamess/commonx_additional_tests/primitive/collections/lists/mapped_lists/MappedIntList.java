@@ -0,0 +1,332 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.mapped_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.off_heap_lists.DirectBuffers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.RandomAccess;
+
+/**
+ * A IntList whose elements live in a memory-mapped file.
+ * <p>
+ * Opening an existing file maps it and reads its size from the header, so a list of any length is
+ * reloaded in constant time, without parsing or boxing.
+ * Appending past the mapped capacity grows the file by half and maps it again.
+ * Changes reach the file when the os writes the pages back; {@link #force()} writes them at once.
+ * {@link #close()} forces, unmaps and truncates the file to the size of the list.
+ * <p>
+ * File layout: an int magic, an int element width in bytes, a long size, then the elements,
+ * all little endian.
+ * A single mapping is indexed by int, so the capacity is limited to MAX_CAPACITY elements.
+ * Iterators and sub lists are fail-fast, as those of IntArrayList.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList
+ */
+public class MappedIntList extends AbstractIntList implements RandomAccess, Closeable {
+    private static final int MAGIC = 0x504C5354;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+
+    /**
+     * Bytes before the first element.
+     */
+    public static final int HEADER_BYTES = 16;
+
+    /**
+     * The largest number of elements a single mapping can hold.
+     */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / Integer.BYTES;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final Path path;
+
+    private FileChannel channel;
+
+    /**
+     * The whole mapped file, header included.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * A view of buffer starting at the first element.
+     */
+    private IntBuffer elementData;
+
+    private int size;
+
+    private MappedIntList(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            this.map(DEFAULT_CAPACITY);
+            this.buffer.putInt(MAGIC_OFFSET, MAGIC);
+            this.buffer.putInt(WIDTH_OFFSET, Integer.BYTES);
+            this.buffer.putLong(SIZE_OFFSET, 0);
+            return;
+        }
+        if (fileSize < HEADER_BYTES || fileSize > HEADER_BYTES + (long) MAX_CAPACITY * Integer.BYTES) {
+            throw new IOException("not a MappedIntList file: " + path);
+        }
+        this.map((int) ((fileSize - HEADER_BYTES) / Integer.BYTES));
+        long savedSize = this.buffer.getLong(SIZE_OFFSET);
+        if (this.buffer.getInt(MAGIC_OFFSET) != MAGIC
+                || this.buffer.getInt(WIDTH_OFFSET) != Integer.BYTES
+                || savedSize < 0
+                || savedSize > this.elementData.capacity()) {
+            DirectBuffers.free(this.buffer);
+            throw new IOException("not a MappedIntList file: " + path);
+        }
+        this.size = (int) savedSize;
+    }
+
+    /**
+     * Opens the list stored in path, or creates an empty one if the file does not exist or is empty.
+     *
+     * @param path the file
+     * @return the list
+     * @throws IOException if the file cannot be opened, or is not a MappedIntList file
+     */
+    public static MappedIntList open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE
+        );
+        try {
+            return new MappedIntList(path, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void map(int capacity) throws IOException {
+        MappedByteBuffer newBuffer = channel.map(
+                FileChannel.MapMode.READ_WRITE,
+                0,
+                HEADER_BYTES + (long) capacity * Integer.BYTES
+        );
+        newBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        newBuffer.position(HEADER_BYTES);
+        IntBuffer newElementData = newBuffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        newBuffer.clear();
+        if (this.buffer != null) {
+            DirectBuffers.free(this.buffer);
+        }
+        this.buffer = newBuffer;
+        this.elementData = newElementData;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean isClosed() {
+        return channel == null;
+    }
+
+    private void ensureOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("list is closed: " + path);
+        }
+    }
+
+    public int capacity() {
+        return elementData == null ? 0 : elementData.capacity();
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        ensureOpen();
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + minCapacity + " exceeds " + MAX_CAPACITY);
+        }
+        int oldCapacity = capacity();
+        int newCapacity = Math.max(DEFAULT_CAPACITY, oldCapacity + (oldCapacity >> 1));
+        newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, (long) newCapacity));
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void setSize(int size) {
+        this.size = size;
+        buffer.putLong(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Writes all changes to the storage device.
+     */
+    public void force() {
+        ensureOpen();
+        buffer.force();
+    }
+
+    /**
+     * Forces the changes, unmaps the file and truncates it to the size of the list.
+     * The list is empty afterwards, and adding to it throws IllegalStateException.
+     * Closing twice does nothing.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        modCount++;
+        FileChannel oldChannel = this.channel;
+        int oldSize = this.size;
+        buffer.force();
+        DirectBuffers.free(buffer);
+        this.buffer = null;
+        this.elementData = null;
+        this.channel = null;
+        this.size = 0;
+        try {
+            if (DirectBuffers.isFreeSupported()) {
+                // some os cannot truncate a file that is still mapped.
+                oldChannel.truncate(HEADER_BYTES + (long) oldSize * Integer.BYTES);
+            }
+        } finally {
+            oldChannel.close();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void rangeCheck(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public int getPrimitive(int index) {
+        rangeCheck(index);
+        return elementData.get(index);
+    }
+
+    @Override
+    public int setPrimitive(int index, int element) {
+        rangeCheck(index);
+        int oldValue = elementData.get(index);
+        elementData.put(index, element);
+        return oldValue;
+    }
+
+    public boolean addPrimitive(int e) {
+        modCount++;
+        int s = size;
+        if (s == capacity()) {
+            grow(s + 1);
+        }
+        elementData.put(s, e);
+        setSize(s + 1);
+        return true;
+    }
+
+    @Override
+    public boolean add(Integer e) {
+        return addPrimitive(e);
+    }
+
+    @Override
+    public void addPrimitive(int index, int element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        int s = size;
+        if (s == capacity()) {
+            grow(s + 1);
+        }
+        IntBuffer elementData = this.elementData;
+        if (index < s) {
+            IntBuffer tail = elementData.duplicate();
+            tail.position(index).limit(s);
+            IntBuffer shifted = elementData.duplicate();
+            shifted.position(index + 1);
+            // one bulk copy; a direct buffer copies overlapping ranges as memmove does.
+            shifted.put(tail);
+        }
+        elementData.put(index, element);
+        setSize(s + 1);
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        addPrimitive(index, element);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        rangeCheck(index);
+        modCount++;
+        IntBuffer elementData = this.elementData;
+        int oldValue = elementData.get(index);
+        int last = size - 1;
+        if (index < last) {
+            IntBuffer tail = elementData.duplicate();
+            tail.position(index + 1).limit(size);
+            IntBuffer shifted = elementData.duplicate();
+            shifted.position(index);
+            shifted.put(tail);
+        }
+        setSize(last);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        if (channel != null) {
+            setSize(0);
+        }
+    }
+
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        if (a.length < size) {
+            a = new int[size];
+        }
+        if (size > 0) {
+            IntBuffer view = elementData.duplicate();
+            view.clear();
+            view.get(a, 0, size);
+        }
+        return a;
+    }
+}
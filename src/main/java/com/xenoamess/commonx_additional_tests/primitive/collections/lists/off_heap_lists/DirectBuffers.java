@@ -0,0 +1,75 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.off_heap_lists;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees the native memory of a direct buffer, or unmaps a mapped one, without waiting for the GC.
+ * <p>
+ * Uses Unsafe.invokeCleaner on jdk 9+, and the buffer's own cleaner on jdk 8.
+ * If neither is accessible, free does nothing and the memory is released when the buffer is collected.
+ *
+ * @author XenoAmess
+ */
+public final class DirectBuffers {
+    private static final MethodHandle FREE = lookupFree();
+
+    private DirectBuffers() {
+    }
+
+    private static MethodHandle lookupFree() {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            try {
+                // jdk 9+
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null));
+            } catch (NoSuchMethodException e) {
+                // jdk 8
+                Class<?> directBufferClass = Class.forName("sun.nio.ch.DirectBuffer");
+                Method cleanerMethod = directBufferClass.getMethod("cleaner");
+                Method cleanMethod = cleanerMethod.getReturnType().getMethod("clean");
+                MethodHandle cleaner = lookup.unreflect(cleanerMethod);
+                MethodHandle clean = lookup.unreflect(cleanMethod);
+                return MethodHandles.filterReturnValue(
+                        cleaner.asType(MethodType.methodType(cleanerMethod.getReturnType(), ByteBuffer.class)),
+                        clean
+                );
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether free actually releases memory on this jvm.
+     */
+    public static boolean isFreeSupported() {
+        return FREE != null;
+    }
+
+    /**
+     * Frees the native memory of buffer.
+     * The buffer must not be used afterwards, nor any view of it.
+     *
+     * @param buffer a buffer got from {@link ByteBuffer#allocateDirect(int)} or FileChannel.map,
+     *               not a slice or duplicate of it
+     */
+    public static void free(ByteBuffer buffer) {
+        if (FREE == null || !buffer.isDirect() || buffer.capacity() == 0) {
+            return;
+        }
+        try {
+            FREE.invoke(buffer);
+        } catch (Throwable e) {
+            // leave it to the GC
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.off_heap_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractLongList;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A LongList like LongArrayList, but whose elements live in a direct buffer outside of the java heap.
+ * <p>
+ * The heap only holds a few small objects per list, so even a list of hundreds of millions of elements
+ * adds nothing for the GC to copy or scan.
+ * The native memory is freed by {@link #close()}; after that the list is empty and cannot be added to.
+ * A list that is never closed is freed when it is collected, like any direct buffer.
+ * <p>
+ * The capacity is limited to Integer.MAX_VALUE / Long.BYTES elements, as a direct buffer is indexed by int.
+ * Iterators and sub lists are fail-fast, as those of LongArrayList.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList
+ */
+public class OffHeapLongArrayList extends AbstractLongList implements RandomAccess, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The largest capacity a direct buffer can have for this type.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocateDirect(0);
+
+    private static final ByteBuffer DEFAULTCAPACITY_EMPTY_BUFFER = ByteBuffer.allocateDirect(0);
+
+    private static final LongBuffer EMPTY_ELEMENT_DATA = EMPTY_BUFFER.asLongBuffer();
+
+    private static final LongBuffer DEFAULTCAPACITY_EMPTY_ELEMENT_DATA = DEFAULTCAPACITY_EMPTY_BUFFER.asLongBuffer();
+
+    /**
+     * The buffer that owns the native memory. Only used to free it.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * A native ordered view of buffer, which all elements are read from and written to.
+     */
+    private LongBuffer elementData;
+
+    private int size;
+
+    private boolean closed;
+
+    public OffHeapLongArrayList() {
+        this.buffer = DEFAULTCAPACITY_EMPTY_BUFFER;
+        this.elementData = DEFAULTCAPACITY_EMPTY_ELEMENT_DATA;
+    }
+
+    /**
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the initial capacity is negative or more than MAX_CAPACITY
+     */
+    public OffHeapLongArrayList(int initialCapacity) {
+        if (initialCapacity > 0 && initialCapacity <= MAX_CAPACITY) {
+            this.allocate(initialCapacity);
+        } else if (initialCapacity == 0) {
+            this.buffer = EMPTY_BUFFER;
+            this.elementData = EMPTY_ELEMENT_DATA;
+        } else {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+    }
+
+    public OffHeapLongArrayList(Collection<? extends Long> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    private void allocate(int capacity) {
+        ByteBuffer newBuffer = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+        LongBuffer newElementData = newBuffer.asLongBuffer();
+        if (this.elementData != null) {
+            LongBuffer oldElements = this.elementData.duplicate();
+            oldElements.clear();
+            oldElements.limit(size);
+            newElementData.put(oldElements);
+            newElementData.clear();
+            DirectBuffers.free(this.buffer);
+        }
+        this.buffer = newBuffer;
+        this.elementData = newElementData;
+    }
+
+    /**
+     * Frees the native memory. The list is empty afterwards, and adding to it throws IllegalStateException.
+     * Closing twice does nothing.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        modCount++;
+        closed = true;
+        ByteBuffer oldBuffer = this.buffer;
+        this.buffer = EMPTY_BUFFER;
+        this.elementData = EMPTY_ELEMENT_DATA;
+        this.size = 0;
+        DirectBuffers.free(oldBuffer);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int capacity() {
+        return elementData.capacity();
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.capacity()
+                && !(elementData == DEFAULTCAPACITY_EMPTY_ELEMENT_DATA
+                && minCapacity <= DEFAULT_CAPACITY)) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (closed) {
+            throw new IllegalStateException("list is closed");
+        }
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity " + minCapacity + " exceeds " + MAX_CAPACITY);
+        }
+        int oldCapacity = elementData.capacity();
+        int newCapacity;
+        if (elementData == DEFAULTCAPACITY_EMPTY_ELEMENT_DATA) {
+            newCapacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+        } else {
+            newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, oldCapacity + (oldCapacity >> 1)));
+        }
+        allocate(newCapacity);
+    }
+
+    /**
+     * Shrinks the native memory to the size of the list.
+     */
+    public void trimToSize() {
+        modCount++;
+        if (size < elementData.capacity()) {
+            if (size == 0) {
+                DirectBuffers.free(this.buffer);
+                this.buffer = EMPTY_BUFFER;
+                this.elementData = EMPTY_ELEMENT_DATA;
+            } else {
+                allocate(size);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void rangeCheck(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public long getPrimitive(int index) {
+        rangeCheck(index);
+        return elementData.get(index);
+    }
+
+    @Override
+    public long setPrimitive(int index, long element) {
+        rangeCheck(index);
+        long oldValue = elementData.get(index);
+        elementData.put(index, element);
+        return oldValue;
+    }
+
+    public boolean addPrimitive(long e) {
+        modCount++;
+        int s = size;
+        if (s == elementData.capacity()) {
+            grow(s + 1);
+        }
+        elementData.put(s, e);
+        size = s + 1;
+        return true;
+    }
+
+    @Override
+    public boolean add(Long e) {
+        return addPrimitive(e);
+    }
+
+    @Override
+    public void addPrimitive(int index, long element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        int s = size;
+        if (s == elementData.capacity()) {
+            grow(s + 1);
+        }
+        LongBuffer elementData = this.elementData;
+        if (index < s) {
+            LongBuffer tail = elementData.duplicate();
+            tail.position(index).limit(s);
+            LongBuffer shifted = elementData.duplicate();
+            shifted.position(index + 1);
+            // one bulk copy; a direct buffer copies overlapping ranges as memmove does.
+            shifted.put(tail);
+        }
+        elementData.put(index, element);
+        size = s + 1;
+    }
+
+    @Override
+    public void add(int index, Long element) {
+        addPrimitive(index, element);
+    }
+
+    @Override
+    public Long remove(int index) {
+        rangeCheck(index);
+        modCount++;
+        LongBuffer elementData = this.elementData;
+        long oldValue = elementData.get(index);
+        int last = size - 1;
+        if (index < last) {
+            LongBuffer tail = elementData.duplicate();
+            tail.position(index + 1).limit(size);
+            LongBuffer shifted = elementData.duplicate();
+            shifted.position(index);
+            shifted.put(tail);
+        }
+        size = last;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public long[] toArrayPrimitive(long[] a) {
+        if (a.length < size) {
+            a = new long[size];
+        }
+        LongBuffer view = elementData.duplicate();
+        view.clear();
+        view.get(a, 0, size);
+        return a;
+    }
+}
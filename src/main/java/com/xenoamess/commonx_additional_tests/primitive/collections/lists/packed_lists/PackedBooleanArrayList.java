@@ -0,0 +1,422 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.packed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractBooleanList;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A BooleanList like BooleanArrayList, but packing its elements 64 to a long, as BitSet does.
+ * <p>
+ * A boolean[] spends a byte per element, so this list is an eighth of the size.
+ * Being packed, it also answers {@link #cardinality()}, {@link #nextSetBit(int)}
+ * and the bulk {@link #and}, {@link #or} and {@link #xor} a word at a time.
+ * <p>
+ * Element i is bit i % 64 of words[i / 64].
+ * Bits at size and above are always clear, so the bulk operations need not mask the last word.
+ * The capacity is limited to Integer.MAX_VALUE elements, as a list is indexed by int.
+ * Iterators and sub lists are fail-fast, as those of BooleanArrayList.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList
+ * @see BitSet
+ */
+public class PackedBooleanArrayList extends AbstractBooleanList implements RandomAccess, Cloneable {
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    /**
+     * The capacity of the first word a default constructed list allocates.
+     */
+    private static final int DEFAULT_CAPACITY = BITS_PER_WORD;
+
+    /**
+     * The largest capacity of a list.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE;
+
+    private static final long[] EMPTY_WORDS = {};
+
+    private static final long[] DEFAULTCAPACITY_EMPTY_WORDS = {};
+
+    private long[] words;
+
+    private int size;
+
+    public PackedBooleanArrayList() {
+        this.words = DEFAULTCAPACITY_EMPTY_WORDS;
+    }
+
+    /**
+     * @param initialCapacity the initial capacity of the list, rounded up to a whole word
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public PackedBooleanArrayList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            this.words = new long[wordsFor(initialCapacity)];
+        } else if (initialCapacity == 0) {
+            this.words = EMPTY_WORDS;
+        } else {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+    }
+
+    public PackedBooleanArrayList(Collection<? extends Boolean> c) {
+        this(c.size());
+        this.addAll(c);
+    }
+
+    private static int wordIndex(int bitIndex) {
+        return bitIndex >>> ADDRESS_BITS_PER_WORD;
+    }
+
+    /**
+     * Returns how many words hold capacity bits. capacity must not be negative.
+     */
+    private static int wordsFor(int capacity) {
+        return (int) (((long) capacity + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD);
+    }
+
+    /**
+     * Returns how many words hold the elements.
+     */
+    private int wordsInUse() {
+        return wordsFor(size);
+    }
+
+    public int capacity() {
+        return (int) Math.min((long) words.length << ADDRESS_BITS_PER_WORD, MAX_CAPACITY);
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()
+                && !(words == DEFAULTCAPACITY_EMPTY_WORDS
+                && minCapacity <= DEFAULT_CAPACITY)) {
+            modCount++;
+            grow(minCapacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds " + MAX_CAPACITY);
+        }
+        int oldLength = words.length;
+        int minLength = wordsFor(minCapacity);
+        int newLength;
+        if (words == DEFAULTCAPACITY_EMPTY_WORDS) {
+            newLength = Math.max(wordsFor(DEFAULT_CAPACITY), minLength);
+        } else {
+            newLength = Math.min(wordsFor(MAX_CAPACITY), Math.max(minLength, oldLength + (oldLength >> 1)));
+        }
+        words = Arrays.copyOf(words, newLength);
+    }
+
+    /**
+     * Shrinks the words to the fewest that hold the elements.
+     */
+    public void trimToSize() {
+        modCount++;
+        int wordsInUse = wordsInUse();
+        if (wordsInUse < words.length) {
+            words = (wordsInUse == 0) ? EMPTY_WORDS : Arrays.copyOf(words, wordsInUse);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void rangeCheck(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+        }
+    }
+
+    private String outOfBoundsMsg(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+    @Override
+    public boolean getPrimitive(int index) {
+        rangeCheck(index);
+        return (words[wordIndex(index)] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean setPrimitive(int index, boolean element) {
+        rangeCheck(index);
+        int wordIndex = wordIndex(index);
+        long word = words[wordIndex];
+        long mask = 1L << index;
+        words[wordIndex] = element ? (word | mask) : (word & ~mask);
+        return (word & mask) != 0;
+    }
+
+    public boolean addPrimitive(boolean e) {
+        modCount++;
+        int s = size;
+        if (s == capacity()) {
+            grow(s + 1);
+        }
+        if (e) {
+            words[wordIndex(s)] |= 1L << s;
+        }
+        size = s + 1;
+        return true;
+    }
+
+    @Override
+    public boolean add(Boolean e) {
+        return addPrimitive(e);
+    }
+
+    /**
+     * Moves the elements from index on up by one bit, a word at a time, and puts element at index.
+     */
+    @Override
+    public void addPrimitive(int index, boolean element) {
+        rangeCheckForAdd(index);
+        modCount++;
+        int s = size;
+        if (s == capacity()) {
+            grow(s + 1);
+        }
+        long[] words = this.words;
+        int firstWord = wordIndex(index);
+        for (int i = wordIndex(s); i > firstWord; i--) {
+            words[i] = (words[i] << 1) | (words[i - 1] >>> (BITS_PER_WORD - 1));
+        }
+        long lowMask = (1L << index) - 1;
+        long word = words[firstWord];
+        words[firstWord] = (word & lowMask) | ((word & ~lowMask) << 1) | (element ? 1L << index : 0L);
+        size = s + 1;
+    }
+
+    @Override
+    public void add(int index, Boolean element) {
+        addPrimitive(index, element);
+    }
+
+    @Override
+    public Boolean remove(int index) {
+        rangeCheck(index);
+        modCount++;
+        long[] words = this.words;
+        int firstWord = wordIndex(index);
+        int lastWord = wordIndex(size - 1);
+        long lowMask = (1L << index) - 1;
+        long word = words[firstWord];
+        boolean oldValue = (word & (1L << index)) != 0;
+        word = (word & lowMask) | ((word >>> 1) & ~lowMask);
+        for (int i = firstWord; i < lastWord; i++) {
+            words[i] = word | (words[i + 1] << (BITS_PER_WORD - 1));
+            word = words[i + 1] >>> 1;
+        }
+        words[lastWord] = word;
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(words, 0, wordsInUse(), 0L);
+        size = 0;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Boolean> c) {
+        if (c instanceof PackedBooleanArrayList) {
+            return appendAll((PackedBooleanArrayList) c);
+        }
+        Object[] a = c.toArray();
+        int numNew = a.length;
+        // unboxed before words is touched, so a null element leaves this list unchanged.
+        boolean[] values = new boolean[numNew];
+        for (int i = 0; i < numNew; i++) {
+            values[i] = (Boolean) a[i];
+        }
+        int s = size;
+        if (numNew > capacity() - s) {
+            grow(s + numNew);
+        }
+        modCount++;
+        if (numNew == 0) {
+            return false;
+        }
+        long[] words = this.words;
+        for (int i = 0; i < numNew; i++) {
+            if (values[i]) {
+                int index = s + i;
+                words[wordIndex(index)] |= 1L << index;
+            }
+        }
+        size = s + numNew;
+        return true;
+    }
+
+    /**
+     * Appends the elements of other a word at a time. other may be this list.
+     */
+    private boolean appendAll(PackedBooleanArrayList other) {
+        modCount++;
+        int numNew = other.size;
+        if (numNew == 0) {
+            return false;
+        }
+        int s = size;
+        if (numNew > capacity() - s) {
+            grow(s + numNew);
+        }
+        long[] words = this.words;
+        long[] otherWords = (other == this) ? Arrays.copyOf(words, wordsFor(numNew)) : other.words;
+        int offset = s & (BITS_PER_WORD - 1);
+        int target = wordIndex(s);
+        for (int i = 0, n = wordsFor(numNew); i < n; i++) {
+            long word = otherWords[i];
+            words[target + i] |= word << offset;
+            if (offset != 0 && target + i + 1 < words.length) {
+                words[target + i + 1] |= word >>> (BITS_PER_WORD - offset);
+            }
+        }
+        size = s + numNew;
+        return true;
+    }
+
+    @Override
+    public boolean[] toArrayPrimitive(boolean[] a) {
+        if (a.length < size) {
+            a = new boolean[size];
+        }
+        long[] words = this.words;
+        for (int i = 0; i < size; i++) {
+            a[i] = (words[wordIndex(i)] & (1L << i)) != 0;
+        }
+        return a;
+    }
+
+    /**
+     * Returns the number of elements that are true.
+     */
+    public int cardinality() {
+        long[] words = this.words;
+        int sum = 0;
+        for (int i = 0, n = wordsInUse(); i < n; i++) {
+            sum += Long.bitCount(words[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the index of the first element that is true, at or after fromIndex,
+     * or -1 if there is none.
+     *
+     * @throws IndexOutOfBoundsException if fromIndex is negative
+     * @see BitSet#nextSetBit(int)
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+        long[] words = this.words;
+        int n = wordsInUse();
+        int i = wordIndex(fromIndex);
+        long word = words[i] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++i == n) {
+                return -1;
+            }
+            word = words[i];
+        }
+        return (i << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Sets each element to itself and the element at the same index in other.
+     * Elements past the end of other become false, and elements of other past the end of this list are ignored.
+     */
+    public void and(PackedBooleanArrayList other) {
+        modCount++;
+        long[] words = this.words;
+        long[] otherWords = other.words;
+        int n = wordsInUse();
+        int common = Math.min(n, other.wordsInUse());
+        for (int i = 0; i < common; i++) {
+            words[i] &= otherWords[i];
+        }
+        Arrays.fill(words, common, n, 0L);
+        clearUnusedBits();
+    }
+
+    /**
+     * Sets each element to itself or the element at the same index in other.
+     * Elements past the end of other are kept, and elements of other past the end of this list are ignored.
+     */
+    public void or(PackedBooleanArrayList other) {
+        modCount++;
+        long[] words = this.words;
+        long[] otherWords = other.words;
+        for (int i = 0, common = Math.min(wordsInUse(), other.wordsInUse()); i < common; i++) {
+            words[i] |= otherWords[i];
+        }
+        clearUnusedBits();
+    }
+
+    /**
+     * Sets each element to itself xor the element at the same index in other.
+     * Elements past the end of other are kept, and elements of other past the end of this list are ignored.
+     */
+    public void xor(PackedBooleanArrayList other) {
+        modCount++;
+        long[] words = this.words;
+        long[] otherWords = other.words;
+        for (int i = 0, common = Math.min(wordsInUse(), other.wordsInUse()); i < common; i++) {
+            words[i] ^= otherWords[i];
+        }
+        clearUnusedBits();
+    }
+
+    /**
+     * Clears the bits of the last word at size and above, which a bulk operation may have set.
+     */
+    private void clearUnusedBits() {
+        if ((size & (BITS_PER_WORD - 1)) != 0) {
+            words[wordIndex(size)] &= (1L << size) - 1;
+        }
+    }
+
+    /**
+     * Returns a BitSet holding the indexes of the elements that are true.
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(Arrays.copyOf(words, wordsInUse()));
+    }
+
+    @Override
+    public PackedBooleanArrayList clone() {
+        try {
+            PackedBooleanArrayList v = (PackedBooleanArrayList) super.clone();
+            v.words = Arrays.copyOf(words, wordsInUse());
+            v.modCount = 0;
+            return v;
+        } catch (CloneNotSupportedException e) {
+            // this shouldn't happen, since we are Cloneable
+            throw new InternalError(e);
+        }
+    }
+}
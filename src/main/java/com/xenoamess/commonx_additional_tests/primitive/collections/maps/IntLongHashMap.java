@@ -0,0 +1,574 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.functions.IntLongConsumer;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A map from int keys to long values in an open-addressing hash table, like HashMap&lt;Integer, Long&gt; without the boxing.
+ * <p>
+ * Keys and values sit in two parallel arrays whose length is a power of two. A key goes in the first free slot
+ * at or after its mixed hash, so a lookup reads consecutive slots until it meets the key or a free one.
+ * 0 marks a free slot, so the entry of the key 0 itself is kept in fields beside the table.
+ * Removing a key shifts the entries after it back into the hole, so there are no tombstones
+ * and lookups never slow down as keys come and go.
+ * The table doubles once it is more than loadFactor full.
+ * <p>
+ * A missing key reads as 0: get, put and remove return 0 where Map would return null;
+ * use containsKey or getOrDefault to tell a missing key from one mapped to 0.
+ * Key and value iterators are fail-fast and support remove.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see java.util.HashMap
+ */
+public class IntLongHashMap implements Cloneable {
+    /**
+     * The default load factor, as in HashMap.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    transient int[] keys;
+    transient long[] values;
+    transient boolean containsZeroKey;
+    transient long zeroValue;
+    private transient int size;
+    private transient int mask;
+
+    /**
+     * The size above which the table doubles.
+     */
+    private transient int maxFill;
+
+    private final float loadFactor;
+
+    protected transient int modCount;
+
+    public IntLongHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize the number of keys the map holds without growing
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntLongHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize the number of keys the map holds without growing
+     * @param loadFactor   how full the table may get before it doubles, above 0 and below 1
+     * @throws IllegalArgumentException if expectedSize is negative, or loadFactor is not above 0 and below 1
+     */
+    public IntLongHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Returns the smallest power of two table that holds expectedSize keys without growing.
+     * allocate keeps maxFill below the capacity, so even a table exactly expectedSize / loadFactor long
+     * keeps a free slot.
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor));
+        if (needed >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    /**
+     * Spreads the bits of key over the whole int, so that keys differing only in their high bits,
+     * or all multiples of the table length, do not pile up in one run of slots.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Grows the table now, if needed, so that it holds expectedSize keys without growing again.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize, loadFactor);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        int[] newKeys = keys;
+        long[] newValues = values;
+        int m = mask;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int pos = mix(key) & m;
+                while (newKeys[pos] != 0) {
+                    pos = (pos + 1) & m;
+                }
+                newKeys[pos] = key;
+                newValues[pos] = oldValues[i];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the slot of key, which is not 0, or -1 if key is not in the table.
+     */
+    private int find(int key) {
+        int[] ks = keys;
+        int m = mask;
+        for (int pos = mix(key) & m; ; pos = (pos + 1) & m) {
+            int current = ks[pos];
+            if (current == key) {
+                return pos;
+            }
+            if (current == 0) {
+                return -1;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    public boolean containsValue(long value) {
+        if (containsZeroKey && zeroValue == value) {
+            return true;
+        }
+        int[] ks = keys;
+        long[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0 && vs[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value of key, or 0 if key is not in the map.
+     */
+    public long get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns the value of key, or defaultValue if key is not in the map.
+     */
+    public long getOrDefault(int key, long defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        int pos = find(key);
+        return pos < 0 ? defaultValue : values[pos];
+    }
+
+    /**
+     * Returns the slot key is in, adding it with value 0 first if it is not;
+     * -1 stands for the zero key. The caller sets the value.
+     */
+    private int insert(int key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                zeroValue = 0;
+                added();
+            }
+            return -1;
+        }
+        int[] ks = keys;
+        int m = mask;
+        int pos = mix(key) & m;
+        for (int current; (current = ks[pos]) != 0; pos = (pos + 1) & m) {
+            if (current == key) {
+                return pos;
+            }
+        }
+        ks[pos] = key;
+        values[pos] = 0;
+        if (added()) {
+            // the table has just been rebuilt, so key is somewhere else now.
+            return find(key);
+        }
+        return pos;
+    }
+
+    /**
+     * Counts one more key, and doubles the table if it is now too full.
+     *
+     * @return true if the table was rebuilt
+     */
+    private boolean added() {
+        modCount++;
+        if (++size > maxFill && keys.length < MAX_CAPACITY) {
+            rehash(keys.length << 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Maps key to value.
+     *
+     * @return the value key had, or 0 if it was not in the map
+     */
+    public long put(int key, long value) {
+        int pos = insert(key);
+        long oldValue;
+        if (pos < 0) {
+            oldValue = zeroValue;
+            zeroValue = value;
+        } else {
+            oldValue = values[pos];
+            values[pos] = value;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Adds increment to the value of key, a missing key counting as mapped to 0,
+     * so that counting occurrences is one call and one lookup.
+     *
+     * @return the new value
+     */
+    public long addTo(int key, long increment) {
+        int pos = insert(key);
+        if (pos < 0) {
+            return zeroValue += increment;
+        }
+        return values[pos] += increment;
+    }
+
+    /**
+     * Removes key and its value.
+     *
+     * @return the value key had, or 0 if it was not in the map
+     */
+    public long remove(int key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return 0;
+            }
+            long oldValue = zeroValue;
+            containsZeroKey = false;
+            zeroValue = 0;
+            size--;
+            modCount++;
+            return oldValue;
+        }
+        int pos = find(key);
+        if (pos < 0) {
+            return 0;
+        }
+        long oldValue = values[pos];
+        shiftKeys(pos, null);
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Empties slot pos, then moves back each entry of the run after it that may live there,
+     * so that every key stays reachable from its home slot.
+     * A key moved from a slot it has not reached yet to one it has is handed to it,
+     * so that it still returns the entry.
+     */
+    private void shiftKeys(int pos, Itr it) {
+        int[] ks = keys;
+        long[] vs = values;
+        int m = mask;
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & m;
+            int current;
+            while (true) {
+                if ((current = ks[pos]) == 0) {
+                    ks[last] = 0;
+                    return;
+                }
+                int home = mix(current) & m;
+                // current may move to last unless its home lies cyclically in (last, pos].
+                if (last <= pos ? last >= home || home > pos : last >= home && home > pos) {
+                    break;
+                }
+                pos = (pos + 1) & m;
+            }
+            if (it != null && pos < last) {
+                it.wrapped(current);
+            }
+            ks[last] = current;
+            vs[last] = vs[pos];
+        }
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, (int) 0);
+        containsZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Performs action on every entry, the zero key first, then in table order.
+     *
+     * @throws ConcurrentModificationException if action modified the map
+     */
+    public void forEach(IntLongConsumer action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        int[] ks = keys;
+        long[] vs = values;
+        for (int i = 0; i < ks.length && modCount == expectedModCount; i++) {
+            if (ks[i] != 0) {
+                action.accept(ks[i], vs[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * The sum over the entries of the hash code of the key xor the hash code of the value,
+     * the same as {@link java.util.Map#hashCode()} of the boxed map.
+     */
+    @Override
+    public int hashCode() {
+        int h = containsZeroKey ? Long.hashCode(zeroValue) : 0;
+        int[] ks = keys;
+        long[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0) {
+                h += Integer.hashCode(ks[i]) ^ Long.hashCode(vs[i]);
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof IntLongHashMap)) {
+            return false;
+        }
+        IntLongHashMap other = (IntLongHashMap) o;
+        if (other.size != size || other.containsZeroKey != containsZeroKey
+                || (containsZeroKey && zeroValue != other.zeroValue)) {
+            return false;
+        }
+        int[] ks = keys;
+        long[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0) {
+                int pos = other.find(ks[i]);
+                if (pos < 0 || vs[i] != other.values[pos]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the entries as {k1=v1, k2=v2}, like HashMap.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean first = true;
+        if (containsZeroKey) {
+            sb.append(0).append('=').append(zeroValue);
+            first = false;
+        }
+        int[] ks = keys;
+        long[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(ks[i]).append('=').append(vs[i]);
+                first = false;
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public IntLongHashMap clone() {
+        IntLongHashMap clone;
+        try {
+            clone = (IntLongHashMap) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.keys = keys.clone();
+        clone.values = values.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Returns an iterator over the keys, the zero key first, then the table from its end down.
+     */
+    public IntIterator keyIterator() {
+        return new KeyItr();
+    }
+
+    /**
+     * Returns an iterator over the values, in the same order as keyIterator.
+     */
+    public LongIterator valueIterator() {
+        return new ValueItr();
+    }
+
+    private final class KeyItr extends Itr implements IntIterator {
+        @Override
+        public int nextPrimitive() {
+            return nextKey();
+        }
+    }
+
+    private final class ValueItr extends Itr implements LongIterator {
+        @Override
+        public long nextPrimitive() {
+            int key = nextKey();
+            if (lastSlot >= 0) {
+                return values[lastSlot];
+            }
+            return wrappedPhase ? getOrDefault(key, 0) : zeroValue;
+        }
+    }
+
+    /**
+     * Walks the zero key first, then the table from its end down,
+     * so that entries remove moves back from the start of the table are the only ones it could skip;
+     * their keys it keeps aside and returns last.
+     */
+    private abstract class Itr {
+        /**
+         * The slot nextKey looks at first; the slots from pos up are done.
+         */
+        int pos = keys.length;
+        boolean zeroPending = containsZeroKey;
+        boolean wrappedPhase;
+        int remaining = size;
+
+        /**
+         * The slot of the key last returned, -1 for the zero key or one from wrappedKeys, -2 if none.
+         */
+        int lastSlot = -2;
+        int lastKey;
+
+        int[] wrappedKeys;
+        int wrappedCount;
+
+        int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        final int nextKey() {
+            checkForComodification();
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            if (zeroPending) {
+                zeroPending = false;
+                lastSlot = -1;
+                return lastKey = 0;
+            }
+            int[] ks = keys;
+            while (--pos >= 0) {
+                if (ks[pos] != 0) {
+                    lastSlot = pos;
+                    return lastKey = ks[pos];
+                }
+            }
+            // the table is done; what is left was moved back past the start by remove.
+            wrappedPhase = true;
+            lastSlot = -1;
+            return lastKey = wrappedKeys[--wrappedCount];
+        }
+
+        final void wrapped(int key) {
+            if (wrappedKeys == null) {
+                wrappedKeys = new int[2];
+            } else if (wrappedCount == wrappedKeys.length) {
+                wrappedKeys = Arrays.copyOf(wrappedKeys, wrappedCount << 1);
+            }
+            wrappedKeys[wrappedCount++] = key;
+        }
+
+        public void remove() {
+            if (lastSlot == -2) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (lastSlot == -1) {
+                IntLongHashMap.this.remove(lastKey);
+            } else {
+                shiftKeys(lastSlot, this);
+                size--;
+                modCount++;
+            }
+            lastSlot = -2;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,596 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.functions.LongObjectConsumer;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * A map from long keys to values of type V in an open-addressing hash table, like HashMap&lt;Long, V&gt;
+ * without boxing the keys.
+ * <p>
+ * Keys and values sit in two parallel arrays whose length is a power of two. A key goes in the first free slot
+ * at or after its mixed hash, so a lookup reads consecutive slots until it meets the key or a free one.
+ * 0 marks a free slot, so the entry of the key 0 itself is kept in fields beside the table.
+ * Removing a key shifts the entries after it back into the hole, so there are no tombstones
+ * and lookups never slow down as keys come and go.
+ * The table doubles once it is more than loadFactor full.
+ * <p>
+ * As in HashMap, get, put and remove return null for a missing key, and null is a valid value;
+ * use containsKey to tell a missing key from one mapped to null.
+ * Key and value iterators are fail-fast and support remove.
+ * Not thread safe.
+ *
+ * @param <V> the type of the values
+ * @author XenoAmess
+ * @see java.util.HashMap
+ */
+public class LongObjectHashMap<V> implements Cloneable {
+    /**
+     * The default load factor, as in HashMap.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    transient long[] keys;
+    transient Object[] values;
+    transient boolean containsZeroKey;
+    transient V zeroValue;
+    private transient int size;
+    private transient int mask;
+
+    /**
+     * The size above which the table doubles.
+     */
+    private transient int maxFill;
+
+    private final float loadFactor;
+
+    protected transient int modCount;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize the number of keys the map holds without growing
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public LongObjectHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize the number of keys the map holds without growing
+     * @param loadFactor   how full the table may get before it doubles, above 0 and below 1
+     * @throws IllegalArgumentException if expectedSize is negative, or loadFactor is not above 0 and below 1
+     */
+    public LongObjectHashMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Returns the smallest power of two table that holds expectedSize keys without growing.
+     * allocate keeps maxFill below the capacity, so even a table exactly expectedSize / loadFactor long
+     * keeps a free slot.
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor));
+        if (needed >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    /**
+     * Spreads the bits of key over the whole int, so that keys differing only in their high bits,
+     * or all multiples of the table length, do not pile up in one run of slots.
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * Grows the table now, if needed, so that it holds expectedSize keys without growing again.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize, loadFactor);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        long[] newKeys = keys;
+        Object[] newValues = values;
+        int m = mask;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int pos = mix(key) & m;
+                while (newKeys[pos] != 0) {
+                    pos = (pos + 1) & m;
+                }
+                newKeys[pos] = key;
+                newValues[pos] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int pos) {
+        return (V) values[pos];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the slot of key, which is not 0, or -1 if key is not in the table.
+     */
+    private int find(long key) {
+        long[] ks = keys;
+        int m = mask;
+        for (int pos = mix(key) & m; ; pos = (pos + 1) & m) {
+            long current = ks[pos];
+            if (current == key) {
+                return pos;
+            }
+            if (current == 0) {
+                return -1;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    public boolean containsValue(Object value) {
+        if (containsZeroKey && Objects.equals(zeroValue, value)) {
+            return true;
+        }
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0 && Objects.equals(vs[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the value of key, or null if key is not in the map.
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value of key, or defaultValue if key is not in the map.
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        int pos = find(key);
+        return pos < 0 ? defaultValue : valueAt(pos);
+    }
+
+    /**
+     * Returns the slot key is in, adding it with value null first if it is not;
+     * -1 stands for the zero key. The caller sets the value.
+     */
+    private int insert(long key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                zeroValue = null;
+                added();
+            }
+            return -1;
+        }
+        long[] ks = keys;
+        int m = mask;
+        int pos = mix(key) & m;
+        for (long current; (current = ks[pos]) != 0; pos = (pos + 1) & m) {
+            if (current == key) {
+                return pos;
+            }
+        }
+        ks[pos] = key;
+        values[pos] = null;
+        if (added()) {
+            // the table has just been rebuilt, so key is somewhere else now.
+            return find(key);
+        }
+        return pos;
+    }
+
+    /**
+     * Counts one more key, and doubles the table if it is now too full.
+     *
+     * @return true if the table was rebuilt
+     */
+    private boolean added() {
+        modCount++;
+        if (++size > maxFill && keys.length < MAX_CAPACITY) {
+            rehash(keys.length << 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Maps key to value.
+     *
+     * @return the value key had, or null if it was not in the map
+     */
+    public V put(long key, V value) {
+        int pos = insert(key);
+        V oldValue;
+        if (pos < 0) {
+            oldValue = zeroValue;
+            zeroValue = value;
+        } else {
+            oldValue = valueAt(pos);
+            values[pos] = value;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Returns the value of key, first mapping key to mappingFunction's result if key is not in the map,
+     * or is mapped to null, and the result is not null, as Map.computeIfAbsent does.
+     * Groups rows by a long key with one lookup per row that finds its group.
+     *
+     * @return the value key has now, or null if it had none and mappingFunction returned null
+     * @throws ConcurrentModificationException if mappingFunction modified the map
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        int expectedModCount = modCount;
+        value = mappingFunction.apply(key);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes key and its value.
+     *
+     * @return the value key had, or null if it was not in the map
+     */
+    public V remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return null;
+            }
+            V oldValue = zeroValue;
+            containsZeroKey = false;
+            zeroValue = null;
+            size--;
+            modCount++;
+            return oldValue;
+        }
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+        V oldValue = valueAt(pos);
+        shiftKeys(pos, null);
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Empties slot pos, then moves back each entry of the run after it that may live there,
+     * so that every key stays reachable from its home slot.
+     * A key moved from a slot it has not reached yet to one it has is handed to it,
+     * so that it still returns the entry.
+     */
+    private void shiftKeys(int pos, Itr it) {
+        long[] ks = keys;
+        Object[] vs = values;
+        int m = mask;
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & m;
+            long current;
+            while (true) {
+                if ((current = ks[pos]) == 0) {
+                    ks[last] = 0;
+                    vs[last] = null;
+                    return;
+                }
+                int home = mix(current) & m;
+                // current may move to last unless its home lies cyclically in (last, pos].
+                if (last <= pos ? last >= home || home > pos : last >= home && home > pos) {
+                    break;
+                }
+                pos = (pos + 1) & m;
+            }
+            if (it != null && pos < last) {
+                it.wrapped(current);
+            }
+            ks[last] = current;
+            vs[last] = vs[pos];
+        }
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, (long) 0);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        zeroValue = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Performs action on every entry, the zero key first, then in table order.
+     *
+     * @throws ConcurrentModificationException if action modified the map
+     */
+    public void forEach(LongObjectConsumer<? super V> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        long[] ks = keys;
+        for (int i = 0; i < ks.length && modCount == expectedModCount; i++) {
+            if (ks[i] != 0) {
+                action.accept(ks[i], valueAt(i));
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * The sum over the entries of the hash code of the key xor the hash code of the value,
+     * the same as {@link java.util.Map#hashCode()} of the boxed map.
+     */
+    @Override
+    public int hashCode() {
+        int h = containsZeroKey ? Objects.hashCode(zeroValue) : 0;
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0) {
+                h += Long.hashCode(ks[i]) ^ Objects.hashCode(vs[i]);
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof LongObjectHashMap)) {
+            return false;
+        }
+        LongObjectHashMap<?> other = (LongObjectHashMap<?>) o;
+        if (other.size != size || other.containsZeroKey != containsZeroKey
+                || (containsZeroKey && !Objects.equals(zeroValue, other.zeroValue))) {
+            return false;
+        }
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0) {
+                int pos = other.find(ks[i]);
+                if (pos < 0 || !Objects.equals(vs[i], other.values[pos])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the entries as {k1=v1, k2=v2}, like HashMap.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean first = true;
+        if (containsZeroKey) {
+            sb.append(0).append('=').append(zeroValue);
+            first = false;
+        }
+        long[] ks = keys;
+        Object[] vs = values;
+        for (int i = 0; i < ks.length; i++) {
+            if (ks[i] != 0) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(ks[i]).append('=').append(vs[i]);
+                first = false;
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public LongObjectHashMap<V> clone() {
+        LongObjectHashMap<V> clone;
+        try {
+            clone = (LongObjectHashMap<V>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.keys = keys.clone();
+        clone.values = values.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Returns an iterator over the keys, the zero key first, then the table from its end down.
+     */
+    public LongIterator keyIterator() {
+        return new KeyItr();
+    }
+
+    /**
+     * Returns an iterator over the values, in the same order as keyIterator.
+     */
+    public Iterator<V> valueIterator() {
+        return new ValueItr();
+    }
+
+    private final class KeyItr extends Itr implements LongIterator {
+        @Override
+        public long nextPrimitive() {
+            return nextKey();
+        }
+    }
+
+    private final class ValueItr extends Itr implements Iterator<V> {
+        @Override
+        public V next() {
+            long key = nextKey();
+            if (lastSlot >= 0) {
+                return valueAt(lastSlot);
+            }
+            return wrappedPhase ? getOrDefault(key, null) : zeroValue;
+        }
+    }
+
+    /**
+     * Walks the zero key first, then the table from its end down,
+     * so that entries remove moves back from the start of the table are the only ones it could skip;
+     * their keys it keeps aside and returns last.
+     */
+    private abstract class Itr {
+        /**
+         * The slot nextKey looks at first; the slots from pos up are done.
+         */
+        int pos = keys.length;
+        boolean zeroPending = containsZeroKey;
+        boolean wrappedPhase;
+        int remaining = size;
+
+        /**
+         * The slot of the key last returned, -1 for the zero key or one from wrappedKeys, -2 if none.
+         */
+        int lastSlot = -2;
+        long lastKey;
+
+        long[] wrappedKeys;
+        int wrappedCount;
+
+        int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        final long nextKey() {
+            checkForComodification();
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            if (zeroPending) {
+                zeroPending = false;
+                lastSlot = -1;
+                return lastKey = 0;
+            }
+            long[] ks = keys;
+            while (--pos >= 0) {
+                if (ks[pos] != 0) {
+                    lastSlot = pos;
+                    return lastKey = ks[pos];
+                }
+            }
+            // the table is done; what is left was moved back past the start by remove.
+            wrappedPhase = true;
+            lastSlot = -1;
+            return lastKey = wrappedKeys[--wrappedCount];
+        }
+
+        final void wrapped(long key) {
+            if (wrappedKeys == null) {
+                wrappedKeys = new long[2];
+            } else if (wrappedCount == wrappedKeys.length) {
+                wrappedKeys = Arrays.copyOf(wrappedKeys, wrappedCount << 1);
+            }
+            wrappedKeys[wrappedCount++] = key;
+        }
+
+        public void remove() {
+            if (lastSlot == -2) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (lastSlot == -1) {
+                LongObjectHashMap.this.remove(lastKey);
+            } else {
+                shiftKeys(lastSlot, this);
+                size--;
+                modCount++;
+            }
+            lastSlot = -2;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
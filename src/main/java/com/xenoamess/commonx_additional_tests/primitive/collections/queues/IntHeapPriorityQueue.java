@@ -0,0 +1,606 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.queues;
+
+import com.xenoamess.commons.primitive.collections.AbstractIntCollection;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.IntCollections;
+import com.xenoamess.commonx_additional_tests.primitive.functions.IntComparator;
+
+import java.io.IOException;
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A priority queue of ints in a d-ary heap on an array, like PriorityQueue without the boxing.
+ * <p>
+ * The children of queue[i] are queue[arity * i + 1] to queue[arity * i + arity].
+ * A wider heap is shallower, so an offer compares fewer times and a poll reads fewer cache lines
+ * at the cost of comparing more children on each level; 4, the default, usually beats 2.
+ * The order is the natural one of ints unless a IntComparator is given, in which case
+ * only the comparator orders, while contains and remove still compare with ==.
+ * <p>
+ * Building the queue from a collection heapifies it in O(n) instead of offering one element at a time.
+ * The primitive methods never box. pollPrimitive and peekPrimitive return 0 on an empty queue,
+ * where their boxed versions return null.
+ * Iterators return the elements in no particular order, are fail-fast and support remove.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see java.util.PriorityQueue
+ */
+public class IntHeapPriorityQueue extends AbstractQueue<Integer> implements AbstractIntCollection, Cloneable {
+    public static final int DEFAULT_ARITY = 4;
+
+    /**
+     * The widest heap allowed, far past any that pays off.
+     */
+    public static final int MAX_ARITY = 64;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 11;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    transient int[] queue;
+    private int size;
+    private final int arity;
+    private final IntComparator comparator;
+
+    protected transient int modCount;
+
+    public IntHeapPriorityQueue() {
+        this(DEFAULT_ARITY, DEFAULT_INITIAL_CAPACITY, null);
+    }
+
+    /**
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntHeapPriorityQueue(int initialCapacity) {
+        this(DEFAULT_ARITY, initialCapacity, null);
+    }
+
+    /**
+     * @param arity           the number of children of each node, from 2 to MAX_ARITY
+     * @param initialCapacity the number of elements the queue holds without growing
+     * @param comparator      the order of the queue, or null for the natural order
+     * @throws IllegalArgumentException if arity is out of range, or initialCapacity is negative
+     */
+    public IntHeapPriorityQueue(int arity, int initialCapacity, IntComparator comparator) {
+        if (arity < 2 || arity > MAX_ARITY) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.queue = new int[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Builds a queue of the elements of c in their natural order, in O(n).
+     */
+    public IntHeapPriorityQueue(Collection<? extends Integer> c) {
+        this(c, DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Builds a queue of the elements of c, in O(n). A primitive source, any AbstractIntCollection
+     * such as a IntArrayList, is copied with toArrayPrimitive, so nothing is boxed.
+     *
+     * @param arity      the number of children of each node, from 2 to MAX_ARITY
+     * @param comparator the order of the queue, or null for the natural order
+     * @throws IllegalArgumentException if arity is out of range
+     */
+    public IntHeapPriorityQueue(Collection<? extends Integer> c, int arity, IntComparator comparator) {
+        this(arity, 0, comparator);
+        this.queue = toArray(c);
+        this.size = queue.length;
+        if (queue.length == 0) {
+            queue = new int[1];
+        }
+        heapify();
+    }
+
+    private static int[] toArray(Collection<? extends Integer> c) {
+        if (c instanceof AbstractIntCollection) {
+            int n = c.size();
+            int[] a = ((AbstractIntCollection) c).toArrayPrimitive(new int[n]);
+            return a.length == n ? a : Arrays.copyOf(a, n);
+        }
+        int[] a = new int[c.size()];
+        int i = 0;
+        for (Integer e : c) {
+            a[i++] = e;
+        }
+        return a;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Returns the comparator ordering this queue, or null if it is in the natural order.
+     */
+    public IntComparator comparator() {
+        return comparator;
+    }
+
+    /**
+     * Grows the array so that it holds minCapacity elements, by half its length, or doubling while it is small.
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        int oldCapacity = queue.length;
+        int newCapacity = oldCapacity + (oldCapacity < 64 ? oldCapacity + 2 : oldCapacity >> 1);
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        if (newCapacity - MAX_ARRAY_SIZE > 0) {
+            newCapacity = minCapacity > MAX_ARRAY_SIZE ? Integer.MAX_VALUE : MAX_ARRAY_SIZE;
+        }
+        queue = Arrays.copyOf(queue, newCapacity);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean offerPrimitive(int e) {
+        modCount++;
+        int i = size;
+        if (i >= queue.length) {
+            grow(i + 1);
+        }
+        size = i + 1;
+        siftUp(i, e);
+        return true;
+    }
+
+    public boolean addPrimitive(int e) {
+        return offerPrimitive(e);
+    }
+
+    @Override
+    public boolean offer(Integer e) {
+        return offerPrimitive(e);
+    }
+
+    @Override
+    public boolean add(Integer e) {
+        return offerPrimitive(e);
+    }
+
+    /**
+     * Adds all of c. When c is at least as big as this queue, appending it all and heapifying
+     * the whole array, in O(size + c.size()), beats sifting up each element.
+     *
+     * @return true if the queue changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        if (c.size() < size) {
+            return super.addAll(c);
+        }
+        int[] a = toArray(c);
+        if (a.length == 0) {
+            return false;
+        }
+        modCount++;
+        int newSize = size + a.length;
+        if (newSize > queue.length || newSize < 0) {
+            grow(newSize);
+        }
+        System.arraycopy(a, 0, queue, size, a.length);
+        size = newSize;
+        heapify();
+        return true;
+    }
+
+    /**
+     * Removes and returns the least element, or returns 0 if this queue is empty.
+     */
+    public int pollPrimitive() {
+        if (size == 0) {
+            return 0;
+        }
+        return unlinkFirst();
+    }
+
+    private int unlinkFirst() {
+        modCount++;
+        int[] es = queue;
+        int result = es[0];
+        int n = --size;
+        if (n > 0) {
+            siftDown(0, es[n]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the least element, or 0 if this queue is empty.
+     */
+    public int peekPrimitive() {
+        return size == 0 ? 0 : queue[0];
+    }
+
+    /**
+     * @throws NoSuchElementException if this queue is empty
+     */
+    public int elementPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return queue[0];
+    }
+
+    @Override
+    public Integer poll() {
+        return size == 0 ? null : unlinkFirst();
+    }
+
+    @Override
+    public Integer peek() {
+        return size == 0 ? null : queue[0];
+    }
+
+    private int indexOf(int o) {
+        int[] es = queue;
+        for (int i = 0, n = size; i < n; i++) {
+            if (es[i] == o) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean containsPrimitive(int o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && containsPrimitive((Integer) o);
+    }
+
+    /**
+     * Removes one element equal to o, if there is one.
+     *
+     * @return true if an element was removed
+     */
+    public boolean removePrimitive(int o) {
+        int i = indexOf(o);
+        if (i < 0) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Integer && removePrimitive((Integer) o);
+    }
+
+    /**
+     * Removes the element at i, moving the last element into the hole and sifting it down, or else up.
+     *
+     * @return the index the last element ended up at, or -1 if i was the last
+     */
+    int removeAt(int i) {
+        modCount++;
+        int[] es = queue;
+        int s = --size;
+        if (s == i) {
+            return -1;
+        }
+        int moved = es[s];
+        int k = siftDown(i, moved);
+        if (k == i) {
+            k = siftUp(i, moved);
+        }
+        return k;
+    }
+
+    /**
+     * Removes every element filter matches, in one pass, then heapifies what is left.
+     * If filter throws, the queue is left as it was.
+     *
+     * @param filter the predicate
+     * @return true if any element was removed
+     */
+    public boolean removeIfPrimitive(IntPredicate filter) {
+        Objects.requireNonNull(filter);
+        int[] es = queue;
+        int n = size;
+        int i = 0;
+        while (i < n && !filter.test(es[i])) {
+            i++;
+        }
+        if (i == n) {
+            return false;
+        }
+        // keep the survivors after the first match in a copy, so a filter that throws changes nothing.
+        int[] kept = new int[n - i - 1];
+        int k = 0;
+        for (int j = i + 1; j < n; j++) {
+            if (!filter.test(es[j])) {
+                kept[k++] = es[j];
+            }
+        }
+        System.arraycopy(kept, 0, es, i, k);
+        size = i + k;
+        modCount++;
+        heapify();
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Integer> filter) {
+        Objects.requireNonNull(filter);
+        return removeIfPrimitive(filter::test);
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Copies the elements in the order of the array, which is no particular order.
+     */
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        if (a.length < size) {
+            a = new int[size];
+        }
+        System.arraycopy(queue, 0, a, 0, size);
+        return a;
+    }
+
+    /**
+     * Sifts the elements down from the last parent to the root, which takes O(n) steps:
+     * most nodes are near the bottom and sift down few levels.
+     */
+    private void heapify() {
+        int[] es = queue;
+        for (int i = lastParent(size); i >= 0; i--) {
+            siftDown(i, es[i]);
+        }
+    }
+
+    /**
+     * Returns the index of the parent of the last of n elements, -1 if no element has children.
+     */
+    private int lastParent(int n) {
+        return n < 2 ? -1 : (n - 2) / arity;
+    }
+
+    /**
+     * Puts x at k or above, moving the greater parents on its way down a level.
+     *
+     * @return the index x ended up at
+     */
+    private int siftUp(int k, int x) {
+        if (comparator == null) {
+            return siftUpNatural(k, x);
+        }
+        return siftUpUsingComparator(k, x);
+    }
+
+    private int siftUpNatural(int k, int x) {
+        int[] es = queue;
+        int d = arity;
+        while (k > 0) {
+            int parent = (k - 1) / d;
+            int p = es[parent];
+            if (x >= p) {
+                break;
+            }
+            es[k] = p;
+            k = parent;
+        }
+        es[k] = x;
+        return k;
+    }
+
+    private int siftUpUsingComparator(int k, int x) {
+        int[] es = queue;
+        int d = arity;
+        IntComparator cmp = comparator;
+        while (k > 0) {
+            int parent = (k - 1) / d;
+            int p = es[parent];
+            if (cmp.compare(x, p) >= 0) {
+                break;
+            }
+            es[k] = p;
+            k = parent;
+        }
+        es[k] = x;
+        return k;
+    }
+
+    /**
+     * Puts x at k or below, moving the least child up a level while it is less than x.
+     *
+     * @return the index x ended up at
+     */
+    private int siftDown(int k, int x) {
+        if (comparator == null) {
+            return siftDownNatural(k, x);
+        }
+        return siftDownUsingComparator(k, x);
+    }
+
+    private int siftDownNatural(int k, int x) {
+        int[] es = queue;
+        int n = size;
+        int d = arity;
+        int last = lastParent(n);
+        while (k <= last) {
+            int child = d * k + 1;
+            int c = es[child];
+            for (int j = child + 1, end = Math.min(child + d, n); j < end; j++) {
+                if (es[j] < c) {
+                    c = es[child = j];
+                }
+            }
+            if (x <= c) {
+                break;
+            }
+            es[k] = c;
+            k = child;
+        }
+        es[k] = x;
+        return k;
+    }
+
+    private int siftDownUsingComparator(int k, int x) {
+        int[] es = queue;
+        int n = size;
+        int d = arity;
+        IntComparator cmp = comparator;
+        int last = lastParent(n);
+        while (k <= last) {
+            int child = d * k + 1;
+            int c = es[child];
+            for (int j = child + 1, end = Math.min(child + d, n); j < end; j++) {
+                if (cmp.compare(es[j], c) < 0) {
+                    c = es[child = j];
+                }
+            }
+            if (cmp.compare(x, c) <= 0) {
+                break;
+            }
+            es[k] = c;
+            k = child;
+        }
+        es[k] = x;
+        return k;
+    }
+
+    @Override
+    public IntHeapPriorityQueue clone() {
+        IntHeapPriorityQueue clone;
+        try {
+            clone = (IntHeapPriorityQueue) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.queue = queue.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Formats the elements with IntCollections, without boxing.
+     */
+    @Override
+    public String toString() {
+        return IntCollections.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return IntCollections.appendTo(this, out);
+    }
+
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Walks the array in order. When remove sifts the last element up to before the cursor,
+     * that element is kept aside and returned once the array is done, as PriorityQueue's forgetMeNot does.
+     */
+    private final class Itr implements IntIterator {
+        int cursor;
+
+        /**
+         * The index of the element last returned, -1 for one from forgetMeNot, -2 if none.
+         */
+        int lastRet = -2;
+        int lastRetElt;
+
+        /**
+         * The elements remove moved to before the cursor, returned in the order they were moved.
+         */
+        int[] forgetMeNot;
+        int forgetMeNotSize;
+        int forgetMeNotNext;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size || forgetMeNotNext < forgetMeNotSize;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor < size) {
+                return queue[lastRet = cursor++];
+            }
+            if (forgetMeNotNext < forgetMeNotSize) {
+                lastRet = -1;
+                return lastRetElt = forgetMeNot[forgetMeNotNext++];
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (lastRet >= 0) {
+                int moved = queue[size - 1];
+                int k = removeAt(lastRet);
+                if (k < 0 || k >= lastRet) {
+                    cursor--;
+                } else {
+                    if (forgetMeNot == null) {
+                        forgetMeNot = new int[2];
+                    } else if (forgetMeNotSize == forgetMeNot.length) {
+                        forgetMeNot = Arrays.copyOf(forgetMeNot, forgetMeNotSize << 1);
+                    }
+                    forgetMeNot[forgetMeNotSize++] = moved;
+                }
+            } else if (lastRet == -1) {
+                removePrimitive(lastRetElt);
+            } else {
+                throw new IllegalStateException();
+            }
+            lastRet = -2;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,526 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.collections.AbstractIntCollection;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.IntCollections;
+
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A Set of int keys in an open-addressing hash table, like HashSet without the boxing.
+ * <p>
+ * The table is a int[] whose length is a power of two. A key goes in the first free slot at or after
+ * its mixed hash, so a lookup reads consecutive slots until it meets the key or a free one.
+ * 0 marks a free slot, so the key 0 itself is kept in a flag beside the table.
+ * Removing a key shifts the keys after it back into the hole, so there are no tombstones
+ * and lookups never slow down as keys come and go.
+ * The table doubles once it is more than loadFactor full.
+ * <p>
+ * The primitive methods never box. Iterators are fail-fast and support remove.
+ * Not thread safe.
+ *
+ * @author XenoAmess
+ * @see java.util.HashSet
+ */
+public class IntHashSet extends AbstractSet<Integer> implements AbstractIntCollection, Cloneable {
+    /**
+     * The default load factor, as in HashMap.
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    transient int[] keys;
+    transient boolean containsZero;
+    private transient int size;
+    private transient int mask;
+
+    /**
+     * The size above which the table doubles.
+     */
+    private transient int maxFill;
+
+    private final float loadFactor;
+
+    protected transient int modCount;
+
+    public IntHashSet() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize the number of keys the set holds without growing
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntHashSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize the number of keys the set holds without growing
+     * @param loadFactor   how full the table may get before it doubles, above 0 and below 1
+     * @throws IllegalArgumentException if expectedSize is negative, or loadFactor is not above 0 and below 1
+     */
+    public IntHashSet(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(expectedSize, loadFactor));
+    }
+
+    public IntHashSet(Collection<? extends Integer> c) {
+        this(c.size());
+        addAll(c);
+    }
+
+    /**
+     * Returns the smallest power of two table that holds expectedSize keys without growing.
+     * allocate keeps maxFill below the capacity, so even a table exactly expectedSize / loadFactor long
+     * keeps a free slot.
+     */
+    static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor));
+        if (needed >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    /**
+     * Spreads the bits of key over the whole int, so that keys differing only in their high bits,
+     * or all multiples of the table length, do not pile up in one run of slots.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Grows the table now, if needed, so that it holds expectedSize keys without growing again.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize, loadFactor);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        allocate(capacity);
+        int[] newKeys = keys;
+        int m = mask;
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int pos = mix(key) & m;
+                while (newKeys[pos] != 0) {
+                    pos = (pos + 1) & m;
+                }
+                newKeys[pos] = key;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsPrimitive(int key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        int[] ks = keys;
+        int m = mask;
+        for (int pos = mix(key) & m; ; pos = (pos + 1) & m) {
+            int current = ks[pos];
+            if (current == key) {
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && containsPrimitive((Integer) o);
+    }
+
+    /**
+     * Adds key unless it is already in the set.
+     *
+     * @return true if key was added
+     */
+    public boolean addPrimitive(int key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+        } else {
+            int[] ks = keys;
+            int m = mask;
+            int pos = mix(key) & m;
+            for (int current; (current = ks[pos]) != 0; pos = (pos + 1) & m) {
+                if (current == key) {
+                    return false;
+                }
+            }
+            ks[pos] = key;
+        }
+        modCount++;
+        if (++size > maxFill && keys.length < MAX_CAPACITY) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(Integer e) {
+        return addPrimitive(e);
+    }
+
+    /**
+     * Adds len keys of src from off on.
+     *
+     * @return true if the set changed
+     * @throws IndexOutOfBoundsException if off or len is negative, or off + len is more than src.length
+     */
+    public boolean addAllPrimitive(int[] src, int off, int len) {
+        Objects.requireNonNull(src);
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + src.length);
+        }
+        boolean modified = false;
+        for (int i = off, end = off + len; i < end; i++) {
+            modified |= addPrimitive(src[i]);
+        }
+        return modified;
+    }
+
+    /**
+     * Adds all of c. A primitive source, any AbstractIntCollection, is read through its IntIterator,
+     * so nothing is boxed. When c is a Set, whose keys are all distinct, the table grows once up front;
+     * any other c may be mostly duplicates, so the table grows only as keys are actually added.
+     *
+     * @return true if the set changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (c == this) {
+            return false;
+        }
+        if (c instanceof Set) {
+            ensureCapacity(size + c.size());
+        }
+        if (c instanceof AbstractIntCollection) {
+            boolean modified = false;
+            for (IntIterator it = ((AbstractIntCollection) c).iterator(); it.hasNext(); ) {
+                modified |= addPrimitive(it.nextPrimitive());
+            }
+            return modified;
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * Removes key if it is in the set.
+     *
+     * @return true if key was removed
+     */
+    public boolean removePrimitive(int key) {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            modCount++;
+            return true;
+        }
+        int[] ks = keys;
+        int m = mask;
+        for (int pos = mix(key) & m; ; pos = (pos + 1) & m) {
+            int current = ks[pos];
+            if (current == key) {
+                shiftKeys(pos, null);
+                size--;
+                modCount++;
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Integer && removePrimitive((Integer) o);
+    }
+
+    /**
+     * Empties slot pos, then moves back each key of the run after it that may live there,
+     * so that every key stays reachable from its home slot.
+     * A key moved from a slot it has not reached yet to one it has is handed to it,
+     * so that it still returns the key.
+     */
+    private void shiftKeys(int pos, Itr it) {
+        int[] ks = keys;
+        int m = mask;
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & m;
+            int current;
+            while (true) {
+                if ((current = ks[pos]) == 0) {
+                    ks[last] = 0;
+                    return;
+                }
+                int home = mix(current) & m;
+                // current may move to last unless its home lies cyclically in (last, pos].
+                if (last <= pos ? last >= home || home > pos : last >= home && home > pos) {
+                    break;
+                }
+                pos = (pos + 1) & m;
+            }
+            if (it != null && pos < last) {
+                it.wrapped(current);
+            }
+            ks[last] = current;
+        }
+    }
+
+    /**
+     * Removes every key filter matches.
+     *
+     * @return true if any key was removed
+     */
+    public boolean removeIfPrimitive(IntPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (IntIterator it = iterator(); it.hasNext(); ) {
+            if (filter.test(it.nextPrimitive())) {
+                it.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Integer> filter) {
+        Objects.requireNonNull(filter);
+        return removeIfPrimitive(filter::test);
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, (int) 0);
+        containsZero = false;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int[] toArrayPrimitive(int[] a) {
+        if (a.length < size) {
+            a = new int[size];
+        }
+        int i = 0;
+        if (containsZero) {
+            a[i++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                a[i++] = key;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * The sum of the hash codes of the keys, the same as {@link Set#hashCode()}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int key : keys) {
+            h += Integer.hashCode(key);
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof IntHashSet)) {
+            return super.equals(o);
+        }
+        IntHashSet other = (IntHashSet) o;
+        if (other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (int key : keys) {
+            if (key != 0 && !other.containsPrimitive(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public IntHashSet clone() {
+        IntHashSet clone;
+        try {
+            clone = (IntHashSet) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+        clone.keys = keys.clone();
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Formats the elements with IntCollections, without boxing.
+     */
+    @Override
+    public String toString() {
+        return IntCollections.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return IntCollections.appendTo(this, out);
+    }
+
+    @Override
+    public IntIterator iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns the zero key first, if present, then walks the table from its end down,
+     * so that keys remove moves back from the start of the table are the only ones it could skip;
+     * those it keeps aside and returns last.
+     */
+    private final class Itr implements IntIterator {
+        /**
+         * The slot next looks at first; the slots from pos up are done.
+         */
+        int pos = keys.length;
+        boolean zeroPending = containsZero;
+        int remaining = size;
+
+        /**
+         * The slot of the key last returned, -1 for the zero key or one from wrappedKeys, -2 if none.
+         */
+        int lastSlot = -2;
+        int lastKey;
+
+        int[] wrappedKeys;
+        int wrappedCount;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public int nextPrimitive() {
+            checkForComodification();
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            if (zeroPending) {
+                zeroPending = false;
+                lastSlot = -1;
+                return lastKey = 0;
+            }
+            int[] ks = keys;
+            while (--pos >= 0) {
+                if (ks[pos] != 0) {
+                    lastSlot = pos;
+                    return lastKey = ks[pos];
+                }
+            }
+            // the table is done; what is left was moved back past the start by remove.
+            lastSlot = -1;
+            return lastKey = wrappedKeys[--wrappedCount];
+        }
+
+        void wrapped(int key) {
+            if (wrappedKeys == null) {
+                wrappedKeys = new int[2];
+            } else if (wrappedCount == wrappedKeys.length) {
+                wrappedKeys = Arrays.copyOf(wrappedKeys, wrappedCount << 1);
+            }
+            wrappedKeys[wrappedCount++] = key;
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot == -2) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (lastSlot == -1) {
+                removePrimitive(lastKey);
+            } else {
+                shiftKeys(lastSlot, this);
+                size--;
+                modCount++;
+            }
+            lastSlot = -2;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
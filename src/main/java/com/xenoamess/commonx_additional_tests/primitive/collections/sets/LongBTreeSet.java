@@ -0,0 +1,884 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.collections.AbstractLongCollection;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.LongCollections;
+
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A sorted Set of long keys in a B+tree, like TreeSet without the boxing.
+ * <p>
+ * The keys live in leaves of up to LEAF_CAPACITY sorted keys each, linked in key order both ways,
+ * so a range scan reads consecutive longs a leaf at a time instead of chasing a pointer per key.
+ * A branch holds up to BRANCH_CAPACITY children, and between each two a separator no greater than
+ * any key to its right and greater than every key to its left.
+ * Every node but the root is at least half full: one that would drop below that takes keys
+ * from a sibling, or merges with it, so the tree stays balanced as keys come and go.
+ * <p>
+ * Lookups, adds and removes take O(log n) steps. The primitive methods never box.
+ * Iterators are fail-fast and support remove. Not thread safe.
+ *
+ * @author XenoAmess
+ * @see java.util.TreeSet
+ */
+public class LongBTreeSet extends AbstractSet<Long> implements AbstractLongCollection {
+    static final int LEAF_CAPACITY = 64;
+
+    static final int BRANCH_CAPACITY = 64;
+
+    private static final int MIN_LEAF_SIZE = LEAF_CAPACITY / 2;
+
+    private static final int MIN_BRANCH_SIZE = BRANCH_CAPACITY / 2;
+
+    private abstract static class Node {
+        /**
+         * The number of keys in a leaf, of children in a branch.
+         */
+        int size;
+    }
+
+    private static final class Leaf extends Node {
+        final long[] keys = new long[LEAF_CAPACITY];
+        Leaf prev;
+        Leaf next;
+    }
+
+    private static final class Branch extends Node {
+        /**
+         * keys[i] separates children[i] from children[i + 1].
+         */
+        final long[] keys = new long[BRANCH_CAPACITY - 1];
+        final Node[] children = new Node[BRANCH_CAPACITY];
+    }
+
+    private transient Node root = new Leaf();
+    private transient int size;
+
+    /**
+     * The separator to put before the node insert returns, when a node splits.
+     */
+    private transient long splitKey;
+
+    protected transient int modCount;
+
+    public LongBTreeSet() {
+    }
+
+    public LongBTreeSet(Collection<? extends Long> c) {
+        addAll(c);
+    }
+
+    /**
+     * Returns the index of the first of the n keys of a that is not less than key, n if none.
+     */
+    private static int lowerBound(long[] a, int n, long key) {
+        int low = 0;
+        int high = n;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first of the n keys of a that is greater than key, n if none.
+     */
+    private static int upperBound(long[] a, int n, long key) {
+        int low = 0;
+        int high = n;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (a[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Leaf leafFor(Node node, long key) {
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            node = branch.children[upperBound(branch.keys, branch.size - 1, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf() {
+        Node node = root;
+        while (node instanceof Branch) {
+            node = ((Branch) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf() {
+        Node node = root;
+        while (node instanceof Branch) {
+            node = ((Branch) node).children[node.size - 1];
+        }
+        return (Leaf) node;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsPrimitive(long key) {
+        Leaf leaf = leafFor(root, key);
+        int i = lowerBound(leaf.keys, leaf.size, key);
+        return i < leaf.size && leaf.keys[i] == key;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && containsPrimitive((Long) o);
+    }
+
+    /**
+     * Adds key unless it is already in the set.
+     *
+     * @return true if key was added
+     */
+    public boolean addPrimitive(long key) {
+        int oldSize = size;
+        Node sibling = insert(root, key);
+        if (size == oldSize) {
+            return false;
+        }
+        if (sibling != null) {
+            Branch newRoot = new Branch();
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.keys[0] = splitKey;
+            newRoot.size = 2;
+            root = newRoot;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean add(Long e) {
+        return addPrimitive(e);
+    }
+
+    /**
+     * Inserts key under node, counting it in size unless it was there already.
+     * If node was full it splits, and the new node to its right is returned, with its separator in splitKey;
+     * otherwise null is returned.
+     */
+    private Node insert(Node node, long key) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int i = lowerBound(leaf.keys, leaf.size, key);
+            if (i < leaf.size && leaf.keys[i] == key) {
+                return null;
+            }
+            size++;
+            if (leaf.size < LEAF_CAPACITY) {
+                insertAt(leaf.keys, leaf.size++, i, key);
+                return null;
+            }
+            Leaf right = new Leaf();
+            int half = LEAF_CAPACITY / 2;
+            System.arraycopy(leaf.keys, half, right.keys, 0, LEAF_CAPACITY - half);
+            leaf.size = half;
+            right.size = LEAF_CAPACITY - half;
+            if (i <= half) {
+                insertAt(leaf.keys, leaf.size++, i, key);
+            } else {
+                insertAt(right.keys, right.size++, i - half, key);
+            }
+            right.prev = leaf;
+            right.next = leaf.next;
+            if (leaf.next != null) {
+                leaf.next.prev = right;
+            }
+            leaf.next = right;
+            splitKey = right.keys[0];
+            return right;
+        }
+        Branch branch = (Branch) node;
+        int c = upperBound(branch.keys, branch.size - 1, key);
+        Node sibling = insert(branch.children[c], key);
+        if (sibling == null) {
+            return null;
+        }
+        if (branch.size < BRANCH_CAPACITY) {
+            insertAt(branch.keys, branch.size - 1, c, splitKey);
+            insertAt(branch.children, branch.size++, c + 1, sibling);
+            return null;
+        }
+        // BRANCH_CAPACITY + 1 children, and a separator between each two, to share with a new branch.
+        long[] keys = new long[BRANCH_CAPACITY];
+        Node[] children = new Node[BRANCH_CAPACITY + 1];
+        System.arraycopy(branch.keys, 0, keys, 0, c);
+        keys[c] = splitKey;
+        System.arraycopy(branch.keys, c, keys, c + 1, BRANCH_CAPACITY - 1 - c);
+        System.arraycopy(branch.children, 0, children, 0, c + 1);
+        children[c + 1] = sibling;
+        System.arraycopy(branch.children, c + 1, children, c + 2, BRANCH_CAPACITY - 1 - c);
+
+        Branch right = new Branch();
+        int leftSize = (BRANCH_CAPACITY + 1) / 2;
+        branch.size = leftSize;
+        right.size = BRANCH_CAPACITY + 1 - leftSize;
+        System.arraycopy(children, 0, branch.children, 0, leftSize);
+        Arrays.fill(branch.children, leftSize, BRANCH_CAPACITY, null);
+        System.arraycopy(keys, 0, branch.keys, 0, leftSize - 1);
+        System.arraycopy(children, leftSize, right.children, 0, right.size);
+        System.arraycopy(keys, leftSize, right.keys, 0, right.size - 1);
+        splitKey = keys[leftSize - 1];
+        return right;
+    }
+
+    private static void insertAt(long[] a, int n, int i, long key) {
+        System.arraycopy(a, i, a, i + 1, n - i);
+        a[i] = key;
+    }
+
+    private static void insertAt(Node[] a, int n, int i, Node node) {
+        System.arraycopy(a, i, a, i + 1, n - i);
+        a[i] = node;
+    }
+
+    /**
+     * Adds all of c. A primitive source, any AbstractLongCollection, is read through its LongIterator,
+     * so nothing is boxed.
+     *
+     * @return true if the set changed
+     */
+    @Override
+    public boolean addAll(Collection<? extends Long> c) {
+        if (c == this) {
+            return false;
+        }
+        if (c instanceof AbstractLongCollection) {
+            boolean modified = false;
+            for (LongIterator it = ((AbstractLongCollection) c).iterator(); it.hasNext(); ) {
+                modified |= addPrimitive(it.nextPrimitive());
+            }
+            return modified;
+        }
+        return super.addAll(c);
+    }
+
+    /**
+     * Removes key if it is in the set.
+     *
+     * @return true if key was removed
+     */
+    public boolean removePrimitive(long key) {
+        if (!delete(root, key)) {
+            return false;
+        }
+        if (root instanceof Branch && root.size == 1) {
+            root = ((Branch) root).children[0];
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof Long && removePrimitive((Long) o);
+    }
+
+    /**
+     * Deletes key from under node, then refills the child of node it came from if that is now under half full.
+     *
+     * @return true if key was there
+     */
+    private static boolean delete(Node node, long key) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int i = lowerBound(leaf.keys, leaf.size, key);
+            if (i == leaf.size || leaf.keys[i] != key) {
+                return false;
+            }
+            System.arraycopy(leaf.keys, i + 1, leaf.keys, i, --leaf.size - i);
+            return true;
+        }
+        Branch branch = (Branch) node;
+        int c = upperBound(branch.keys, branch.size - 1, key);
+        Node child = branch.children[c];
+        if (!delete(child, key)) {
+            return false;
+        }
+        if (child.size < (child instanceof Leaf ? MIN_LEAF_SIZE : MIN_BRANCH_SIZE)) {
+            refill(branch, c);
+        }
+        return true;
+    }
+
+    /**
+     * Brings child c of parent, one short of half full, back to half full:
+     * merges it with a sibling if both fit in one node, else evens out the two.
+     * Separators left behind by deleted keys stay valid, so only the one between the two changes.
+     */
+    private static void refill(Branch parent, int c) {
+        if (c == parent.size - 1) {
+            c--;
+        }
+        if (parent.children[c] instanceof Leaf) {
+            Leaf left = (Leaf) parent.children[c];
+            Leaf right = (Leaf) parent.children[c + 1];
+            int total = left.size + right.size;
+            if (total <= LEAF_CAPACITY) {
+                System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+                left.size = total;
+                left.next = right.next;
+                if (right.next != null) {
+                    right.next.prev = left;
+                }
+                removeChild(parent, c + 1);
+                return;
+            }
+            int leftSize = total / 2;
+            if (left.size < leftSize) {
+                int n = leftSize - left.size;
+                System.arraycopy(right.keys, 0, left.keys, left.size, n);
+                System.arraycopy(right.keys, n, right.keys, 0, right.size - n);
+            } else {
+                int n = left.size - leftSize;
+                System.arraycopy(right.keys, 0, right.keys, n, right.size);
+                System.arraycopy(left.keys, leftSize, right.keys, 0, n);
+            }
+            left.size = leftSize;
+            right.size = total - leftSize;
+            parent.keys[c] = right.keys[0];
+            return;
+        }
+        Branch left = (Branch) parent.children[c];
+        Branch right = (Branch) parent.children[c + 1];
+        int total = left.size + right.size;
+        if (total <= BRANCH_CAPACITY) {
+            // the separator between the two comes down between their children.
+            left.keys[left.size - 1] = parent.keys[c];
+            System.arraycopy(right.keys, 0, left.keys, left.size, right.size - 1);
+            System.arraycopy(right.children, 0, left.children, left.size, right.size);
+            left.size = total;
+            removeChild(parent, c + 1);
+            return;
+        }
+        int leftSize = total / 2;
+        if (left.size < leftSize) {
+            // n children of right go left, through the separator in parent.
+            int n = leftSize - left.size;
+            left.keys[left.size - 1] = parent.keys[c];
+            System.arraycopy(right.keys, 0, left.keys, left.size, n - 1);
+            System.arraycopy(right.children, 0, left.children, left.size, n);
+            parent.keys[c] = right.keys[n - 1];
+            System.arraycopy(right.keys, n, right.keys, 0, right.size - 1 - n);
+            System.arraycopy(right.children, n, right.children, 0, right.size - n);
+            Arrays.fill(right.children, right.size - n, right.size, null);
+        } else {
+            int n = left.size - leftSize;
+            System.arraycopy(right.keys, 0, right.keys, n, right.size - 1);
+            System.arraycopy(right.children, 0, right.children, n, right.size);
+            right.keys[n - 1] = parent.keys[c];
+            System.arraycopy(left.keys, leftSize, right.keys, 0, n - 1);
+            System.arraycopy(left.children, leftSize, right.children, 0, n);
+            parent.keys[c] = left.keys[leftSize - 1];
+            Arrays.fill(left.children, leftSize, left.size, null);
+        }
+        left.size = leftSize;
+        right.size = total - leftSize;
+    }
+
+    /**
+     * Removes child i of parent, and the separator before it.
+     */
+    private static void removeChild(Branch parent, int i) {
+        System.arraycopy(parent.keys, i, parent.keys, i - 1, parent.size - 1 - i);
+        System.arraycopy(parent.children, i + 1, parent.children, i, parent.size - 1 - i);
+        parent.children[--parent.size] = null;
+    }
+
+    /**
+     * Removes every key filter matches.
+     *
+     * @return true if any key was removed
+     */
+    public boolean removeIfPrimitive(LongPredicate filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (LongIterator it = iterator(); it.hasNext(); ) {
+            if (filter.test(it.nextPrimitive())) {
+                it.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Long> filter) {
+        Objects.requireNonNull(filter);
+        return removeIfPrimitive(filter::test);
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        root = new Leaf();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @throws NoSuchElementException if the set is empty
+     */
+    public long firstPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return firstLeaf().keys[0];
+    }
+
+    /**
+     * @throws NoSuchElementException if the set is empty
+     */
+    public long lastPrimitive() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        Leaf leaf = lastLeaf();
+        return leaf.keys[leaf.size - 1];
+    }
+
+    /**
+     * Returns the least key greater than or equal to key.
+     *
+     * @throws NoSuchElementException if there is none
+     */
+    public long ceilingPrimitive(long key) {
+        Leaf leaf = leafFor(root, key);
+        int i = lowerBound(leaf.keys, leaf.size, key);
+        if (i < leaf.size) {
+            return leaf.keys[i];
+        }
+        if (leaf.next == null) {
+            throw new NoSuchElementException();
+        }
+        return leaf.next.keys[0];
+    }
+
+    /**
+     * Returns the greatest key less than or equal to key.
+     *
+     * @throws NoSuchElementException if there is none
+     */
+    public long floorPrimitive(long key) {
+        Leaf leaf = leafFor(root, key);
+        int i = upperBound(leaf.keys, leaf.size, key);
+        if (i > 0) {
+            return leaf.keys[i - 1];
+        }
+        if (leaf.prev == null) {
+            throw new NoSuchElementException();
+        }
+        return leaf.prev.keys[leaf.prev.size - 1];
+    }
+
+    /**
+     * Returns the least key strictly greater than key.
+     *
+     * @throws NoSuchElementException if there is none
+     */
+    public long higherPrimitive(long key) {
+        if (key == Long.MAX_VALUE) {
+            throw new NoSuchElementException();
+        }
+        return ceilingPrimitive(key + 1);
+    }
+
+    /**
+     * Returns the greatest key strictly less than key.
+     *
+     * @throws NoSuchElementException if there is none
+     */
+    public long lowerPrimitive(long key) {
+        if (key == Long.MIN_VALUE) {
+            throw new NoSuchElementException();
+        }
+        return floorPrimitive(key - 1);
+    }
+
+    /**
+     * Returns the least key greater than or equal to key, or null if there is none, as TreeSet does.
+     */
+    public Long ceiling(Long key) {
+        return size == 0 || key > lastPrimitive() ? null : ceilingPrimitive(key);
+    }
+
+    /**
+     * Returns the greatest key less than or equal to key, or null if there is none, as TreeSet does.
+     */
+    public Long floor(Long key) {
+        return size == 0 || key < firstPrimitive() ? null : floorPrimitive(key);
+    }
+
+    /**
+     * Returns the least key strictly greater than key, or null if there is none, as TreeSet does.
+     */
+    public Long higher(Long key) {
+        return size == 0 || key >= lastPrimitive() ? null : higherPrimitive(key);
+    }
+
+    /**
+     * Returns the greatest key strictly less than key, or null if there is none, as TreeSet does.
+     */
+    public Long lower(Long key) {
+        return size == 0 || key <= firstPrimitive() ? null : lowerPrimitive(key);
+    }
+
+    /**
+     * Returns a view of the keys from fromKey to toKey. Changes to the view show in this set and the other way round.
+     * Adding a key out of range to the view throws IllegalArgumentException.
+     *
+     * @throws IllegalArgumentException if fromKey is greater than toKey
+     */
+    public SubSet subSet(long fromKey, boolean fromInclusive, long toKey, boolean toInclusive) {
+        if (fromKey > toKey) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        if (!fromInclusive && fromKey == Long.MAX_VALUE || !toInclusive && toKey == Long.MIN_VALUE) {
+            return new SubSet(Long.MAX_VALUE, Long.MIN_VALUE);
+        }
+        return new SubSet(fromInclusive ? fromKey : fromKey + 1, toInclusive ? toKey : toKey - 1);
+    }
+
+    /**
+     * Returns a view of the keys from fromKey, inclusive, to toKey, exclusive.
+     *
+     * @throws IllegalArgumentException if fromKey is greater than toKey
+     */
+    public SubSet subSet(long fromKey, long toKey) {
+        return subSet(fromKey, true, toKey, false);
+    }
+
+    /**
+     * Returns a view of the keys less than toKey.
+     */
+    public SubSet headSet(long toKey) {
+        return subSet(Long.MIN_VALUE, true, toKey, false);
+    }
+
+    /**
+     * Returns a view of the keys greater than or equal to fromKey.
+     */
+    public SubSet tailSet(long fromKey) {
+        return subSet(fromKey, true, Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Copies the keys in ascending order, a leaf at a time.
+     */
+    @Override
+    public long[] toArrayPrimitive(long[] a) {
+        if (a.length < size) {
+            a = new long[size];
+        }
+        int i = 0;
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            System.arraycopy(leaf.keys, 0, a, i, leaf.size);
+            i += leaf.size;
+        }
+        return a;
+    }
+
+    /**
+     * Returns the bytes taken by the arrays of the nodes, not counting headers,
+     * with a reference counted as 4 bytes, as with compressed oops.
+     * The same keys take size() * Long.BYTES in a long[].
+     */
+    public long sizeInBytes() {
+        return sizeInBytes(root);
+    }
+
+    private static long sizeInBytes(Node node) {
+        if (node instanceof Leaf) {
+            return (long) LEAF_CAPACITY * Long.BYTES;
+        }
+        Branch branch = (Branch) node;
+        long bytes = (long) (BRANCH_CAPACITY - 1) * Long.BYTES + (long) BRANCH_CAPACITY * Integer.BYTES;
+        for (int i = 0; i < branch.size; i++) {
+            bytes += sizeInBytes(branch.children[i]);
+        }
+        return bytes;
+    }
+
+    /**
+     * The sum of the hash codes of the keys, the same as {@link java.util.Set#hashCode()}, without boxing.
+     */
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                h += Long.hashCode(leaf.keys[i]);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Against another LongBTreeSet, walks both in order side by side, without boxing.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof LongBTreeSet)) {
+            return super.equals(o);
+        }
+        LongBTreeSet other = (LongBTreeSet) o;
+        if (other.size != size) {
+            return false;
+        }
+        LongIterator it = other.iterator();
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                if (leaf.keys[i] != it.nextPrimitive()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Formats the elements with LongCollections, without boxing.
+     */
+    @Override
+    public String toString() {
+        return LongCollections.toString(this);
+    }
+
+    /**
+     * Appends what toString() returns to out, a chunk at a time unless out is a StringBuilder.
+     *
+     * @return out
+     * @throws IOException if out does
+     */
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        return LongCollections.appendTo(this, out);
+    }
+
+    /**
+     * Returns an iterator over the keys in ascending order.
+     */
+    @Override
+    public LongIterator iterator() {
+        return new Itr(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Walks the leaves from the first key at least low on, up to high.
+     * remove deletes the key last returned from the tree, which may move keys between leaves,
+     * so the iterator then finds its place again from the key after it.
+     */
+    private final class Itr implements LongIterator {
+        final long high;
+        Leaf leaf;
+        int index;
+        long lastKey;
+        boolean canRemove;
+        int expectedModCount = modCount;
+
+        Itr(long low, long high) {
+            this.high = high;
+            seek(low);
+        }
+
+        /**
+         * Moves to the least key at least key.
+         */
+        private void seek(long key) {
+            leaf = leafFor(root, key);
+            index = lowerBound(leaf.keys, leaf.size, key);
+            if (index == leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && leaf.keys[index] <= high;
+        }
+
+        @Override
+        public long nextPrimitive() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastKey = leaf.keys[index];
+            if (++index == leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            canRemove = true;
+            return lastKey;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removePrimitive(lastKey);
+            canRemove = false;
+            expectedModCount = modCount;
+            seek(lastKey);
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * The keys of a LongBTreeSet from low to high, both inclusive, as returned by subSet, headSet and tailSet.
+     * size() counts the keys in range, a leaf at a time.
+     */
+    public final class SubSet extends AbstractSet<Long> implements AbstractLongCollection {
+        private final long low;
+        private final long high;
+
+        SubSet(long low, long high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        private boolean inRange(long key) {
+            return key >= low && key <= high;
+        }
+
+        @Override
+        public int size() {
+            if (low > high) {
+                return 0;
+            }
+            Leaf leaf = leafFor(root, low);
+            int n = 0;
+            for (int i = lowerBound(leaf.keys, leaf.size, low); leaf != null; leaf = leaf.next, i = 0) {
+                int end = upperBound(leaf.keys, leaf.size, high);
+                n += end - i;
+                if (end < leaf.size) {
+                    break;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        public boolean containsPrimitive(long key) {
+            return inRange(key) && LongBTreeSet.this.containsPrimitive(key);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Long && containsPrimitive((Long) o);
+        }
+
+        /**
+         * @throws IllegalArgumentException if key is out of range
+         */
+        public boolean addPrimitive(long key) {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("key out of range: " + key);
+            }
+            return LongBTreeSet.this.addPrimitive(key);
+        }
+
+        @Override
+        public boolean add(Long e) {
+            return addPrimitive(e);
+        }
+
+        public boolean removePrimitive(long key) {
+            return inRange(key) && LongBTreeSet.this.removePrimitive(key);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof Long && removePrimitive((Long) o);
+        }
+
+        /**
+         * @throws NoSuchElementException if the view is empty
+         */
+        public long firstPrimitive() {
+            LongIterator it = iterator();
+            if (!it.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return it.nextPrimitive();
+        }
+
+        /**
+         * @throws NoSuchElementException if the view is empty
+         */
+        public long lastPrimitive() {
+            long last = low > high ? high : floorPrimitive(high);
+            if (last < low) {
+                throw new NoSuchElementException();
+            }
+            return last;
+        }
+
+        @Override
+        public long[] toArrayPrimitive(long[] a) {
+            int n = size();
+            if (a.length < n) {
+                a = new long[n];
+            }
+            int i = 0;
+            for (LongIterator it = iterator(); it.hasNext(); ) {
+                a[i++] = it.nextPrimitive();
+            }
+            return a;
+        }
+
+        @Override
+        public LongIterator iterator() {
+            return new Itr(low, high);
+        }
+    }
+}
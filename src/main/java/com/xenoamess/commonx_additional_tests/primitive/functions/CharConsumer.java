@@ -0,0 +1,17 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * An action on one char, so that traversing a primitive collection boxes nothing.
+ *
+ * @author XenoAmess
+ * @see java.util.function.Consumer
+ */
+@FunctionalInterface
+public interface CharConsumer {
+    /**
+     * Performs this action on value.
+     *
+     * @param value the input
+     */
+    void accept(char value);
+}
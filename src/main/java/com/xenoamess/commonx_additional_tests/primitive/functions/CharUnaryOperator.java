@@ -0,0 +1,19 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * An operation on one char that returns a char, so that replacing the elements of a primitive collection
+ * boxes nothing.
+ *
+ * @author XenoAmess
+ * @see java.util.function.UnaryOperator
+ */
+@FunctionalInterface
+public interface CharUnaryOperator {
+    /**
+     * Applies this operator to operand.
+     *
+     * @param operand the input
+     * @return the result
+     */
+    char applyAsChar(char operand);
+}
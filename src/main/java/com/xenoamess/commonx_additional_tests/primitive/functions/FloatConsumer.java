@@ -0,0 +1,17 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * An action on one float, so that traversing a primitive collection boxes nothing.
+ *
+ * @author XenoAmess
+ * @see java.util.function.Consumer
+ */
+@FunctionalInterface
+public interface FloatConsumer {
+    /**
+     * Performs this action on value.
+     *
+     * @param value the input
+     */
+    void accept(float value);
+}
@@ -0,0 +1,18 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * An action on one int key and its int value, so that traversing a primitive map boxes nothing.
+ *
+ * @author XenoAmess
+ * @see java.util.function.BiConsumer
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+    /**
+     * Performs this action on key and value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    void accept(int key, int value);
+}
@@ -0,0 +1,19 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * A comparison of two long arguments, so that ordering a primitive collection boxes nothing.
+ *
+ * @author XenoAmess
+ * @see java.util.Comparator
+ */
+@FunctionalInterface
+public interface LongComparator {
+    /**
+     * Compares a with b for order.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return a negative integer, zero, or a positive integer as a is less than, equal to, or greater than b
+     */
+    int compare(long a, long b);
+}
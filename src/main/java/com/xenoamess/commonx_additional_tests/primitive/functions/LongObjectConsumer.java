@@ -0,0 +1,19 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * An action on one long key and its value, so that traversing a primitive map boxes no key.
+ *
+ * @param <V> the type of the value
+ * @author XenoAmess
+ * @see java.util.function.BiConsumer
+ */
+@FunctionalInterface
+public interface LongObjectConsumer<V> {
+    /**
+     * Performs this action on key and value.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    void accept(long key, V value);
+}
@@ -0,0 +1,21 @@
+package com.xenoamess.commonx_additional_tests.primitive.functions;
+
+/**
+ * A predicate of one short argument, so that filtering a primitive collection boxes nothing.
+ * <p>
+ * java.util.function has IntPredicate, LongPredicate and DoublePredicate, which the int, long and double
+ * collections take. It has none for short, so this one fills that gap.
+ *
+ * @author XenoAmess
+ * @see java.util.function.Predicate
+ */
+@FunctionalInterface
+public interface ShortPredicate {
+    /**
+     * Evaluates this predicate on value.
+     *
+     * @param value the input
+     * @return true if value matches the predicate
+     */
+    boolean test(short value);
+}
@@ -0,0 +1,197 @@
+package com.xenoamess.commonx_additional_tests.primitive.spliterators;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A primitive Spliterator over a RandomAccess IntList.
+ * <p>
+ * Elements are read by {@link IntList#getPrimitive(int)}, so nothing is boxed.
+ * Splitting cuts the remaining range in halves, so every split is exact,
+ * and the spliterator reports {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+ * getPrimitive is O(n) on a linked list, so the constructor only takes RandomAccess lists;
+ * {@link #spliterator(IntList)} reads other lists with their primitive iterator instead.
+ * <p>
+ * The spliterator is late-binding: the range ends at the size of the list
+ * when it is first traversed, split or sized.
+ * As ArrayList's, it is fail-fast at the end of forEachRemaining and after each tryAdvance:
+ * they throw ConcurrentModificationException if the list's modCount changed since the range was bound,
+ * as far as the list's modCount can tell.
+ *
+ * @author XenoAmess
+ * @see java.util.ArrayList#spliterator()
+ */
+public class IntListSpliterator implements Spliterator.OfInt {
+    private static final MethodHandle GET_MOD_COUNT = lookupModCount();
+
+    private final IntList list;
+    private int index;
+    private int fence;
+    private int expectedModCount;
+
+    /**
+     * @throws IllegalArgumentException if list is not RandomAccess
+     */
+    public IntListSpliterator(IntList list) {
+        this(requireRandomAccess(list), 0, -1, 0);
+    }
+
+    IntListSpliterator(IntList list, int origin, int fence, int expectedModCount) {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+        this.expectedModCount = expectedModCount;
+    }
+
+    private static IntList requireRandomAccess(IntList list) {
+        if (!(list instanceof RandomAccess)) {
+            throw new IllegalArgumentException("not a RandomAccess list: " + list.getClass().getName());
+        }
+        return list;
+    }
+
+    private static MethodHandle lookupModCount() {
+        try {
+            Field modCount = AbstractIntList.class.getDeclaredField("modCount");
+            modCount.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(modCount);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the modCount of list, or 0 if it cannot be read.
+     */
+    private static int modCount(IntList list) {
+        if (GET_MOD_COUNT == null || !(list instanceof AbstractIntList)) {
+            return 0;
+        }
+        try {
+            return (int) GET_MOD_COUNT.invoke(list);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a IntListSpliterator over list if it is RandomAccess.
+     * Otherwise returns a spliterator over the primitive iterator of list, sized as list is now,
+     * which splits off arrays of the elements as Spliterators.spliterator does.
+     */
+    public static Spliterator.OfInt spliterator(IntList list) {
+        if (list instanceof RandomAccess) {
+            return new IntListSpliterator(list);
+        }
+        IntIterator iterator = list.iterator();
+        PrimitiveIterator.OfInt primitiveIterator = new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return iterator.nextPrimitive();
+            }
+        };
+        return Spliterators.spliterator(primitiveIterator, list.size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential IntStream over the list, without boxing.
+     */
+    public static IntStream intStream(IntList list) {
+        return StreamSupport.intStream(spliterator(list), false);
+    }
+
+    /**
+     * Returns a parallel IntStream over the list, without boxing.
+     */
+    public static IntStream parallelIntStream(IntList list) {
+        return StreamSupport.intStream(spliterator(list), true);
+    }
+
+    private int getFence() {
+        int hi = fence;
+        if (hi < 0) {
+            expectedModCount = modCount(list);
+            hi = fence = list.size();
+        }
+        return hi;
+    }
+
+    private void checkForComodification() {
+        if (modCount(list) != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public IntListSpliterator trySplit() {
+        int hi = getFence();
+        int lo = index;
+        int mid = (lo + hi) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IntListSpliterator(list, lo, mid, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int hi = getFence();
+        int i = index;
+        if (i < hi) {
+            index = i + 1;
+            action.accept(list.getPrimitive(i));
+            checkForComodification();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        final IntList lst = list;
+        int hi = getFence();
+        int i = index;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(lst.getPrimitive(i));
+        }
+        checkForComodification();
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,165 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * The loops of {@link IntArrayListScans} on the Vector API, SPECIES_PREFERRED lanes at a time,
+ * then the remaining tail one element at a time.
+ * <p>
+ * Compiled by the jdk17 profile only, and loaded by reflection,
+ * so that the rest of the library still builds and runs on java 8.
+ *
+ * @author XenoAmess
+ */
+final class VectorIntScanKernel implements IntScanKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private static final int POW31_LANES = pow31(SPECIES.length());
+
+    /**
+     * 31^(L - 1 - j) in lane j.
+     */
+    private static final IntVector LANE_WEIGHTS = laneWeights();
+
+    VectorIntScanKernel() {
+    }
+
+    @Override
+    public int sum(int[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector acc = IntVector.zero(SPECIES);
+        for (; i < upperBound; i += SPECIES.length()) {
+            acc = acc.add(IntVector.fromArray(SPECIES, a, i));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < toIndex; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        int min = a[fromIndex];
+        if (i < upperBound) {
+            IntVector acc = IntVector.fromArray(SPECIES, a, i);
+            for (i += SPECIES.length(); i < upperBound; i += SPECIES.length()) {
+                acc = acc.min(IntVector.fromArray(SPECIES, a, i));
+            }
+            min = acc.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < toIndex; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        int max = a[fromIndex];
+        if (i < upperBound) {
+            IntVector acc = IntVector.fromArray(SPECIES, a, i);
+            for (i += SPECIES.length(); i < upperBound; i += SPECIES.length()) {
+                acc = acc.max(IntVector.fromArray(SPECIES, a, i));
+            }
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < toIndex; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int indexOf(int[] a, int fromIndex, int toIndex, int x) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        for (; i < upperBound; i += SPECIES.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(SPECIES, a, i).eq(x);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < toIndex; i++) {
+            if (a[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void fill(int[] a, int fromIndex, int toIndex, int x) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        IntVector broadcast = IntVector.broadcast(SPECIES, x);
+        for (; i < upperBound; i += SPECIES.length()) {
+            broadcast.intoArray(a, i);
+        }
+        for (; i < toIndex; i++) {
+            a[i] = x;
+        }
+    }
+
+    /**
+     * Lane j gathers the elements j, j + L, j + 2L, ... of the loop as h = 31^L * h + e, L being the number of lanes.
+     * Then lane j is weighted by 31^(L - 1 - j), and the 1 List.hashCode starts from by 31^n,
+     * n being the number of elements the loop took: that is what n steps of h = 31 * h + e come to.
+     */
+    @Override
+    public int hashCode(int[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        int h = 1;
+        if (i < upperBound) {
+            IntVector acc = IntVector.zero(SPECIES);
+            for (; i < upperBound; i += SPECIES.length()) {
+                acc = acc.mul(POW31_LANES).add(IntVector.fromArray(SPECIES, a, i));
+            }
+            h = pow31(upperBound - fromIndex) + acc.mul(LANE_WEIGHTS).reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < toIndex; i++) {
+            h = 31 * h + a[i];
+        }
+        return h;
+    }
+
+    /**
+     * Arrays.equals of two ranges, from java 9 on, which the jvm already compiles to a vectorized mismatch.
+     */
+    @Override
+    public boolean equals(int[] a, int aFromIndex, int[] b, int bFromIndex, int length) {
+        return Arrays.equals(a, aFromIndex, aFromIndex + length, b, bFromIndex, bFromIndex + length);
+    }
+
+    /**
+     * Returns 31^n, wrapped around as int multiplication wraps.
+     */
+    static int pow31(int n) {
+        int p = 1;
+        for (int b = 31; n > 0; n >>>= 1, b *= b) {
+            if ((n & 1) != 0) {
+                p *= b;
+            }
+        }
+        return p;
+    }
+
+    private static IntVector laneWeights() {
+        int[] weights = new int[SPECIES.length()];
+        for (int j = 0; j < weights.length; j++) {
+            weights[j] = pow31(weights.length - 1 - j);
+        }
+        return IntVector.fromArray(SPECIES, weights, 0);
+    }
+}
@@ -0,0 +1,167 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * The loops of {@link LongArrayListScans} on the Vector API, SPECIES_PREFERRED lanes at a time,
+ * then the remaining tail one element at a time.
+ * <p>
+ * Compiled by the jdk17 profile only, and loaded by reflection,
+ * so that the rest of the library still builds and runs on java 8.
+ *
+ * @author XenoAmess
+ */
+final class VectorLongScanKernel implements LongScanKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private static final long POW31_LANES = pow31(SPECIES.length());
+
+    /**
+     * 31^(L - 1 - j) in lane j.
+     */
+    private static final LongVector LANE_WEIGHTS = laneWeights();
+
+    VectorLongScanKernel() {
+    }
+
+    @Override
+    public long sum(long[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        LongVector acc = LongVector.zero(SPECIES);
+        for (; i < upperBound; i += SPECIES.length()) {
+            acc = acc.add(LongVector.fromArray(SPECIES, a, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < toIndex; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long min(long[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        long min = a[fromIndex];
+        if (i < upperBound) {
+            LongVector acc = LongVector.fromArray(SPECIES, a, i);
+            for (i += SPECIES.length(); i < upperBound; i += SPECIES.length()) {
+                acc = acc.min(LongVector.fromArray(SPECIES, a, i));
+            }
+            min = acc.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < toIndex; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        long max = a[fromIndex];
+        if (i < upperBound) {
+            LongVector acc = LongVector.fromArray(SPECIES, a, i);
+            for (i += SPECIES.length(); i < upperBound; i += SPECIES.length()) {
+                acc = acc.max(LongVector.fromArray(SPECIES, a, i));
+            }
+            max = acc.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < toIndex; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int indexOf(long[] a, int fromIndex, int toIndex, long x) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        for (; i < upperBound; i += SPECIES.length()) {
+            VectorMask<Long> found = LongVector.fromArray(SPECIES, a, i).eq(x);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < toIndex; i++) {
+            if (a[i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void fill(long[] a, int fromIndex, int toIndex, long x) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        LongVector broadcast = LongVector.broadcast(SPECIES, x);
+        for (; i < upperBound; i += SPECIES.length()) {
+            broadcast.intoArray(a, i);
+        }
+        for (; i < toIndex; i++) {
+            a[i] = x;
+        }
+    }
+
+    /**
+     * Lane j gathers the elements j, j + L, j + 2L, ... of the loop as h = 31^L * h + e, L being the number of lanes.
+     * Then lane j is weighted by 31^(L - 1 - j), and the 1 List.hashCode starts from by 31^n,
+     * n being the number of elements the loop took: that is what n steps of h = 31 * h + e come to.
+     */
+    @Override
+    public int hashCode(long[] a, int fromIndex, int toIndex) {
+        int i = fromIndex;
+        int upperBound = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+        int h = 1;
+        if (i < upperBound) {
+            // in long lanes: only the low 32 bits count, and they come out as they would in int arithmetic.
+            LongVector acc = LongVector.zero(SPECIES);
+            for (; i < upperBound; i += SPECIES.length()) {
+                LongVector v = LongVector.fromArray(SPECIES, a, i);
+                acc = acc.mul(POW31_LANES).add(v.lanewise(VectorOperators.XOR, v.lanewise(VectorOperators.LSHR, 32)));
+            }
+            h = pow31(upperBound - fromIndex) + (int) acc.mul(LANE_WEIGHTS).reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < toIndex; i++) {
+            h = 31 * h + Long.hashCode(a[i]);
+        }
+        return h;
+    }
+
+    /**
+     * Arrays.equals of two ranges, from java 9 on, which the jvm already compiles to a vectorized mismatch.
+     */
+    @Override
+    public boolean equals(long[] a, int aFromIndex, long[] b, int bFromIndex, int length) {
+        return Arrays.equals(a, aFromIndex, aFromIndex + length, b, bFromIndex, bFromIndex + length);
+    }
+
+    /**
+     * Returns 31^n, wrapped around as int multiplication wraps.
+     */
+    static int pow31(int n) {
+        int p = 1;
+        for (int b = 31; n > 0; n >>>= 1, b *= b) {
+            if ((n & 1) != 0) {
+                p *= b;
+            }
+        }
+        return p;
+    }
+
+    private static LongVector laneWeights() {
+        long[] weights = new long[SPECIES.length()];
+        for (int j = 0; j < weights.length; j++) {
+            weights[j] = pow31(weights.length - 1 - j);
+        }
+        return LongVector.fromArray(SPECIES, weights, 0);
+    }
+}
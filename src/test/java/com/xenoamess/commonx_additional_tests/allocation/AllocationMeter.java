@@ -0,0 +1,61 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how many bytes the current thread allocates while running an operation.
+ * <p>
+ * Relies on {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)},
+ * so {@link #isSupported()} shall be checked first.
+ *
+ * @author XenoAmess
+ */
+public final class AllocationMeter {
+    static final int WARMUP_RUNS = 10_000;
+    static final int MEASURED_RUNS = 2_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean result = (com.sun.management.ThreadMXBean) bean;
+        if (!result.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        result.setThreadAllocatedMemoryEnabled(true);
+        return result;
+    }
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs operation until it is compiled, then returns the average bytes it allocates per run.
+     * The cost of reading the counter itself is measured first and subtracted.
+     */
+    public static long bytesPerRun(Runnable operation) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            operation.run();
+        }
+        long overhead = allocatedBytes();
+        overhead = allocatedBytes() - overhead;
+
+        long start = allocatedBytes();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            operation.run();
+        }
+        long allocated = allocatedBytes() - start - overhead;
+        return Math.max(0, allocated) / MEASURED_RUNS;
+    }
+}
@@ -0,0 +1,113 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commons.primitive.collections.lists.BooleanList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import com.xenoamess.commons.primitive.iterators.BooleanListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.BooleanLists;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Primitive traversals shall not allocate per element.
+ * <p>
+ * A traversal may still allocate its iterator or subList view once,
+ * so the bound checked is less than one byte per element.
+ * Every boolean boxes to a cached Boolean, so unlike the other types no boxed traversal is checked to go over it.
+ *
+ * @author XenoAmess
+ */
+public class BooleanArrayListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+
+    final BooleanArrayList list = new BooleanArrayList(SIZE);
+    final boolean[] destination = new boolean[SIZE];
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addPrimitive(i, (i & 1) != 0);
+    }
+
+    static void assertNoAllocationPerElement(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per traversal of " + SIZE + " elements");
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocationPerElement("iterator().nextPrimitive()", () -> {
+            for (BooleanIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Boolean.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorNextPrimitive() {
+        assertNoAllocationPerElement("listIterator().nextPrimitive()", () -> {
+            for (BooleanListIterator it = list.listIterator(); it.hasNext(); )
+                sink ^= Boolean.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorPreviousPrimitive() {
+        assertNoAllocationPerElement("listIterator(size).previousPrimitive()", () -> {
+            for (BooleanListIterator it = list.listIterator(list.size()); it.hasPrevious(); )
+                sink ^= Boolean.hashCode(it.previousPrimitive());
+        });
+    }
+
+    @Test
+    public void getPrimitiveLoop() {
+        assertNoAllocationPerElement("getPrimitive loop", () -> {
+            for (int i = 0, size = list.size(); i < size; i++)
+                sink ^= Boolean.hashCode(list.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocationPerElement("BooleanLists.forEachPrimitive", () ->
+                BooleanLists.forEachPrimitive(list, x -> sink ^= Boolean.hashCode(x)));
+    }
+
+    @Test
+    public void subListIteratorNextPrimitive() {
+        assertNoAllocationPerElement("subList iterator().nextPrimitive()", () -> {
+            BooleanList subList = list.subList(0, list.size());
+            for (BooleanIterator it = subList.iterator(); it.hasNext(); )
+                sink ^= Boolean.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void subListGetPrimitive() {
+        assertNoAllocationPerElement("subList getPrimitive loop", () -> {
+            BooleanList subList = list.subList(0, list.size());
+            for (int i = 0, size = subList.size(); i < size; i++)
+                sink ^= Boolean.hashCode(subList.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void toArrayPrimitive() {
+        assertNoAllocationPerElement("toArrayPrimitive(a)", () -> {
+            boolean[] result = list.toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+
+    @Test
+    public void subListToArrayPrimitive() {
+        assertNoAllocationPerElement("subList toArrayPrimitive(a)", () -> {
+            boolean[] result = list.subList(0, list.size()).toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commons.primitive.collections.lists.ByteList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import com.xenoamess.commons.primitive.iterators.ByteListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.ByteLists;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Primitive traversals shall not allocate per element.
+ * <p>
+ * A traversal may still allocate its iterator or subList view once,
+ * so the bound checked is less than one byte per element.
+ * Every byte boxes to a cached Byte, so unlike the other types no boxed traversal is checked to go over it.
+ *
+ * @author XenoAmess
+ */
+public class ByteArrayListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+
+    final ByteArrayList list = new ByteArrayList(SIZE);
+    final byte[] destination = new byte[SIZE];
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addPrimitive(i, (byte) i);
+    }
+
+    static void assertNoAllocationPerElement(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per traversal of " + SIZE + " elements");
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocationPerElement("iterator().nextPrimitive()", () -> {
+            for (ByteIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Byte.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorNextPrimitive() {
+        assertNoAllocationPerElement("listIterator().nextPrimitive()", () -> {
+            for (ByteListIterator it = list.listIterator(); it.hasNext(); )
+                sink ^= Byte.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorPreviousPrimitive() {
+        assertNoAllocationPerElement("listIterator(size).previousPrimitive()", () -> {
+            for (ByteListIterator it = list.listIterator(list.size()); it.hasPrevious(); )
+                sink ^= Byte.hashCode(it.previousPrimitive());
+        });
+    }
+
+    @Test
+    public void getPrimitiveLoop() {
+        assertNoAllocationPerElement("getPrimitive loop", () -> {
+            for (int i = 0, size = list.size(); i < size; i++)
+                sink ^= Byte.hashCode(list.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocationPerElement("ByteLists.forEachPrimitive", () ->
+                ByteLists.forEachPrimitive(list, x -> sink ^= Byte.hashCode(x)));
+    }
+
+    @Test
+    public void subListIteratorNextPrimitive() {
+        assertNoAllocationPerElement("subList iterator().nextPrimitive()", () -> {
+            ByteList subList = list.subList(0, list.size());
+            for (ByteIterator it = subList.iterator(); it.hasNext(); )
+                sink ^= Byte.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void subListGetPrimitive() {
+        assertNoAllocationPerElement("subList getPrimitive loop", () -> {
+            ByteList subList = list.subList(0, list.size());
+            for (int i = 0, size = subList.size(); i < size; i++)
+                sink ^= Byte.hashCode(subList.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void toArrayPrimitive() {
+        assertNoAllocationPerElement("toArrayPrimitive(a)", () -> {
+            byte[] result = list.toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+
+    @Test
+    public void subListToArrayPrimitive() {
+        assertNoAllocationPerElement("subList toArrayPrimitive(a)", () -> {
+            byte[] result = list.subList(0, list.size()).toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commons.primitive.iterators.IntListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.IntLists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Primitive traversals shall not allocate per element.
+ * <p>
+ * A traversal may still allocate its iterator or subList view once,
+ * so the bound checked is less than one byte per element.
+ * The elements lie outside the Integer box cache, so a traversal that boxes them does go over it,
+ * as the boxed get and next are checked to.
+ *
+ * @author XenoAmess
+ */
+public class IntArrayListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+    static Object boxSink;
+
+    final IntArrayList list = new IntArrayList(SIZE);
+    final int[] destination = new int[SIZE];
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addPrimitive(i, 1_000_000 + i);
+    }
+
+    static void assertNoAllocationPerElement(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per traversal of " + SIZE + " elements");
+    }
+
+    static void assertAllocationPerElement(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun >= SIZE,
+                name + " allocated only " + bytesPerRun + " bytes per traversal of " + SIZE + " elements");
+    }
+
+    @Test
+    public void boxedGetAllocates() {
+        assertAllocationPerElement("boxed get loop", () -> {
+            for (int i = 0, size = list.size(); i < size; i++)
+                boxSink = list.get(i);
+        });
+    }
+
+    @Test
+    public void boxedIteratorNextAllocates() {
+        assertAllocationPerElement("boxed iterator().next()", () -> {
+            for (Iterator<Integer> it = list.iterator(); it.hasNext(); )
+                boxSink = it.next();
+        });
+    }
+
+    @Test
+    public void boxedForEachAllocates() {
+        assertAllocationPerElement("boxed forEach", () -> list.forEach(x -> boxSink = x));
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocationPerElement("iterator().nextPrimitive()", () -> {
+            for (IntIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Integer.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorNextPrimitive() {
+        assertNoAllocationPerElement("listIterator().nextPrimitive()", () -> {
+            for (IntListIterator it = list.listIterator(); it.hasNext(); )
+                sink ^= Integer.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorPreviousPrimitive() {
+        assertNoAllocationPerElement("listIterator(size).previousPrimitive()", () -> {
+            for (IntListIterator it = list.listIterator(list.size()); it.hasPrevious(); )
+                sink ^= Integer.hashCode(it.previousPrimitive());
+        });
+    }
+
+    @Test
+    public void getPrimitiveLoop() {
+        assertNoAllocationPerElement("getPrimitive loop", () -> {
+            for (int i = 0, size = list.size(); i < size; i++)
+                sink ^= Integer.hashCode(list.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocationPerElement("IntLists.forEachPrimitive", () ->
+                IntLists.forEachPrimitive(list, x -> sink ^= Integer.hashCode(x)));
+    }
+
+    @Test
+    public void subListIteratorNextPrimitive() {
+        assertNoAllocationPerElement("subList iterator().nextPrimitive()", () -> {
+            IntList subList = list.subList(0, list.size());
+            for (IntIterator it = subList.iterator(); it.hasNext(); )
+                sink ^= Integer.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void subListGetPrimitive() {
+        assertNoAllocationPerElement("subList getPrimitive loop", () -> {
+            IntList subList = list.subList(0, list.size());
+            for (int i = 0, size = subList.size(); i < size; i++)
+                sink ^= Integer.hashCode(subList.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void toArrayPrimitive() {
+        assertNoAllocationPerElement("toArrayPrimitive(a)", () -> {
+            int[] result = list.toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+
+    @Test
+    public void subListToArrayPrimitive() {
+        assertNoAllocationPerElement("subList toArrayPrimitive(a)", () -> {
+            int[] result = list.subList(0, list.size()).toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commons.primitive.collections.lists.LongList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commons.primitive.iterators.LongListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.LongLists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Primitive traversals shall not allocate per element.
+ * <p>
+ * A traversal may still allocate its iterator or subList view once,
+ * so the bound checked is less than one byte per element.
+ * The elements lie outside the Long box cache, so a traversal that boxes them does go over it,
+ * as the boxed get and next are checked to.
+ *
+ * @author XenoAmess
+ */
+public class LongArrayListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+    static Object boxSink;
+
+    final LongArrayList list = new LongArrayList(SIZE);
+    final long[] destination = new long[SIZE];
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addPrimitive(i, 1_000_000L + i);
+    }
+
+    static void assertNoAllocationPerElement(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per traversal of " + SIZE + " elements");
+    }
+
+    static void assertAllocationPerElement(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun >= SIZE,
+                name + " allocated only " + bytesPerRun + " bytes per traversal of " + SIZE + " elements");
+    }
+
+    @Test
+    public void boxedGetAllocates() {
+        assertAllocationPerElement("boxed get loop", () -> {
+            for (int i = 0, size = list.size(); i < size; i++)
+                boxSink = list.get(i);
+        });
+    }
+
+    @Test
+    public void boxedIteratorNextAllocates() {
+        assertAllocationPerElement("boxed iterator().next()", () -> {
+            for (Iterator<Long> it = list.iterator(); it.hasNext(); )
+                boxSink = it.next();
+        });
+    }
+
+    @Test
+    public void boxedForEachAllocates() {
+        assertAllocationPerElement("boxed forEach", () -> list.forEach(x -> boxSink = x));
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocationPerElement("iterator().nextPrimitive()", () -> {
+            for (LongIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Long.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorNextPrimitive() {
+        assertNoAllocationPerElement("listIterator().nextPrimitive()", () -> {
+            for (LongListIterator it = list.listIterator(); it.hasNext(); )
+                sink ^= Long.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void listIteratorPreviousPrimitive() {
+        assertNoAllocationPerElement("listIterator(size).previousPrimitive()", () -> {
+            for (LongListIterator it = list.listIterator(list.size()); it.hasPrevious(); )
+                sink ^= Long.hashCode(it.previousPrimitive());
+        });
+    }
+
+    @Test
+    public void getPrimitiveLoop() {
+        assertNoAllocationPerElement("getPrimitive loop", () -> {
+            for (int i = 0, size = list.size(); i < size; i++)
+                sink ^= Long.hashCode(list.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocationPerElement("LongLists.forEachPrimitive", () ->
+                LongLists.forEachPrimitive(list, x -> sink ^= Long.hashCode(x)));
+    }
+
+    @Test
+    public void subListIteratorNextPrimitive() {
+        assertNoAllocationPerElement("subList iterator().nextPrimitive()", () -> {
+            LongList subList = list.subList(0, list.size());
+            for (LongIterator it = subList.iterator(); it.hasNext(); )
+                sink ^= Long.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void subListGetPrimitive() {
+        assertNoAllocationPerElement("subList getPrimitive loop", () -> {
+            LongList subList = list.subList(0, list.size());
+            for (int i = 0, size = subList.size(); i < size; i++)
+                sink ^= Long.hashCode(subList.getPrimitive(i));
+        });
+    }
+
+    @Test
+    public void toArrayPrimitive() {
+        assertNoAllocationPerElement("toArrayPrimitive(a)", () -> {
+            long[] result = list.toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+
+    @Test
+    public void subListToArrayPrimitive() {
+        assertNoAllocationPerElement("subList toArrayPrimitive(a)", () -> {
+            long[] result = list.subList(0, list.size()).toArrayPrimitive(destination);
+            sink ^= result.length;
+        });
+    }
+}
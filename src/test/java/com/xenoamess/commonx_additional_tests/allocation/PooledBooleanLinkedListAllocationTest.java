@@ -0,0 +1,66 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.BooleanLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists.PooledBooleanLinkedList;
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Once warmed up, a pooled linked list used as a queue shall not allocate at all.
+ *
+ * @author XenoAmess
+ */
+public class PooledBooleanLinkedListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+
+    final PooledBooleanLinkedList list = new PooledBooleanLinkedList(SIZE);
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addLastPrimitive((i & 1) != 0);
+    }
+
+    static void assertNoAllocation(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per " + SIZE + " operations");
+    }
+
+    @Test
+    public void addLastRemoveFirst() {
+        assertNoAllocation("addLastPrimitive/removeFirstPrimitive", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                list.addLastPrimitive(list.removeFirstPrimitive());
+            }
+        });
+    }
+
+    @Test
+    public void addFirstRemoveLast() {
+        assertNoAllocation("addFirstPrimitive/removeLastPrimitive", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                list.addFirstPrimitive(list.removeLastPrimitive());
+            }
+        });
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocation("iterator().nextPrimitive()", () -> {
+            for (BooleanIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Boolean.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocation("BooleanLists.forEachPrimitive", () ->
+                BooleanLists.forEachPrimitive(list, x -> sink ^= Boolean.hashCode(x)));
+    }
+}
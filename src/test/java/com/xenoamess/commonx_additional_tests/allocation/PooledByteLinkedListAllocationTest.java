@@ -0,0 +1,66 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.ByteLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists.PooledByteLinkedList;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Once warmed up, a pooled linked list used as a queue shall not allocate at all.
+ *
+ * @author XenoAmess
+ */
+public class PooledByteLinkedListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+
+    final PooledByteLinkedList list = new PooledByteLinkedList(SIZE);
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addLastPrimitive((byte) i);
+    }
+
+    static void assertNoAllocation(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per " + SIZE + " operations");
+    }
+
+    @Test
+    public void addLastRemoveFirst() {
+        assertNoAllocation("addLastPrimitive/removeFirstPrimitive", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                list.addLastPrimitive(list.removeFirstPrimitive());
+            }
+        });
+    }
+
+    @Test
+    public void addFirstRemoveLast() {
+        assertNoAllocation("addFirstPrimitive/removeLastPrimitive", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                list.addFirstPrimitive(list.removeLastPrimitive());
+            }
+        });
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocation("iterator().nextPrimitive()", () -> {
+            for (ByteIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Byte.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocation("ByteLists.forEachPrimitive", () ->
+                ByteLists.forEachPrimitive(list, x -> sink ^= Byte.hashCode(x)));
+    }
+}
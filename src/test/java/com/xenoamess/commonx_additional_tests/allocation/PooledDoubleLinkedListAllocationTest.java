@@ -0,0 +1,66 @@
+package com.xenoamess.commonx_additional_tests.allocation;
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.DoubleLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists.PooledDoubleLinkedList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Once warmed up, a pooled linked list used as a queue shall not allocate at all.
+ *
+ * @author XenoAmess
+ */
+public class PooledDoubleLinkedListAllocationTest {
+    static final int SIZE = 1024;
+
+    static int sink;
+
+    final PooledDoubleLinkedList list = new PooledDoubleLinkedList(SIZE);
+
+    {
+        for (int i = 0; i < SIZE; i++)
+            list.addLastPrimitive(1_000_000 + i);
+    }
+
+    static void assertNoAllocation(String name, Runnable operation) {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocated memory is not supported");
+        long bytesPerRun = AllocationMeter.bytesPerRun(operation);
+        assertTrue(bytesPerRun < SIZE,
+                name + " allocated " + bytesPerRun + " bytes per " + SIZE + " operations");
+    }
+
+    @Test
+    public void addLastRemoveFirst() {
+        assertNoAllocation("addLastPrimitive/removeFirstPrimitive", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                list.addLastPrimitive(list.removeFirstPrimitive());
+            }
+        });
+    }
+
+    @Test
+    public void addFirstRemoveLast() {
+        assertNoAllocation("addFirstPrimitive/removeLastPrimitive", () -> {
+            for (int i = 0; i < SIZE; i++) {
+                list.addFirstPrimitive(list.removeLastPrimitive());
+            }
+        });
+    }
+
+    @Test
+    public void iteratorNextPrimitive() {
+        assertNoAllocation("iterator().nextPrimitive()", () -> {
+            for (DoubleIterator it = list.iterator(); it.hasNext(); )
+                sink ^= Double.hashCode(it.nextPrimitive());
+        });
+    }
+
+    @Test
+    public void forEachPrimitive() {
+        assertNoAllocation("DoubleLists.forEachPrimitive", () ->
+                DoubleLists.forEachPrimitive(list, x -> sink ^= Double.hashCode(x)));
+    }
+}
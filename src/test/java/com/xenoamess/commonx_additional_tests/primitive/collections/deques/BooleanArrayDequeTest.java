@@ -0,0 +1,196 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.deques;
+
+import com.xenoamess.commons.primitive.iterators.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BooleanArrayDequeTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static boolean v(int i) {
+        return i % 3 == 0;
+    }
+
+    static void assertSameContents(ArrayDeque<Boolean> expected, BooleanArrayDeque deque) {
+        assertEquals(expected.size(), deque.size());
+        assertArrayEquals(expected.toArray(), deque.toArray());
+        boolean[] a = deque.toArrayPrimitive(new boolean[0]);
+        Iterator<Boolean> it = expected.iterator();
+        for (boolean x : a)
+            assertEquals((boolean) it.next(), x);
+    }
+
+    @Test
+    public void capacityIsPowerOfTwo() {
+        assertEquals(16, new BooleanArrayDeque().elements.length);
+        assertEquals(8, new BooleanArrayDeque(0).elements.length);
+        assertEquals(8, new BooleanArrayDeque(7).elements.length);
+        assertEquals(16, new BooleanArrayDeque(8).elements.length);
+        BooleanArrayDeque deque = new BooleanArrayDeque(0);
+        for (int i = 0; i < 100; i++) {
+            deque.addFirstPrimitive(v(i));
+            int length = deque.elements.length;
+            assertEquals(0, length & (length - 1));
+            assertTrue(length > deque.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BooleanArrayDeque(-1));
+    }
+
+    @Test
+    public void behavesLikeArrayDeque() {
+        ArrayDeque<Boolean> expected = new ArrayDeque<>();
+        BooleanArrayDeque deque = new BooleanArrayDeque(0);
+        for (int i = 0; i < 5000; i++) {
+            boolean x = rnd.nextBoolean();
+            switch (rnd.nextInt(8)) {
+                case 0:
+                    expected.addFirst(x);
+                    deque.addFirstPrimitive(x);
+                    break;
+                case 1:
+                    expected.addLast(x);
+                    deque.addLastPrimitive(x);
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), deque.pollFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.pollLast(), deque.pollLast());
+                    break;
+                case 4:
+                    assertEquals(expected.removeFirstOccurrence(x), deque.removeFirstOccurrencePrimitive(x));
+                    break;
+                case 5:
+                    assertEquals(expected.removeLastOccurrence(x), deque.removeLastOccurrencePrimitive(x));
+                    break;
+                case 6: {
+                    Iterator<Boolean> e = expected.iterator();
+                    BooleanIterator d = deque.iterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((boolean) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+                default: {
+                    Iterator<Boolean> e = expected.descendingIterator();
+                    BooleanIterator d = deque.descendingIterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((boolean) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+            }
+            assertSameContents(expected, deque);
+        }
+    }
+
+    @Test
+    public void removeIfPrimitive() {
+        for (int start = 0; start < 16; start++) {
+            ArrayDeque<Boolean> expected = new ArrayDeque<>();
+            BooleanArrayDeque deque = new BooleanArrayDeque(8);
+            // move head around the array, so that the elements wrap.
+            for (int i = 0; i < start; i++) {
+                deque.addLastPrimitive(false);
+                deque.removeFirstPrimitive();
+            }
+            for (int i = 0; i < 12; i++) {
+                expected.addLast(v(i));
+                deque.addLastPrimitive(v(i));
+            }
+            assertEquals(expected.removeIf(x -> x), deque.removeIfPrimitive(x -> x));
+            assertSameContents(expected, deque);
+            assertFalse(deque.removeIfPrimitive(x -> x));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesDequeUnchangedOnException() {
+        BooleanArrayDeque deque = new BooleanArrayDeque();
+        for (int i = 0; i < 10; i++)
+            deque.addLastPrimitive(v(i));
+        boolean[] expected = deque.toArrayPrimitive(new boolean[0]);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> deque.removeIfPrimitive(x -> {
+            if (++tested[0] > 5)
+                throw new IllegalStateException();
+            return x;
+        }));
+        assertArrayEquals(expected, deque.toArrayPrimitive(new boolean[0]));
+    }
+
+    @Test
+    public void removeIfThrowsIfFilterGrowsDeque() {
+        BooleanArrayDeque deque = new BooleanArrayDeque(0);
+        for (int i = 0; i < 7; i++)
+            deque.addLastPrimitive(v(i));
+        int length = deque.elements.length;
+        assertThrows(ConcurrentModificationException.class, () -> deque.removeIfPrimitive(x -> {
+            if (deque.elements.length == length)
+                deque.addLastPrimitive(false);
+            return true;
+        }));
+        assertTrue(deque.elements.length > length);
+        boolean[] expected = new boolean[deque.size()];
+        for (int i = 0; i < 7; i++)
+            expected[i] = v(i);
+        assertArrayEquals(expected, deque.toArrayPrimitive(new boolean[0]));
+    }
+
+    @Test
+    public void emptyDeque() {
+        BooleanArrayDeque deque = new BooleanArrayDeque();
+        assertEquals(false, deque.pollFirstPrimitive());
+        assertEquals(false, deque.pollLastPrimitive());
+        assertEquals(false, deque.peekFirstPrimitive());
+        assertEquals(false, deque.peekLastPrimitive());
+        assertNull(deque.pollFirst());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, deque::removeFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::removeLastPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getLastPrimitive);
+        assertThrows(NoSuchElementException.class, () -> deque.iterator().nextPrimitive());
+        assertThrows(NoSuchElementException.class, () -> deque.descendingIterator().nextPrimitive());
+        assertThrows(IllegalStateException.class, () -> deque.iterator().remove());
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        BooleanArrayDeque deque = new BooleanArrayDeque();
+        for (int i = 0; i < 20; i++)
+            deque.addLastPrimitive(v(i));
+        BooleanArrayDeque clone = deque.clone();
+        assertTrue(Arrays.equals(deque.toArrayPrimitive(new boolean[0]), clone.toArrayPrimitive(new boolean[0])));
+        clone.removeFirstPrimitive();
+        clone.addLastPrimitive(true);
+        assertEquals(20, deque.size());
+        assertEquals(v(0), deque.getFirstPrimitive());
+        assertEquals(v(19), deque.getLastPrimitive());
+    }
+}
@@ -0,0 +1,192 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.deques;
+
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteArrayDequeTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static void assertSameContents(ArrayDeque<Byte> expected, ByteArrayDeque deque) {
+        assertEquals(expected.size(), deque.size());
+        assertArrayEquals(expected.toArray(), deque.toArray());
+        byte[] a = deque.toArrayPrimitive(new byte[0]);
+        Iterator<Byte> it = expected.iterator();
+        for (byte x : a)
+            assertEquals((byte) it.next(), x);
+    }
+
+    @Test
+    public void capacityIsPowerOfTwo() {
+        assertEquals(16, new ByteArrayDeque().elements.length);
+        assertEquals(8, new ByteArrayDeque(0).elements.length);
+        assertEquals(8, new ByteArrayDeque(7).elements.length);
+        assertEquals(16, new ByteArrayDeque(8).elements.length);
+        ByteArrayDeque deque = new ByteArrayDeque(0);
+        for (int i = 0; i < 100; i++) {
+            deque.addFirstPrimitive((byte) i);
+            int length = deque.elements.length;
+            assertEquals(0, length & (length - 1));
+            assertTrue(length > deque.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ByteArrayDeque(-1));
+    }
+
+    @Test
+    public void behavesLikeArrayDeque() {
+        ArrayDeque<Byte> expected = new ArrayDeque<>();
+        ByteArrayDeque deque = new ByteArrayDeque(0);
+        for (int i = 0; i < 5000; i++) {
+            byte x = (byte) rnd.nextInt(50);
+            switch (rnd.nextInt(8)) {
+                case 0:
+                    expected.addFirst(x);
+                    deque.addFirstPrimitive(x);
+                    break;
+                case 1:
+                    expected.addLast(x);
+                    deque.addLastPrimitive(x);
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), deque.pollFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.pollLast(), deque.pollLast());
+                    break;
+                case 4:
+                    assertEquals(expected.removeFirstOccurrence(x), deque.removeFirstOccurrencePrimitive(x));
+                    break;
+                case 5:
+                    assertEquals(expected.removeLastOccurrence(x), deque.removeLastOccurrencePrimitive(x));
+                    break;
+                case 6: {
+                    Iterator<Byte> e = expected.iterator();
+                    ByteIterator d = deque.iterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((byte) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+                default: {
+                    Iterator<Byte> e = expected.descendingIterator();
+                    ByteIterator d = deque.descendingIterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((byte) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+            }
+            assertSameContents(expected, deque);
+        }
+    }
+
+    @Test
+    public void removeIfPrimitive() {
+        for (int start = 0; start < 16; start++) {
+            ArrayDeque<Byte> expected = new ArrayDeque<>();
+            ByteArrayDeque deque = new ByteArrayDeque(8);
+            // move head around the array, so that the elements wrap.
+            for (int i = 0; i < start; i++) {
+                deque.addLastPrimitive((byte) 0);
+                deque.removeFirstPrimitive();
+            }
+            for (int i = 0; i < 12; i++) {
+                expected.addLast((byte) i);
+                deque.addLastPrimitive((byte) i);
+            }
+            assertEquals(expected.removeIf(x -> x % 3 == 0), deque.removeIfPrimitive(x -> x % 3 == 0));
+            assertSameContents(expected, deque);
+            assertFalse(deque.removeIfPrimitive(x -> x % 3 == 0));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesDequeUnchangedOnException() {
+        ByteArrayDeque deque = new ByteArrayDeque();
+        for (int i = 0; i < 10; i++)
+            deque.addLastPrimitive((byte) i);
+        byte[] expected = deque.toArrayPrimitive(new byte[0]);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> deque.removeIfPrimitive(x -> {
+            if (++tested[0] > 5)
+                throw new IllegalStateException();
+            return x < 3;
+        }));
+        assertArrayEquals(expected, deque.toArrayPrimitive(new byte[0]));
+    }
+
+    @Test
+    public void removeIfThrowsIfFilterGrowsDeque() {
+        ByteArrayDeque deque = new ByteArrayDeque(0);
+        for (int i = 0; i < 7; i++)
+            deque.addLastPrimitive((byte) i);
+        int length = deque.elements.length;
+        assertThrows(ConcurrentModificationException.class, () -> deque.removeIfPrimitive(x -> {
+            if (deque.elements.length == length)
+                deque.addLastPrimitive((byte) 0);
+            return true;
+        }));
+        assertTrue(deque.elements.length > length);
+        byte[] expected = new byte[deque.size()];
+        for (int i = 0; i < 7; i++)
+            expected[i] = (byte) i;
+        assertArrayEquals(expected, deque.toArrayPrimitive(new byte[0]));
+    }
+
+    @Test
+    public void emptyDeque() {
+        ByteArrayDeque deque = new ByteArrayDeque();
+        assertEquals((byte) 0, deque.pollFirstPrimitive());
+        assertEquals((byte) 0, deque.pollLastPrimitive());
+        assertEquals((byte) 0, deque.peekFirstPrimitive());
+        assertEquals((byte) 0, deque.peekLastPrimitive());
+        assertNull(deque.pollFirst());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, deque::removeFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::removeLastPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getLastPrimitive);
+        assertThrows(NoSuchElementException.class, () -> deque.iterator().nextPrimitive());
+        assertThrows(NoSuchElementException.class, () -> deque.descendingIterator().nextPrimitive());
+        assertThrows(IllegalStateException.class, () -> deque.iterator().remove());
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        ByteArrayDeque deque = new ByteArrayDeque();
+        for (int i = 0; i < 20; i++)
+            deque.addLastPrimitive((byte) i);
+        ByteArrayDeque clone = deque.clone();
+        assertTrue(Arrays.equals(deque.toArrayPrimitive(new byte[0]), clone.toArrayPrimitive(new byte[0])));
+        clone.removeFirstPrimitive();
+        clone.addLastPrimitive((byte) 1);
+        assertEquals(20, deque.size());
+        assertEquals((byte) 0, deque.getFirstPrimitive());
+        assertEquals((byte) 19, deque.getLastPrimitive());
+    }
+}
@@ -0,0 +1,192 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.deques;
+
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleArrayDequeTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static void assertSameContents(ArrayDeque<Double> expected, DoubleArrayDeque deque) {
+        assertEquals(expected.size(), deque.size());
+        assertArrayEquals(expected.toArray(), deque.toArray());
+        double[] a = deque.toArrayPrimitive(new double[0]);
+        Iterator<Double> it = expected.iterator();
+        for (double x : a)
+            assertEquals((double) it.next(), x);
+    }
+
+    @Test
+    public void capacityIsPowerOfTwo() {
+        assertEquals(16, new DoubleArrayDeque().elements.length);
+        assertEquals(8, new DoubleArrayDeque(0).elements.length);
+        assertEquals(8, new DoubleArrayDeque(7).elements.length);
+        assertEquals(16, new DoubleArrayDeque(8).elements.length);
+        DoubleArrayDeque deque = new DoubleArrayDeque(0);
+        for (int i = 0; i < 100; i++) {
+            deque.addFirstPrimitive((double) i);
+            int length = deque.elements.length;
+            assertEquals(0, length & (length - 1));
+            assertTrue(length > deque.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new DoubleArrayDeque(-1));
+    }
+
+    @Test
+    public void behavesLikeArrayDeque() {
+        ArrayDeque<Double> expected = new ArrayDeque<>();
+        DoubleArrayDeque deque = new DoubleArrayDeque(0);
+        for (int i = 0; i < 5000; i++) {
+            double x = (double) rnd.nextInt(50);
+            switch (rnd.nextInt(8)) {
+                case 0:
+                    expected.addFirst(x);
+                    deque.addFirstPrimitive(x);
+                    break;
+                case 1:
+                    expected.addLast(x);
+                    deque.addLastPrimitive(x);
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), deque.pollFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.pollLast(), deque.pollLast());
+                    break;
+                case 4:
+                    assertEquals(expected.removeFirstOccurrence(x), deque.removeFirstOccurrencePrimitive(x));
+                    break;
+                case 5:
+                    assertEquals(expected.removeLastOccurrence(x), deque.removeLastOccurrencePrimitive(x));
+                    break;
+                case 6: {
+                    Iterator<Double> e = expected.iterator();
+                    DoubleIterator d = deque.iterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((double) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+                default: {
+                    Iterator<Double> e = expected.descendingIterator();
+                    DoubleIterator d = deque.descendingIterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((double) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+            }
+            assertSameContents(expected, deque);
+        }
+    }
+
+    @Test
+    public void removeIfPrimitive() {
+        for (int start = 0; start < 16; start++) {
+            ArrayDeque<Double> expected = new ArrayDeque<>();
+            DoubleArrayDeque deque = new DoubleArrayDeque(8);
+            // move head around the array, so that the elements wrap.
+            for (int i = 0; i < start; i++) {
+                deque.addLastPrimitive((double) 0);
+                deque.removeFirstPrimitive();
+            }
+            for (int i = 0; i < 12; i++) {
+                expected.addLast((double) i);
+                deque.addLastPrimitive((double) i);
+            }
+            assertEquals(expected.removeIf(x -> x % 3 == 0), deque.removeIfPrimitive(x -> x % 3 == 0));
+            assertSameContents(expected, deque);
+            assertFalse(deque.removeIfPrimitive(x -> x % 3 == 0));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesDequeUnchangedOnException() {
+        DoubleArrayDeque deque = new DoubleArrayDeque();
+        for (int i = 0; i < 10; i++)
+            deque.addLastPrimitive((double) i);
+        double[] expected = deque.toArrayPrimitive(new double[0]);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> deque.removeIfPrimitive(x -> {
+            if (++tested[0] > 5)
+                throw new IllegalStateException();
+            return x < 3;
+        }));
+        assertArrayEquals(expected, deque.toArrayPrimitive(new double[0]));
+    }
+
+    @Test
+    public void removeIfThrowsIfFilterGrowsDeque() {
+        DoubleArrayDeque deque = new DoubleArrayDeque(0);
+        for (int i = 0; i < 7; i++)
+            deque.addLastPrimitive((double) i);
+        int length = deque.elements.length;
+        assertThrows(ConcurrentModificationException.class, () -> deque.removeIfPrimitive(x -> {
+            if (deque.elements.length == length)
+                deque.addLastPrimitive((double) 0);
+            return true;
+        }));
+        assertTrue(deque.elements.length > length);
+        double[] expected = new double[deque.size()];
+        for (int i = 0; i < 7; i++)
+            expected[i] = (double) i;
+        assertArrayEquals(expected, deque.toArrayPrimitive(new double[0]));
+    }
+
+    @Test
+    public void emptyDeque() {
+        DoubleArrayDeque deque = new DoubleArrayDeque();
+        assertEquals((double) 0, deque.pollFirstPrimitive());
+        assertEquals((double) 0, deque.pollLastPrimitive());
+        assertEquals((double) 0, deque.peekFirstPrimitive());
+        assertEquals((double) 0, deque.peekLastPrimitive());
+        assertNull(deque.pollFirst());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, deque::removeFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::removeLastPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getLastPrimitive);
+        assertThrows(NoSuchElementException.class, () -> deque.iterator().nextPrimitive());
+        assertThrows(NoSuchElementException.class, () -> deque.descendingIterator().nextPrimitive());
+        assertThrows(IllegalStateException.class, () -> deque.iterator().remove());
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        DoubleArrayDeque deque = new DoubleArrayDeque();
+        for (int i = 0; i < 20; i++)
+            deque.addLastPrimitive((double) i);
+        DoubleArrayDeque clone = deque.clone();
+        assertTrue(Arrays.equals(deque.toArrayPrimitive(new double[0]), clone.toArrayPrimitive(new double[0])));
+        clone.removeFirstPrimitive();
+        clone.addLastPrimitive((double) 1);
+        assertEquals(20, deque.size());
+        assertEquals((double) 0, deque.getFirstPrimitive());
+        assertEquals((double) 19, deque.getLastPrimitive());
+    }
+}
@@ -0,0 +1,192 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.deques;
+
+import com.xenoamess.commons.primitive.iterators.FloatIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FloatArrayDequeTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static void assertSameContents(ArrayDeque<Float> expected, FloatArrayDeque deque) {
+        assertEquals(expected.size(), deque.size());
+        assertArrayEquals(expected.toArray(), deque.toArray());
+        float[] a = deque.toArrayPrimitive(new float[0]);
+        Iterator<Float> it = expected.iterator();
+        for (float x : a)
+            assertEquals((float) it.next(), x);
+    }
+
+    @Test
+    public void capacityIsPowerOfTwo() {
+        assertEquals(16, new FloatArrayDeque().elements.length);
+        assertEquals(8, new FloatArrayDeque(0).elements.length);
+        assertEquals(8, new FloatArrayDeque(7).elements.length);
+        assertEquals(16, new FloatArrayDeque(8).elements.length);
+        FloatArrayDeque deque = new FloatArrayDeque(0);
+        for (int i = 0; i < 100; i++) {
+            deque.addFirstPrimitive((float) i);
+            int length = deque.elements.length;
+            assertEquals(0, length & (length - 1));
+            assertTrue(length > deque.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new FloatArrayDeque(-1));
+    }
+
+    @Test
+    public void behavesLikeArrayDeque() {
+        ArrayDeque<Float> expected = new ArrayDeque<>();
+        FloatArrayDeque deque = new FloatArrayDeque(0);
+        for (int i = 0; i < 5000; i++) {
+            float x = (float) rnd.nextInt(50);
+            switch (rnd.nextInt(8)) {
+                case 0:
+                    expected.addFirst(x);
+                    deque.addFirstPrimitive(x);
+                    break;
+                case 1:
+                    expected.addLast(x);
+                    deque.addLastPrimitive(x);
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), deque.pollFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.pollLast(), deque.pollLast());
+                    break;
+                case 4:
+                    assertEquals(expected.removeFirstOccurrence(x), deque.removeFirstOccurrencePrimitive(x));
+                    break;
+                case 5:
+                    assertEquals(expected.removeLastOccurrence(x), deque.removeLastOccurrencePrimitive(x));
+                    break;
+                case 6: {
+                    Iterator<Float> e = expected.iterator();
+                    FloatIterator d = deque.iterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((float) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+                default: {
+                    Iterator<Float> e = expected.descendingIterator();
+                    FloatIterator d = deque.descendingIterator();
+                    while (e.hasNext()) {
+                        assertTrue(d.hasNext());
+                        assertEquals((float) e.next(), d.nextPrimitive());
+                        if (rnd.nextInt(4) == 0) {
+                            e.remove();
+                            d.remove();
+                        }
+                    }
+                    assertFalse(d.hasNext());
+                    break;
+                }
+            }
+            assertSameContents(expected, deque);
+        }
+    }
+
+    @Test
+    public void removeIfPrimitive() {
+        for (int start = 0; start < 16; start++) {
+            ArrayDeque<Float> expected = new ArrayDeque<>();
+            FloatArrayDeque deque = new FloatArrayDeque(8);
+            // move head around the array, so that the elements wrap.
+            for (int i = 0; i < start; i++) {
+                deque.addLastPrimitive((float) 0);
+                deque.removeFirstPrimitive();
+            }
+            for (int i = 0; i < 12; i++) {
+                expected.addLast((float) i);
+                deque.addLastPrimitive((float) i);
+            }
+            assertEquals(expected.removeIf(x -> x % 3 == 0), deque.removeIfPrimitive(x -> x % 3 == 0));
+            assertSameContents(expected, deque);
+            assertFalse(deque.removeIfPrimitive(x -> x % 3 == 0));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesDequeUnchangedOnException() {
+        FloatArrayDeque deque = new FloatArrayDeque();
+        for (int i = 0; i < 10; i++)
+            deque.addLastPrimitive((float) i);
+        float[] expected = deque.toArrayPrimitive(new float[0]);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> deque.removeIfPrimitive(x -> {
+            if (++tested[0] > 5)
+                throw new IllegalStateException();
+            return x < 3;
+        }));
+        assertArrayEquals(expected, deque.toArrayPrimitive(new float[0]));
+    }
+
+    @Test
+    public void removeIfThrowsIfFilterGrowsDeque() {
+        FloatArrayDeque deque = new FloatArrayDeque(0);
+        for (int i = 0; i < 7; i++)
+            deque.addLastPrimitive((float) i);
+        int length = deque.elements.length;
+        assertThrows(ConcurrentModificationException.class, () -> deque.removeIfPrimitive(x -> {
+            if (deque.elements.length == length)
+                deque.addLastPrimitive((float) 0);
+            return true;
+        }));
+        assertTrue(deque.elements.length > length);
+        float[] expected = new float[deque.size()];
+        for (int i = 0; i < 7; i++)
+            expected[i] = (float) i;
+        assertArrayEquals(expected, deque.toArrayPrimitive(new float[0]));
+    }
+
+    @Test
+    public void emptyDeque() {
+        FloatArrayDeque deque = new FloatArrayDeque();
+        assertEquals((float) 0, deque.pollFirstPrimitive());
+        assertEquals((float) 0, deque.pollLastPrimitive());
+        assertEquals((float) 0, deque.peekFirstPrimitive());
+        assertEquals((float) 0, deque.peekLastPrimitive());
+        assertNull(deque.pollFirst());
+        assertNull(deque.peekLast());
+        assertThrows(NoSuchElementException.class, deque::removeFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::removeLastPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getFirstPrimitive);
+        assertThrows(NoSuchElementException.class, deque::getLastPrimitive);
+        assertThrows(NoSuchElementException.class, () -> deque.iterator().nextPrimitive());
+        assertThrows(NoSuchElementException.class, () -> deque.descendingIterator().nextPrimitive());
+        assertThrows(IllegalStateException.class, () -> deque.iterator().remove());
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        FloatArrayDeque deque = new FloatArrayDeque();
+        for (int i = 0; i < 20; i++)
+            deque.addLastPrimitive((float) i);
+        FloatArrayDeque clone = deque.clone();
+        assertTrue(Arrays.equals(deque.toArrayPrimitive(new float[0]), clone.toArrayPrimitive(new float[0])));
+        clone.removeFirstPrimitive();
+        clone.addLastPrimitive((float) 1);
+        assertEquals(20, deque.size());
+        assertEquals((float) 0, deque.getFirstPrimitive());
+        assertEquals((float) 19, deque.getLastPrimitive());
+    }
+}
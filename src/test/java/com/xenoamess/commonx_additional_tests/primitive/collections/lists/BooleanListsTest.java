@@ -0,0 +1,146 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.BooleanList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.BooleanLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BooleanListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<BooleanList>[] LISTS = new Supplier[]{
+            BooleanArrayList::new,
+            BooleanLinkedList::new,
+    };
+
+    static BooleanList fill(BooleanList list, List<Boolean> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            boolean x = rnd.nextBoolean();
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<BooleanList> supplier : LISTS) {
+            for (boolean removed : new boolean[]{true, false}) {
+                List<Boolean> expected = new ArrayList<>();
+                BooleanList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x == removed), BooleanLists.removeIfPrimitive(list, x -> x == removed));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<BooleanList> supplier : LISTS) {
+            List<Boolean> expected = new ArrayList<>();
+            BooleanList list = fill(supplier.get(), expected);
+            List<Boolean> expectedSub = expected.subList(10, SIZE - 10);
+            BooleanList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x), BooleanLists.removeIfPrimitive(sub, x -> x));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(BooleanLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(BooleanLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Boolean> expected = new ArrayList<>();
+        BooleanList list = fill(new BooleanArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> BooleanLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        BooleanList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> BooleanLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<BooleanList> supplier : LISTS) {
+            BooleanList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> BooleanLists.removeIfPrimitive(list, x -> list.add(true)));
+            BooleanList other = fill(supplier.get(), new ArrayList<>());
+            BooleanList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> BooleanLists.removeIfPrimitive(sub, x -> other.add(true)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<BooleanList> supplier : LISTS) {
+            List<Boolean> expected = new ArrayList<>();
+            BooleanList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> !x);
+            BooleanLists.replaceAllPrimitive(list, x -> !x);
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> true);
+            BooleanLists.replaceAllPrimitive(list.subList(5, 15), x -> true);
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> BooleanLists.replaceAllPrimitive(list, x -> {
+                        list.add(true);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<BooleanList> supplier : LISTS) {
+            List<Boolean> expected = new ArrayList<>();
+            BooleanList list = fill(supplier.get(), expected);
+            List<Boolean> seen = new ArrayList<>();
+            BooleanLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            BooleanLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> BooleanLists.forEachPrimitive(list, x -> list.add(true)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        BooleanList list = new BooleanArrayList();
+        assertThrows(NullPointerException.class, () -> BooleanLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> BooleanLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> BooleanLists.forEachPrimitive(list, null));
+    }
+}
@@ -0,0 +1,130 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ByteList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ByteLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<ByteList>[] LISTS = new Supplier[]{
+            ByteArrayList::new,
+            ByteLinkedList::new,
+    };
+
+    static ByteList fill(ByteList list, List<Byte> expected, int size) {
+        for (int i = 0; i < size; i++) {
+            byte x = (byte) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    /**
+     * Fills list with size ascending elements, each repeated up to 50 times.
+     */
+    static ByteList fillSorted(ByteList list, int size) {
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(list.size(), (byte) (i / 50));
+        return list;
+    }
+
+    /**
+     * Checks that r is a valid result of a binary search for key in the sorted list.
+     */
+    static void checkSearchResult(ByteList list, byte key, int r) {
+        if (r >= 0) {
+            assertEquals(key, list.getPrimitive(r));
+        } else {
+            int insertionPoint = -r - 1;
+            assertTrue(insertionPoint == 0 || Byte.compare(list.getPrimitive(insertionPoint - 1), key) < 0);
+            assertTrue(insertionPoint == list.size() || Byte.compare(list.getPrimitive(insertionPoint), key) > 0);
+        }
+    }
+
+    @Test
+    public void sortMatchesListSort() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            for (int size : new int[]{0, 1, 2, 17, SIZE, 20000}) {
+                List<Byte> expected = new ArrayList<>();
+                ByteList list = fill(supplier.get(), expected, size);
+                expected.sort(null);
+                ByteListSorts.sortPrimitive(list);
+                assertEquals(expected, list);
+
+                expected.clear();
+                list = fill(supplier.get(), expected, size);
+                expected.sort(null);
+                ByteListSorts.parallelSortPrimitive(list);
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void sortSubListSortsOnlyItsRange() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            List<Byte> expected = new ArrayList<>();
+            ByteList list = fill(supplier.get(), expected, SIZE);
+            ByteList sub = list.subList(20, SIZE - 20);
+            expected.subList(20, SIZE - 20).sort(null);
+            ByteListSorts.sortPrimitive(sub);
+            assertEquals(expected, list);
+            // written back through its list iterator, so the sub list is still valid.
+            assertEquals(expected.subList(20, SIZE - 20), sub);
+            sub.addPrimitive(0, (byte) 1);
+            assertEquals(SIZE + 1, list.size());
+        }
+    }
+
+    @Test
+    public void parallelSortSubListSortsOnlyItsRange() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            List<Byte> expected = new ArrayList<>();
+            ByteList list = fill(supplier.get(), expected, 20000);
+            ByteList sub = list.subList(100, 19900);
+            expected.subList(100, 19900).sort(null);
+            ByteListSorts.parallelSortPrimitive(sub);
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void binarySearchFindsKeyOrInsertionPoint() {
+        // 6000 elements take the iterator search on a ByteLinkedList.
+        for (int size : new int[]{0, 1, SIZE, 6000}) {
+            for (Supplier<ByteList> supplier : LISTS) {
+                ByteList list = fillSorted(supplier.get(), size);
+                for (int k = -1; k <= size / 50 + 1; k++) {
+                    byte key = (byte) k;
+                    checkSearchResult(list, key, ByteListSorts.binarySearchPrimitive(list, key));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void binarySearchSubList() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            ByteList list = fillSorted(supplier.get(), 6000);
+            ByteList sub = list.subList(1025, 4975);
+            for (int k = 0; k <= 120; k++) {
+                byte key = (byte) k;
+                checkSearchResult(sub, key, ByteListSorts.binarySearchPrimitive(sub, key));
+            }
+        }
+    }
+}
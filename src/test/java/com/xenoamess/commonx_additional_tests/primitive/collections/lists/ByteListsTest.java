@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ByteList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ByteLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<ByteList>[] LISTS = new Supplier[]{
+            ByteArrayList::new,
+            ByteLinkedList::new,
+    };
+
+    static ByteList fill(ByteList list, List<Byte> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            byte x = (byte) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Byte> expected = new ArrayList<>();
+                ByteList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), ByteLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            List<Byte> expected = new ArrayList<>();
+            ByteList list = fill(supplier.get(), expected);
+            List<Byte> expectedSub = expected.subList(10, SIZE - 10);
+            ByteList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), ByteLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(ByteLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(ByteLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Byte> expected = new ArrayList<>();
+        ByteList list = fill(new ByteArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> ByteLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        ByteList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> ByteLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            ByteList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ByteLists.removeIfPrimitive(list, x -> list.add((byte) 1)));
+            ByteList other = fill(supplier.get(), new ArrayList<>());
+            ByteList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ByteLists.removeIfPrimitive(sub, x -> other.add((byte) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            List<Byte> expected = new ArrayList<>();
+            ByteList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (byte) (x + 1));
+            ByteLists.replaceAllPrimitive(list, x -> (byte) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (byte) (x * 2));
+            ByteLists.replaceAllPrimitive(list.subList(5, 15), x -> (byte) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ByteLists.replaceAllPrimitive(list, x -> {
+                        list.add((byte) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<ByteList> supplier : LISTS) {
+            List<Byte> expected = new ArrayList<>();
+            ByteList list = fill(supplier.get(), expected);
+            List<Byte> seen = new ArrayList<>();
+            ByteLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            ByteLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ByteLists.forEachPrimitive(list, x -> list.add((byte) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        ByteList list = new ByteArrayList();
+        assertThrows(NullPointerException.class, () -> ByteLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> ByteLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> ByteLists.forEachPrimitive(list, null));
+    }
+}
@@ -0,0 +1,130 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.CharLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<CharList>[] LISTS = new Supplier[]{
+            CharArrayList::new,
+            CharLinkedList::new,
+    };
+
+    static CharList fill(CharList list, List<Character> expected, int size) {
+        for (int i = 0; i < size; i++) {
+            char x = (char) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    /**
+     * Fills list with size ascending elements, each repeated up to 50 times.
+     */
+    static CharList fillSorted(CharList list, int size) {
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(list.size(), (char) (i / 50));
+        return list;
+    }
+
+    /**
+     * Checks that r is a valid result of a binary search for key in the sorted list.
+     */
+    static void checkSearchResult(CharList list, char key, int r) {
+        if (r >= 0) {
+            assertEquals(key, list.getPrimitive(r));
+        } else {
+            int insertionPoint = -r - 1;
+            assertTrue(insertionPoint == 0 || Character.compare(list.getPrimitive(insertionPoint - 1), key) < 0);
+            assertTrue(insertionPoint == list.size() || Character.compare(list.getPrimitive(insertionPoint), key) > 0);
+        }
+    }
+
+    @Test
+    public void sortMatchesListSort() {
+        for (Supplier<CharList> supplier : LISTS) {
+            for (int size : new int[]{0, 1, 2, 17, SIZE, 20000}) {
+                List<Character> expected = new ArrayList<>();
+                CharList list = fill(supplier.get(), expected, size);
+                expected.sort(null);
+                CharListSorts.sortPrimitive(list);
+                assertEquals(expected, list);
+
+                expected.clear();
+                list = fill(supplier.get(), expected, size);
+                expected.sort(null);
+                CharListSorts.parallelSortPrimitive(list);
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void sortSubListSortsOnlyItsRange() {
+        for (Supplier<CharList> supplier : LISTS) {
+            List<Character> expected = new ArrayList<>();
+            CharList list = fill(supplier.get(), expected, SIZE);
+            CharList sub = list.subList(20, SIZE - 20);
+            expected.subList(20, SIZE - 20).sort(null);
+            CharListSorts.sortPrimitive(sub);
+            assertEquals(expected, list);
+            // written back through its list iterator, so the sub list is still valid.
+            assertEquals(expected.subList(20, SIZE - 20), sub);
+            sub.addPrimitive(0, (char) 1);
+            assertEquals(SIZE + 1, list.size());
+        }
+    }
+
+    @Test
+    public void parallelSortSubListSortsOnlyItsRange() {
+        for (Supplier<CharList> supplier : LISTS) {
+            List<Character> expected = new ArrayList<>();
+            CharList list = fill(supplier.get(), expected, 20000);
+            CharList sub = list.subList(100, 19900);
+            expected.subList(100, 19900).sort(null);
+            CharListSorts.parallelSortPrimitive(sub);
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void binarySearchFindsKeyOrInsertionPoint() {
+        // 6000 elements take the iterator search on a CharLinkedList.
+        for (int size : new int[]{0, 1, SIZE, 6000}) {
+            for (Supplier<CharList> supplier : LISTS) {
+                CharList list = fillSorted(supplier.get(), size);
+                for (int k = -1; k <= size / 50 + 1; k++) {
+                    char key = (char) k;
+                    checkSearchResult(list, key, CharListSorts.binarySearchPrimitive(list, key));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void binarySearchSubList() {
+        for (Supplier<CharList> supplier : LISTS) {
+            CharList list = fillSorted(supplier.get(), 6000);
+            CharList sub = list.subList(1025, 4975);
+            for (int k = 0; k <= 120; k++) {
+                char key = (char) k;
+                checkSearchResult(sub, key, CharListSorts.binarySearchPrimitive(sub, key));
+            }
+        }
+    }
+}
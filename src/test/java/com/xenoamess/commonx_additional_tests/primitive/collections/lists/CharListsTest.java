@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.CharLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<CharList>[] LISTS = new Supplier[]{
+            CharArrayList::new,
+            CharLinkedList::new,
+    };
+
+    static CharList fill(CharList list, List<Character> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            char x = (char) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<CharList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Character> expected = new ArrayList<>();
+                CharList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), CharLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<CharList> supplier : LISTS) {
+            List<Character> expected = new ArrayList<>();
+            CharList list = fill(supplier.get(), expected);
+            List<Character> expectedSub = expected.subList(10, SIZE - 10);
+            CharList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), CharLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(CharLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(CharLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Character> expected = new ArrayList<>();
+        CharList list = fill(new CharArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> CharLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        CharList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> CharLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<CharList> supplier : LISTS) {
+            CharList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> CharLists.removeIfPrimitive(list, x -> list.add((char) 1)));
+            CharList other = fill(supplier.get(), new ArrayList<>());
+            CharList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> CharLists.removeIfPrimitive(sub, x -> other.add((char) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<CharList> supplier : LISTS) {
+            List<Character> expected = new ArrayList<>();
+            CharList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (char) (x + 1));
+            CharLists.replaceAllPrimitive(list, x -> (char) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (char) (x * 2));
+            CharLists.replaceAllPrimitive(list.subList(5, 15), x -> (char) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> CharLists.replaceAllPrimitive(list, x -> {
+                        list.add((char) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<CharList> supplier : LISTS) {
+            List<Character> expected = new ArrayList<>();
+            CharList list = fill(supplier.get(), expected);
+            List<Character> seen = new ArrayList<>();
+            CharLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            CharLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> CharLists.forEachPrimitive(list, x -> list.add((char) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        CharList list = new CharArrayList();
+        assertThrows(NullPointerException.class, () -> CharLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> CharLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> CharLists.forEachPrimitive(list, null));
+    }
+}
@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<DoubleList>[] LISTS = new Supplier[]{
+            DoubleArrayList::new,
+            DoubleLinkedList::new,
+    };
+
+    static DoubleList fill(DoubleList list, List<Double> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            double x = (double) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<DoubleList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Double> expected = new ArrayList<>();
+                DoubleList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), DoubleLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<DoubleList> supplier : LISTS) {
+            List<Double> expected = new ArrayList<>();
+            DoubleList list = fill(supplier.get(), expected);
+            List<Double> expectedSub = expected.subList(10, SIZE - 10);
+            DoubleList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), DoubleLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(DoubleLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(DoubleLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Double> expected = new ArrayList<>();
+        DoubleList list = fill(new DoubleArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> DoubleLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        DoubleList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> DoubleLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<DoubleList> supplier : LISTS) {
+            DoubleList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> DoubleLists.removeIfPrimitive(list, x -> list.add((double) 1)));
+            DoubleList other = fill(supplier.get(), new ArrayList<>());
+            DoubleList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> DoubleLists.removeIfPrimitive(sub, x -> other.add((double) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<DoubleList> supplier : LISTS) {
+            List<Double> expected = new ArrayList<>();
+            DoubleList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (double) (x + 1));
+            DoubleLists.replaceAllPrimitive(list, x -> (double) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (double) (x * 2));
+            DoubleLists.replaceAllPrimitive(list.subList(5, 15), x -> (double) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> DoubleLists.replaceAllPrimitive(list, x -> {
+                        list.add((double) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<DoubleList> supplier : LISTS) {
+            List<Double> expected = new ArrayList<>();
+            DoubleList list = fill(supplier.get(), expected);
+            List<Double> seen = new ArrayList<>();
+            DoubleLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            DoubleLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> DoubleLists.forEachPrimitive(list, x -> list.add((double) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        DoubleList list = new DoubleArrayList();
+        assertThrows(NullPointerException.class, () -> DoubleLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> DoubleLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> DoubleLists.forEachPrimitive(list, null));
+    }
+}
@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.FloatLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FloatListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<FloatList>[] LISTS = new Supplier[]{
+            FloatArrayList::new,
+            FloatLinkedList::new,
+    };
+
+    static FloatList fill(FloatList list, List<Float> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            float x = (float) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<FloatList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Float> expected = new ArrayList<>();
+                FloatList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), FloatLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<FloatList> supplier : LISTS) {
+            List<Float> expected = new ArrayList<>();
+            FloatList list = fill(supplier.get(), expected);
+            List<Float> expectedSub = expected.subList(10, SIZE - 10);
+            FloatList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), FloatLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(FloatLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(FloatLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Float> expected = new ArrayList<>();
+        FloatList list = fill(new FloatArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> FloatLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        FloatList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> FloatLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<FloatList> supplier : LISTS) {
+            FloatList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> FloatLists.removeIfPrimitive(list, x -> list.add((float) 1)));
+            FloatList other = fill(supplier.get(), new ArrayList<>());
+            FloatList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> FloatLists.removeIfPrimitive(sub, x -> other.add((float) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<FloatList> supplier : LISTS) {
+            List<Float> expected = new ArrayList<>();
+            FloatList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (float) (x + 1));
+            FloatLists.replaceAllPrimitive(list, x -> (float) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (float) (x * 2));
+            FloatLists.replaceAllPrimitive(list.subList(5, 15), x -> (float) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> FloatLists.replaceAllPrimitive(list, x -> {
+                        list.add((float) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<FloatList> supplier : LISTS) {
+            List<Float> expected = new ArrayList<>();
+            FloatList list = fill(supplier.get(), expected);
+            List<Float> seen = new ArrayList<>();
+            FloatLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            FloatLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> FloatLists.forEachPrimitive(list, x -> list.add((float) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        FloatList list = new FloatArrayList();
+        assertThrows(NullPointerException.class, () -> FloatLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> FloatLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> FloatLists.forEachPrimitive(list, null));
+    }
+}
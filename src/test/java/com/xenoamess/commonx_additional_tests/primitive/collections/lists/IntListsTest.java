@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.IntLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<IntList>[] LISTS = new Supplier[]{
+            IntArrayList::new,
+            IntLinkedList::new,
+    };
+
+    static IntList fill(IntList list, List<Integer> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            int x = (int) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<IntList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Integer> expected = new ArrayList<>();
+                IntList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), IntLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<IntList> supplier : LISTS) {
+            List<Integer> expected = new ArrayList<>();
+            IntList list = fill(supplier.get(), expected);
+            List<Integer> expectedSub = expected.subList(10, SIZE - 10);
+            IntList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), IntLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(IntLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(IntLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Integer> expected = new ArrayList<>();
+        IntList list = fill(new IntArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> IntLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        IntList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> IntLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<IntList> supplier : LISTS) {
+            IntList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> IntLists.removeIfPrimitive(list, x -> list.add((int) 1)));
+            IntList other = fill(supplier.get(), new ArrayList<>());
+            IntList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> IntLists.removeIfPrimitive(sub, x -> other.add((int) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<IntList> supplier : LISTS) {
+            List<Integer> expected = new ArrayList<>();
+            IntList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (int) (x + 1));
+            IntLists.replaceAllPrimitive(list, x -> (int) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (int) (x * 2));
+            IntLists.replaceAllPrimitive(list.subList(5, 15), x -> (int) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> IntLists.replaceAllPrimitive(list, x -> {
+                        list.add((int) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<IntList> supplier : LISTS) {
+            List<Integer> expected = new ArrayList<>();
+            IntList list = fill(supplier.get(), expected);
+            List<Integer> seen = new ArrayList<>();
+            IntLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            IntLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> IntLists.forEachPrimitive(list, x -> list.add((int) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        IntList list = new IntArrayList();
+        assertThrows(NullPointerException.class, () -> IntLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> IntLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> IntLists.forEachPrimitive(list, null));
+    }
+}
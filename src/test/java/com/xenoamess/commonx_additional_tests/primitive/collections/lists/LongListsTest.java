@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.LongList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.LongLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<LongList>[] LISTS = new Supplier[]{
+            LongArrayList::new,
+            LongLinkedList::new,
+    };
+
+    static LongList fill(LongList list, List<Long> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            long x = (long) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<LongList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Long> expected = new ArrayList<>();
+                LongList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), LongLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<LongList> supplier : LISTS) {
+            List<Long> expected = new ArrayList<>();
+            LongList list = fill(supplier.get(), expected);
+            List<Long> expectedSub = expected.subList(10, SIZE - 10);
+            LongList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), LongLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(LongLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(LongLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Long> expected = new ArrayList<>();
+        LongList list = fill(new LongArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> LongLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        LongList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> LongLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<LongList> supplier : LISTS) {
+            LongList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> LongLists.removeIfPrimitive(list, x -> list.add((long) 1)));
+            LongList other = fill(supplier.get(), new ArrayList<>());
+            LongList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> LongLists.removeIfPrimitive(sub, x -> other.add((long) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<LongList> supplier : LISTS) {
+            List<Long> expected = new ArrayList<>();
+            LongList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (long) (x + 1));
+            LongLists.replaceAllPrimitive(list, x -> (long) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (long) (x * 2));
+            LongLists.replaceAllPrimitive(list.subList(5, 15), x -> (long) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> LongLists.replaceAllPrimitive(list, x -> {
+                        list.add((long) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<LongList> supplier : LISTS) {
+            List<Long> expected = new ArrayList<>();
+            LongList list = fill(supplier.get(), expected);
+            List<Long> seen = new ArrayList<>();
+            LongLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            LongLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> LongLists.forEachPrimitive(list, x -> list.add((long) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        LongList list = new LongArrayList();
+        assertThrows(NullPointerException.class, () -> LongLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> LongLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> LongLists.forEachPrimitive(list, null));
+    }
+}
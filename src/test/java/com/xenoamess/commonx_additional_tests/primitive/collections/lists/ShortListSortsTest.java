@@ -0,0 +1,130 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ShortList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ShortLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShortListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<ShortList>[] LISTS = new Supplier[]{
+            ShortArrayList::new,
+            ShortLinkedList::new,
+    };
+
+    static ShortList fill(ShortList list, List<Short> expected, int size) {
+        for (int i = 0; i < size; i++) {
+            short x = (short) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    /**
+     * Fills list with size ascending elements, each repeated up to 50 times.
+     */
+    static ShortList fillSorted(ShortList list, int size) {
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(list.size(), (short) (i / 50));
+        return list;
+    }
+
+    /**
+     * Checks that r is a valid result of a binary search for key in the sorted list.
+     */
+    static void checkSearchResult(ShortList list, short key, int r) {
+        if (r >= 0) {
+            assertEquals(key, list.getPrimitive(r));
+        } else {
+            int insertionPoint = -r - 1;
+            assertTrue(insertionPoint == 0 || Short.compare(list.getPrimitive(insertionPoint - 1), key) < 0);
+            assertTrue(insertionPoint == list.size() || Short.compare(list.getPrimitive(insertionPoint), key) > 0);
+        }
+    }
+
+    @Test
+    public void sortMatchesListSort() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            for (int size : new int[]{0, 1, 2, 17, SIZE, 20000}) {
+                List<Short> expected = new ArrayList<>();
+                ShortList list = fill(supplier.get(), expected, size);
+                expected.sort(null);
+                ShortListSorts.sortPrimitive(list);
+                assertEquals(expected, list);
+
+                expected.clear();
+                list = fill(supplier.get(), expected, size);
+                expected.sort(null);
+                ShortListSorts.parallelSortPrimitive(list);
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void sortSubListSortsOnlyItsRange() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            List<Short> expected = new ArrayList<>();
+            ShortList list = fill(supplier.get(), expected, SIZE);
+            ShortList sub = list.subList(20, SIZE - 20);
+            expected.subList(20, SIZE - 20).sort(null);
+            ShortListSorts.sortPrimitive(sub);
+            assertEquals(expected, list);
+            // written back through its list iterator, so the sub list is still valid.
+            assertEquals(expected.subList(20, SIZE - 20), sub);
+            sub.addPrimitive(0, (short) 1);
+            assertEquals(SIZE + 1, list.size());
+        }
+    }
+
+    @Test
+    public void parallelSortSubListSortsOnlyItsRange() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            List<Short> expected = new ArrayList<>();
+            ShortList list = fill(supplier.get(), expected, 20000);
+            ShortList sub = list.subList(100, 19900);
+            expected.subList(100, 19900).sort(null);
+            ShortListSorts.parallelSortPrimitive(sub);
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void binarySearchFindsKeyOrInsertionPoint() {
+        // 6000 elements take the iterator search on a ShortLinkedList.
+        for (int size : new int[]{0, 1, SIZE, 6000}) {
+            for (Supplier<ShortList> supplier : LISTS) {
+                ShortList list = fillSorted(supplier.get(), size);
+                for (int k = -1; k <= size / 50 + 1; k++) {
+                    short key = (short) k;
+                    checkSearchResult(list, key, ShortListSorts.binarySearchPrimitive(list, key));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void binarySearchSubList() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            ShortList list = fillSorted(supplier.get(), 6000);
+            ShortList sub = list.subList(1025, 4975);
+            for (int k = 0; k <= 120; k++) {
+                short key = (short) k;
+                checkSearchResult(sub, key, ShortListSorts.binarySearchPrimitive(sub, key));
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ShortList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ShortLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShortListsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int SIZE = 200;
+
+    @SuppressWarnings("unchecked")
+    static final Supplier<ShortList>[] LISTS = new Supplier[]{
+            ShortArrayList::new,
+            ShortLinkedList::new,
+    };
+
+    static ShortList fill(ShortList list, List<Short> expected) {
+        for (int i = 0; i < SIZE; i++) {
+            short x = (short) rnd.nextInt(100);
+            list.addPrimitive(list.size(), x);
+            expected.add(x);
+        }
+        return list;
+    }
+
+    @Test
+    public void removeIfMatchesArrayList() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            for (int mod = 1; mod < 70; mod += 3) {
+                final int m = mod;
+                List<Short> expected = new ArrayList<>();
+                ShortList list = fill(supplier.get(), expected);
+                assertEquals(expected.removeIf(x -> x % m == 0), ShortLists.removeIfPrimitive(list, x -> x % m == 0));
+                assertEquals(expected, list);
+            }
+        }
+    }
+
+    @Test
+    public void removeIfOnSubList() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            List<Short> expected = new ArrayList<>();
+            ShortList list = fill(supplier.get(), expected);
+            List<Short> expectedSub = expected.subList(10, SIZE - 10);
+            ShortList sub = list.subList(10, SIZE - 10);
+            assertEquals(expectedSub.removeIf(x -> x % 2 == 0), ShortLists.removeIfPrimitive(sub, x -> x % 2 == 0));
+            assertEquals(expectedSub.size(), sub.size());
+            assertEquals(expectedSub, sub);
+            assertEquals(expected, list);
+            // removing everything empties the sub list only.
+            assertTrue(ShortLists.removeIfPrimitive(sub, x -> true));
+            assertEquals(0, sub.size());
+            assertEquals(20, list.size());
+            assertFalse(ShortLists.removeIfPrimitive(sub, x -> true));
+        }
+    }
+
+    @Test
+    public void removeIfLeavesRandomAccessListUnchangedOnException() {
+        List<Short> expected = new ArrayList<>();
+        ShortList list = fill(new ShortArrayList(), expected);
+        int[] tested = new int[1];
+        assertThrows(IllegalStateException.class, () -> ShortLists.removeIfPrimitive(list, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+        ShortList sub = list.subList(1, SIZE - 1);
+        tested[0] = 0;
+        assertThrows(IllegalStateException.class, () -> ShortLists.removeIfPrimitive(sub, x -> {
+            if (++tested[0] == SIZE / 2)
+                throw new IllegalStateException();
+            return true;
+        }));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void removeIfFailFast() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            ShortList list = fill(supplier.get(), new ArrayList<>());
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ShortLists.removeIfPrimitive(list, x -> list.add((short) 1)));
+            ShortList other = fill(supplier.get(), new ArrayList<>());
+            ShortList sub = other.subList(1, 10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ShortLists.removeIfPrimitive(sub, x -> other.add((short) 1)));
+        }
+    }
+
+    @Test
+    public void replaceAllMatchesArrayList() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            List<Short> expected = new ArrayList<>();
+            ShortList list = fill(supplier.get(), expected);
+            expected.replaceAll(x -> (short) (x + 1));
+            ShortLists.replaceAllPrimitive(list, x -> (short) (x + 1));
+            assertEquals(expected, list);
+            expected.subList(5, 15).replaceAll(x -> (short) (x * 2));
+            ShortLists.replaceAllPrimitive(list.subList(5, 15), x -> (short) (x * 2));
+            assertEquals(expected, list);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ShortLists.replaceAllPrimitive(list, x -> {
+                        list.add((short) 1);
+                        return x;
+                    }));
+        }
+    }
+
+    @Test
+    public void forEachInOrder() {
+        for (Supplier<ShortList> supplier : LISTS) {
+            List<Short> expected = new ArrayList<>();
+            ShortList list = fill(supplier.get(), expected);
+            List<Short> seen = new ArrayList<>();
+            ShortLists.forEachPrimitive(list, seen::add);
+            assertEquals(expected, seen);
+            seen.clear();
+            ShortLists.forEachPrimitive(list.subList(3, 7), seen::add);
+            assertEquals(expected.subList(3, 7), seen);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> ShortLists.forEachPrimitive(list, x -> list.add((short) 1)));
+        }
+    }
+
+    @Test
+    public void nullFunctions() {
+        ShortList list = new ShortArrayList();
+        assertThrows(NullPointerException.class, () -> ShortLists.removeIfPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> ShortLists.replaceAllPrimitive(list, null));
+        assertThrows(NullPointerException.class, () -> ShortLists.forEachPrimitive(list, null));
+    }
+}
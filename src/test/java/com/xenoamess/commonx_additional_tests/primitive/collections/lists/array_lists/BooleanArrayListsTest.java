@@ -0,0 +1,216 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractBooleanList;
+import com.xenoamess.commons.primitive.collections.lists.BooleanList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.BooleanLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.BooleanLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteBooleanArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BooleanArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = BooleanArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractBooleanList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(BooleanArrayList list) throws IllegalAccessException {
+        return ((boolean[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(BooleanArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static boolean v(int i) {
+        return i % 3 == 0;
+    }
+
+    static boolean[] range(int from, int to) {
+        boolean[] a = new boolean[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = v(from + i);
+        return a;
+    }
+
+    static BooleanArrayList listOf(boolean... elements) {
+        BooleanArrayList list = new BooleanArrayList(elements.length);
+        for (boolean e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Boolean> boxed(boolean... elements) {
+        List<Boolean> list = new ArrayList<>();
+        for (boolean e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(BooleanArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        boolean[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            BooleanArrayList list = listOf(range(0, 5));
+            List<Boolean> expected = boxed(range(0, 5));
+            assertTrue(BooleanArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        BooleanArrayList list = listOf(range(0, 5));
+        assertTrue(BooleanArrayLists.addAll(list, src, 0, src.length));
+        List<Boolean> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(BooleanArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        BooleanArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        BooleanArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        BooleanArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        BooleanArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(BooleanArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(BooleanArrayLists.addAll(list, new BooleanArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        BooleanArrayList list = listOf(range(0, 3));
+        boolean[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        BooleanArrayList list = listOf(range(0, 4));
+        assertTrue(BooleanArrayLists.addAll(list, list));
+        List<Boolean> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        BooleanLinkedList linked = new BooleanLinkedList();
+        for (boolean e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(BooleanArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(BooleanArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        BooleanArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(BooleanArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(BooleanArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * BooleanLists and BooleanArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            boolean[] a = range(0, length);
+            List<Boolean> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            BooleanArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyBooleanArrayList growth = new GrowthPolicyBooleanArrayList(GrowthPolicy.DOUBLING);
+            BooleanArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteBooleanArrayList cow = new CopyOnWriteBooleanArrayList(a);
+            List<BooleanList> lists = Arrays.asList(listOf(a), stale, growth, new BooleanLinkedList(boxed), cow);
+            for (BooleanList x : lists) {
+                assertEquals(boxed.hashCode(), BooleanLists.hashCode(x));
+                assertTrue(BooleanLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (BooleanList y : lists)
+                    assertTrue(BooleanLists.equals(x, y));
+                assertFalse(BooleanLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), BooleanArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            boolean[] changed = a.clone();
+            changed[length - 1] = !changed[length - 1];
+            boolean[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (BooleanList x : lists) {
+                assertFalse(BooleanLists.equals(x, listOf(changed)));
+                assertFalse(BooleanLists.equals(x, listOf(shorter)));
+                assertFalse(BooleanLists.equals(x, new BooleanLinkedList(boxed(changed))));
+                assertFalse(BooleanLists.equals(x, new BooleanLinkedList(boxed(shorter))));
+                assertFalse(BooleanLists.equals(x, boxed(changed)));
+                assertFalse(BooleanLists.equals(x, boxed(shorter)));
+                assertFalse(BooleanLists.equals(x, wrongType));
+                assertFalse(BooleanLists.equals(listOf(shorter), x));
+                assertFalse(BooleanLists.equals(new BooleanLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new BooleanLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new BooleanLinkedList(boxed(changed))));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ByteList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.ByteListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ByteArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static byte[] randomElements(int size) {
+        byte[] a = new byte[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (byte) rnd.nextInt(1000);
+        return a;
+    }
+
+    static byte[] sorted(byte[] a) {
+        byte[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static byte[] elements(ByteArrayList list) {
+        return list.toArrayPrimitive(new byte[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            byte[] a = randomElements(size);
+            ByteArrayList list = listOf(a);
+            ByteArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            ByteArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        byte[] a = randomElements(20000);
+        byte[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        ByteArrayList list = listOf(a);
+        ByteArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        ByteArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        ByteArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        ByteArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        ByteArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        ByteListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        ByteArrayListSorts.binarySearchPrimitive(list, (byte) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        ByteArrayList list = listOf(randomElements(100));
+        ByteIterator it = list.iterator();
+        it.nextPrimitive();
+        ByteList sub = list.subList(10, 20);
+        ByteArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        byte[] a = new byte[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (byte) (i / 10);
+        ByteArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            byte key = (byte) k;
+            assertEquals(Arrays.binarySearch(a, key), ByteArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    ByteArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), ByteListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        ByteArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> ByteArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ByteArrayListSorts.binarySearchPrimitive(list, 0, 11, (byte) 0));
+    }
+}
@@ -0,0 +1,212 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractByteList;
+import com.xenoamess.commons.primitive.collections.lists.ByteList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ByteLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.ByteLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteByteArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ByteArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = ByteArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractByteList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(ByteArrayList list) throws IllegalAccessException {
+        return ((byte[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(ByteArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static byte[] range(int from, int to) {
+        byte[] a = new byte[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (byte) (from + i);
+        return a;
+    }
+
+    static ByteArrayList listOf(byte... elements) {
+        ByteArrayList list = new ByteArrayList(elements.length);
+        for (byte e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Byte> boxed(byte... elements) {
+        List<Byte> list = new ArrayList<>();
+        for (byte e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(ByteArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        byte[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            ByteArrayList list = listOf(range(0, 5));
+            List<Byte> expected = boxed(range(0, 5));
+            assertTrue(ByteArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        ByteArrayList list = listOf(range(0, 5));
+        assertTrue(ByteArrayLists.addAll(list, src, 0, src.length));
+        List<Byte> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(ByteArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        ByteArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        ByteArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        ByteArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        ByteArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(ByteArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(ByteArrayLists.addAll(list, new ByteArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        ByteArrayList list = listOf(range(0, 3));
+        byte[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ByteArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        ByteArrayList list = listOf(range(0, 4));
+        assertTrue(ByteArrayLists.addAll(list, list));
+        List<Byte> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        ByteLinkedList linked = new ByteLinkedList();
+        for (byte e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(ByteArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(ByteArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        ByteArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(ByteArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(ByteArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * ByteLists and ByteArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            byte[] a = range(0, length);
+            List<Byte> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            ByteArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyByteArrayList growth = new GrowthPolicyByteArrayList(GrowthPolicy.DOUBLING);
+            ByteArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteByteArrayList cow = new CopyOnWriteByteArrayList(a);
+            List<ByteList> lists = Arrays.asList(listOf(a), stale, growth, new ByteLinkedList(boxed), cow);
+            for (ByteList x : lists) {
+                assertEquals(boxed.hashCode(), ByteLists.hashCode(x));
+                assertTrue(ByteLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (ByteList y : lists)
+                    assertTrue(ByteLists.equals(x, y));
+                assertFalse(ByteLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), ByteArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            byte[] changed = a.clone();
+            changed[length - 1] = (byte) -1;
+            byte[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (ByteList x : lists) {
+                assertFalse(ByteLists.equals(x, listOf(changed)));
+                assertFalse(ByteLists.equals(x, listOf(shorter)));
+                assertFalse(ByteLists.equals(x, new ByteLinkedList(boxed(changed))));
+                assertFalse(ByteLists.equals(x, new ByteLinkedList(boxed(shorter))));
+                assertFalse(ByteLists.equals(x, boxed(changed)));
+                assertFalse(ByteLists.equals(x, boxed(shorter)));
+                assertFalse(ByteLists.equals(x, wrongType));
+                assertFalse(ByteLists.equals(listOf(shorter), x));
+                assertFalse(ByteLists.equals(new ByteLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new ByteLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new ByteLinkedList(boxed(changed))));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.CharListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CharArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static char[] randomElements(int size) {
+        char[] a = new char[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (char) rnd.nextInt(1000);
+        return a;
+    }
+
+    static char[] sorted(char[] a) {
+        char[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static char[] elements(CharArrayList list) {
+        return list.toArrayPrimitive(new char[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            char[] a = randomElements(size);
+            CharArrayList list = listOf(a);
+            CharArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            CharArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        char[] a = randomElements(20000);
+        char[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        CharArrayList list = listOf(a);
+        CharArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        CharArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        CharArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        CharArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        CharArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        CharListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        CharArrayListSorts.binarySearchPrimitive(list, (char) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        CharArrayList list = listOf(randomElements(100));
+        CharIterator it = list.iterator();
+        it.nextPrimitive();
+        CharList sub = list.subList(10, 20);
+        CharArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        char[] a = new char[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (char) (i / 10);
+        CharArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            char key = (char) k;
+            assertEquals(Arrays.binarySearch(a, key), CharArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    CharArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), CharListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        CharArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> CharArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> CharArrayListSorts.binarySearchPrimitive(list, 0, 11, (char) 0));
+    }
+}
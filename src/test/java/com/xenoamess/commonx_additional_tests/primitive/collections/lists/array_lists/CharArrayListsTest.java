@@ -0,0 +1,212 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractCharList;
+import com.xenoamess.commons.primitive.collections.lists.CharList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.CharLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.CharLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteCharArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = CharArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractCharList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(CharArrayList list) throws IllegalAccessException {
+        return ((char[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(CharArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static char[] range(int from, int to) {
+        char[] a = new char[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (char) (from + i);
+        return a;
+    }
+
+    static CharArrayList listOf(char... elements) {
+        CharArrayList list = new CharArrayList(elements.length);
+        for (char e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Character> boxed(char... elements) {
+        List<Character> list = new ArrayList<>();
+        for (char e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(CharArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        char[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            CharArrayList list = listOf(range(0, 5));
+            List<Character> expected = boxed(range(0, 5));
+            assertTrue(CharArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        CharArrayList list = listOf(range(0, 5));
+        assertTrue(CharArrayLists.addAll(list, src, 0, src.length));
+        List<Character> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(CharArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        CharArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        CharArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        CharArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        CharArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(CharArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(CharArrayLists.addAll(list, new CharArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        CharArrayList list = listOf(range(0, 3));
+        char[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> CharArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        CharArrayList list = listOf(range(0, 4));
+        assertTrue(CharArrayLists.addAll(list, list));
+        List<Character> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        CharLinkedList linked = new CharLinkedList();
+        for (char e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(CharArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(CharArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        CharArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(CharArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(CharArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * CharLists and CharArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            char[] a = range(0, length);
+            List<Character> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            CharArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyCharArrayList growth = new GrowthPolicyCharArrayList(GrowthPolicy.DOUBLING);
+            CharArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteCharArrayList cow = new CopyOnWriteCharArrayList(a);
+            List<CharList> lists = Arrays.asList(listOf(a), stale, growth, new CharLinkedList(boxed), cow);
+            for (CharList x : lists) {
+                assertEquals(boxed.hashCode(), CharLists.hashCode(x));
+                assertTrue(CharLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (CharList y : lists)
+                    assertTrue(CharLists.equals(x, y));
+                assertFalse(CharLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), CharArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            char[] changed = a.clone();
+            changed[length - 1] = (char) -1;
+            char[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (CharList x : lists) {
+                assertFalse(CharLists.equals(x, listOf(changed)));
+                assertFalse(CharLists.equals(x, listOf(shorter)));
+                assertFalse(CharLists.equals(x, new CharLinkedList(boxed(changed))));
+                assertFalse(CharLists.equals(x, new CharLinkedList(boxed(shorter))));
+                assertFalse(CharLists.equals(x, boxed(changed)));
+                assertFalse(CharLists.equals(x, boxed(shorter)));
+                assertFalse(CharLists.equals(x, wrongType));
+                assertFalse(CharLists.equals(listOf(shorter), x));
+                assertFalse(CharLists.equals(new CharLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new CharLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new CharLinkedList(boxed(changed))));
+            }
+        }
+    }
+}
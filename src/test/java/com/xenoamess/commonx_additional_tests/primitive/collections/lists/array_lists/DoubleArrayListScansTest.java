@@ -0,0 +1,289 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class DoubleArrayListScansTest {
+    static final ScalarDoubleScanKernel SCALAR = ScalarDoubleScanKernel.INSTANCE;
+
+    /**
+     * The vector kernel, whether or not DoubleArrayListScans picked it, or null if this jvm cannot load it.
+     */
+    static final DoubleScanKernel VECTOR = vectorKernelOrNull();
+
+    static DoubleScanKernel vectorKernelOrNull() {
+        try {
+            return (DoubleScanKernel) Class.forName(DoubleArrayListScans.VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Small whole numbers, so that sums are exact in every order.
+     */
+    static double[] values(int length) {
+        double[] a = new double[length];
+        for (int i = 0; i < length; i++)
+            a[i] = (double) ((i * 7919) % 101 - 50);
+        return a;
+    }
+
+    /**
+     * Whichever kernel this jvm picked, it must agree with the scalar loops.
+     * Lengths go past a few vector widths, so the vector loop and its tail both run.
+     */
+    @Test
+    public void rangesMatchScalar() {
+        double[] a = values(200);
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), DoubleArrayListScans.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), DoubleArrayListScans.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), DoubleArrayListScans.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), DoubleArrayListScans.indexOf(a, from, to, a[k]));
+            }
+        }
+    }
+
+    /**
+     * hashCode and equals agree with Arrays on ranges ending anywhere in or after the vector loop.
+     */
+    @Test
+    public void hashCodeAndEqualsMatchArrays() {
+        double[] a = values(200);
+        double[] b = new double[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                int hashCode = Arrays.hashCode(Arrays.copyOfRange(a, from, to));
+                assertEquals(hashCode, SCALAR.hashCode(a, from, to));
+                assertEquals(hashCode, DoubleArrayListScans.hashCode(a, from, to));
+                int bTo = 7 + to - from;
+                System.arraycopy(a, from, b, 7, to - from);
+                assertTrue(DoubleArrayListScans.equals(a, from, to, b, 7, bTo));
+                assertFalse(DoubleArrayListScans.equals(a, from, to, b, 7, bTo + 1));
+                if (from < to) {
+                    // values are at most 50 away from 0.
+                    b[bTo - 1] = (double) 1000;
+                    assertFalse(SCALAR.equals(a, from, b, 7, to - from));
+                    assertFalse(DoubleArrayListScans.equals(a, from, to, b, 7, bTo));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> DoubleArrayListScans.hashCode(a, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> DoubleArrayListScans.hashCode(a, 0, 201));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> DoubleArrayListScans.equals(a, 0, 1, b, -1, 0));
+    }
+
+    @Test
+    public void vectorKernelMatchesScalar() {
+        assumeTrue(VECTOR != null, "the vector kernel is not available on this jvm");
+        double[] a = values(200);
+        double[] b = a.clone();
+        double[] filled = new double[200];
+        double[] expected = new double[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), VECTOR.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), VECTOR.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), VECTOR.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), VECTOR.indexOf(a, from, to, a[k]));
+                assertEquals(-1, VECTOR.indexOf(a, from, to, (double) 99));
+                assertEquals(SCALAR.hashCode(a, from, to), VECTOR.hashCode(a, from, to));
+                assertTrue(VECTOR.equals(a, from, b, from, to - from));
+                assertEquals(SCALAR.equals(a, from, b, from + 1, to - from), VECTOR.equals(a, from, b, from + 1, to - from));
+                SCALAR.fill(expected, from, to, (double) to);
+                VECTOR.fill(filled, from, to, (double) to);
+                assertArrayEquals(expected, filled);
+            }
+        }
+    }
+
+    /**
+     * Another NaN than Double.NaN: Double.hashCode and Arrays.equals see it as the canonical one.
+     */
+    static final double OTHER_NAN = Double.longBitsToDouble(0x7ff8000000000001L);
+
+    /**
+     * The scalar kernel, the vector one if this jvm can load it,
+     * and the front door, whichever of them it picked.
+     */
+    static List<DoubleScanKernel> kernels() {
+        List<DoubleScanKernel> kernels = new ArrayList<>();
+        kernels.add(SCALAR);
+        if (VECTOR != null)
+            kernels.add(VECTOR);
+        kernels.add(new DoubleScanKernel() {
+            @Override
+            public double sum(double[] a, int fromIndex, int toIndex) {
+                return DoubleArrayListScans.sum(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public double min(double[] a, int fromIndex, int toIndex) {
+                return DoubleArrayListScans.min(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public double max(double[] a, int fromIndex, int toIndex) {
+                return DoubleArrayListScans.max(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public int indexOf(double[] a, int fromIndex, int toIndex, double x) {
+                return DoubleArrayListScans.indexOf(a, fromIndex, toIndex, x);
+            }
+
+            @Override
+            public void fill(double[] a, int fromIndex, int toIndex, double x) {
+                DoubleArrayListScans.fill(a, fromIndex, toIndex, x);
+            }
+
+            @Override
+            public int hashCode(double[] a, int fromIndex, int toIndex) {
+                return DoubleArrayListScans.hashCode(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public boolean equals(double[] a, int aFromIndex, double[] b, int bFromIndex, int length) {
+                return DoubleArrayListScans.equals(a, aFromIndex, aFromIndex + length, b, bFromIndex, bFromIndex + length);
+            }
+        });
+        return kernels;
+    }
+
+    /**
+     * One NaN, -0.0, 0.0 or infinity at every position, among whole numbers, among zeros and among negative zeros.
+     * min and max must be what Math.min and Math.max make of them (assertEquals compares the bits, so -0.0 is not 0.0),
+     * hashCode and equals what Arrays makes of them, and indexOf must compare with ==.
+     */
+    @Test
+    public void specialValuesFollowMathAndArrays() {
+        double[] specials = {Double.NaN, OTHER_NAN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (DoubleScanKernel kernel : kernels()) {
+            for (int length = 1; length <= 70; length++) {
+                double[] zeros = new double[length];
+                double[] negativeZeros = new double[length];
+                Arrays.fill(negativeZeros, -0.0);
+                for (double[] base : Arrays.asList(values(length), zeros, negativeZeros)) {
+                    for (int at = 0; at < length; at++) {
+                        for (double special : specials) {
+                            double[] a = base.clone();
+                            a[at] = special;
+                            double min = a[0];
+                            double max = a[0];
+                            int indexOf = -1;
+                            for (int i = 0; i < length; i++) {
+                                min = Math.min(min, a[i]);
+                                max = Math.max(max, a[i]);
+                                if (indexOf == -1 && a[i] == special)
+                                    indexOf = i;
+                            }
+                            assertEquals(min, kernel.min(a, 0, length));
+                            assertEquals(max, kernel.max(a, 0, length));
+                            assertEquals(indexOf, kernel.indexOf(a, 0, length, special));
+                            assertEquals(Arrays.hashCode(a), kernel.hashCode(a, 0, length));
+                            double[] b = a.clone();
+                            // the other NaN for a NaN, and -0.0 for 0.0: Arrays.equals tells the zeros apart but not the NaNs.
+                            b[at] = special != special ? (Double.doubleToRawLongBits(special) == Double.doubleToRawLongBits(Double.NaN) ? OTHER_NAN : Double.NaN) : -special;
+                            assertEquals(Arrays.equals(a, b), kernel.equals(a, 0, b, 0, length));
+                            assertEquals(Arrays.hashCode(b), kernel.hashCode(b, 0, length));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void indexOfFindsFirstOccurrence() {
+        for (int length = 1; length <= 100; length++) {
+            for (int at = 0; at < length; at++) {
+                double[] a = new double[length];
+                a[at] = (double) 1;
+                if (at + 1 < length)
+                    a[length - 1] = (double) 1;
+                assertEquals(at, DoubleArrayListScans.indexOf(a, 0, length, (double) 1));
+                assertEquals(-1, DoubleArrayListScans.indexOf(a, at + 1, at + 1, (double) 1));
+            }
+            assertEquals(-1, DoubleArrayListScans.indexOf(new double[length], 0, length, (double) 1));
+        }
+    }
+
+    @Test
+    public void fillOnlyTouchesRange() {
+        for (int length = 0; length <= 100; length++) {
+            double[] a = values(length + 20);
+            double[] expected = a.clone();
+            Arrays.fill(expected, 10, 10 + length, (double) 3);
+            DoubleArrayListScans.fill(a, 10, 10 + length, (double) 3);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void listsIgnoreSpareCapacity() throws IllegalAccessException {
+        double[] a = values(100);
+        DoubleArrayList list = listOf(a);
+        // leave stale elements beyond size in elementData.
+        list.addPrimitive(list.size(), (double) 99);
+        list.addPrimitive(list.size(), (double) -99);
+        list.remove(list.size() - 1);
+        list.remove(list.size() - 1);
+        assertEquals(SCALAR.sum(a, 0, 100), DoubleArrayListScans.sum(list));
+        assertEquals(SCALAR.min(a, 0, 100), DoubleArrayListScans.min(list));
+        assertEquals(SCALAR.max(a, 0, 100), DoubleArrayListScans.max(list));
+        assertEquals(SCALAR.indexOf(a, 0, 100, a[42]), DoubleArrayListScans.indexOfPrimitive(list, a[42]));
+        assertTrue(DoubleArrayListScans.containsPrimitive(list, a[99]));
+        assertFalse(DoubleArrayListScans.containsPrimitive(list, (double) 99));
+
+        int modCount = modCount(list);
+        DoubleArrayListScans.fill(list, (double) 7);
+        assertEquals(100, list.size());
+        for (int i = 0; i < list.size(); i++)
+            assertEquals((double) 7, list.getPrimitive(i));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void emptyList() {
+        DoubleArrayList list = new DoubleArrayList();
+        assertEquals((double) 0, DoubleArrayListScans.sum(list));
+        assertEquals(-1, DoubleArrayListScans.indexOfPrimitive(list, (double) 0));
+        assertThrows(NoSuchElementException.class, () -> DoubleArrayListScans.min(list));
+        assertThrows(NoSuchElementException.class, () -> DoubleArrayListScans.max(list));
+        DoubleArrayListScans.fill(list, (double) 1);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void badRanges() {
+        double[] a = values(10);
+        assertThrows(IllegalArgumentException.class, () -> DoubleArrayListScans.sum(a, 5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> DoubleArrayListScans.sum(a, -1, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> DoubleArrayListScans.indexOf(a, 0, 11, (double) 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> DoubleArrayListScans.fill(a, 0, 11, (double) 0));
+        assertThrows(NoSuchElementException.class, () -> DoubleArrayListScans.min(a, 3, 3));
+        assertThrows(NoSuchElementException.class, () -> DoubleArrayListScans.max(a, 3, 3));
+    }
+}
@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.DoubleListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DoubleArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static double[] randomElements(int size) {
+        double[] a = new double[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (double) rnd.nextInt(1000);
+        return a;
+    }
+
+    static double[] sorted(double[] a) {
+        double[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static double[] elements(DoubleArrayList list) {
+        return list.toArrayPrimitive(new double[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            double[] a = randomElements(size);
+            DoubleArrayList list = listOf(a);
+            DoubleArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            DoubleArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        double[] a = randomElements(20000);
+        double[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        DoubleArrayList list = listOf(a);
+        DoubleArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        DoubleArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        DoubleArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        DoubleArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        DoubleArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        DoubleListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        DoubleArrayListSorts.binarySearchPrimitive(list, (double) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        DoubleArrayList list = listOf(randomElements(100));
+        DoubleIterator it = list.iterator();
+        it.nextPrimitive();
+        DoubleList sub = list.subList(10, 20);
+        DoubleArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        double[] a = new double[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (double) (i / 10);
+        DoubleArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            double key = (double) k;
+            assertEquals(Arrays.binarySearch(a, key), DoubleArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    DoubleArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), DoubleListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        DoubleArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> DoubleArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> DoubleArrayListSorts.binarySearchPrimitive(list, 0, 11, (double) 0));
+    }
+}
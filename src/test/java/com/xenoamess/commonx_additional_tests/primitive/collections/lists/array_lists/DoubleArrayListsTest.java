@@ -0,0 +1,229 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractDoubleList;
+import com.xenoamess.commons.primitive.collections.lists.DoubleList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.DoubleLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteDoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = DoubleArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractDoubleList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(DoubleArrayList list) throws IllegalAccessException {
+        return ((double[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(DoubleArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static double[] range(int from, int to) {
+        double[] a = new double[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (double) (from + i);
+        return a;
+    }
+
+    static DoubleArrayList listOf(double... elements) {
+        DoubleArrayList list = new DoubleArrayList(elements.length);
+        for (double e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Double> boxed(double... elements) {
+        List<Double> list = new ArrayList<>();
+        for (double e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(DoubleArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        double[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            DoubleArrayList list = listOf(range(0, 5));
+            List<Double> expected = boxed(range(0, 5));
+            assertTrue(DoubleArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        DoubleArrayList list = listOf(range(0, 5));
+        assertTrue(DoubleArrayLists.addAll(list, src, 0, src.length));
+        List<Double> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(DoubleArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        DoubleArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        DoubleArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        DoubleArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        DoubleArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(DoubleArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(DoubleArrayLists.addAll(list, new DoubleArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        DoubleArrayList list = listOf(range(0, 3));
+        double[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        DoubleArrayList list = listOf(range(0, 4));
+        assertTrue(DoubleArrayLists.addAll(list, list));
+        List<Double> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        DoubleLinkedList linked = new DoubleLinkedList();
+        for (double e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(DoubleArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(DoubleArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        DoubleArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(DoubleArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(DoubleArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * DoubleLists and DoubleArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            double[] a = range(0, length);
+            List<Double> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            DoubleArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyDoubleArrayList growth = new GrowthPolicyDoubleArrayList(GrowthPolicy.DOUBLING);
+            DoubleArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteDoubleArrayList cow = new CopyOnWriteDoubleArrayList(a);
+            List<DoubleList> lists = Arrays.asList(listOf(a), stale, growth, new DoubleLinkedList(boxed), cow);
+            for (DoubleList x : lists) {
+                assertEquals(boxed.hashCode(), DoubleLists.hashCode(x));
+                assertTrue(DoubleLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (DoubleList y : lists)
+                    assertTrue(DoubleLists.equals(x, y));
+                assertFalse(DoubleLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), DoubleArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            double[] changed = a.clone();
+            changed[length - 1] = (double) -1;
+            double[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (DoubleList x : lists) {
+                assertFalse(DoubleLists.equals(x, listOf(changed)));
+                assertFalse(DoubleLists.equals(x, listOf(shorter)));
+                assertFalse(DoubleLists.equals(x, new DoubleLinkedList(boxed(changed))));
+                assertFalse(DoubleLists.equals(x, new DoubleLinkedList(boxed(shorter))));
+                assertFalse(DoubleLists.equals(x, boxed(changed)));
+                assertFalse(DoubleLists.equals(x, boxed(shorter)));
+                assertFalse(DoubleLists.equals(x, wrongType));
+                assertFalse(DoubleLists.equals(listOf(shorter), x));
+                assertFalse(DoubleLists.equals(new DoubleLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new DoubleLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new DoubleLinkedList(boxed(changed))));
+            }
+        }
+    }
+
+    /**
+     * As Double.equals: NaN equals NaN, whatever its bits, and 0.0 does not equal -0.0.
+     */
+    @Test
+    public void equalsComparesAsDoubleEquals() {
+        DoubleArrayList list = listOf(Double.NaN, 0.0, 1.0);
+        DoubleArrayList otherNaN = listOf(Double.longBitsToDouble(0x7ff0000000000001L), 0.0, 1.0);
+        DoubleArrayList negativeZero = listOf(Double.NaN, -0.0, 1.0);
+        assertTrue(DoubleArrayLists.equals(list, otherNaN));
+        assertTrue(DoubleArrayLists.equals(list, boxed(Double.longBitsToDouble(0x7ff0000000000001L), 0.0, 1.0)));
+        assertTrue(DoubleLists.equals(new DoubleLinkedList(boxed(list.toArrayPrimitive(new double[0]))), otherNaN));
+        assertEquals(boxed(Double.NaN, 0.0, 1.0).hashCode(), DoubleArrayLists.hashCode(otherNaN));
+        assertFalse(DoubleArrayLists.equals(list, negativeZero));
+        assertFalse(DoubleArrayLists.equals(list, boxed(Double.NaN, -0.0, 1.0)));
+        assertFalse(DoubleLists.equals(new DoubleLinkedList(boxed(Double.NaN, -0.0, 1.0)), list));
+    }
+}
@@ -0,0 +1,289 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.FloatArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.FloatArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FloatArrayListScansTest {
+    static final ScalarFloatScanKernel SCALAR = ScalarFloatScanKernel.INSTANCE;
+
+    /**
+     * The vector kernel, whether or not FloatArrayListScans picked it, or null if this jvm cannot load it.
+     */
+    static final FloatScanKernel VECTOR = vectorKernelOrNull();
+
+    static FloatScanKernel vectorKernelOrNull() {
+        try {
+            return (FloatScanKernel) Class.forName(FloatArrayListScans.VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Small whole numbers, so that sums are exact in every order.
+     */
+    static float[] values(int length) {
+        float[] a = new float[length];
+        for (int i = 0; i < length; i++)
+            a[i] = (float) ((i * 7919) % 101 - 50);
+        return a;
+    }
+
+    /**
+     * Whichever kernel this jvm picked, it must agree with the scalar loops.
+     * Lengths go past a few vector widths, so the vector loop and its tail both run.
+     */
+    @Test
+    public void rangesMatchScalar() {
+        float[] a = values(200);
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), FloatArrayListScans.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), FloatArrayListScans.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), FloatArrayListScans.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), FloatArrayListScans.indexOf(a, from, to, a[k]));
+            }
+        }
+    }
+
+    /**
+     * hashCode and equals agree with Arrays on ranges ending anywhere in or after the vector loop.
+     */
+    @Test
+    public void hashCodeAndEqualsMatchArrays() {
+        float[] a = values(200);
+        float[] b = new float[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                int hashCode = Arrays.hashCode(Arrays.copyOfRange(a, from, to));
+                assertEquals(hashCode, SCALAR.hashCode(a, from, to));
+                assertEquals(hashCode, FloatArrayListScans.hashCode(a, from, to));
+                int bTo = 7 + to - from;
+                System.arraycopy(a, from, b, 7, to - from);
+                assertTrue(FloatArrayListScans.equals(a, from, to, b, 7, bTo));
+                assertFalse(FloatArrayListScans.equals(a, from, to, b, 7, bTo + 1));
+                if (from < to) {
+                    // values are at most 50 away from 0.
+                    b[bTo - 1] = (float) 1000;
+                    assertFalse(SCALAR.equals(a, from, b, 7, to - from));
+                    assertFalse(FloatArrayListScans.equals(a, from, to, b, 7, bTo));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> FloatArrayListScans.hashCode(a, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> FloatArrayListScans.hashCode(a, 0, 201));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> FloatArrayListScans.equals(a, 0, 1, b, -1, 0));
+    }
+
+    @Test
+    public void vectorKernelMatchesScalar() {
+        assumeTrue(VECTOR != null, "the vector kernel is not available on this jvm");
+        float[] a = values(200);
+        float[] b = a.clone();
+        float[] filled = new float[200];
+        float[] expected = new float[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), VECTOR.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), VECTOR.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), VECTOR.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), VECTOR.indexOf(a, from, to, a[k]));
+                assertEquals(-1, VECTOR.indexOf(a, from, to, (float) 99));
+                assertEquals(SCALAR.hashCode(a, from, to), VECTOR.hashCode(a, from, to));
+                assertTrue(VECTOR.equals(a, from, b, from, to - from));
+                assertEquals(SCALAR.equals(a, from, b, from + 1, to - from), VECTOR.equals(a, from, b, from + 1, to - from));
+                SCALAR.fill(expected, from, to, (float) to);
+                VECTOR.fill(filled, from, to, (float) to);
+                assertArrayEquals(expected, filled);
+            }
+        }
+    }
+
+    /**
+     * Another NaN than Float.NaN: Float.hashCode and Arrays.equals see it as the canonical one.
+     */
+    static final float OTHER_NAN = Float.intBitsToFloat(0x7fc00001);
+
+    /**
+     * The scalar kernel, the vector one if this jvm can load it,
+     * and the front door, whichever of them it picked.
+     */
+    static List<FloatScanKernel> kernels() {
+        List<FloatScanKernel> kernels = new ArrayList<>();
+        kernels.add(SCALAR);
+        if (VECTOR != null)
+            kernels.add(VECTOR);
+        kernels.add(new FloatScanKernel() {
+            @Override
+            public float sum(float[] a, int fromIndex, int toIndex) {
+                return FloatArrayListScans.sum(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public float min(float[] a, int fromIndex, int toIndex) {
+                return FloatArrayListScans.min(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public float max(float[] a, int fromIndex, int toIndex) {
+                return FloatArrayListScans.max(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public int indexOf(float[] a, int fromIndex, int toIndex, float x) {
+                return FloatArrayListScans.indexOf(a, fromIndex, toIndex, x);
+            }
+
+            @Override
+            public void fill(float[] a, int fromIndex, int toIndex, float x) {
+                FloatArrayListScans.fill(a, fromIndex, toIndex, x);
+            }
+
+            @Override
+            public int hashCode(float[] a, int fromIndex, int toIndex) {
+                return FloatArrayListScans.hashCode(a, fromIndex, toIndex);
+            }
+
+            @Override
+            public boolean equals(float[] a, int aFromIndex, float[] b, int bFromIndex, int length) {
+                return FloatArrayListScans.equals(a, aFromIndex, aFromIndex + length, b, bFromIndex, bFromIndex + length);
+            }
+        });
+        return kernels;
+    }
+
+    /**
+     * One NaN, -0.0f, 0.0 or infinity at every position, among whole numbers, among zeros and among negative zeros.
+     * min and max must be what Math.min and Math.max make of them (assertEquals compares the bits, so -0.0f is not 0.0),
+     * hashCode and equals what Arrays makes of them, and indexOf must compare with ==.
+     */
+    @Test
+    public void specialValuesFollowMathAndArrays() {
+        float[] specials = {Float.NaN, OTHER_NAN, -0.0f, 0.0f, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY};
+        for (FloatScanKernel kernel : kernels()) {
+            for (int length = 1; length <= 70; length++) {
+                float[] zeros = new float[length];
+                float[] negativeZeros = new float[length];
+                Arrays.fill(negativeZeros, -0.0f);
+                for (float[] base : Arrays.asList(values(length), zeros, negativeZeros)) {
+                    for (int at = 0; at < length; at++) {
+                        for (float special : specials) {
+                            float[] a = base.clone();
+                            a[at] = special;
+                            float min = a[0];
+                            float max = a[0];
+                            int indexOf = -1;
+                            for (int i = 0; i < length; i++) {
+                                min = Math.min(min, a[i]);
+                                max = Math.max(max, a[i]);
+                                if (indexOf == -1 && a[i] == special)
+                                    indexOf = i;
+                            }
+                            assertEquals(min, kernel.min(a, 0, length));
+                            assertEquals(max, kernel.max(a, 0, length));
+                            assertEquals(indexOf, kernel.indexOf(a, 0, length, special));
+                            assertEquals(Arrays.hashCode(a), kernel.hashCode(a, 0, length));
+                            float[] b = a.clone();
+                            // the other NaN for a NaN, and -0.0f for 0.0f: Arrays.equals tells the zeros apart but not the NaNs.
+                            b[at] = special != special ? (Float.floatToRawIntBits(special) == Float.floatToRawIntBits(Float.NaN) ? OTHER_NAN : Float.NaN) : -special;
+                            assertEquals(Arrays.equals(a, b), kernel.equals(a, 0, b, 0, length));
+                            assertEquals(Arrays.hashCode(b), kernel.hashCode(b, 0, length));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void indexOfFindsFirstOccurrence() {
+        for (int length = 1; length <= 100; length++) {
+            for (int at = 0; at < length; at++) {
+                float[] a = new float[length];
+                a[at] = (float) 1;
+                if (at + 1 < length)
+                    a[length - 1] = (float) 1;
+                assertEquals(at, FloatArrayListScans.indexOf(a, 0, length, (float) 1));
+                assertEquals(-1, FloatArrayListScans.indexOf(a, at + 1, at + 1, (float) 1));
+            }
+            assertEquals(-1, FloatArrayListScans.indexOf(new float[length], 0, length, (float) 1));
+        }
+    }
+
+    @Test
+    public void fillOnlyTouchesRange() {
+        for (int length = 0; length <= 100; length++) {
+            float[] a = values(length + 20);
+            float[] expected = a.clone();
+            Arrays.fill(expected, 10, 10 + length, (float) 3);
+            FloatArrayListScans.fill(a, 10, 10 + length, (float) 3);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void listsIgnoreSpareCapacity() throws IllegalAccessException {
+        float[] a = values(100);
+        FloatArrayList list = listOf(a);
+        // leave stale elements beyond size in elementData.
+        list.addPrimitive(list.size(), (float) 99);
+        list.addPrimitive(list.size(), (float) -99);
+        list.remove(list.size() - 1);
+        list.remove(list.size() - 1);
+        assertEquals(SCALAR.sum(a, 0, 100), FloatArrayListScans.sum(list));
+        assertEquals(SCALAR.min(a, 0, 100), FloatArrayListScans.min(list));
+        assertEquals(SCALAR.max(a, 0, 100), FloatArrayListScans.max(list));
+        assertEquals(SCALAR.indexOf(a, 0, 100, a[42]), FloatArrayListScans.indexOfPrimitive(list, a[42]));
+        assertTrue(FloatArrayListScans.containsPrimitive(list, a[99]));
+        assertFalse(FloatArrayListScans.containsPrimitive(list, (float) 99));
+
+        int modCount = modCount(list);
+        FloatArrayListScans.fill(list, (float) 7);
+        assertEquals(100, list.size());
+        for (int i = 0; i < list.size(); i++)
+            assertEquals((float) 7, list.getPrimitive(i));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void emptyList() {
+        FloatArrayList list = new FloatArrayList();
+        assertEquals((float) 0, FloatArrayListScans.sum(list));
+        assertEquals(-1, FloatArrayListScans.indexOfPrimitive(list, (float) 0));
+        assertThrows(NoSuchElementException.class, () -> FloatArrayListScans.min(list));
+        assertThrows(NoSuchElementException.class, () -> FloatArrayListScans.max(list));
+        FloatArrayListScans.fill(list, (float) 1);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void badRanges() {
+        float[] a = values(10);
+        assertThrows(IllegalArgumentException.class, () -> FloatArrayListScans.sum(a, 5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> FloatArrayListScans.sum(a, -1, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> FloatArrayListScans.indexOf(a, 0, 11, (float) 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> FloatArrayListScans.fill(a, 0, 11, (float) 0));
+        assertThrows(NoSuchElementException.class, () -> FloatArrayListScans.min(a, 3, 3));
+        assertThrows(NoSuchElementException.class, () -> FloatArrayListScans.max(a, 3, 3));
+    }
+}
@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import com.xenoamess.commons.primitive.iterators.FloatIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.FloatListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.FloatArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.FloatArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FloatArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static float[] randomElements(int size) {
+        float[] a = new float[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (float) rnd.nextInt(1000);
+        return a;
+    }
+
+    static float[] sorted(float[] a) {
+        float[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static float[] elements(FloatArrayList list) {
+        return list.toArrayPrimitive(new float[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            float[] a = randomElements(size);
+            FloatArrayList list = listOf(a);
+            FloatArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            FloatArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        float[] a = randomElements(20000);
+        float[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        FloatArrayList list = listOf(a);
+        FloatArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        FloatArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        FloatArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        FloatArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        FloatArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        FloatListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        FloatArrayListSorts.binarySearchPrimitive(list, (float) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        FloatArrayList list = listOf(randomElements(100));
+        FloatIterator it = list.iterator();
+        it.nextPrimitive();
+        FloatList sub = list.subList(10, 20);
+        FloatArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        float[] a = new float[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (float) (i / 10);
+        FloatArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            float key = (float) k;
+            assertEquals(Arrays.binarySearch(a, key), FloatArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    FloatArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), FloatListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        FloatArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> FloatArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> FloatArrayListSorts.binarySearchPrimitive(list, 0, 11, (float) 0));
+    }
+}
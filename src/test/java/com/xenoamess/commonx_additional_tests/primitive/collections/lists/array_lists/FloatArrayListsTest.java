@@ -0,0 +1,229 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractFloatList;
+import com.xenoamess.commons.primitive.collections.lists.FloatList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.FloatArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.FloatLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.FloatLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteFloatArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FloatArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = FloatArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractFloatList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(FloatArrayList list) throws IllegalAccessException {
+        return ((float[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(FloatArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static float[] range(int from, int to) {
+        float[] a = new float[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (float) (from + i);
+        return a;
+    }
+
+    static FloatArrayList listOf(float... elements) {
+        FloatArrayList list = new FloatArrayList(elements.length);
+        for (float e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Float> boxed(float... elements) {
+        List<Float> list = new ArrayList<>();
+        for (float e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(FloatArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        float[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            FloatArrayList list = listOf(range(0, 5));
+            List<Float> expected = boxed(range(0, 5));
+            assertTrue(FloatArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        FloatArrayList list = listOf(range(0, 5));
+        assertTrue(FloatArrayLists.addAll(list, src, 0, src.length));
+        List<Float> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(FloatArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        FloatArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        FloatArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        FloatArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        FloatArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(FloatArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(FloatArrayLists.addAll(list, new FloatArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        FloatArrayList list = listOf(range(0, 3));
+        float[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> FloatArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        FloatArrayList list = listOf(range(0, 4));
+        assertTrue(FloatArrayLists.addAll(list, list));
+        List<Float> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        FloatLinkedList linked = new FloatLinkedList();
+        for (float e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(FloatArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(FloatArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        FloatArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(FloatArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(FloatArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * FloatLists and FloatArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            float[] a = range(0, length);
+            List<Float> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            FloatArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyFloatArrayList growth = new GrowthPolicyFloatArrayList(GrowthPolicy.DOUBLING);
+            FloatArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteFloatArrayList cow = new CopyOnWriteFloatArrayList(a);
+            List<FloatList> lists = Arrays.asList(listOf(a), stale, growth, new FloatLinkedList(boxed), cow);
+            for (FloatList x : lists) {
+                assertEquals(boxed.hashCode(), FloatLists.hashCode(x));
+                assertTrue(FloatLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (FloatList y : lists)
+                    assertTrue(FloatLists.equals(x, y));
+                assertFalse(FloatLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), FloatArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            float[] changed = a.clone();
+            changed[length - 1] = (float) -1;
+            float[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (FloatList x : lists) {
+                assertFalse(FloatLists.equals(x, listOf(changed)));
+                assertFalse(FloatLists.equals(x, listOf(shorter)));
+                assertFalse(FloatLists.equals(x, new FloatLinkedList(boxed(changed))));
+                assertFalse(FloatLists.equals(x, new FloatLinkedList(boxed(shorter))));
+                assertFalse(FloatLists.equals(x, boxed(changed)));
+                assertFalse(FloatLists.equals(x, boxed(shorter)));
+                assertFalse(FloatLists.equals(x, wrongType));
+                assertFalse(FloatLists.equals(listOf(shorter), x));
+                assertFalse(FloatLists.equals(new FloatLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new FloatLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new FloatLinkedList(boxed(changed))));
+            }
+        }
+    }
+
+    /**
+     * As Float.equals: NaN equals NaN, whatever its bits, and 0.0 does not equal -0.0.
+     */
+    @Test
+    public void equalsComparesAsFloatEquals() {
+        FloatArrayList list = listOf(Float.NaN, 0.0f, 1.0f);
+        FloatArrayList otherNaN = listOf(Float.intBitsToFloat(0x7f800001), 0.0f, 1.0f);
+        FloatArrayList negativeZero = listOf(Float.NaN, -0.0f, 1.0f);
+        assertTrue(FloatArrayLists.equals(list, otherNaN));
+        assertTrue(FloatArrayLists.equals(list, boxed(Float.intBitsToFloat(0x7f800001), 0.0f, 1.0f)));
+        assertTrue(FloatLists.equals(new FloatLinkedList(boxed(list.toArrayPrimitive(new float[0]))), otherNaN));
+        assertEquals(boxed(Float.NaN, 0.0f, 1.0f).hashCode(), FloatArrayLists.hashCode(otherNaN));
+        assertFalse(FloatArrayLists.equals(list, negativeZero));
+        assertFalse(FloatArrayLists.equals(list, boxed(Float.NaN, -0.0f, 1.0f)));
+        assertFalse(FloatLists.equals(new FloatLinkedList(boxed(Float.NaN, -0.0f, 1.0f)), list));
+    }
+}
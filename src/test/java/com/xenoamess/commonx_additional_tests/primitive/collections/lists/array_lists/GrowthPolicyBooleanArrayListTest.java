@@ -0,0 +1,109 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.BooleanArrayListsTest.boxed;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.BooleanArrayListsTest.capacity;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.BooleanArrayListsTest.modCount;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.BooleanArrayListsTest.range;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.BooleanArrayListsTest.v;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GrowthPolicyBooleanArrayListTest {
+    static final GrowthPolicy[] POLICIES = {
+            GrowthPolicy.ONE_AND_A_HALF,
+            GrowthPolicy.DOUBLING,
+            GrowthPolicy.additive(7),
+            GrowthPolicy.capped(GrowthPolicy.DOUBLING, 100),
+            // a boolean[] element takes one byte.
+            GrowthPolicy.pageAligned(GrowthPolicy.ONE_AND_A_HALF, 1, 256),
+    };
+
+    /**
+     * Appending grows elementData exactly as the policy says, each time it is full.
+     */
+    @Test
+    public void appendGrowsAsPolicySays() throws IllegalAccessException {
+        BooleanArrayList plain = new BooleanArrayList(1);
+        int addModCount = modCount(plain);
+        plain.addPrimitive(0, false);
+        addModCount = modCount(plain) - addModCount;
+        for (GrowthPolicy policy : POLICIES) {
+            BooleanArrayList list = new GrowthPolicyBooleanArrayList(policy);
+            int expectedCapacity = capacity(list);
+            for (int i = 0; i < 1000; i++) {
+                if (i == expectedCapacity)
+                    expectedCapacity = Math.max(policy.newCapacity(expectedCapacity, i + 1), i + 1);
+                int modCount = modCount(list);
+                boolean grows = capacity(list) != expectedCapacity;
+                list.addPrimitive(i, v(i));
+                assertEquals(expectedCapacity, capacity(list));
+                // one more than a plain add if elementData was replaced.
+                assertEquals(grows ? addModCount + 1 : addModCount, modCount(list) - modCount);
+            }
+        }
+    }
+
+    @Test
+    public void boxedAndBulkAddsUseThePolicy() throws IllegalAccessException {
+        GrowthPolicy policy = GrowthPolicy.additive(1000);
+        BooleanArrayList list = new GrowthPolicyBooleanArrayList(10, policy);
+        list.add(true);
+        list.add(0, false);
+        assertEquals(10, capacity(list));
+        list.addAll(boxed(range(0, 9)));
+        assertEquals(1010, capacity(list));
+        list.addAll(3, boxed(range(0, 1000)));
+        assertEquals(2010, capacity(list));
+        BooleanArrayLists.addAll(list, range(0, 1000), 0, 1000);
+        assertEquals(3010, capacity(list));
+        list.ensureCapacity(3011);
+        assertEquals(4010, capacity(list));
+        assertEquals(2011, list.size());
+    }
+
+    /**
+     * Elements survive every growth and trimToSize, and trimToSize leaves elementData exactly size long.
+     */
+    @Test
+    public void elementsAreKept() throws IllegalAccessException {
+        for (GrowthPolicy policy : POLICIES) {
+            List<Boolean> expected = new ArrayList<>();
+            BooleanArrayList list = new GrowthPolicyBooleanArrayList(policy);
+            for (int i = 0; i < 500; i++) {
+                list.addPrimitive(i / 2, v(i));
+                expected.add(i / 2, v(i));
+            }
+            assertEquals(expected, list);
+            list.trimToSize();
+            assertEquals(expected, list);
+            assertEquals(list.size(), capacity(list));
+            list.clear();
+            list.trimToSize();
+            assertEquals(0, capacity(list));
+        }
+    }
+
+    @Test
+    public void badIndexChangesNothing() throws IllegalAccessException {
+        BooleanArrayList list = new GrowthPolicyBooleanArrayList(0, GrowthPolicy.DOUBLING);
+        int modCount = modCount(list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(1, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(1, boxed(range(0, 3))));
+        assertEquals(0, capacity(list));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void overflowIsOutOfMemory() {
+        BooleanArrayList list = new GrowthPolicyBooleanArrayList(GrowthPolicy.DOUBLING);
+        assertThrows(OutOfMemoryError.class,
+                () -> BooleanArrayLists.ensureCapacity(list, Integer.MAX_VALUE + 1, GrowthPolicy.DOUBLING));
+    }
+}
@@ -0,0 +1,107 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListsTest.boxed;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListsTest.capacity;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListsTest.modCount;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ByteArrayListsTest.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GrowthPolicyByteArrayListTest {
+    static final GrowthPolicy[] POLICIES = {
+            GrowthPolicy.ONE_AND_A_HALF,
+            GrowthPolicy.DOUBLING,
+            GrowthPolicy.additive(7),
+            GrowthPolicy.capped(GrowthPolicy.DOUBLING, 100),
+            GrowthPolicy.pageAligned(GrowthPolicy.ONE_AND_A_HALF, Byte.BYTES, 256),
+    };
+
+    /**
+     * Appending grows elementData exactly as the policy says, each time it is full.
+     */
+    @Test
+    public void appendGrowsAsPolicySays() throws IllegalAccessException {
+        ByteArrayList plain = new ByteArrayList(1);
+        int addModCount = modCount(plain);
+        plain.addPrimitive(0, (byte) 0);
+        addModCount = modCount(plain) - addModCount;
+        for (GrowthPolicy policy : POLICIES) {
+            ByteArrayList list = new GrowthPolicyByteArrayList(policy);
+            int expectedCapacity = capacity(list);
+            for (int i = 0; i < 1000; i++) {
+                if (i == expectedCapacity)
+                    expectedCapacity = Math.max(policy.newCapacity(expectedCapacity, i + 1), i + 1);
+                int modCount = modCount(list);
+                boolean grows = capacity(list) != expectedCapacity;
+                list.addPrimitive(i, (byte) i);
+                assertEquals(expectedCapacity, capacity(list));
+                // one more than a plain add if elementData was replaced.
+                assertEquals(grows ? addModCount + 1 : addModCount, modCount(list) - modCount);
+            }
+        }
+    }
+
+    @Test
+    public void boxedAndBulkAddsUseThePolicy() throws IllegalAccessException {
+        GrowthPolicy policy = GrowthPolicy.additive(1000);
+        ByteArrayList list = new GrowthPolicyByteArrayList(10, policy);
+        list.add((byte) 1);
+        list.add(0, (byte) 2);
+        assertEquals(10, capacity(list));
+        list.addAll(boxed(range(0, 9)));
+        assertEquals(1010, capacity(list));
+        list.addAll(3, boxed(range(0, 1000)));
+        assertEquals(2010, capacity(list));
+        ByteArrayLists.addAll(list, range(0, 1000), 0, 1000);
+        assertEquals(3010, capacity(list));
+        list.ensureCapacity(3011);
+        assertEquals(4010, capacity(list));
+        assertEquals(2011, list.size());
+    }
+
+    /**
+     * Elements survive every growth and trimToSize, and trimToSize leaves elementData exactly size long.
+     */
+    @Test
+    public void elementsAreKept() throws IllegalAccessException {
+        for (GrowthPolicy policy : POLICIES) {
+            List<Byte> expected = new ArrayList<>();
+            ByteArrayList list = new GrowthPolicyByteArrayList(policy);
+            for (int i = 0; i < 500; i++) {
+                list.addPrimitive(i / 2, (byte) i);
+                expected.add(i / 2, (byte) i);
+            }
+            assertEquals(expected, list);
+            list.trimToSize();
+            assertEquals(expected, list);
+            assertEquals(list.size(), capacity(list));
+            list.clear();
+            list.trimToSize();
+            assertEquals(0, capacity(list));
+        }
+    }
+
+    @Test
+    public void badIndexChangesNothing() throws IllegalAccessException {
+        ByteArrayList list = new GrowthPolicyByteArrayList(0, GrowthPolicy.DOUBLING);
+        int modCount = modCount(list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(1, (byte) 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, (byte) 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(1, boxed(range(0, 3))));
+        assertEquals(0, capacity(list));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void overflowIsOutOfMemory() {
+        ByteArrayList list = new GrowthPolicyByteArrayList(GrowthPolicy.DOUBLING);
+        assertThrows(OutOfMemoryError.class,
+                () -> ByteArrayLists.ensureCapacity(list, Integer.MAX_VALUE + 1, GrowthPolicy.DOUBLING));
+    }
+}
@@ -0,0 +1,107 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.CharArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListsTest.boxed;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListsTest.capacity;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListsTest.modCount;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.CharArrayListsTest.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GrowthPolicyCharArrayListTest {
+    static final GrowthPolicy[] POLICIES = {
+            GrowthPolicy.ONE_AND_A_HALF,
+            GrowthPolicy.DOUBLING,
+            GrowthPolicy.additive(7),
+            GrowthPolicy.capped(GrowthPolicy.DOUBLING, 100),
+            GrowthPolicy.pageAligned(GrowthPolicy.ONE_AND_A_HALF, Character.BYTES, 256),
+    };
+
+    /**
+     * Appending grows elementData exactly as the policy says, each time it is full.
+     */
+    @Test
+    public void appendGrowsAsPolicySays() throws IllegalAccessException {
+        CharArrayList plain = new CharArrayList(1);
+        int addModCount = modCount(plain);
+        plain.addPrimitive(0, (char) 0);
+        addModCount = modCount(plain) - addModCount;
+        for (GrowthPolicy policy : POLICIES) {
+            CharArrayList list = new GrowthPolicyCharArrayList(policy);
+            int expectedCapacity = capacity(list);
+            for (int i = 0; i < 1000; i++) {
+                if (i == expectedCapacity)
+                    expectedCapacity = Math.max(policy.newCapacity(expectedCapacity, i + 1), i + 1);
+                int modCount = modCount(list);
+                boolean grows = capacity(list) != expectedCapacity;
+                list.addPrimitive(i, (char) i);
+                assertEquals(expectedCapacity, capacity(list));
+                // one more than a plain add if elementData was replaced.
+                assertEquals(grows ? addModCount + 1 : addModCount, modCount(list) - modCount);
+            }
+        }
+    }
+
+    @Test
+    public void boxedAndBulkAddsUseThePolicy() throws IllegalAccessException {
+        GrowthPolicy policy = GrowthPolicy.additive(1000);
+        CharArrayList list = new GrowthPolicyCharArrayList(10, policy);
+        list.add((char) 1);
+        list.add(0, (char) 2);
+        assertEquals(10, capacity(list));
+        list.addAll(boxed(range(0, 9)));
+        assertEquals(1010, capacity(list));
+        list.addAll(3, boxed(range(0, 1000)));
+        assertEquals(2010, capacity(list));
+        CharArrayLists.addAll(list, range(0, 1000), 0, 1000);
+        assertEquals(3010, capacity(list));
+        list.ensureCapacity(3011);
+        assertEquals(4010, capacity(list));
+        assertEquals(2011, list.size());
+    }
+
+    /**
+     * Elements survive every growth and trimToSize, and trimToSize leaves elementData exactly size long.
+     */
+    @Test
+    public void elementsAreKept() throws IllegalAccessException {
+        for (GrowthPolicy policy : POLICIES) {
+            List<Character> expected = new ArrayList<>();
+            CharArrayList list = new GrowthPolicyCharArrayList(policy);
+            for (int i = 0; i < 500; i++) {
+                list.addPrimitive(i / 2, (char) i);
+                expected.add(i / 2, (char) i);
+            }
+            assertEquals(expected, list);
+            list.trimToSize();
+            assertEquals(expected, list);
+            assertEquals(list.size(), capacity(list));
+            list.clear();
+            list.trimToSize();
+            assertEquals(0, capacity(list));
+        }
+    }
+
+    @Test
+    public void badIndexChangesNothing() throws IllegalAccessException {
+        CharArrayList list = new GrowthPolicyCharArrayList(0, GrowthPolicy.DOUBLING);
+        int modCount = modCount(list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(1, (char) 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, (char) 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(1, boxed(range(0, 3))));
+        assertEquals(0, capacity(list));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void overflowIsOutOfMemory() {
+        CharArrayList list = new GrowthPolicyCharArrayList(GrowthPolicy.DOUBLING);
+        assertThrows(OutOfMemoryError.class,
+                () -> CharArrayLists.ensureCapacity(list, Integer.MAX_VALUE + 1, GrowthPolicy.DOUBLING));
+    }
+}
@@ -0,0 +1,107 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.boxed;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.capacity;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.modCount;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayListsTest.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GrowthPolicyDoubleArrayListTest {
+    static final GrowthPolicy[] POLICIES = {
+            GrowthPolicy.ONE_AND_A_HALF,
+            GrowthPolicy.DOUBLING,
+            GrowthPolicy.additive(7),
+            GrowthPolicy.capped(GrowthPolicy.DOUBLING, 100),
+            GrowthPolicy.pageAligned(GrowthPolicy.ONE_AND_A_HALF, Double.BYTES, 256),
+    };
+
+    /**
+     * Appending grows elementData exactly as the policy says, each time it is full.
+     */
+    @Test
+    public void appendGrowsAsPolicySays() throws IllegalAccessException {
+        DoubleArrayList plain = new DoubleArrayList(1);
+        int addModCount = modCount(plain);
+        plain.addPrimitive(0, (double) 0);
+        addModCount = modCount(plain) - addModCount;
+        for (GrowthPolicy policy : POLICIES) {
+            DoubleArrayList list = new GrowthPolicyDoubleArrayList(policy);
+            int expectedCapacity = capacity(list);
+            for (int i = 0; i < 1000; i++) {
+                if (i == expectedCapacity)
+                    expectedCapacity = Math.max(policy.newCapacity(expectedCapacity, i + 1), i + 1);
+                int modCount = modCount(list);
+                boolean grows = capacity(list) != expectedCapacity;
+                list.addPrimitive(i, (double) i);
+                assertEquals(expectedCapacity, capacity(list));
+                // one more than a plain add if elementData was replaced.
+                assertEquals(grows ? addModCount + 1 : addModCount, modCount(list) - modCount);
+            }
+        }
+    }
+
+    @Test
+    public void boxedAndBulkAddsUseThePolicy() throws IllegalAccessException {
+        GrowthPolicy policy = GrowthPolicy.additive(1000);
+        DoubleArrayList list = new GrowthPolicyDoubleArrayList(10, policy);
+        list.add((double) 1);
+        list.add(0, (double) 2);
+        assertEquals(10, capacity(list));
+        list.addAll(boxed(range(0, 9)));
+        assertEquals(1010, capacity(list));
+        list.addAll(3, boxed(range(0, 1000)));
+        assertEquals(2010, capacity(list));
+        DoubleArrayLists.addAll(list, range(0, 1000), 0, 1000);
+        assertEquals(3010, capacity(list));
+        list.ensureCapacity(3011);
+        assertEquals(4010, capacity(list));
+        assertEquals(2011, list.size());
+    }
+
+    /**
+     * Elements survive every growth and trimToSize, and trimToSize leaves elementData exactly size long.
+     */
+    @Test
+    public void elementsAreKept() throws IllegalAccessException {
+        for (GrowthPolicy policy : POLICIES) {
+            List<Double> expected = new ArrayList<>();
+            DoubleArrayList list = new GrowthPolicyDoubleArrayList(policy);
+            for (int i = 0; i < 500; i++) {
+                list.addPrimitive(i / 2, (double) i);
+                expected.add(i / 2, (double) i);
+            }
+            assertEquals(expected, list);
+            list.trimToSize();
+            assertEquals(expected, list);
+            assertEquals(list.size(), capacity(list));
+            list.clear();
+            list.trimToSize();
+            assertEquals(0, capacity(list));
+        }
+    }
+
+    @Test
+    public void badIndexChangesNothing() throws IllegalAccessException {
+        DoubleArrayList list = new GrowthPolicyDoubleArrayList(0, GrowthPolicy.DOUBLING);
+        int modCount = modCount(list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(1, (double) 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, (double) 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(1, boxed(range(0, 3))));
+        assertEquals(0, capacity(list));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void overflowIsOutOfMemory() {
+        DoubleArrayList list = new GrowthPolicyDoubleArrayList(GrowthPolicy.DOUBLING);
+        assertThrows(OutOfMemoryError.class,
+                () -> DoubleArrayLists.ensureCapacity(list, Integer.MAX_VALUE + 1, GrowthPolicy.DOUBLING));
+    }
+}
@@ -0,0 +1,62 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import org.junit.jupiter.api.Test;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.GrowthPolicy.DEFAULT_CAPACITY;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.GrowthPolicy.MAX_ARRAY_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GrowthPolicyTest {
+    @Test
+    public void oneAndAHalf() {
+        GrowthPolicy policy = GrowthPolicy.ONE_AND_A_HALF;
+        assertEquals(DEFAULT_CAPACITY, policy.newCapacity(0, 1));
+        assertEquals(15, policy.newCapacity(10, 11));
+        assertEquals(1500000, policy.newCapacity(1000000, 1000001));
+        assertEquals(MAX_ARRAY_SIZE, policy.newCapacity(MAX_ARRAY_SIZE / 3 * 2 + 2, MAX_ARRAY_SIZE / 3 * 2 + 3));
+    }
+
+    @Test
+    public void doubling() {
+        GrowthPolicy policy = GrowthPolicy.DOUBLING;
+        assertEquals(DEFAULT_CAPACITY, policy.newCapacity(0, 1));
+        assertEquals(20, policy.newCapacity(10, 11));
+        assertEquals(MAX_ARRAY_SIZE, policy.newCapacity(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2));
+    }
+
+    @Test
+    public void additive() {
+        GrowthPolicy policy = GrowthPolicy.additive(1000);
+        assertEquals(1000, policy.newCapacity(0, 1));
+        assertEquals(1010, policy.newCapacity(10, 11));
+        assertEquals(MAX_ARRAY_SIZE, policy.newCapacity(MAX_ARRAY_SIZE - 1, MAX_ARRAY_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.additive(0));
+    }
+
+    @Test
+    public void capped() {
+        GrowthPolicy policy = GrowthPolicy.capped(GrowthPolicy.DOUBLING, 1 << 20);
+        assertEquals(DEFAULT_CAPACITY, policy.newCapacity(0, 1));
+        assertEquals(20, policy.newCapacity(10, 11));
+        assertEquals((1 << 20) + (1 << 20), policy.newCapacity(1 << 20, (1 << 20) + 1));
+        assertEquals((1 << 24) + (1 << 20), policy.newCapacity(1 << 24, (1 << 24) + 1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.capped(GrowthPolicy.DOUBLING, 0));
+    }
+
+    @Test
+    public void pageAligned() {
+        GrowthPolicy policy = GrowthPolicy.pageAligned(GrowthPolicy.ONE_AND_A_HALF, Long.BYTES, 4096);
+        assertEquals(512, policy.newCapacity(0, 1));
+        // 900 elements take 7200 bytes, so 2 pages.
+        assertEquals(1024, policy.newCapacity(600, 601));
+        assertEquals(1536, policy.newCapacity(1024, 1025));
+        // never below minCapacity, even if the policy under it says less.
+        assertEquals(1024, GrowthPolicy.pageAligned((o, m) -> 0, Long.BYTES, 4096).newCapacity(600, 601));
+        assertEquals(MAX_ARRAY_SIZE, policy.newCapacity(MAX_ARRAY_SIZE - 1, MAX_ARRAY_SIZE));
+        assertThrows(IllegalArgumentException.class,
+                () -> GrowthPolicy.pageAligned(GrowthPolicy.DOUBLING, Long.BYTES, 4095));
+        assertThrows(IllegalArgumentException.class,
+                () -> GrowthPolicy.pageAligned(GrowthPolicy.DOUBLING, 0, 4096));
+    }
+}
@@ -0,0 +1,79 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntUnaryOperator;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IntArrayListRadixSortTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int[] SIZES = {
+            0, 1, 2, IntArrayListSorts.RADIX_SORT_THRESHOLD - 1, IntArrayListSorts.RADIX_SORT_THRESHOLD, 100000
+    };
+
+    /**
+     * Key patterns: full range, small, negative only, a sequence sharing its high bytes, all equal.
+     */
+    static final IntUnaryOperator[] KEYS = {
+            i -> rnd.nextInt(),
+            i -> rnd.nextInt(256),
+            i -> -1 - rnd.nextInt(Integer.MAX_VALUE),
+            i -> 0x12340000 + i,
+            i -> 7,
+    };
+
+    static int[] elements(int size, IntUnaryOperator key) {
+        int[] a = new int[size];
+        for (int i = 0; i < size; i++)
+            a[i] = key.applyAsInt(i);
+        // sequences reversed, so that there is something to sort.
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+        return a;
+    }
+
+    @Test
+    public void radixSortMatchesArraysSort() {
+        for (IntUnaryOperator key : KEYS) {
+            for (int size : SIZES) {
+                int[] a = elements(size, key);
+                int[] expected = a.clone();
+                Arrays.sort(expected);
+                IntArrayList list = listOf(a);
+                IntArrayListSorts.radixSortPrimitive(list);
+                assertArrayEquals(expected, list.toArrayPrimitive(new int[0]));
+            }
+        }
+    }
+
+    @Test
+    public void radixSortRangeLeavesTheRest() {
+        for (IntUnaryOperator key : KEYS) {
+            int[] a = elements(20000, key);
+            int[] expected = a.clone();
+            Arrays.sort(expected, 333, 19000);
+            IntArrayList list = listOf(a);
+            IntArrayListSorts.radixSortPrimitive(list, 333, 19000);
+            assertArrayEquals(expected, list.toArrayPrimitive(new int[0]));
+        }
+    }
+
+    @Test
+    public void radixSortIncrementsModCountOnce() throws IllegalAccessException {
+        IntArrayList list = listOf(elements(5000, KEYS[0]));
+        int modCount = modCount(list);
+        IntArrayListSorts.radixSortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+    }
+}
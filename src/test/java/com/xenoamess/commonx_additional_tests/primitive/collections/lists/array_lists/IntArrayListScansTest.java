@@ -0,0 +1,191 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IntArrayListScansTest {
+    static final ScalarIntScanKernel SCALAR = ScalarIntScanKernel.INSTANCE;
+
+    /**
+     * The vector kernel, whether or not IntArrayListScans picked it, or null if this jvm cannot load it.
+     */
+    static final IntScanKernel VECTOR = vectorKernelOrNull();
+
+    static IntScanKernel vectorKernelOrNull() {
+        try {
+            return (IntScanKernel) Class.forName(IntArrayListScans.VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Small whole numbers, so that sums are exact in every order.
+     */
+    static int[] values(int length) {
+        int[] a = new int[length];
+        for (int i = 0; i < length; i++)
+            a[i] = (int) ((i * 7919) % 101 - 50);
+        return a;
+    }
+
+    /**
+     * Whichever kernel this jvm picked, it must agree with the scalar loops.
+     * Lengths go past a few vector widths, so the vector loop and its tail both run.
+     */
+    @Test
+    public void rangesMatchScalar() {
+        int[] a = values(200);
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), IntArrayListScans.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), IntArrayListScans.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), IntArrayListScans.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), IntArrayListScans.indexOf(a, from, to, a[k]));
+            }
+        }
+    }
+
+    /**
+     * hashCode and equals agree with Arrays on ranges ending anywhere in or after the vector loop.
+     */
+    @Test
+    public void hashCodeAndEqualsMatchArrays() {
+        int[] a = values(200);
+        int[] b = new int[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                int hashCode = Arrays.hashCode(Arrays.copyOfRange(a, from, to));
+                assertEquals(hashCode, SCALAR.hashCode(a, from, to));
+                assertEquals(hashCode, IntArrayListScans.hashCode(a, from, to));
+                int bTo = 7 + to - from;
+                System.arraycopy(a, from, b, 7, to - from);
+                assertTrue(IntArrayListScans.equals(a, from, to, b, 7, bTo));
+                assertFalse(IntArrayListScans.equals(a, from, to, b, 7, bTo + 1));
+                if (from < to) {
+                    // values are at most 50 away from 0.
+                    b[bTo - 1] = (int) 1000;
+                    assertFalse(SCALAR.equals(a, from, b, 7, to - from));
+                    assertFalse(IntArrayListScans.equals(a, from, to, b, 7, bTo));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> IntArrayListScans.hashCode(a, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IntArrayListScans.hashCode(a, 0, 201));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IntArrayListScans.equals(a, 0, 1, b, -1, 0));
+    }
+
+    @Test
+    public void vectorKernelMatchesScalar() {
+        assumeTrue(VECTOR != null, "the vector kernel is not available on this jvm");
+        int[] a = values(200);
+        int[] b = a.clone();
+        int[] filled = new int[200];
+        int[] expected = new int[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), VECTOR.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), VECTOR.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), VECTOR.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), VECTOR.indexOf(a, from, to, a[k]));
+                assertEquals(-1, VECTOR.indexOf(a, from, to, (int) 99));
+                assertEquals(SCALAR.hashCode(a, from, to), VECTOR.hashCode(a, from, to));
+                assertTrue(VECTOR.equals(a, from, b, from, to - from));
+                assertEquals(SCALAR.equals(a, from, b, from + 1, to - from), VECTOR.equals(a, from, b, from + 1, to - from));
+                SCALAR.fill(expected, from, to, (int) to);
+                VECTOR.fill(filled, from, to, (int) to);
+                assertArrayEquals(expected, filled);
+            }
+        }
+    }
+
+    @Test
+    public void indexOfFindsFirstOccurrence() {
+        for (int length = 1; length <= 100; length++) {
+            for (int at = 0; at < length; at++) {
+                int[] a = new int[length];
+                a[at] = (int) 1;
+                if (at + 1 < length)
+                    a[length - 1] = (int) 1;
+                assertEquals(at, IntArrayListScans.indexOf(a, 0, length, (int) 1));
+                assertEquals(-1, IntArrayListScans.indexOf(a, at + 1, at + 1, (int) 1));
+            }
+            assertEquals(-1, IntArrayListScans.indexOf(new int[length], 0, length, (int) 1));
+        }
+    }
+
+    @Test
+    public void fillOnlyTouchesRange() {
+        for (int length = 0; length <= 100; length++) {
+            int[] a = values(length + 20);
+            int[] expected = a.clone();
+            Arrays.fill(expected, 10, 10 + length, (int) 3);
+            IntArrayListScans.fill(a, 10, 10 + length, (int) 3);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void listsIgnoreSpareCapacity() throws IllegalAccessException {
+        int[] a = values(100);
+        IntArrayList list = listOf(a);
+        // leave stale elements beyond size in elementData.
+        list.addPrimitive(list.size(), (int) 99);
+        list.addPrimitive(list.size(), (int) -99);
+        list.remove(list.size() - 1);
+        list.remove(list.size() - 1);
+        assertEquals(SCALAR.sum(a, 0, 100), IntArrayListScans.sum(list));
+        assertEquals(SCALAR.min(a, 0, 100), IntArrayListScans.min(list));
+        assertEquals(SCALAR.max(a, 0, 100), IntArrayListScans.max(list));
+        assertEquals(SCALAR.indexOf(a, 0, 100, a[42]), IntArrayListScans.indexOfPrimitive(list, a[42]));
+        assertTrue(IntArrayListScans.containsPrimitive(list, a[99]));
+        assertFalse(IntArrayListScans.containsPrimitive(list, (int) 99));
+
+        int modCount = modCount(list);
+        IntArrayListScans.fill(list, (int) 7);
+        assertEquals(100, list.size());
+        for (int i = 0; i < list.size(); i++)
+            assertEquals((int) 7, list.getPrimitive(i));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void emptyList() {
+        IntArrayList list = new IntArrayList();
+        assertEquals((int) 0, IntArrayListScans.sum(list));
+        assertEquals(-1, IntArrayListScans.indexOfPrimitive(list, (int) 0));
+        assertThrows(NoSuchElementException.class, () -> IntArrayListScans.min(list));
+        assertThrows(NoSuchElementException.class, () -> IntArrayListScans.max(list));
+        IntArrayListScans.fill(list, (int) 1);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void badRanges() {
+        int[] a = values(10);
+        assertThrows(IllegalArgumentException.class, () -> IntArrayListScans.sum(a, 5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IntArrayListScans.sum(a, -1, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IntArrayListScans.indexOf(a, 0, 11, (int) 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IntArrayListScans.fill(a, 0, 11, (int) 0));
+        assertThrows(NoSuchElementException.class, () -> IntArrayListScans.min(a, 3, 3));
+        assertThrows(NoSuchElementException.class, () -> IntArrayListScans.max(a, 3, 3));
+    }
+}
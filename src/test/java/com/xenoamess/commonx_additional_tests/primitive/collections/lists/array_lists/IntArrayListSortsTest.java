@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.IntListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static int[] randomElements(int size) {
+        int[] a = new int[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (int) rnd.nextInt(1000);
+        return a;
+    }
+
+    static int[] sorted(int[] a) {
+        int[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static int[] elements(IntArrayList list) {
+        return list.toArrayPrimitive(new int[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            int[] a = randomElements(size);
+            IntArrayList list = listOf(a);
+            IntArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            IntArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        int[] a = randomElements(20000);
+        int[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        IntArrayList list = listOf(a);
+        IntArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        IntArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        IntArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        IntArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        IntArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        IntListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        IntArrayListSorts.binarySearchPrimitive(list, (int) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        IntArrayList list = listOf(randomElements(100));
+        IntIterator it = list.iterator();
+        it.nextPrimitive();
+        IntList sub = list.subList(10, 20);
+        IntArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        int[] a = new int[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (int) (i / 10);
+        IntArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            int key = (int) k;
+            assertEquals(Arrays.binarySearch(a, key), IntArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    IntArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), IntListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        IntArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> IntArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> IntArrayListSorts.binarySearchPrimitive(list, 0, 11, (int) 0));
+    }
+}
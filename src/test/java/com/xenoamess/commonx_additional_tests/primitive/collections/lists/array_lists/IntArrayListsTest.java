@@ -0,0 +1,212 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractIntList;
+import com.xenoamess.commons.primitive.collections.lists.IntList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.IntLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.IntLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteIntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = IntArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractIntList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(IntArrayList list) throws IllegalAccessException {
+        return ((int[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(IntArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static int[] range(int from, int to) {
+        int[] a = new int[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (int) (from + i);
+        return a;
+    }
+
+    static IntArrayList listOf(int... elements) {
+        IntArrayList list = new IntArrayList(elements.length);
+        for (int e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Integer> boxed(int... elements) {
+        List<Integer> list = new ArrayList<>();
+        for (int e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(IntArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        int[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            IntArrayList list = listOf(range(0, 5));
+            List<Integer> expected = boxed(range(0, 5));
+            assertTrue(IntArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        IntArrayList list = listOf(range(0, 5));
+        assertTrue(IntArrayLists.addAll(list, src, 0, src.length));
+        List<Integer> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(IntArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        IntArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        IntArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        IntArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        IntArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(IntArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(IntArrayLists.addAll(list, new IntArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        IntArrayList list = listOf(range(0, 3));
+        int[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        IntArrayList list = listOf(range(0, 4));
+        assertTrue(IntArrayLists.addAll(list, list));
+        List<Integer> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        IntLinkedList linked = new IntLinkedList();
+        for (int e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(IntArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(IntArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        IntArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(IntArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(IntArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * IntLists and IntArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            int[] a = range(0, length);
+            List<Integer> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            IntArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyIntArrayList growth = new GrowthPolicyIntArrayList(GrowthPolicy.DOUBLING);
+            IntArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteIntArrayList cow = new CopyOnWriteIntArrayList(a);
+            List<IntList> lists = Arrays.asList(listOf(a), stale, growth, new IntLinkedList(boxed), cow);
+            for (IntList x : lists) {
+                assertEquals(boxed.hashCode(), IntLists.hashCode(x));
+                assertTrue(IntLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (IntList y : lists)
+                    assertTrue(IntLists.equals(x, y));
+                assertFalse(IntLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), IntArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            int[] changed = a.clone();
+            changed[length - 1] = (int) -1;
+            int[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (IntList x : lists) {
+                assertFalse(IntLists.equals(x, listOf(changed)));
+                assertFalse(IntLists.equals(x, listOf(shorter)));
+                assertFalse(IntLists.equals(x, new IntLinkedList(boxed(changed))));
+                assertFalse(IntLists.equals(x, new IntLinkedList(boxed(shorter))));
+                assertFalse(IntLists.equals(x, boxed(changed)));
+                assertFalse(IntLists.equals(x, boxed(shorter)));
+                assertFalse(IntLists.equals(x, wrongType));
+                assertFalse(IntLists.equals(listOf(shorter), x));
+                assertFalse(IntLists.equals(new IntLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new IntLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new IntLinkedList(boxed(changed))));
+            }
+        }
+    }
+}
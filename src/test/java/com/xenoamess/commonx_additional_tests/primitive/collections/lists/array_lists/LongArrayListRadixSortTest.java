@@ -0,0 +1,79 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongUnaryOperator;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LongArrayListRadixSortTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int[] SIZES = {
+            0, 1, 2, LongArrayListSorts.RADIX_SORT_THRESHOLD - 1, LongArrayListSorts.RADIX_SORT_THRESHOLD, 100000
+    };
+
+    /**
+     * Key patterns: full range, small, negative only, a sequence sharing its high bytes, all equal.
+     */
+    static final LongUnaryOperator[] KEYS = {
+            i -> rnd.nextLong(),
+            i -> rnd.nextInt(256),
+            i -> -1 - rnd.nextLong(Long.MAX_VALUE),
+            i -> 1600000000000L + i * 1000L,
+            i -> 7L,
+    };
+
+    static long[] elements(int size, LongUnaryOperator key) {
+        long[] a = new long[size];
+        for (int i = 0; i < size; i++)
+            a[i] = key.applyAsLong(i);
+        // sequences reversed, so that there is something to sort.
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            long t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+        return a;
+    }
+
+    @Test
+    public void radixSortMatchesArraysSort() {
+        for (LongUnaryOperator key : KEYS) {
+            for (int size : SIZES) {
+                long[] a = elements(size, key);
+                long[] expected = a.clone();
+                Arrays.sort(expected);
+                LongArrayList list = listOf(a);
+                LongArrayListSorts.radixSortPrimitive(list);
+                assertArrayEquals(expected, list.toArrayPrimitive(new long[0]));
+            }
+        }
+    }
+
+    @Test
+    public void radixSortRangeLeavesTheRest() {
+        for (LongUnaryOperator key : KEYS) {
+            long[] a = elements(20000, key);
+            long[] expected = a.clone();
+            Arrays.sort(expected, 333, 19000);
+            LongArrayList list = listOf(a);
+            LongArrayListSorts.radixSortPrimitive(list, 333, 19000);
+            assertArrayEquals(expected, list.toArrayPrimitive(new long[0]));
+        }
+    }
+
+    @Test
+    public void radixSortIncrementsModCountOnce() throws IllegalAccessException {
+        LongArrayList list = listOf(elements(5000, KEYS[0]));
+        int modCount = modCount(list);
+        LongArrayListSorts.radixSortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+    }
+}
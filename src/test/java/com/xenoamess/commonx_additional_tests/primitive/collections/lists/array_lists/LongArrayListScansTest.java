@@ -0,0 +1,191 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class LongArrayListScansTest {
+    static final ScalarLongScanKernel SCALAR = ScalarLongScanKernel.INSTANCE;
+
+    /**
+     * The vector kernel, whether or not LongArrayListScans picked it, or null if this jvm cannot load it.
+     */
+    static final LongScanKernel VECTOR = vectorKernelOrNull();
+
+    static LongScanKernel vectorKernelOrNull() {
+        try {
+            return (LongScanKernel) Class.forName(LongArrayListScans.VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Small whole numbers, so that sums are exact in every order.
+     */
+    static long[] values(int length) {
+        long[] a = new long[length];
+        for (int i = 0; i < length; i++)
+            a[i] = (long) ((i * 7919) % 101 - 50);
+        return a;
+    }
+
+    /**
+     * Whichever kernel this jvm picked, it must agree with the scalar loops.
+     * Lengths go past a few vector widths, so the vector loop and its tail both run.
+     */
+    @Test
+    public void rangesMatchScalar() {
+        long[] a = values(200);
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), LongArrayListScans.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), LongArrayListScans.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), LongArrayListScans.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), LongArrayListScans.indexOf(a, from, to, a[k]));
+            }
+        }
+    }
+
+    /**
+     * hashCode and equals agree with Arrays on ranges ending anywhere in or after the vector loop.
+     */
+    @Test
+    public void hashCodeAndEqualsMatchArrays() {
+        long[] a = values(200);
+        long[] b = new long[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                int hashCode = Arrays.hashCode(Arrays.copyOfRange(a, from, to));
+                assertEquals(hashCode, SCALAR.hashCode(a, from, to));
+                assertEquals(hashCode, LongArrayListScans.hashCode(a, from, to));
+                int bTo = 7 + to - from;
+                System.arraycopy(a, from, b, 7, to - from);
+                assertTrue(LongArrayListScans.equals(a, from, to, b, 7, bTo));
+                assertFalse(LongArrayListScans.equals(a, from, to, b, 7, bTo + 1));
+                if (from < to) {
+                    // values are at most 50 away from 0.
+                    b[bTo - 1] = (long) 1000;
+                    assertFalse(SCALAR.equals(a, from, b, 7, to - from));
+                    assertFalse(LongArrayListScans.equals(a, from, to, b, 7, bTo));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> LongArrayListScans.hashCode(a, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> LongArrayListScans.hashCode(a, 0, 201));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> LongArrayListScans.equals(a, 0, 1, b, -1, 0));
+    }
+
+    @Test
+    public void vectorKernelMatchesScalar() {
+        assumeTrue(VECTOR != null, "the vector kernel is not available on this jvm");
+        long[] a = values(200);
+        long[] b = a.clone();
+        long[] filled = new long[200];
+        long[] expected = new long[200];
+        for (int from = 0; from < 10; from++) {
+            for (int to = from; to <= 150; to++) {
+                assertEquals(SCALAR.sum(a, from, to), VECTOR.sum(a, from, to));
+                if (from < to) {
+                    assertEquals(SCALAR.min(a, from, to), VECTOR.min(a, from, to));
+                    assertEquals(SCALAR.max(a, from, to), VECTOR.max(a, from, to));
+                }
+                for (int k = from; k < to; k += 7)
+                    assertEquals(SCALAR.indexOf(a, from, to, a[k]), VECTOR.indexOf(a, from, to, a[k]));
+                assertEquals(-1, VECTOR.indexOf(a, from, to, (long) 99));
+                assertEquals(SCALAR.hashCode(a, from, to), VECTOR.hashCode(a, from, to));
+                assertTrue(VECTOR.equals(a, from, b, from, to - from));
+                assertEquals(SCALAR.equals(a, from, b, from + 1, to - from), VECTOR.equals(a, from, b, from + 1, to - from));
+                SCALAR.fill(expected, from, to, (long) to);
+                VECTOR.fill(filled, from, to, (long) to);
+                assertArrayEquals(expected, filled);
+            }
+        }
+    }
+
+    @Test
+    public void indexOfFindsFirstOccurrence() {
+        for (int length = 1; length <= 100; length++) {
+            for (int at = 0; at < length; at++) {
+                long[] a = new long[length];
+                a[at] = (long) 1;
+                if (at + 1 < length)
+                    a[length - 1] = (long) 1;
+                assertEquals(at, LongArrayListScans.indexOf(a, 0, length, (long) 1));
+                assertEquals(-1, LongArrayListScans.indexOf(a, at + 1, at + 1, (long) 1));
+            }
+            assertEquals(-1, LongArrayListScans.indexOf(new long[length], 0, length, (long) 1));
+        }
+    }
+
+    @Test
+    public void fillOnlyTouchesRange() {
+        for (int length = 0; length <= 100; length++) {
+            long[] a = values(length + 20);
+            long[] expected = a.clone();
+            Arrays.fill(expected, 10, 10 + length, (long) 3);
+            LongArrayListScans.fill(a, 10, 10 + length, (long) 3);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void listsIgnoreSpareCapacity() throws IllegalAccessException {
+        long[] a = values(100);
+        LongArrayList list = listOf(a);
+        // leave stale elements beyond size in elementData.
+        list.addPrimitive(list.size(), (long) 99);
+        list.addPrimitive(list.size(), (long) -99);
+        list.remove(list.size() - 1);
+        list.remove(list.size() - 1);
+        assertEquals(SCALAR.sum(a, 0, 100), LongArrayListScans.sum(list));
+        assertEquals(SCALAR.min(a, 0, 100), LongArrayListScans.min(list));
+        assertEquals(SCALAR.max(a, 0, 100), LongArrayListScans.max(list));
+        assertEquals(SCALAR.indexOf(a, 0, 100, a[42]), LongArrayListScans.indexOfPrimitive(list, a[42]));
+        assertTrue(LongArrayListScans.containsPrimitive(list, a[99]));
+        assertFalse(LongArrayListScans.containsPrimitive(list, (long) 99));
+
+        int modCount = modCount(list);
+        LongArrayListScans.fill(list, (long) 7);
+        assertEquals(100, list.size());
+        for (int i = 0; i < list.size(); i++)
+            assertEquals((long) 7, list.getPrimitive(i));
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void emptyList() {
+        LongArrayList list = new LongArrayList();
+        assertEquals((long) 0, LongArrayListScans.sum(list));
+        assertEquals(-1, LongArrayListScans.indexOfPrimitive(list, (long) 0));
+        assertThrows(NoSuchElementException.class, () -> LongArrayListScans.min(list));
+        assertThrows(NoSuchElementException.class, () -> LongArrayListScans.max(list));
+        LongArrayListScans.fill(list, (long) 1);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void badRanges() {
+        long[] a = values(10);
+        assertThrows(IllegalArgumentException.class, () -> LongArrayListScans.sum(a, 5, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> LongArrayListScans.sum(a, -1, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> LongArrayListScans.indexOf(a, 0, 11, (long) 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> LongArrayListScans.fill(a, 0, 11, (long) 0));
+        assertThrows(NoSuchElementException.class, () -> LongArrayListScans.min(a, 3, 3));
+        assertThrows(NoSuchElementException.class, () -> LongArrayListScans.max(a, 3, 3));
+    }
+}
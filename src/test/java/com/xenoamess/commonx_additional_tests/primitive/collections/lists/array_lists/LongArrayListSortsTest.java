@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.LongList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.LongListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LongArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static long[] randomElements(int size) {
+        long[] a = new long[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (long) rnd.nextInt(1000);
+        return a;
+    }
+
+    static long[] sorted(long[] a) {
+        long[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static long[] elements(LongArrayList list) {
+        return list.toArrayPrimitive(new long[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            long[] a = randomElements(size);
+            LongArrayList list = listOf(a);
+            LongArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            LongArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        long[] a = randomElements(20000);
+        long[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        LongArrayList list = listOf(a);
+        LongArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        LongArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        LongArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        LongArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        LongArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        LongListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        LongArrayListSorts.binarySearchPrimitive(list, (long) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        LongArrayList list = listOf(randomElements(100));
+        LongIterator it = list.iterator();
+        it.nextPrimitive();
+        LongList sub = list.subList(10, 20);
+        LongArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        long[] a = new long[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (long) (i / 10);
+        LongArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            long key = (long) k;
+            assertEquals(Arrays.binarySearch(a, key), LongArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    LongArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), LongListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        LongArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> LongArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> LongArrayListSorts.binarySearchPrimitive(list, 0, 11, (long) 0));
+    }
+}
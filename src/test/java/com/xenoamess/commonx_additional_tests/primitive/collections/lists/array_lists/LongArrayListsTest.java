@@ -0,0 +1,212 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractLongList;
+import com.xenoamess.commons.primitive.collections.lists.LongList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.LongLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.LongLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteLongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = LongArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractLongList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(LongArrayList list) throws IllegalAccessException {
+        return ((long[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(LongArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static long[] range(int from, int to) {
+        long[] a = new long[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (long) (from + i);
+        return a;
+    }
+
+    static LongArrayList listOf(long... elements) {
+        LongArrayList list = new LongArrayList(elements.length);
+        for (long e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Long> boxed(long... elements) {
+        List<Long> list = new ArrayList<>();
+        for (long e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(LongArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        long[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            LongArrayList list = listOf(range(0, 5));
+            List<Long> expected = boxed(range(0, 5));
+            assertTrue(LongArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        LongArrayList list = listOf(range(0, 5));
+        assertTrue(LongArrayLists.addAll(list, src, 0, src.length));
+        List<Long> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(LongArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        LongArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        LongArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        LongArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        LongArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(LongArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(LongArrayLists.addAll(list, new LongArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        LongArrayList list = listOf(range(0, 3));
+        long[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> LongArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        LongArrayList list = listOf(range(0, 4));
+        assertTrue(LongArrayLists.addAll(list, list));
+        List<Long> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        LongLinkedList linked = new LongLinkedList();
+        for (long e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(LongArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(LongArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        LongArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(LongArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(LongArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * LongLists and LongArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            long[] a = range(0, length);
+            List<Long> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            LongArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyLongArrayList growth = new GrowthPolicyLongArrayList(GrowthPolicy.DOUBLING);
+            LongArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteLongArrayList cow = new CopyOnWriteLongArrayList(a);
+            List<LongList> lists = Arrays.asList(listOf(a), stale, growth, new LongLinkedList(boxed), cow);
+            for (LongList x : lists) {
+                assertEquals(boxed.hashCode(), LongLists.hashCode(x));
+                assertTrue(LongLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (LongList y : lists)
+                    assertTrue(LongLists.equals(x, y));
+                assertFalse(LongLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), LongArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            long[] changed = a.clone();
+            changed[length - 1] = (long) -1;
+            long[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (LongList x : lists) {
+                assertFalse(LongLists.equals(x, listOf(changed)));
+                assertFalse(LongLists.equals(x, listOf(shorter)));
+                assertFalse(LongLists.equals(x, new LongLinkedList(boxed(changed))));
+                assertFalse(LongLists.equals(x, new LongLinkedList(boxed(shorter))));
+                assertFalse(LongLists.equals(x, boxed(changed)));
+                assertFalse(LongLists.equals(x, boxed(shorter)));
+                assertFalse(LongLists.equals(x, wrongType));
+                assertFalse(LongLists.equals(listOf(shorter), x));
+                assertFalse(LongLists.equals(new LongLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new LongLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new LongLinkedList(boxed(changed))));
+            }
+        }
+    }
+}
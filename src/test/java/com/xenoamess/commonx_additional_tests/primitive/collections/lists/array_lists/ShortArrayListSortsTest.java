@@ -0,0 +1,120 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.ShortList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+import com.xenoamess.commons.primitive.iterators.ShortIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.ShortListSorts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ShortArrayListsTest.listOf;
+import static com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.ShortArrayListsTest.modCount;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ShortArrayListSortsTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static short[] randomElements(int size) {
+        short[] a = new short[size];
+        for (int i = 0; i < size; i++)
+            a[i] = (short) rnd.nextInt(1000);
+        return a;
+    }
+
+    static short[] sorted(short[] a) {
+        short[] b = a.clone();
+        Arrays.sort(b);
+        return b;
+    }
+
+    static short[] elements(ShortArrayList list) {
+        return list.toArrayPrimitive(new short[0]);
+    }
+
+    @Test
+    public void sortMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 2, 47, 1000, 100000}) {
+            short[] a = randomElements(size);
+            ShortArrayList list = listOf(a);
+            ShortArrayListSorts.sortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+
+            list = listOf(a);
+            ShortArrayListSorts.parallelSortPrimitive(list);
+            assertArrayEquals(sorted(a), elements(list));
+        }
+    }
+
+    @Test
+    public void sortRangeLeavesTheRest() {
+        short[] a = randomElements(20000);
+        short[] expected = a.clone();
+        Arrays.sort(expected, 100, 19000);
+        ShortArrayList list = listOf(a);
+        ShortArrayListSorts.sortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+
+        list = listOf(a);
+        ShortArrayListSorts.parallelSortPrimitive(list, 100, 19000);
+        assertArrayEquals(expected, elements(list));
+    }
+
+    @Test
+    public void sortIncrementsModCountOnce() throws IllegalAccessException {
+        ShortArrayList list = listOf(randomElements(100));
+        int modCount = modCount(list);
+        ShortArrayListSorts.sortPrimitive(list);
+        assertEquals(modCount + 1, modCount(list));
+        ShortArrayListSorts.parallelSortPrimitive(list, 10, 20);
+        assertEquals(modCount + 2, modCount(list));
+        ShortListSorts.sortPrimitive(list);
+        assertEquals(modCount + 3, modCount(list));
+        ShortArrayListSorts.binarySearchPrimitive(list, (short) 5);
+        assertEquals(modCount + 3, modCount(list));
+    }
+
+    @Test
+    public void sortFailsFastIteratorsAndSubLists() {
+        ShortArrayList list = listOf(randomElements(100));
+        ShortIterator it = list.iterator();
+        it.nextPrimitive();
+        ShortList sub = list.subList(10, 20);
+        ShortArrayListSorts.sortPrimitive(list);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, () -> sub.getPrimitive(0));
+    }
+
+    @Test
+    public void binarySearchMatchesArraysBinarySearch() {
+        short[] a = new short[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (short) (i / 10);
+        ShortArrayList list = listOf(a);
+        // spare capacity beyond size must not be searched.
+        list.ensureCapacity(4000);
+        for (int k = -1; k <= 101; k++) {
+            short key = (short) k;
+            assertEquals(Arrays.binarySearch(a, key), ShortArrayListSorts.binarySearchPrimitive(list, key));
+            assertEquals(Arrays.binarySearch(a, 300, 700, key),
+                    ShortArrayListSorts.binarySearchPrimitive(list, 300, 700, key));
+            assertEquals(Arrays.binarySearch(a, key), ShortListSorts.binarySearchPrimitive(list, key));
+        }
+    }
+
+    @Test
+    public void badRanges() {
+        ShortArrayList list = listOf(randomElements(10));
+        assertThrows(IllegalArgumentException.class, () -> ShortArrayListSorts.sortPrimitive(list, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayListSorts.sortPrimitive(list, -1, 4));
+        // beyond size, even if within the capacity.
+        list.ensureCapacity(100);
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayListSorts.parallelSortPrimitive(list, 0, 11));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> ShortArrayListSorts.binarySearchPrimitive(list, 0, 11, (short) 0));
+    }
+}
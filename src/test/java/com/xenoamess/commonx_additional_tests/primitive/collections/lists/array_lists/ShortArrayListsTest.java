@@ -0,0 +1,212 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractShortList;
+import com.xenoamess.commons.primitive.collections.lists.ShortList;
+import com.xenoamess.commons.primitive.collections.lists.array_lists.ShortArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.ShortLinkedList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.ShortLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteShortArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShortArrayListsTest {
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+
+    static {
+        try {
+            ELEMENT_DATA = ShortArrayList.class.getDeclaredField("elementData");
+            MODCOUNT = AbstractShortList.class.getDeclaredField("modCount");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(ShortArrayList list) throws IllegalAccessException {
+        return ((short[]) ELEMENT_DATA.get(list)).length;
+    }
+
+    static int modCount(ShortArrayList list) throws IllegalAccessException {
+        return MODCOUNT.getInt(list);
+    }
+
+    static short[] range(int from, int to) {
+        short[] a = new short[to - from];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (short) (from + i);
+        return a;
+    }
+
+    static ShortArrayList listOf(short... elements) {
+        ShortArrayList list = new ShortArrayList(elements.length);
+        for (short e : elements)
+            list.addPrimitive(list.size(), e);
+        return list;
+    }
+
+    static List<Short> boxed(short... elements) {
+        List<Short> list = new ArrayList<>();
+        for (short e : elements)
+            list.add(e);
+        return list;
+    }
+
+    @Test
+    public void directAccess() {
+        assertTrue(ShortArrayLists.isDirectAccessSupported());
+    }
+
+    @Test
+    public void addAllMatchesArrayList() {
+        short[] src = range(50, 60);
+        for (int index = 0; index <= 5; index++) {
+            ShortArrayList list = listOf(range(0, 5));
+            List<Short> expected = boxed(range(0, 5));
+            assertTrue(ShortArrayLists.addAll(list, index, src, 2, 6));
+            expected.addAll(index, boxed(src).subList(2, 8));
+            assertEquals(expected, list);
+        }
+        ShortArrayList list = listOf(range(0, 5));
+        assertTrue(ShortArrayLists.addAll(list, src, 0, src.length));
+        List<Short> expected = boxed(range(0, 5));
+        expected.addAll(boxed(src));
+        assertEquals(expected, list);
+        assertTrue(ShortArrayLists.addAll(list, 0, src));
+        expected.addAll(0, boxed(src));
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void growsOnce() throws IllegalAccessException {
+        ShortArrayList list = listOf(range(0, 10));
+        assertEquals(10, capacity(list));
+        int modCount = modCount(list);
+        ShortArrayLists.addAll(list, range(0, 100), 0, 100);
+        assertEquals(110, list.size());
+        assertEquals(110, capacity(list));
+        assertTrue(modCount(list) > modCount);
+        // room left: no growth.
+        list.ensureCapacity(200);
+        modCount = modCount(list);
+        ShortArrayLists.addAll(list, 5, range(0, 90));
+        assertEquals(200, capacity(list));
+        assertEquals(modCount + 1, modCount(list));
+    }
+
+    @Test
+    public void emptyRangeChangesNothing() throws IllegalAccessException {
+        ShortArrayList list = listOf(range(0, 3));
+        int modCount = modCount(list);
+        assertFalse(ShortArrayLists.addAll(list, range(0, 3), 3, 0));
+        assertFalse(ShortArrayLists.addAll(list, new ShortArrayList()));
+        assertEquals(3, list.size());
+        assertEquals(modCount, modCount(list));
+    }
+
+    @Test
+    public void outOfBounds() {
+        ShortArrayList list = listOf(range(0, 3));
+        short[] src = range(0, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayLists.addAll(list, -1, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayLists.addAll(list, 4, src));
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayLists.addAll(list, src, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayLists.addAll(list, src, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortArrayLists.addAll(list, src, 2, 3));
+        assertEquals(boxed(range(0, 3)), list);
+    }
+
+    @Test
+    public void addAllCollections() {
+        ShortArrayList list = listOf(range(0, 4));
+        assertTrue(ShortArrayLists.addAll(list, list));
+        List<Short> expected = boxed(range(0, 4));
+        expected.addAll(boxed(range(0, 4)));
+        assertEquals(expected, list);
+
+        ShortLinkedList linked = new ShortLinkedList();
+        for (short e : range(20, 25))
+            linked.addPrimitive(linked.size(), e);
+        assertTrue(ShortArrayLists.addAll(list, 2, linked));
+        expected.addAll(2, linked);
+        assertEquals(expected, list);
+
+        assertTrue(ShortArrayLists.addAll(list, 1, boxed(range(30, 33))));
+        expected.addAll(1, boxed(range(30, 33)));
+        assertEquals(expected, list);
+
+        ShortArrayList other = listOf(range(40, 43));
+        other.ensureCapacity(100);
+        assertTrue(ShortArrayLists.addAll(list, 3, other));
+        expected.addAll(3, other);
+        assertEquals(expected, list);
+
+        assertTrue(ShortArrayLists.addAll(list, 1, list));
+        expected.addAll(1, new ArrayList<>(expected));
+        assertEquals(expected, list);
+    }
+
+    /**
+     * ShortLists and ShortArrayLists.equals and hashCode on every kind of list with the same elements,
+     * then against lists that differ in one element, in length, or in the type of an element.
+     */
+    @Test
+    public void equalsAndHashCodeAcrossListTypes() {
+        for (int length = 0; length <= 40; length++) {
+            short[] a = range(0, length);
+            List<Short> boxed = boxed(a);
+            // with stale elements past its size in elementData.
+            ShortArrayList stale = listOf(range(0, length + 7));
+            stale.subList(length, length + 7).clear();
+            GrowthPolicyShortArrayList growth = new GrowthPolicyShortArrayList(GrowthPolicy.DOUBLING);
+            ShortArrayLists.addAll(growth, a, 0, length);
+            CopyOnWriteShortArrayList cow = new CopyOnWriteShortArrayList(a);
+            List<ShortList> lists = Arrays.asList(listOf(a), stale, growth, new ShortLinkedList(boxed), cow);
+            for (ShortList x : lists) {
+                assertEquals(boxed.hashCode(), ShortLists.hashCode(x));
+                assertTrue(ShortLists.equals(x, boxed));
+                assertTrue(boxed.equals(x));
+                for (ShortList y : lists)
+                    assertTrue(ShortLists.equals(x, y));
+                assertFalse(ShortLists.equals(x, new HashSet<>(boxed)));
+                // the overrides.
+                assertEquals(growth, x);
+                assertEquals(cow, x);
+            }
+            assertEquals(boxed.hashCode(), ShortArrayLists.hashCode(stale));
+            assertEquals(boxed.hashCode(), growth.hashCode());
+            assertEquals(boxed.hashCode(), cow.hashCode());
+            if (length == 0)
+                continue;
+            short[] changed = a.clone();
+            changed[length - 1] = (short) -1;
+            short[] shorter = range(0, length - 1);
+            List<Object> wrongType = new ArrayList<>(boxed);
+            wrongType.set(length - 1, String.valueOf(a[length - 1]));
+            for (ShortList x : lists) {
+                assertFalse(ShortLists.equals(x, listOf(changed)));
+                assertFalse(ShortLists.equals(x, listOf(shorter)));
+                assertFalse(ShortLists.equals(x, new ShortLinkedList(boxed(changed))));
+                assertFalse(ShortLists.equals(x, new ShortLinkedList(boxed(shorter))));
+                assertFalse(ShortLists.equals(x, boxed(changed)));
+                assertFalse(ShortLists.equals(x, boxed(shorter)));
+                assertFalse(ShortLists.equals(x, wrongType));
+                assertFalse(ShortLists.equals(listOf(shorter), x));
+                assertFalse(ShortLists.equals(new ShortLinkedList(boxed(shorter)), x));
+                assertFalse(growth.equals(new ShortLinkedList(boxed(changed))));
+                assertFalse(cow.equals(new ShortLinkedList(boxed(changed))));
+            }
+        }
+    }
+}
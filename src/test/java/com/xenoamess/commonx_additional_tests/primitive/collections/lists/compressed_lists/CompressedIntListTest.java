@@ -0,0 +1,126 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.compressed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.IntArrayLists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompressedIntListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static int[] sortedIds(int size, int maxGap) {
+        int[] a = new int[size];
+        int x = rnd.nextInt(1000);
+        for (int i = 0; i < size; i++)
+            a[i] = x += rnd.nextInt(maxGap + 1);
+        return a;
+    }
+
+    static int[] randomInts(int size) {
+        int[] a = new int[size];
+        for (int i = 0; i < size; i++)
+            a[i] = rnd.nextInt();
+        return a;
+    }
+
+    static void assertSameElements(int[] expected, CompressedIntList list) {
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], list.getPrimitive(i));
+        assertArrayEquals(expected, list.toArrayPrimitive(new int[0]));
+        IntIterator it = list.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(it.hasNext());
+            assertEquals(expected[i], it.nextPrimitive());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextPrimitive);
+    }
+
+    @Test
+    public void roundTrips() {
+        int blockSize = CompressedIntList.BLOCK_SIZE;
+        for (int size : new int[]{0, 1, blockSize - 1, blockSize, blockSize + 1, 10 * blockSize + 7}) {
+            int[] a = sortedIds(size, 0);
+            assertSameElements(a, CompressedIntList.copyOf(a, 0, size));
+            a = sortedIds(size, 10);
+            assertSameElements(a, CompressedIntList.copyOf(a, 0, size));
+            a = sortedIds(size, 1 << 20);
+            assertSameElements(a, CompressedIntList.copyOf(a, 0, size));
+            a = randomInts(size);
+            assertSameElements(a, CompressedIntList.copyOf(a, 0, size));
+        }
+    }
+
+    @Test
+    public void extremes() {
+        int[] a = new int[300];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (i % 3 == 0) ? Integer.MIN_VALUE : (i % 3 == 1) ? Integer.MAX_VALUE : 0;
+        assertSameElements(a, CompressedIntList.copyOf(a, 0, a.length));
+        Arrays.fill(a, Integer.MIN_VALUE);
+        assertSameElements(a, CompressedIntList.copyOf(a, 0, a.length));
+    }
+
+    @Test
+    public void copiesARange() {
+        int[] a = sortedIds(1000, 100);
+        CompressedIntList list = CompressedIntList.copyOf(a, 123, 777);
+        assertSameElements(Arrays.copyOfRange(a, 123, 777), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedIntList.copyOf(a, -1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedIntList.copyOf(a, 10, 1001));
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedIntList.copyOf(a, 10, 9));
+    }
+
+    @Test
+    public void sortedIdsTakeFewBits() {
+        int size = 100_000;
+        CompressedIntList list = CompressedIntList.copyOf(sortedIds(size, 15), 0, size);
+        // a block of 128 gaps below 16 spans less than 2048, so 11 bits an element, plus the skip index.
+        assertTrue(list.sizeInBytes() <= (long) size * 11 / 8 + (long) size / CompressedIntList.BLOCK_SIZE * 17,
+                "sizeInBytes: " + list.sizeInBytes());
+        CompressedIntList constant = CompressedIntList.copyOf(new int[size], 0, size);
+        assertTrue(constant.sizeInBytes() < size / 8, "sizeInBytes: " + constant.sizeInBytes());
+        CompressedIntList random = CompressedIntList.copyOf(randomInts(size), 0, size);
+        assertTrue(random.sizeInBytes() <= (long) size * Integer.BYTES + (long) size / CompressedIntList.BLOCK_SIZE * 17,
+                "sizeInBytes: " + random.sizeInBytes());
+    }
+
+    @Test
+    public void freezeCompressed() {
+        int[] a = sortedIds(5000, 7);
+        IntArrayList list = new IntArrayList();
+        IntArrayLists.addAll(list, a, 0, a.length);
+        CompressedIntList frozen = IntArrayLists.freezeCompressed(list);
+        assertSameElements(a, frozen);
+        assertEquals(list, frozen);
+        assertEquals(list.hashCode(), frozen.hashCode());
+        list.clear();
+        assertSameElements(a, frozen);
+        assertSame(frozen, CompressedIntList.copyOf(frozen));
+    }
+
+    @Test
+    public void isImmutable() {
+        CompressedIntList list = CompressedIntList.copyOf(new int[]{1, 2, 3}, 0, 3);
+        assertThrows(UnsupportedOperationException.class, () -> list.setPrimitive(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.addPrimitive(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+        assertArrayEquals(new int[]{1, 2, 3}, list.toArrayPrimitive(new int[0]));
+    }
+}
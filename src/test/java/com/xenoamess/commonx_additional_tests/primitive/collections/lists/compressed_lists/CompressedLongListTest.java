@@ -0,0 +1,126 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.compressed_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.LongArrayLists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompressedLongListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static long[] sortedIds(int size, int maxGap) {
+        long[] a = new long[size];
+        long x = rnd.nextInt(1000);
+        for (int i = 0; i < size; i++)
+            a[i] = x += rnd.nextInt(maxGap + 1);
+        return a;
+    }
+
+    static long[] randomLongs(int size) {
+        long[] a = new long[size];
+        for (int i = 0; i < size; i++)
+            a[i] = rnd.nextLong();
+        return a;
+    }
+
+    static void assertSameElements(long[] expected, CompressedLongList list) {
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], list.getPrimitive(i));
+        assertArrayEquals(expected, list.toArrayPrimitive(new long[0]));
+        LongIterator it = list.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(it.hasNext());
+            assertEquals(expected[i], it.nextPrimitive());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextPrimitive);
+    }
+
+    @Test
+    public void roundTrips() {
+        int blockSize = CompressedLongList.BLOCK_SIZE;
+        for (int size : new int[]{0, 1, blockSize - 1, blockSize, blockSize + 1, 10 * blockSize + 7}) {
+            long[] a = sortedIds(size, 0);
+            assertSameElements(a, CompressedLongList.copyOf(a, 0, size));
+            a = sortedIds(size, 10);
+            assertSameElements(a, CompressedLongList.copyOf(a, 0, size));
+            a = sortedIds(size, 1 << 20);
+            assertSameElements(a, CompressedLongList.copyOf(a, 0, size));
+            a = randomLongs(size);
+            assertSameElements(a, CompressedLongList.copyOf(a, 0, size));
+        }
+    }
+
+    @Test
+    public void extremes() {
+        long[] a = new long[300];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (i % 3 == 0) ? Long.MIN_VALUE : (i % 3 == 1) ? Long.MAX_VALUE : 0;
+        assertSameElements(a, CompressedLongList.copyOf(a, 0, a.length));
+        Arrays.fill(a, Long.MIN_VALUE);
+        assertSameElements(a, CompressedLongList.copyOf(a, 0, a.length));
+    }
+
+    @Test
+    public void copiesARange() {
+        long[] a = sortedIds(1000, 100);
+        CompressedLongList list = CompressedLongList.copyOf(a, 123, 777);
+        assertSameElements(Arrays.copyOfRange(a, 123, 777), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedLongList.copyOf(a, -1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedLongList.copyOf(a, 10, 1001));
+        assertThrows(IndexOutOfBoundsException.class, () -> CompressedLongList.copyOf(a, 10, 9));
+    }
+
+    @Test
+    public void sortedIdsTakeFewBits() {
+        int size = 100_000;
+        CompressedLongList list = CompressedLongList.copyOf(sortedIds(size, 15), 0, size);
+        // a block of 128 gaps below 16 spans less than 2048, so 11 bits an element, plus the skip index.
+        assertTrue(list.sizeInBytes() <= (long) size * 11 / 8 + (long) size / CompressedLongList.BLOCK_SIZE * 17,
+                "sizeInBytes: " + list.sizeInBytes());
+        CompressedLongList constant = CompressedLongList.copyOf(new long[size], 0, size);
+        assertTrue(constant.sizeInBytes() < size / 8, "sizeInBytes: " + constant.sizeInBytes());
+        CompressedLongList random = CompressedLongList.copyOf(randomLongs(size), 0, size);
+        assertTrue(random.sizeInBytes() <= (long) size * Long.BYTES + (long) size / CompressedLongList.BLOCK_SIZE * 17,
+                "sizeInBytes: " + random.sizeInBytes());
+    }
+
+    @Test
+    public void freezeCompressed() {
+        long[] a = sortedIds(5000, 7);
+        LongArrayList list = new LongArrayList();
+        LongArrayLists.addAll(list, a, 0, a.length);
+        CompressedLongList frozen = LongArrayLists.freezeCompressed(list);
+        assertSameElements(a, frozen);
+        assertEquals(list, frozen);
+        assertEquals(list.hashCode(), frozen.hashCode());
+        list.clear();
+        assertSameElements(a, frozen);
+        assertSame(frozen, CompressedLongList.copyOf(frozen));
+    }
+
+    @Test
+    public void isImmutable() {
+        CompressedLongList list = CompressedLongList.copyOf(new long[]{1, 2, 3}, 0, 3);
+        assertThrows(UnsupportedOperationException.class, () -> list.setPrimitive(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.addPrimitive(0, 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.add((long) 4));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+        assertArrayEquals(new long[]{1, 2, 3}, list.toArrayPrimitive(new long[0]));
+    }
+}
@@ -0,0 +1,169 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists;
+
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentDoubleAppendListTest {
+    static final int THREADS = 8;
+    static final int PER_THREAD = 100_000;
+    static final int BATCH = 100;
+
+    static double element(int thread, int i) {
+        return (double) (thread * PER_THREAD + i);
+    }
+
+    @Test
+    public void appendsInOrder() {
+        ConcurrentDoubleAppendList list = new ConcurrentDoubleAppendList();
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.addPrimitive((double) i);
+            expected.add((double) i);
+        }
+        double[] batch = new double[3000];
+        for (int i = 0; i < batch.length; i++)
+            batch[i] = (double) (i + 5000);
+        assertTrue(list.addAllPrimitive(batch, 1, 2998));
+        for (int i = 1; i < 2999; i++)
+            expected.add(batch[i]);
+        assertFalse(list.addAllPrimitive(batch, 0, 0));
+        list.add((double) 42);
+        expected.add((double) 42);
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals((double) expected.get(i), list.getPrimitive(i));
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        double[] a = list.toArrayPrimitive(new double[0]);
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals((double) expected.get(i), a[i]);
+    }
+
+    @Test
+    public void rejectsWhatItCannotDo() {
+        ConcurrentDoubleAppendList list = new ConcurrentDoubleAppendList();
+        list.addPrimitive((double) 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(Integer.MAX_VALUE));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAllPrimitive(new double[2], 1, 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.setPrimitive(0, (double) 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void iteratorIsASnapshot() {
+        ConcurrentDoubleAppendList list = new ConcurrentDoubleAppendList();
+        for (int i = 0; i < 100; i++)
+            list.addPrimitive((double) i);
+        DoubleIterator it = list.iterator();
+        for (int i = 100; i < 1000; i++)
+            list.addPrimitive((double) i);
+        for (int i = 0; i < 100; i++)
+            assertEquals((double) i, it.nextPrimitive());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextPrimitive);
+        assertEquals(1000, list.size());
+    }
+
+    /**
+     * THREADS threads append at once, some one by one and some in batches,
+     * while a reader checks that what is published never changes and the size never goes down.
+     */
+    @Test
+    public void concurrentAppendsLoseNothing() throws Exception {
+        ConcurrentDoubleAppendList list = new ConcurrentDoubleAppendList();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    if (thread % 2 == 0) {
+                        for (int i = 0; i < PER_THREAD; i++)
+                            list.addPrimitive(element(thread, i));
+                    } else {
+                        double[] batch = new double[BATCH];
+                        for (int i = 0; i < PER_THREAD; i += BATCH) {
+                            for (int j = 0; j < BATCH; j++)
+                                batch[j] = element(thread, i + j);
+                            list.addAllPrimitive(batch, 0, BATCH);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reader = pool.submit(() -> {
+                start.await();
+                int lastSize = 0;
+                double[] seen = new double[0];
+                while (!done.get()) {
+                    int size = list.size();
+                    assertTrue(size >= lastSize, size + " < " + lastSize);
+                    if (size > 0)
+                        list.getPrimitive(size - 1);
+                    // a snapshot is the same as the start of any later one.
+                    double[] snapshot = list.toArrayPrimitive(new double[0]);
+                    assertTrue(snapshot.length >= size);
+                    for (int i = 0; i < seen.length; i++)
+                        assertEquals(seen[i], snapshot[i]);
+                    seen = snapshot;
+                    int n = 0;
+                    for (DoubleIterator it = list.iterator(); it.hasNext(); n++)
+                        it.nextPrimitive();
+                    assertTrue(n >= snapshot.length);
+                    lastSize = size;
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers)
+                writer.get(60, TimeUnit.SECONDS);
+            done.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            done.set(true);
+            pool.shutdownNow();
+        }
+
+        assertEquals(THREADS * PER_THREAD, list.size());
+        BitSet found = new BitSet(THREADS * PER_THREAD);
+        int[] next = new int[THREADS];
+        for (DoubleIterator it = list.iterator(); it.hasNext(); ) {
+            int e = (int) it.nextPrimitive();
+            int thread = e / PER_THREAD;
+            assertFalse(found.get(e), "appended twice: " + e);
+            found.set(e);
+            // each thread's elements come in the order it appended them.
+            assertEquals(next[thread]++, e % PER_THREAD);
+        }
+        assertEquals(THREADS * PER_THREAD, found.cardinality());
+        int[] expectedNext = new int[THREADS];
+        Arrays.fill(expectedNext, PER_THREAD);
+        assertArrayEquals(expectedNext, next);
+    }
+}
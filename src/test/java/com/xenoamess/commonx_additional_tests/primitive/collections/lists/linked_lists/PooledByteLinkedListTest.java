@@ -0,0 +1,109 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.iterators.ByteListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PooledByteLinkedListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    @Test
+    public void queueChurnReusesSlots() {
+        PooledByteLinkedList list = new PooledByteLinkedList(16);
+        for (int i = 0; i < 16; i++)
+            list.addLastPrimitive((byte) i);
+        byte[] values = list.values;
+        for (int i = 16; i < 100_000; i++) {
+            list.addLastPrimitive((byte) i);
+            assertEquals((byte) (i - 16), list.removeFirstPrimitive());
+        }
+        // one slot more than the size was needed, once, then every add reused a freed slot.
+        assertEquals(16, list.size());
+        assertEquals(24, list.capacity());
+        assertNotSame(values, list.values);
+        values = list.values;
+        for (int i = 0; i < 100_000; i++) {
+            list.addFirstPrimitive((byte) i);
+            list.removeLastPrimitive();
+        }
+        assertSame(values, list.values);
+    }
+
+    @Test
+    public void behavesLikeLinkedList() {
+        LinkedList<Byte> expected = new LinkedList<>();
+        PooledByteLinkedList list = new PooledByteLinkedList(0);
+        for (int i = 0; i < 2000; i++) {
+            int op = rnd.nextInt(6);
+            byte x = (byte) rnd.nextInt(100);
+            if (op < 2 || expected.isEmpty()) {
+                int index = rnd.nextInt(expected.size() + 1);
+                expected.add(index, x);
+                list.addPrimitive(index, x);
+            } else if (op < 3) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals((byte) expected.set(index, x), list.setPrimitive(index, x));
+            } else if (op < 4) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = rnd.nextInt(expected.size() + 1);
+                ListIterator<Byte> e = expected.listIterator(index);
+                ByteListIterator l = list.listIterator(index);
+                for (int step = 0; step < 5; step++) {
+                    if (rnd.nextBoolean() && e.hasNext()) {
+                        assertEquals((byte) e.next(), l.nextPrimitive());
+                    } else if (e.hasPrevious()) {
+                        assertEquals((byte) e.previous(), l.previousPrimitive());
+                    } else {
+                        break;
+                    }
+                    if (rnd.nextInt(3) == 0) {
+                        e.remove();
+                        l.remove();
+                    } else if (rnd.nextInt(3) == 0) {
+                        e.add(x);
+                        l.addPrimitive(x);
+                    }
+                    assertEquals(e.nextIndex(), l.nextIndex());
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+        assertEquals(list, expected);
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        PooledByteLinkedList list = new PooledByteLinkedList();
+        for (int i = 0; i < 20; i++)
+            list.addLastPrimitive((byte) i);
+        PooledByteLinkedList clone = list.clone();
+        assertEquals(list, clone);
+        clone.removeFirstPrimitive();
+        clone.addLastPrimitive((byte) 1);
+        assertEquals(20, list.size());
+        assertEquals((byte) 0, list.getFirstPrimitive());
+        assertEquals((byte) 19, list.getLastPrimitive());
+    }
+
+    @Test
+    public void emptyListThrows() {
+        PooledByteLinkedList list = new PooledByteLinkedList();
+        assertThrows(NoSuchElementException.class, list::getFirstPrimitive);
+        assertThrows(NoSuchElementException.class, list::getLastPrimitive);
+        assertThrows(NoSuchElementException.class, list::removeFirstPrimitive);
+        assertThrows(NoSuchElementException.class, list::removeLastPrimitive);
+        assertThrows(IllegalArgumentException.class, () -> new PooledByteLinkedList(-1));
+    }
+}
@@ -0,0 +1,109 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.iterators.FloatListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PooledFloatLinkedListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    @Test
+    public void queueChurnReusesSlots() {
+        PooledFloatLinkedList list = new PooledFloatLinkedList(16);
+        for (int i = 0; i < 16; i++)
+            list.addLastPrimitive((float) i);
+        float[] values = list.values;
+        for (int i = 16; i < 100_000; i++) {
+            list.addLastPrimitive((float) i);
+            assertEquals((float) (i - 16), list.removeFirstPrimitive());
+        }
+        // one slot more than the size was needed, once, then every add reused a freed slot.
+        assertEquals(16, list.size());
+        assertEquals(24, list.capacity());
+        assertNotSame(values, list.values);
+        values = list.values;
+        for (int i = 0; i < 100_000; i++) {
+            list.addFirstPrimitive((float) i);
+            list.removeLastPrimitive();
+        }
+        assertSame(values, list.values);
+    }
+
+    @Test
+    public void behavesLikeLinkedList() {
+        LinkedList<Float> expected = new LinkedList<>();
+        PooledFloatLinkedList list = new PooledFloatLinkedList(0);
+        for (int i = 0; i < 2000; i++) {
+            int op = rnd.nextInt(6);
+            float x = (float) rnd.nextInt(100);
+            if (op < 2 || expected.isEmpty()) {
+                int index = rnd.nextInt(expected.size() + 1);
+                expected.add(index, x);
+                list.addPrimitive(index, x);
+            } else if (op < 3) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals((float) expected.set(index, x), list.setPrimitive(index, x));
+            } else if (op < 4) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = rnd.nextInt(expected.size() + 1);
+                ListIterator<Float> e = expected.listIterator(index);
+                FloatListIterator l = list.listIterator(index);
+                for (int step = 0; step < 5; step++) {
+                    if (rnd.nextBoolean() && e.hasNext()) {
+                        assertEquals((float) e.next(), l.nextPrimitive());
+                    } else if (e.hasPrevious()) {
+                        assertEquals((float) e.previous(), l.previousPrimitive());
+                    } else {
+                        break;
+                    }
+                    if (rnd.nextInt(3) == 0) {
+                        e.remove();
+                        l.remove();
+                    } else if (rnd.nextInt(3) == 0) {
+                        e.add(x);
+                        l.addPrimitive(x);
+                    }
+                    assertEquals(e.nextIndex(), l.nextIndex());
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+        assertEquals(list, expected);
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        PooledFloatLinkedList list = new PooledFloatLinkedList();
+        for (int i = 0; i < 20; i++)
+            list.addLastPrimitive((float) i);
+        PooledFloatLinkedList clone = list.clone();
+        assertEquals(list, clone);
+        clone.removeFirstPrimitive();
+        clone.addLastPrimitive((float) 1);
+        assertEquals(20, list.size());
+        assertEquals((float) 0, list.getFirstPrimitive());
+        assertEquals((float) 19, list.getLastPrimitive());
+    }
+
+    @Test
+    public void emptyListThrows() {
+        PooledFloatLinkedList list = new PooledFloatLinkedList();
+        assertThrows(NoSuchElementException.class, list::getFirstPrimitive);
+        assertThrows(NoSuchElementException.class, list::getLastPrimitive);
+        assertThrows(NoSuchElementException.class, list::removeFirstPrimitive);
+        assertThrows(NoSuchElementException.class, list::removeLastPrimitive);
+        assertThrows(IllegalArgumentException.class, () -> new PooledFloatLinkedList(-1));
+    }
+}
@@ -0,0 +1,148 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists;
+
+import com.xenoamess.commons.primitive.iterators.ByteListIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnrolledByteLinkedListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static int nodeCount(UnrolledByteLinkedList list) {
+        int n = 0;
+        for (UnrolledByteLinkedList.Node x = list.first; x != null; x = x.next) {
+            assertTrue(x.count > 0);
+            n++;
+        }
+        return n;
+    }
+
+    @Test
+    public void appendFillsWholeBlocks() {
+        UnrolledByteLinkedList list = new UnrolledByteLinkedList(8);
+        for (int i = 0; i < 64; i++)
+            list.addPrimitive((byte) i);
+        assertEquals(8, nodeCount(list));
+        // inserting into a full block splits it in two halves.
+        list.addPrimitive(4, (byte) 100);
+        assertEquals(9, nodeCount(list));
+        assertEquals(5, list.first.count);
+        assertEquals(4, list.first.next.count);
+        assertEquals((byte) 100, list.getPrimitive(4));
+        assertEquals((byte) 4, list.getPrimitive(5));
+    }
+
+    @Test
+    public void removeMergesAndUnlinksBlocks() {
+        UnrolledByteLinkedList list = new UnrolledByteLinkedList(8);
+        for (int i = 0; i < 64; i++)
+            list.addPrimitive((byte) i);
+        for (int i = 0; i < 56; i++)
+            list.remove(0);
+        assertEquals(1, nodeCount(list));
+        for (int i = 0; i < 8; i++)
+            assertEquals((byte) (56 + i), list.getPrimitive(i));
+        list.clear();
+        assertNull(list.first);
+        assertNull(list.last);
+    }
+
+    @Test
+    public void behavesLikeLinkedList() {
+        for (int blockSize : new int[]{2, 3, 8, 64}) {
+            LinkedList<Byte> expected = new LinkedList<>();
+            UnrolledByteLinkedList list = new UnrolledByteLinkedList(blockSize);
+            for (int i = 0; i < 2000; i++) {
+                int op = rnd.nextInt(6);
+                byte x = (byte) rnd.nextInt(100);
+                if (op < 2 || expected.isEmpty()) {
+                    int index = rnd.nextInt(expected.size() + 1);
+                    expected.add(index, x);
+                    list.addPrimitive(index, x);
+                } else if (op < 3) {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals((byte) expected.set(index, x), list.setPrimitive(index, x));
+                } else if (op < 4) {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                } else {
+                    int index = rnd.nextInt(expected.size() + 1);
+                    ListIterator<Byte> e = expected.listIterator(index);
+                    ByteListIterator l = list.listIterator(index);
+                    for (int step = 0; step < 5; step++) {
+                        if (rnd.nextBoolean() && e.hasNext()) {
+                            assertEquals((byte) e.next(), l.nextPrimitive());
+                        } else if (e.hasPrevious()) {
+                            assertEquals((byte) e.previous(), l.previousPrimitive());
+                        } else {
+                            break;
+                        }
+                        if (rnd.nextInt(3) == 0) {
+                            e.remove();
+                            l.remove();
+                        } else if (rnd.nextInt(3) == 0) {
+                            e.add(x);
+                            l.addPrimitive(x);
+                        } else if (rnd.nextInt(3) == 0) {
+                            e.set(x);
+                            l.setPrimitive(x);
+                        }
+                        assertEquals(e.nextIndex(), l.nextIndex());
+                    }
+                }
+                assertEquals(expected.size(), list.size());
+            }
+            assertEquals(expected, list);
+            assertEquals(list, expected);
+        }
+    }
+
+    @Test
+    public void addAllInTheMiddle() {
+        UnrolledByteLinkedList list = new UnrolledByteLinkedList(4);
+        LinkedList<Byte> expected = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.addPrimitive((byte) i);
+            expected.add((byte) i);
+        }
+        list.addAll(3, list);
+        expected.addAll(3, new LinkedList<>(expected));
+        assertEquals(expected, list);
+        byte[] array = list.toArrayPrimitive(new byte[0]);
+        assertEquals(20, array.length);
+        for (int i = 0; i < array.length; i++)
+            assertEquals((byte) expected.get(i), array[i]);
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        UnrolledByteLinkedList list = new UnrolledByteLinkedList(4);
+        for (int i = 0; i < 20; i++)
+            list.addPrimitive((byte) i);
+        UnrolledByteLinkedList clone = list.clone();
+        assertEquals(list, clone);
+        clone.remove(0);
+        clone.setPrimitive(0, (byte) 7);
+        clone.addPrimitive((byte) 1);
+        assertEquals(20, list.size());
+        assertArrayEquals(new UnrolledByteLinkedList(list).toArrayPrimitive(new byte[0]),
+                list.toArrayPrimitive(new byte[0]));
+        assertEquals((byte) 0, list.getPrimitive(0));
+        assertEquals((byte) 1, list.getPrimitive(1));
+        assertEquals((byte) 19, list.getPrimitive(19));
+    }
+
+    @Test
+    public void illegalBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledByteLinkedList(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new UnrolledByteLinkedList().listIterator(1));
+    }
+}
@@ -0,0 +1,124 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.mapped_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedDoubleListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static Path tempFile() throws IOException {
+        Path path = Files.createTempFile("MappedDoubleList", ".bin");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    static double[] contents(DoubleArrayList list) {
+        return list.toArrayPrimitive(new double[list.size()]);
+    }
+
+    static double[] contents(MappedDoubleList list) {
+        return list.toArrayPrimitive(new double[list.size()]);
+    }
+
+    @Test
+    public void behavesLikeArrayList() throws IOException {
+        DoubleArrayList expected = new DoubleArrayList();
+        try (MappedDoubleList list = MappedDoubleList.open(tempFile())) {
+            for (int i = 0; i < 2000; i++) {
+                int op = rnd.nextInt(10);
+                double x = (double) rnd.nextInt(100);
+                if (op < 5 || expected.isEmpty()) {
+                    expected.add(x);
+                    list.add(x);
+                } else if (op < 7) {
+                    int index = rnd.nextInt(expected.size() + 1);
+                    expected.addPrimitive(index, x);
+                    list.addPrimitive(index, x);
+                } else if (op < 8) {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.setPrimitive(index, x), list.setPrimitive(index, x));
+                } else {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+                assertEquals(expected.size(), list.size());
+            }
+            assertEquals(expected, list);
+            assertEquals(list, expected);
+            assertEquals(expected.hashCode(), list.hashCode());
+            assertEquals(expected.subList(1, 10), list.subList(1, 10));
+            assertArrayEquals(contents(expected), contents(list));
+        }
+    }
+
+    @Test
+    public void reopenSeesSameContents() throws IOException {
+        Path path = tempFile();
+        DoubleArrayList expected = new DoubleArrayList();
+        try (MappedDoubleList list = MappedDoubleList.open(path)) {
+            for (int i = 0; i < 1000; i++) {
+                double x = (double) rnd.nextInt();
+                expected.add(x);
+                list.addPrimitive(x);
+            }
+            list.force();
+        }
+        assertEquals(MappedDoubleList.HEADER_BYTES + 1000L * Double.BYTES, Files.size(path));
+        try (MappedDoubleList list = MappedDoubleList.open(path)) {
+            assertArrayEquals(contents(expected), contents(list));
+            list.removeIf(x -> true);
+            list.addPrimitive((double) 7);
+        }
+        try (MappedDoubleList list = MappedDoubleList.open(path)) {
+            assertEquals(1, list.size());
+            assertEquals((double) 7, list.getPrimitive(0));
+        }
+    }
+
+    @Test
+    public void growthRemaps() throws IOException {
+        try (MappedDoubleList list = MappedDoubleList.open(tempFile())) {
+            int capacity = list.capacity();
+            for (int i = 0; i <= capacity; i++)
+                list.addPrimitive((double) i);
+            assertTrue(list.capacity() > capacity);
+            for (int i = 0; i <= capacity; i++)
+                assertEquals((double) i, list.getPrimitive(i));
+            list.ensureCapacity(10000);
+            assertTrue(list.capacity() >= 10000);
+            assertEquals(capacity + 1, list.size());
+        }
+    }
+
+    @Test
+    public void closedListRejectsAdds() throws IOException {
+        MappedDoubleList list = MappedDoubleList.open(tempFile());
+        list.addPrimitive((double) 1);
+        list.close();
+        list.close();
+        assertTrue(list.isClosed());
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(0));
+        assertThrows(IllegalStateException.class, () -> list.addPrimitive((double) 1));
+        assertThrows(IllegalStateException.class, list::force);
+    }
+
+    @Test
+    public void rejectsForeignFiles() throws IOException {
+        Path path = tempFile();
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> MappedDoubleList.open(path));
+        Files.write(path, new byte[MappedDoubleList.HEADER_BYTES + 64]);
+        assertThrows(IOException.class, () -> MappedDoubleList.open(path));
+    }
+}
@@ -0,0 +1,154 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.mapped_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedIntListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static Path tempFile() throws IOException {
+        Path path = Files.createTempFile("MappedIntList", ".bin");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    static int[] contents(IntArrayList list) {
+        return list.toArrayPrimitive(new int[list.size()]);
+    }
+
+    static int[] contents(MappedIntList list) {
+        return list.toArrayPrimitive(new int[list.size()]);
+    }
+
+    @Test
+    public void behavesLikeArrayList() throws IOException {
+        IntArrayList expected = new IntArrayList();
+        try (MappedIntList list = MappedIntList.open(tempFile())) {
+            for (int i = 0; i < 2000; i++) {
+                int op = rnd.nextInt(10);
+                int x = (int) rnd.nextInt(100);
+                if (op < 5 || expected.isEmpty()) {
+                    expected.add(x);
+                    list.add(x);
+                } else if (op < 7) {
+                    int index = rnd.nextInt(expected.size() + 1);
+                    expected.addPrimitive(index, x);
+                    list.addPrimitive(index, x);
+                } else if (op < 8) {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.setPrimitive(index, x), list.setPrimitive(index, x));
+                } else {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+                assertEquals(expected.size(), list.size());
+            }
+            assertEquals(expected, list);
+            assertEquals(list, expected);
+            assertEquals(expected.hashCode(), list.hashCode());
+            assertEquals(expected.subList(1, 10), list.subList(1, 10));
+            assertArrayEquals(contents(expected), contents(list));
+        }
+    }
+
+    @Test
+    public void insertAndRemoveShiftTheTail() throws IOException {
+        Path path = tempFile();
+        IntArrayList expected = new IntArrayList();
+        try (MappedIntList list = MappedIntList.open(path)) {
+            for (int size = 1; size <= 20; size++) {
+                for (int index = 0; index <= size; index++) {
+                    expected.clear();
+                    list.clear();
+                    for (int i = 0; i < size; i++) {
+                        expected.addPrimitive(i, i);
+                        list.addPrimitive(i, i);
+                    }
+                    expected.addPrimitive(index, -1);
+                    list.addPrimitive(index, -1);
+                    assertArrayEquals(contents(expected), contents(list));
+                    assertEquals(expected.remove(index), list.remove(index));
+                    assertArrayEquals(contents(expected), contents(list));
+                    if (index < size) {
+                        assertEquals(expected.remove(index), list.remove(index));
+                        assertArrayEquals(contents(expected), contents(list));
+                    }
+                }
+            }
+        }
+        try (MappedIntList reopened = MappedIntList.open(path)) {
+            assertArrayEquals(contents(expected), contents(reopened));
+        }
+    }
+
+    @Test
+    public void reopenSeesSameContents() throws IOException {
+        Path path = tempFile();
+        IntArrayList expected = new IntArrayList();
+        try (MappedIntList list = MappedIntList.open(path)) {
+            for (int i = 0; i < 1000; i++) {
+                int x = (int) rnd.nextInt();
+                expected.add(x);
+                list.addPrimitive(x);
+            }
+            list.force();
+        }
+        assertEquals(MappedIntList.HEADER_BYTES + 1000L * Integer.BYTES, Files.size(path));
+        try (MappedIntList list = MappedIntList.open(path)) {
+            assertArrayEquals(contents(expected), contents(list));
+            list.removeIf(x -> true);
+            list.addPrimitive((int) 7);
+        }
+        try (MappedIntList list = MappedIntList.open(path)) {
+            assertEquals(1, list.size());
+            assertEquals((int) 7, list.getPrimitive(0));
+        }
+    }
+
+    @Test
+    public void growthRemaps() throws IOException {
+        try (MappedIntList list = MappedIntList.open(tempFile())) {
+            int capacity = list.capacity();
+            for (int i = 0; i <= capacity; i++)
+                list.addPrimitive((int) i);
+            assertTrue(list.capacity() > capacity);
+            for (int i = 0; i <= capacity; i++)
+                assertEquals((int) i, list.getPrimitive(i));
+            list.ensureCapacity(10000);
+            assertTrue(list.capacity() >= 10000);
+            assertEquals(capacity + 1, list.size());
+        }
+    }
+
+    @Test
+    public void closedListRejectsAdds() throws IOException {
+        MappedIntList list = MappedIntList.open(tempFile());
+        list.addPrimitive((int) 1);
+        list.close();
+        list.close();
+        assertTrue(list.isClosed());
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(0));
+        assertThrows(IllegalStateException.class, () -> list.addPrimitive((int) 1));
+        assertThrows(IllegalStateException.class, list::force);
+    }
+
+    @Test
+    public void rejectsForeignFiles() throws IOException {
+        Path path = tempFile();
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> MappedIntList.open(path));
+        Files.write(path, new byte[MappedIntList.HEADER_BYTES + 64]);
+        assertThrows(IOException.class, () -> MappedIntList.open(path));
+    }
+}
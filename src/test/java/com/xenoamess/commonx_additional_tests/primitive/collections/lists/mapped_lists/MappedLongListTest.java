@@ -0,0 +1,124 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.mapped_lists;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedLongListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static Path tempFile() throws IOException {
+        Path path = Files.createTempFile("MappedLongList", ".bin");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    static long[] contents(LongArrayList list) {
+        return list.toArrayPrimitive(new long[list.size()]);
+    }
+
+    static long[] contents(MappedLongList list) {
+        return list.toArrayPrimitive(new long[list.size()]);
+    }
+
+    @Test
+    public void behavesLikeArrayList() throws IOException {
+        LongArrayList expected = new LongArrayList();
+        try (MappedLongList list = MappedLongList.open(tempFile())) {
+            for (int i = 0; i < 2000; i++) {
+                int op = rnd.nextInt(10);
+                long x = (long) rnd.nextInt(100);
+                if (op < 5 || expected.isEmpty()) {
+                    expected.add(x);
+                    list.add(x);
+                } else if (op < 7) {
+                    int index = rnd.nextInt(expected.size() + 1);
+                    expected.addPrimitive(index, x);
+                    list.addPrimitive(index, x);
+                } else if (op < 8) {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.setPrimitive(index, x), list.setPrimitive(index, x));
+                } else {
+                    int index = rnd.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+                assertEquals(expected.size(), list.size());
+            }
+            assertEquals(expected, list);
+            assertEquals(list, expected);
+            assertEquals(expected.hashCode(), list.hashCode());
+            assertEquals(expected.subList(1, 10), list.subList(1, 10));
+            assertArrayEquals(contents(expected), contents(list));
+        }
+    }
+
+    @Test
+    public void reopenSeesSameContents() throws IOException {
+        Path path = tempFile();
+        LongArrayList expected = new LongArrayList();
+        try (MappedLongList list = MappedLongList.open(path)) {
+            for (int i = 0; i < 1000; i++) {
+                long x = (long) rnd.nextInt();
+                expected.add(x);
+                list.addPrimitive(x);
+            }
+            list.force();
+        }
+        assertEquals(MappedLongList.HEADER_BYTES + 1000L * Long.BYTES, Files.size(path));
+        try (MappedLongList list = MappedLongList.open(path)) {
+            assertArrayEquals(contents(expected), contents(list));
+            list.removeIf(x -> true);
+            list.addPrimitive((long) 7);
+        }
+        try (MappedLongList list = MappedLongList.open(path)) {
+            assertEquals(1, list.size());
+            assertEquals((long) 7, list.getPrimitive(0));
+        }
+    }
+
+    @Test
+    public void growthRemaps() throws IOException {
+        try (MappedLongList list = MappedLongList.open(tempFile())) {
+            int capacity = list.capacity();
+            for (int i = 0; i <= capacity; i++)
+                list.addPrimitive((long) i);
+            assertTrue(list.capacity() > capacity);
+            for (int i = 0; i <= capacity; i++)
+                assertEquals((long) i, list.getPrimitive(i));
+            list.ensureCapacity(10000);
+            assertTrue(list.capacity() >= 10000);
+            assertEquals(capacity + 1, list.size());
+        }
+    }
+
+    @Test
+    public void closedListRejectsAdds() throws IOException {
+        MappedLongList list = MappedLongList.open(tempFile());
+        list.addPrimitive((long) 1);
+        list.close();
+        list.close();
+        assertTrue(list.isClosed());
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(0));
+        assertThrows(IllegalStateException.class, () -> list.addPrimitive((long) 1));
+        assertThrows(IllegalStateException.class, list::force);
+    }
+
+    @Test
+    public void rejectsForeignFiles() throws IOException {
+        Path path = tempFile();
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> MappedLongList.open(path));
+        Files.write(path, new byte[MappedLongList.HEADER_BYTES + 64]);
+        assertThrows(IOException.class, () -> MappedLongList.open(path));
+    }
+}
@@ -0,0 +1,51 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.off_heap_lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class DirectBuffersTest {
+    static final int CAPACITY = 1 << 20;
+
+    static BufferPoolMXBean directPool() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName()))
+                return pool;
+        }
+        throw new AssertionError("no direct buffer pool");
+    }
+
+    @Test
+    public void freeReleasesNativeMemory() {
+        assumeTrue(DirectBuffers.isFreeSupported());
+        BufferPoolMXBean pool = directPool();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACITY);
+        long before = pool.getTotalCapacity();
+        DirectBuffers.free(buffer);
+        assertEquals(before - CAPACITY, pool.getTotalCapacity());
+    }
+
+    @Test
+    public void closeReleasesNativeMemory() {
+        assumeTrue(DirectBuffers.isFreeSupported());
+        BufferPoolMXBean pool = directPool();
+        OffHeapLongArrayList list = new OffHeapLongArrayList(CAPACITY);
+        long before = pool.getTotalCapacity();
+        list.close();
+        assertEquals(before - (long) CAPACITY * Long.BYTES, pool.getTotalCapacity());
+    }
+
+    @Test
+    public void freeIgnoresHeapAndEmptyBuffers() {
+        DirectBuffers.free(ByteBuffer.allocate(16));
+        ByteBuffer empty = ByteBuffer.allocateDirect(0);
+        DirectBuffers.free(empty);
+        assertTrue(empty.isDirect());
+    }
+}
@@ -0,0 +1,198 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.lists.packed_lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PackedBooleanArrayListTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static PackedBooleanArrayList randomList(int size) {
+        PackedBooleanArrayList list = new PackedBooleanArrayList();
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(rnd.nextBoolean());
+        return list;
+    }
+
+    static BitSet bitSet(PackedBooleanArrayList list) {
+        BitSet bits = new BitSet();
+        for (int i = 0; i < list.size(); i++)
+            bits.set(i, list.getPrimitive(i));
+        return bits;
+    }
+
+    @Test
+    public void behavesLikeArrayList() {
+        List<Boolean> expected = new ArrayList<>();
+        PackedBooleanArrayList list = new PackedBooleanArrayList();
+        for (int i = 0; i < 5000; i++) {
+            int op = rnd.nextInt(5);
+            boolean x = rnd.nextBoolean();
+            if (op < 2 || expected.isEmpty()) {
+                int index = rnd.nextInt(expected.size() + 1);
+                expected.add(index, x);
+                list.addPrimitive(index, x);
+            } else if (op < 3) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals((boolean) expected.set(index, x), list.setPrimitive(index, x));
+            } else if (op < 4) {
+                int index = rnd.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                expected.add(x);
+                list.addPrimitive(x);
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+        assertEquals(expected, list.clone());
+        assertEquals(expected, new ArrayList<>(list));
+    }
+
+    @Test
+    public void addAllAcrossWords() {
+        for (int size : new int[]{0, 1, 63, 64, 65, 130}) {
+            for (int otherSize : new int[]{0, 1, 63, 64, 65, 200}) {
+                PackedBooleanArrayList list = randomList(size);
+                PackedBooleanArrayList other = randomList(otherSize);
+                List<Boolean> expected = new ArrayList<>(list);
+                expected.addAll(other);
+                assertEquals(otherSize != 0, list.addAll(other));
+                assertEquals(expected, list);
+                assertEquals(expected.size(), list.size());
+            }
+            PackedBooleanArrayList list = randomList(size);
+            List<Boolean> expected = new ArrayList<>(list);
+            expected.addAll(new ArrayList<>(list));
+            list.addAll(list);
+            assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    public void addAllWithNullLeavesListUnchanged() {
+        PackedBooleanArrayList list = randomList(10);
+        List<Boolean> expected = new ArrayList<>(list);
+        assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList(true, true, null, true)));
+        assertEquals(expected, list);
+        list.addPrimitive(false);
+        assertFalse(list.getPrimitive(10));
+        assertEquals(bitSet(list).cardinality(), list.cardinality());
+        assertEquals(-1, list.nextSetBit(10));
+    }
+
+    @Test
+    public void cardinalityAndNextSetBitMatchBitSet() {
+        for (int size : new int[]{0, 1, 63, 64, 65, 1000}) {
+            PackedBooleanArrayList list = randomList(size);
+            BitSet bits = bitSet(list);
+            assertEquals(bits.cardinality(), list.cardinality());
+            for (int i = 0; i <= size + 1; i++) {
+                int expected = bits.nextSetBit(i);
+                assertEquals(expected, list.nextSetBit(i));
+            }
+            assertEquals(bits, list.toBitSet());
+        }
+        PackedBooleanArrayList empty = new PackedBooleanArrayList();
+        assertEquals(-1, empty.nextSetBit(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.nextSetBit(-1));
+    }
+
+    @Test
+    public void bulkOperationsMatchBitSet() {
+        for (int size : new int[]{0, 1, 63, 64, 65, 1000}) {
+            for (int otherSize : new int[]{0, 1, 64, 100, 2000}) {
+                PackedBooleanArrayList other = randomList(otherSize);
+                BitSet otherBits = bitSet(other);
+                // elements of other past the end of this list are ignored.
+                BitSet clipped = otherBits.get(0, size);
+
+                PackedBooleanArrayList list = randomList(size);
+                BitSet bits = bitSet(list);
+                list.and(other);
+                bits.and(clipped);
+                assertEquals(bits, list.toBitSet());
+                assertEquals(size, list.size());
+
+                list = randomList(size);
+                bits = bitSet(list);
+                list.or(other);
+                bits.or(clipped);
+                assertEquals(bits, list.toBitSet());
+                assertEquals(bits.cardinality(), list.cardinality());
+                assertEquals(size, list.size());
+
+                list = randomList(size);
+                bits = bitSet(list);
+                list.xor(other);
+                bits.xor(clipped);
+                assertEquals(bits, list.toBitSet());
+                assertEquals(bits.cardinality(), list.cardinality());
+                assertEquals(size, list.size());
+            }
+        }
+    }
+
+    @Test
+    public void bulkOperationsOnItself() {
+        PackedBooleanArrayList list = randomList(300);
+        List<Boolean> expected = new ArrayList<>(list);
+        list.and(list);
+        assertEquals(expected, list);
+        list.or(list);
+        assertEquals(expected, list);
+        list.xor(list);
+        assertEquals(0, list.cardinality());
+        assertEquals(-1, list.nextSetBit(0));
+        assertEquals(300, list.size());
+    }
+
+    @Test
+    public void negativeIndexThrowsIndexOutOfBounds() {
+        PackedBooleanArrayList list = randomList(10);
+        List<Boolean> expected = new ArrayList<>(list);
+        Iterator<Boolean> it = list.iterator();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setPrimitive(-1, true));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertEquals(expected, list);
+        it.next();
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        PackedBooleanArrayList list = randomList(100);
+        PackedBooleanArrayList clone = list.clone();
+        assertNotSame(list, clone);
+        assertEquals(list, clone);
+        boolean old = clone.getPrimitive(7);
+        clone.setPrimitive(7, !old);
+        assertEquals(old, list.getPrimitive(7));
+        clone.addPrimitive(true);
+        assertEquals(100, list.size());
+    }
+
+    @Test
+    public void clearKeepsCapacity() {
+        PackedBooleanArrayList list = randomList(1000);
+        int capacity = list.capacity();
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(capacity, list.capacity());
+        assertEquals(0, list.cardinality());
+        list.addPrimitive(false);
+        assertFalse(list.getPrimitive(0));
+        assertEquals(-1, list.nextSetBit(0));
+    }
+}
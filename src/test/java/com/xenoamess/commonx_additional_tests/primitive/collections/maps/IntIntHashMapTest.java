@@ -0,0 +1,252 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntIntHashMapTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    /**
+     * Keys from a small range, so that puts and removes hit each other, with 0 and the extremes among them;
+     * some shifted left, so that they share their low bits and collide before mixing.
+     */
+    static int randomKey() {
+        switch (rnd.nextInt(8)) {
+            case 0:
+                return 0;
+            case 1:
+                return Integer.MIN_VALUE;
+            case 2:
+                return Integer.MAX_VALUE;
+            case 3:
+            case 4:
+                return (int) rnd.nextInt(1 << 10) << 20;
+            default:
+                return (int) (rnd.nextInt(1 << 11) - (1 << 10));
+        }
+    }
+
+    static void assertSameEntries(Map<Integer, Integer> expected, IntIntHashMap map) {
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.isEmpty(), map.isEmpty());
+        Map<Integer, Integer> seen = new HashMap<>();
+        map.forEach((key, value) -> assertEquals(null, seen.put(key, value)));
+        assertEquals(expected, seen);
+        seen.clear();
+        IntIterator keys = map.keyIterator();
+        IntIterator values = map.valueIterator();
+        while (keys.hasNext()) {
+            assertTrue(values.hasNext());
+            int key = keys.nextPrimitive();
+            int value = values.nextPrimitive();
+            assertEquals(null, seen.put(key, value));
+            assertEquals(value, map.get(key));
+        }
+        assertFalse(values.hasNext());
+        assertEquals(expected, seen);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.toString().length(), map.toString().length());
+    }
+
+    @Test
+    public void behavesLikeHashMap() {
+        for (int round = 0; round < 20; round++) {
+            IntIntHashMap map = new IntIntHashMap(rnd.nextInt(4));
+            Map<Integer, Integer> expected = new HashMap<>();
+            for (int i = 0; i < 5000; i++) {
+                int key = randomKey();
+                int value = (int) rnd.nextInt(100);
+                switch (rnd.nextInt(6)) {
+                    case 0:
+                        assertEquals((int) expected.getOrDefault(key, (int) 0), map.remove(key));
+                        expected.remove(key);
+                        break;
+                    case 1:
+                        assertEquals(expected.containsKey(key), map.containsKey(key));
+                        assertEquals((int) expected.getOrDefault(key, (int) 0), map.get(key));
+                        assertEquals((int) expected.getOrDefault(key, (int) -1), map.getOrDefault(key, (int) -1));
+                        break;
+                    case 2:
+                        assertEquals((int) expected.merge(key, value, (a, b) -> (int) (a + b)), map.addTo(key, value));
+                        break;
+                    case 3:
+                        assertEquals(expected.containsValue(value), map.containsValue(value));
+                        break;
+                    default:
+                        Integer old = expected.put(key, value);
+                        assertEquals(old == null ? (int) 0 : old, map.put(key, value));
+                        break;
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            assertSameEntries(expected, map);
+        }
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 50; round++) {
+            IntIntHashMap map = new IntIntHashMap();
+            Map<Integer, Integer> expected = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                int key = randomKey();
+                map.put(key, (int) i);
+                expected.put(key, (int) i);
+            }
+            Map<Integer, Integer> original = new HashMap<>(expected);
+            // removing shifts entries from the start of the table to its end; none may be skipped or returned twice.
+            Map<Integer, Integer> seen = new HashMap<>();
+            for (IntIterator it = map.keyIterator(); it.hasNext(); ) {
+                int key = it.nextPrimitive();
+                assertEquals(null, seen.put(key, map.get(key)), "returned twice: " + key);
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    expected.remove(key);
+                    assertThrows(IllegalStateException.class, it::remove);
+                }
+            }
+            assertEquals(original, seen);
+            assertSameEntries(expected, map);
+
+            int n = 0;
+            int removed = 0;
+            for (IntIterator it = map.valueIterator(); it.hasNext(); n++) {
+                assertTrue(expected.containsValue(it.nextPrimitive()));
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            assertEquals(expected.size(), n);
+            assertEquals(expected.size() - removed, map.size());
+            Map<Integer, Integer> left = toMap(map);
+            assertTrue(expected.entrySet().containsAll(left.entrySet()));
+        }
+    }
+
+    static Map<Integer, Integer> toMap(IntIntHashMap map) {
+        Map<Integer, Integer> result = new HashMap<>();
+        map.forEach(result::put);
+        return result;
+    }
+
+    @Test
+    public void tableHoldsExpectedSizeWithoutGrowing() {
+        assertEquals(2, IntIntHashMap.tableSizeFor(0, IntIntHashMap.DEFAULT_LOAD_FACTOR));
+        assertEquals(16, IntIntHashMap.tableSizeFor(12, 0.75f));
+        assertEquals(32, IntIntHashMap.tableSizeFor(13, 0.75f));
+        IntIntHashMap map = new IntIntHashMap(12);
+        for (int i = 1; i <= 12; i++)
+            map.put(i, i);
+        assertEquals(16, map.keys.length);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossTheEndOfTheTable() {
+        IntIntHashMap map = new IntIntHashMap();
+        int mask = IntIntHashMap.tableSizeFor(16, IntIntHashMap.DEFAULT_LOAD_FACTOR) - 1;
+        // keys whose home is the last slot; all but the first wrap around to the start of the table.
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int key = 1; expected.size() < 4; key++) {
+            if ((IntIntHashMap.mix(key) & mask) == mask) {
+                map.put(key, (int) (key * 3));
+                expected.put(key, (int) (key * 3));
+            }
+        }
+        Map<Integer, Integer> seen = new HashMap<>();
+        for (IntIterator it = map.keyIterator(); it.hasNext(); ) {
+            int key = it.nextPrimitive();
+            assertEquals(null, seen.put(key, map.get(key)), "returned twice: " + key);
+            it.remove();
+        }
+        assertEquals(expected, seen);
+        assertTrue(map.isEmpty());
+        for (Map.Entry<Integer, Integer> e : expected.entrySet())
+            map.put(e.getKey(), e.getValue());
+        int n = 0;
+        for (IntIterator it = map.valueIterator(); it.hasNext(); n++) {
+            int value = it.nextPrimitive();
+            assertTrue(expected.containsValue(value));
+            it.remove();
+        }
+        assertEquals(4, n);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void iteratorsAreFailFast() {
+        IntIntHashMap map = new IntIntHashMap();
+        map.put((int) 1, (int) 1);
+        map.put((int) 2, (int) 2);
+        IntIterator keys = map.keyIterator();
+        IntIterator values = map.valueIterator();
+        keys.nextPrimitive();
+        values.nextPrimitive();
+        map.put((int) 3, (int) 3);
+        assertThrows(ConcurrentModificationException.class, keys::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, values::nextPrimitive);
+        // replacing a value is not a structural change.
+        keys = map.keyIterator();
+        keys.nextPrimitive();
+        map.put((int) 3, (int) 4);
+        keys.nextPrimitive();
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((key, value) -> map.remove(key)));
+        IntIterator empty = new IntIntHashMap().keyIterator();
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextPrimitive);
+        assertThrows(IllegalStateException.class, empty::remove);
+    }
+
+    @Test
+    public void equalsHashCodeAndClone() {
+        IntIntHashMap a = new IntIntHashMap();
+        for (int i = 0; i < 500; i++)
+            a.put(randomKey(), (int) i);
+        a.put((int) 0, (int) 7);
+        IntIntHashMap b = a.clone();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(toMap(a), toMap(b));
+        IntIntHashMap c = new IntIntHashMap(10_000);
+        a.forEach(c::put);
+        assertEquals(a, c);
+        assertEquals(a.hashCode(), c.hashCode());
+        b.put((int) 0, (int) 8);
+        assertNotEquals(a, b);
+        assertEquals((int) 7, a.get((int) 0));
+        b.remove((int) 0);
+        assertNotEquals(a, b);
+        assertEquals(new IntIntHashMap(), new IntIntHashMap(100));
+        assertEquals("{}", new IntIntHashMap().toString());
+        c.clear();
+        assertTrue(c.isEmpty());
+        assertFalse(c.containsKey((int) 0));
+        assertEquals(new IntIntHashMap(), c);
+    }
+
+    @Test
+    public void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(10, 1));
+        IntIntHashMap map = new IntIntHashMap(0, 0.5f);
+        for (int i = 0; i < 1000; i++)
+            map.addTo((int) (i % 100), (int) 1);
+        assertEquals(100, map.size());
+        map.ensureCapacity(100_000);
+        for (int i = 0; i < 100; i++)
+            assertEquals((int) 10, map.get((int) i));
+    }
+}
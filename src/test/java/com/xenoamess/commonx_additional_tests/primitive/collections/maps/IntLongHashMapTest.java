@@ -0,0 +1,253 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntLongHashMapTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    /**
+     * Keys from a small range, so that puts and removes hit each other, with 0 and the extremes among them;
+     * some shifted left, so that they share their low bits and collide before mixing.
+     */
+    static int randomKey() {
+        switch (rnd.nextInt(8)) {
+            case 0:
+                return 0;
+            case 1:
+                return Integer.MIN_VALUE;
+            case 2:
+                return Integer.MAX_VALUE;
+            case 3:
+            case 4:
+                return (int) rnd.nextInt(1 << 10) << 20;
+            default:
+                return (int) (rnd.nextInt(1 << 11) - (1 << 10));
+        }
+    }
+
+    static void assertSameEntries(Map<Integer, Long> expected, IntLongHashMap map) {
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.isEmpty(), map.isEmpty());
+        Map<Integer, Long> seen = new HashMap<>();
+        map.forEach((key, value) -> assertEquals(null, seen.put(key, value)));
+        assertEquals(expected, seen);
+        seen.clear();
+        IntIterator keys = map.keyIterator();
+        LongIterator values = map.valueIterator();
+        while (keys.hasNext()) {
+            assertTrue(values.hasNext());
+            int key = keys.nextPrimitive();
+            long value = values.nextPrimitive();
+            assertEquals(null, seen.put(key, value));
+            assertEquals(value, map.get(key));
+        }
+        assertFalse(values.hasNext());
+        assertEquals(expected, seen);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(expected.toString().length(), map.toString().length());
+    }
+
+    @Test
+    public void behavesLikeHashMap() {
+        for (int round = 0; round < 20; round++) {
+            IntLongHashMap map = new IntLongHashMap(rnd.nextInt(4));
+            Map<Integer, Long> expected = new HashMap<>();
+            for (int i = 0; i < 5000; i++) {
+                int key = randomKey();
+                long value = (long) rnd.nextInt(100);
+                switch (rnd.nextInt(6)) {
+                    case 0:
+                        assertEquals((long) expected.getOrDefault(key, (long) 0), map.remove(key));
+                        expected.remove(key);
+                        break;
+                    case 1:
+                        assertEquals(expected.containsKey(key), map.containsKey(key));
+                        assertEquals((long) expected.getOrDefault(key, (long) 0), map.get(key));
+                        assertEquals((long) expected.getOrDefault(key, (long) -1), map.getOrDefault(key, (long) -1));
+                        break;
+                    case 2:
+                        assertEquals((long) expected.merge(key, value, (a, b) -> (long) (a + b)), map.addTo(key, value));
+                        break;
+                    case 3:
+                        assertEquals(expected.containsValue(value), map.containsValue(value));
+                        break;
+                    default:
+                        Long old = expected.put(key, value);
+                        assertEquals(old == null ? (long) 0 : old, map.put(key, value));
+                        break;
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            assertSameEntries(expected, map);
+        }
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 50; round++) {
+            IntLongHashMap map = new IntLongHashMap();
+            Map<Integer, Long> expected = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                int key = randomKey();
+                map.put(key, (long) i);
+                expected.put(key, (long) i);
+            }
+            Map<Integer, Long> original = new HashMap<>(expected);
+            // removing shifts entries from the start of the table to its end; none may be skipped or returned twice.
+            Map<Integer, Long> seen = new HashMap<>();
+            for (IntIterator it = map.keyIterator(); it.hasNext(); ) {
+                int key = it.nextPrimitive();
+                assertEquals(null, seen.put(key, map.get(key)), "returned twice: " + key);
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    expected.remove(key);
+                    assertThrows(IllegalStateException.class, it::remove);
+                }
+            }
+            assertEquals(original, seen);
+            assertSameEntries(expected, map);
+
+            int n = 0;
+            int removed = 0;
+            for (LongIterator it = map.valueIterator(); it.hasNext(); n++) {
+                assertTrue(expected.containsValue(it.nextPrimitive()));
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            assertEquals(expected.size(), n);
+            assertEquals(expected.size() - removed, map.size());
+            Map<Integer, Long> left = toMap(map);
+            assertTrue(expected.entrySet().containsAll(left.entrySet()));
+        }
+    }
+
+    static Map<Integer, Long> toMap(IntLongHashMap map) {
+        Map<Integer, Long> result = new HashMap<>();
+        map.forEach(result::put);
+        return result;
+    }
+
+    @Test
+    public void tableHoldsExpectedSizeWithoutGrowing() {
+        assertEquals(2, IntLongHashMap.tableSizeFor(0, IntLongHashMap.DEFAULT_LOAD_FACTOR));
+        assertEquals(16, IntLongHashMap.tableSizeFor(12, 0.75f));
+        assertEquals(32, IntLongHashMap.tableSizeFor(13, 0.75f));
+        IntLongHashMap map = new IntLongHashMap(12);
+        for (int i = 1; i <= 12; i++)
+            map.put(i, (long) i);
+        assertEquals(16, map.keys.length);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossTheEndOfTheTable() {
+        IntLongHashMap map = new IntLongHashMap();
+        int mask = IntLongHashMap.tableSizeFor(16, IntLongHashMap.DEFAULT_LOAD_FACTOR) - 1;
+        // keys whose home is the last slot; all but the first wrap around to the start of the table.
+        Map<Integer, Long> expected = new HashMap<>();
+        for (int key = 1; expected.size() < 4; key++) {
+            if ((IntLongHashMap.mix(key) & mask) == mask) {
+                map.put(key, (long) (key * 3));
+                expected.put(key, (long) (key * 3));
+            }
+        }
+        Map<Integer, Long> seen = new HashMap<>();
+        for (IntIterator it = map.keyIterator(); it.hasNext(); ) {
+            int key = it.nextPrimitive();
+            assertEquals(null, seen.put(key, map.get(key)), "returned twice: " + key);
+            it.remove();
+        }
+        assertEquals(expected, seen);
+        assertTrue(map.isEmpty());
+        for (Map.Entry<Integer, Long> e : expected.entrySet())
+            map.put(e.getKey(), e.getValue());
+        int n = 0;
+        for (LongIterator it = map.valueIterator(); it.hasNext(); n++) {
+            long value = it.nextPrimitive();
+            assertTrue(expected.containsValue(value));
+            it.remove();
+        }
+        assertEquals(4, n);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void iteratorsAreFailFast() {
+        IntLongHashMap map = new IntLongHashMap();
+        map.put((int) 1, (long) 1);
+        map.put((int) 2, (long) 2);
+        IntIterator keys = map.keyIterator();
+        LongIterator values = map.valueIterator();
+        keys.nextPrimitive();
+        values.nextPrimitive();
+        map.put((int) 3, (long) 3);
+        assertThrows(ConcurrentModificationException.class, keys::nextPrimitive);
+        assertThrows(ConcurrentModificationException.class, values::nextPrimitive);
+        // replacing a value is not a structural change.
+        keys = map.keyIterator();
+        keys.nextPrimitive();
+        map.put((int) 3, (long) 4);
+        keys.nextPrimitive();
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((key, value) -> map.remove(key)));
+        IntIterator empty = new IntLongHashMap().keyIterator();
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextPrimitive);
+        assertThrows(IllegalStateException.class, empty::remove);
+    }
+
+    @Test
+    public void equalsHashCodeAndClone() {
+        IntLongHashMap a = new IntLongHashMap();
+        for (int i = 0; i < 500; i++)
+            a.put(randomKey(), (long) i);
+        a.put((int) 0, (long) 7);
+        IntLongHashMap b = a.clone();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(toMap(a), toMap(b));
+        IntLongHashMap c = new IntLongHashMap(10_000);
+        a.forEach(c::put);
+        assertEquals(a, c);
+        assertEquals(a.hashCode(), c.hashCode());
+        b.put((int) 0, (long) 8);
+        assertNotEquals(a, b);
+        assertEquals((long) 7, a.get((int) 0));
+        b.remove((int) 0);
+        assertNotEquals(a, b);
+        assertEquals(new IntLongHashMap(), new IntLongHashMap(100));
+        assertEquals("{}", new IntLongHashMap().toString());
+        c.clear();
+        assertTrue(c.isEmpty());
+        assertFalse(c.containsKey((int) 0));
+        assertEquals(new IntLongHashMap(), c);
+    }
+
+    @Test
+    public void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IntLongHashMap(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntLongHashMap(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IntLongHashMap(10, 1));
+        IntLongHashMap map = new IntLongHashMap(0, 0.5f);
+        for (int i = 0; i < 1000; i++)
+            map.addTo((int) (i % 100), (long) 1);
+        assertEquals(100, map.size());
+        map.ensureCapacity(100_000);
+        for (int i = 0; i < 100; i++)
+            assertEquals((long) 10, map.get((int) i));
+    }
+}
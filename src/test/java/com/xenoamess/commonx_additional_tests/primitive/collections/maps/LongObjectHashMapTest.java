@@ -0,0 +1,213 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.maps;
+
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongObjectHashMapTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static long randomKey() {
+        switch (rnd.nextInt(8)) {
+            case 0:
+                return 0;
+            case 1:
+                return Long.MIN_VALUE;
+            case 2:
+                return Long.MAX_VALUE;
+            case 3:
+            case 4:
+                return (long) rnd.nextInt(1 << 10) << 40;
+            default:
+                return rnd.nextInt(1 << 11) - (1 << 10);
+        }
+    }
+
+    /**
+     * Values include null, which is a value like any other.
+     */
+    static String randomValue() {
+        int i = rnd.nextInt(101);
+        return i == 100 ? null : "v" + i;
+    }
+
+    static Map<Long, String> toMap(LongObjectHashMap<String> map) {
+        Map<Long, String> result = new HashMap<>();
+        map.forEach((key, value) -> assertFalse(result.containsKey(key), "returned twice: " + key));
+        map.forEach(result::put);
+        return result;
+    }
+
+    static void assertSameEntries(Map<Long, String> expected, LongObjectHashMap<String> map) {
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, toMap(map));
+        Map<Long, String> seen = new HashMap<>();
+        LongIterator keys = map.keyIterator();
+        Iterator<String> values = map.valueIterator();
+        while (keys.hasNext()) {
+            long key = keys.nextPrimitive();
+            seen.put(key, values.next());
+        }
+        assertFalse(values.hasNext());
+        assertEquals(expected, seen);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void behavesLikeHashMap() {
+        for (int round = 0; round < 20; round++) {
+            LongObjectHashMap<String> map = new LongObjectHashMap<>(rnd.nextInt(4));
+            Map<Long, String> expected = new HashMap<>();
+            for (int i = 0; i < 5000; i++) {
+                long key = randomKey();
+                String value = randomValue();
+                switch (rnd.nextInt(6)) {
+                    case 0:
+                        assertEquals(expected.remove(key), map.remove(key));
+                        break;
+                    case 1:
+                        assertEquals(expected.containsKey(key), map.containsKey(key));
+                        assertEquals(expected.get(key), map.get(key));
+                        assertEquals(expected.getOrDefault(key, "none"), map.getOrDefault(key, "none"));
+                        break;
+                    case 2:
+                        assertEquals(expected.computeIfAbsent(key, k -> value),
+                                map.computeIfAbsent(key, k -> value));
+                        break;
+                    case 3:
+                        assertEquals(expected.containsValue(value), map.containsValue(value));
+                        break;
+                    default:
+                        assertEquals(expected.put(key, value), map.put(key, value));
+                        break;
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            assertSameEntries(expected, map);
+        }
+    }
+
+    @Test
+    public void computeIfAbsentGroups() {
+        LongObjectHashMap<List<Long>> groups = new LongObjectHashMap<>();
+        for (long i = 0; i < 1000; i++)
+            groups.computeIfAbsent(i % 7, k -> new ArrayList<>()).add(i);
+        assertEquals(7, groups.size());
+        for (long k = 0; k < 7; k++) {
+            for (long i : groups.get(k))
+                assertEquals(k, i % 7);
+        }
+        List<Long> zeros = groups.get(0);
+        assertSame(zeros, groups.computeIfAbsent(0, k -> new ArrayList<>()));
+        assertNull(groups.computeIfAbsent(8, k -> null));
+        assertFalse(groups.containsKey(8));
+        assertThrows(ConcurrentModificationException.class,
+                () -> groups.computeIfAbsent(9, k -> groups.put(10, new ArrayList<>())));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 50; round++) {
+            LongObjectHashMap<String> map = new LongObjectHashMap<>();
+            Map<Long, String> expected = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                long key = randomKey();
+                map.put(key, "v" + i);
+                expected.put(key, "v" + i);
+            }
+            Map<Long, String> original = new HashMap<>(expected);
+            Map<Long, String> seen = new HashMap<>();
+            for (LongIterator it = map.keyIterator(); it.hasNext(); ) {
+                long key = it.nextPrimitive();
+                assertFalse(seen.containsKey(key), "returned twice: " + key);
+                seen.put(key, map.get(key));
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    expected.remove(key);
+                }
+            }
+            assertEquals(original, seen);
+            assertSameEntries(expected, map);
+
+            for (Iterator<String> it = map.valueIterator(); it.hasNext(); ) {
+                String value = it.next();
+                assertTrue(expected.containsValue(value));
+                if (value.hashCode() % 2 == 0) {
+                    it.remove();
+                }
+            }
+            expected.values().removeIf(value -> value.hashCode() % 2 == 0);
+            assertSameEntries(expected, map);
+        }
+    }
+
+    @Test
+    public void tableHoldsExpectedSizeWithoutGrowing() {
+        assertEquals(2, LongObjectHashMap.tableSizeFor(0, LongObjectHashMap.DEFAULT_LOAD_FACTOR));
+        assertEquals(16, LongObjectHashMap.tableSizeFor(12, 0.75f));
+        assertEquals(32, LongObjectHashMap.tableSizeFor(13, 0.75f));
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(12);
+        for (int i = 1; i <= 12; i++)
+            map.put(i, "v" + i);
+        assertEquals(16, map.keys.length);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossTheEndOfTheTable() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        int mask = LongObjectHashMap.tableSizeFor(16, LongObjectHashMap.DEFAULT_LOAD_FACTOR) - 1;
+        Map<Long, String> expected = new HashMap<>();
+        for (long key = 1; expected.size() < 4; key++) {
+            if ((LongObjectHashMap.mix(key) & mask) == mask) {
+                map.put(key, "v" + key);
+                expected.put(key, "v" + key);
+            }
+        }
+        Map<Long, String> seen = new HashMap<>();
+        for (Iterator<String> it = map.valueIterator(); it.hasNext(); ) {
+            String value = it.next();
+            seen.put(Long.parseLong(value.substring(1)), value);
+            it.remove();
+        }
+        assertEquals(expected, seen);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void equalsHashCodeAndClone() {
+        LongObjectHashMap<String> a = new LongObjectHashMap<>();
+        for (int i = 0; i < 500; i++)
+            a.put(randomKey(), randomValue());
+        a.put(0, null);
+        LongObjectHashMap<String> b = a.clone();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(toMap(a), toMap(b));
+        assertTrue(b.containsKey(0));
+        assertNull(b.get(0));
+        b.put(0, "zero");
+        assertNotEquals(a, b);
+        assertNull(a.get(0));
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertFalse(b.containsValue(null));
+        assertEquals("{}", b.toString());
+        b.put(1, "one");
+        assertEquals("{1=one}", b.toString());
+    }
+}
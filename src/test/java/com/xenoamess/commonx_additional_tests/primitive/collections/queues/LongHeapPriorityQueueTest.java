@@ -0,0 +1,252 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.queues;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.functions.LongComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongHeapPriorityQueueTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final int[] ARITIES = {2, 3, 4, 8, LongHeapPriorityQueue.MAX_ARITY};
+
+    static final LongComparator REVERSED = (a, b) -> Long.compare(b, a);
+
+    static long randomValue(int range) {
+        return ((long) rnd.nextInt(range) - range / 2) << 31 | rnd.nextInt(2);
+    }
+
+    static long[] sorted(LongHeapPriorityQueue q) {
+        long[] a = q.toArrayPrimitive(new long[0]);
+        Arrays.sort(a);
+        return a;
+    }
+
+    static long[] sorted(PriorityQueue<Long> q) {
+        long[] a = new long[q.size()];
+        int i = 0;
+        for (Long e : q)
+            a[i++] = e;
+        Arrays.sort(a);
+        return a;
+    }
+
+    /**
+     * Polls q empty, checking the elements come in order.
+     */
+    static long[] drain(LongHeapPriorityQueue q, Comparator<Long> order) {
+        long[] a = new long[q.size()];
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(q.peekPrimitive(), q.elementPrimitive());
+            a[i] = q.pollPrimitive();
+            if (i > 0)
+                assertTrue(order.compare(a[i - 1], a[i]) <= 0);
+        }
+        assertTrue(q.isEmpty());
+        return a;
+    }
+
+    @Test
+    public void behavesLikePriorityQueue() {
+        for (int arity : ARITIES) {
+            for (boolean reversed : new boolean[]{false, true}) {
+                LongHeapPriorityQueue q = new LongHeapPriorityQueue(arity, rnd.nextInt(4), reversed ? REVERSED : null);
+                PriorityQueue<Long> expected = new PriorityQueue<>(reversed ? Collections.reverseOrder() : null);
+                int range = 1 << rnd.nextInt(4, 16);
+                for (int i = 0; i < 20000; i++) {
+                    switch (rnd.nextInt(8)) {
+                        case 0:
+                        case 1:
+                            assertEquals(expected.poll(), q.poll());
+                            break;
+                        case 2: {
+                            long e = randomValue(range);
+                            assertEquals(expected.contains(e), q.containsPrimitive(e));
+                            assertEquals(expected.remove(e), q.removePrimitive(e));
+                            break;
+                        }
+                        default: {
+                            long e = randomValue(range);
+                            assertTrue(q.offerPrimitive(e));
+                            expected.offer(e);
+                            break;
+                        }
+                    }
+                    assertEquals(expected.size(), q.size());
+                    assertEquals(expected.peek(), q.peek());
+                }
+                assertArrayEquals(sorted(expected), sorted(q));
+                while (!expected.isEmpty())
+                    assertEquals(expected.poll(), q.poll());
+                assertTrue(q.isEmpty());
+                assertEquals((long) 0, q.pollPrimitive());
+                assertEquals((long) 0, q.peekPrimitive());
+                assertNull(q.poll());
+                assertNull(q.peek());
+                assertThrows(NoSuchElementException.class, q::elementPrimitive);
+                assertThrows(NoSuchElementException.class, q::remove);
+            }
+        }
+    }
+
+    @Test
+    public void heapifiesInLinearTime() {
+        for (int arity : ARITIES) {
+            for (int n : new int[]{0, 1, 2, arity, arity + 1, 1000, 100000}) {
+                LongArrayList list = new LongArrayList(n);
+                for (int i = 0; i < n; i++)
+                    list.addPrimitive(i, randomValue(1 << 20));
+                long[] expected = list.toArrayPrimitive(new long[n]);
+                Arrays.sort(expected);
+
+                int[] compares = new int[1];
+                LongComparator counting = (a, b) -> {
+                    compares[0]++;
+                    return Long.compare(a, b);
+                };
+                LongHeapPriorityQueue q = new LongHeapPriorityQueue(list, arity, counting);
+                assertEquals(n, q.size());
+                // at most arity compares per element on the way down, summed over every level.
+                assertTrue(compares[0] <= 2L * arity * n, compares[0] + " compares for " + n);
+                assertArrayEquals(expected, drain(q, Comparator.naturalOrder()));
+
+                LongHeapPriorityQueue boxed = new LongHeapPriorityQueue(new ArrayList<>(list), arity, null);
+                assertArrayEquals(expected, drain(boxed, Comparator.naturalOrder()));
+            }
+        }
+    }
+
+    @Test
+    public void addAll() {
+        for (int arity : ARITIES) {
+            LongHeapPriorityQueue q = new LongHeapPriorityQueue(arity, 0, REVERSED);
+            List<Long> expected = new ArrayList<>();
+            for (int round = 0; round < 20; round++) {
+                // sometimes fewer than are already there, sometimes more.
+                LongArrayList batch = new LongArrayList();
+                for (int i = 0, n = rnd.nextInt(2 * q.size() + 2); i < n; i++) {
+                    long e = randomValue(1 << 10);
+                    batch.addPrimitive(i, e);
+                    expected.add(e);
+                }
+                assertEquals(!batch.isEmpty(), q.addAll(batch));
+                assertEquals(expected.size(), q.size());
+            }
+            expected.sort(Collections.reverseOrder());
+            long[] a = drain(q, Collections.reverseOrder());
+            for (int i = 0; i < a.length; i++)
+                assertEquals((long) expected.get(i), a[i]);
+            assertThrows(IllegalArgumentException.class, () -> q.addAll(q));
+        }
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int arity : ARITIES) {
+            for (int round = 0; round < 20; round++) {
+                LongHeapPriorityQueue q = new LongHeapPriorityQueue(arity, 0, null);
+                PriorityQueue<Long> expected = new PriorityQueue<>();
+                for (int i = 0; i < 1000; i++) {
+                    long e = randomValue(1 << 8);
+                    q.addPrimitive(e);
+                    expected.add(e);
+                }
+                long[] original = sorted(q);
+                List<Long> seen = new ArrayList<>();
+                for (LongIterator it = q.iterator(); it.hasNext(); ) {
+                    long e = it.nextPrimitive();
+                    seen.add(e);
+                    if (rnd.nextInt(3) == 0) {
+                        it.remove();
+                        assertThrows(IllegalStateException.class, it::remove);
+                        expected.remove(e);
+                    }
+                }
+                Collections.sort(seen);
+                for (int i = 0; i < original.length; i++)
+                    assertEquals(original[i], (long) seen.get(i));
+                assertEquals(original.length, seen.size());
+                assertArrayEquals(sorted(expected), sorted(q));
+                while (!expected.isEmpty())
+                    assertEquals(expected.poll(), q.poll());
+            }
+        }
+    }
+
+    @Test
+    public void iteratorIsFailFast() {
+        LongHeapPriorityQueue q = new LongHeapPriorityQueue();
+        for (int i = 0; i < 100; i++)
+            q.addPrimitive((long) i);
+        LongHeapPriorityQueue copy = q.clone();
+
+        LongIterator it = q.iterator();
+        it.nextPrimitive();
+        q.pollPrimitive();
+        q.addPrimitive((long) 0);
+        assertThrows(ConcurrentModificationException.class, it::remove);
+        assertArrayEquals(sorted(copy), sorted(q));
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+    }
+
+    @Test
+    public void removeIfAndClone() {
+        for (int arity : ARITIES) {
+            LongHeapPriorityQueue q = new LongHeapPriorityQueue(arity, 0, null);
+            for (int i = 0; i < 5000; i++)
+                q.addPrimitive(randomValue(1 << 12));
+            LongHeapPriorityQueue copy = q.clone();
+            PriorityQueue<Long> expected = new PriorityQueue<>(q);
+            assertEquals(expected.removeIf(e -> e % 3 == 0), q.removeIfPrimitive(e -> e % 3 == 0));
+            assertFalse(q.removeIf(e -> e % 3 == 0));
+            assertArrayEquals(sorted(expected), sorted(q));
+            while (!expected.isEmpty())
+                assertEquals(expected.poll(), q.poll());
+
+            // a filter that throws changes nothing.
+            long[] before = copy.toArrayPrimitive(new long[0]);
+            int[] calls = new int[1];
+            assertThrows(IllegalStateException.class, () -> copy.removeIfPrimitive(e -> {
+                if (++calls[0] == 100)
+                    throw new IllegalStateException();
+                return e % 2 == 0;
+            }));
+            assertArrayEquals(before, copy.toArrayPrimitive(new long[0]));
+            copy.clear();
+            assertTrue(copy.isEmpty());
+            assertFalse(copy.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHeapPriorityQueue(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongHeapPriorityQueue(1, 10, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LongHeapPriorityQueue(LongHeapPriorityQueue.MAX_ARITY + 1, 10, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LongHeapPriorityQueue(new ArrayList<>(), 0, null));
+        LongHeapPriorityQueue q = new LongHeapPriorityQueue(8, 0, REVERSED);
+        assertEquals(8, q.arity());
+        assertEquals(REVERSED, q.comparator());
+        assertEquals(LongHeapPriorityQueue.DEFAULT_ARITY, new LongHeapPriorityQueue().arity());
+        assertNull(new LongHeapPriorityQueue().comparator());
+    }
+}
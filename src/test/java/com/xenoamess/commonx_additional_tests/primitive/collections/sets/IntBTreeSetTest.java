@@ -0,0 +1,286 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntBTreeSetTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static int randomKey(int range) {
+        switch (rnd.nextInt(100)) {
+            case 0:
+                return Integer.MIN_VALUE;
+            case 1:
+                return Integer.MAX_VALUE;
+            default:
+                return rnd.nextInt(range) - range / 2;
+        }
+    }
+
+    static int[] toArray(Iterable<Integer> c) {
+        List<Integer> list = new ArrayList<>();
+        for (Integer e : c)
+            list.add(e);
+        int[] a = new int[list.size()];
+        for (int i = 0; i < a.length; i++)
+            a[i] = list.get(i);
+        return a;
+    }
+
+    static void assertSameKeys(NavigableSet<Integer> expected, IntBTreeSet set) {
+        assertEquals(expected.size(), set.size());
+        int[] a = toArray(expected);
+        assertArrayEquals(a, set.toArrayPrimitive(new int[0]));
+        int i = 0;
+        for (IntIterator it = set.iterator(); it.hasNext(); )
+            assertEquals(a[i++], it.nextPrimitive());
+        assertEquals(a.length, i);
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        if (!expected.isEmpty()) {
+            assertEquals((long) expected.first(), set.firstPrimitive());
+            assertEquals((long) expected.last(), set.lastPrimitive());
+        }
+    }
+
+    static void assertNavigation(NavigableSet<Integer> expected, IntBTreeSet set, int key) {
+        assertEquals(expected.ceiling(key), set.ceiling(key));
+        assertEquals(expected.floor(key), set.floor(key));
+        assertEquals(expected.higher(key), set.higher(key));
+        assertEquals(expected.lower(key), set.lower(key));
+        if (expected.ceiling(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.ceilingPrimitive(key));
+        else
+            assertEquals((long) expected.ceiling(key), set.ceilingPrimitive(key));
+        if (expected.floor(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.floorPrimitive(key));
+        else
+            assertEquals((long) expected.floor(key), set.floorPrimitive(key));
+        if (expected.higher(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.higherPrimitive(key));
+        else
+            assertEquals((long) expected.higher(key), set.higherPrimitive(key));
+        if (expected.lower(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.lowerPrimitive(key));
+        else
+            assertEquals((long) expected.lower(key), set.lowerPrimitive(key));
+    }
+
+    /**
+     * Grows the tree to several levels, then shrinks it back to nothing,
+     * so that leaves and branches split, borrow and merge on the way.
+     */
+    @Test
+    public void behavesLikeTreeSet() {
+        for (int round = 0; round < 5; round++) {
+            int range = 1 << (8 + 3 * round);
+            IntBTreeSet set = new IntBTreeSet();
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < 20000; i++) {
+                int key = randomKey(range);
+                assertEquals(expected.add(key), set.addPrimitive(key));
+                if (rnd.nextInt(8) == 0) {
+                    int other = randomKey(range);
+                    assertEquals(expected.remove(other), set.removePrimitive(other));
+                }
+                if (rnd.nextInt(16) == 0) {
+                    int other = randomKey(range);
+                    assertEquals(expected.contains(other), set.containsPrimitive(other));
+                    assertNavigation(expected, set, other);
+                }
+            }
+            assertSameKeys(expected, set);
+            while (!expected.isEmpty()) {
+                int key = rnd.nextBoolean() ? expected.first() : randomKey(range);
+                assertEquals(expected.remove(key), set.remove(key));
+                assertFalse(set.contains(key));
+                if (rnd.nextInt(256) == 0) {
+                    assertSameKeys(expected, set);
+                    assertNavigation(expected, set, randomKey(range));
+                }
+            }
+            assertSameKeys(expected, set);
+            assertTrue(set.isEmpty());
+            assertThrows(NoSuchElementException.class, set::firstPrimitive);
+            assertThrows(NoSuchElementException.class, set::lastPrimitive);
+            assertNavigation(expected, set, randomKey(range));
+        }
+    }
+
+    @Test
+    public void subSetsBehaveLikeTreeSetViews() {
+        IntBTreeSet set = new IntBTreeSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            int key = randomKey(1 << 14);
+            set.addPrimitive(key);
+            expected.add(key);
+        }
+        for (int round = 0; round < 500; round++) {
+            int from = randomKey(1 << 14);
+            int to = randomKey(1 << 14);
+            if (from > to) {
+                int t = from;
+                from = to;
+                to = t;
+            }
+            boolean fromInclusive = rnd.nextBoolean();
+            boolean toInclusive = rnd.nextBoolean();
+            NavigableSet<Integer> expectedView = expected.subSet(from, fromInclusive, to, toInclusive);
+            IntBTreeSet.SubSet view = set.subSet(from, fromInclusive, to, toInclusive);
+            assertEquals(expectedView.size(), view.size());
+            assertEquals(expectedView.isEmpty(), view.isEmpty());
+            assertArrayEquals(toArray(expectedView), view.toArrayPrimitive(new int[0]));
+            assertEquals(expectedView, view);
+            if (expectedView.isEmpty()) {
+                assertThrows(NoSuchElementException.class, view::firstPrimitive);
+                assertThrows(NoSuchElementException.class, view::lastPrimitive);
+            } else {
+                assertEquals((long) expectedView.first(), view.firstPrimitive());
+                assertEquals((long) expectedView.last(), view.lastPrimitive());
+            }
+            int key = randomKey(1 << 14);
+            assertEquals(expectedView.contains(key), view.containsPrimitive(key));
+            boolean inRange = (fromInclusive ? key >= from : key > from) && (toInclusive ? key <= to : key < to);
+            if (inRange) {
+                assertEquals(expectedView.add(key), view.addPrimitive(key));
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> view.addPrimitive(key));
+                assertFalse(view.removePrimitive(key));
+            }
+            if (rnd.nextInt(4) == 0) {
+                // removes through the view show in the set.
+                Iterator<Integer> expectedIt = expectedView.iterator();
+                for (IntIterator it = view.iterator(); it.hasNext(); ) {
+                    assertEquals(expectedIt.next(), (Integer) it.nextPrimitive());
+                    if (rnd.nextInt(3) == 0) {
+                        it.remove();
+                        expectedIt.remove();
+                    }
+                }
+                assertFalse(expectedIt.hasNext());
+            }
+            assertSameKeys(expected, set);
+        }
+        int key = randomKey(1 << 14);
+        assertEquals(expected.headSet(key), set.headSet(key));
+        assertEquals(expected.tailSet(key), set.tailSet(key));
+        assertEquals(expected.subSet(key, key), set.subSet(key, key));
+        assertTrue(set.subSet(Integer.MAX_VALUE, false, Integer.MAX_VALUE, true).isEmpty());
+        assertTrue(set.headSet(Integer.MIN_VALUE).isEmpty());
+        assertEquals(0, set.subSet(Integer.MIN_VALUE, true, Integer.MIN_VALUE, false).size());
+        assertThrows(IllegalArgumentException.class, () -> set.subSet((int) 1, (int) 0));
+        assertThrows(IllegalArgumentException.class, () -> set.headSet(Integer.MIN_VALUE).addPrimitive(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 20; round++) {
+            IntBTreeSet set = new IntBTreeSet();
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < 10000; i++) {
+                int key = randomKey(1 << 16);
+                set.addPrimitive(key);
+                expected.add(key);
+            }
+            int[] original = toArray(expected);
+            // remove runs of keys, so that whole leaves empty out under the iterator.
+            List<Integer> seen = new ArrayList<>();
+            boolean removing = false;
+            for (IntIterator it = set.iterator(); it.hasNext(); ) {
+                int key = it.nextPrimitive();
+                seen.add(key);
+                if (rnd.nextInt(50) == 0)
+                    removing = !removing;
+                if (removing) {
+                    it.remove();
+                    assertThrows(IllegalStateException.class, it::remove);
+                    expected.remove(key);
+                }
+            }
+            assertArrayEquals(original, toArray(seen));
+            assertSameKeys(expected, set);
+            assertEquals(expected.removeIf(e -> e % 3 == 0), set.removeIfPrimitive(e -> e % 3 == 0));
+            assertSameKeys(expected, set);
+        }
+    }
+
+    /**
+     * As jdk/java/util/AbstractList/FailFastIteratorTest checks of list iterators:
+     * the iterator notices the change before it removes anything.
+     */
+    @Test
+    public void iteratorIsFailFast() {
+        IntBTreeSet orig = new IntBTreeSet();
+        for (int i = 0; i < 1000; i++)
+            orig.addPrimitive((int) i);
+        IntBTreeSet copy = new IntBTreeSet(orig);
+
+        IntIterator it = copy.iterator();
+        it.nextPrimitive();
+        copy.removePrimitive((int) 999);
+        copy.addPrimitive((int) 999);
+        assertThrows(ConcurrentModificationException.class, it::remove);
+        assertEquals(orig, copy);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+
+        IntIterator it2 = copy.subSet((int) 100, (int) 200).iterator();
+        it2.nextPrimitive();
+        copy.addPrimitive((int) 5000);
+        assertThrows(ConcurrentModificationException.class, it2::remove);
+        assertThrows(ConcurrentModificationException.class, it2::nextPrimitive);
+        copy.removePrimitive((int) 5000);
+        assertEquals(orig, copy);
+
+        // changes that change nothing are not modifications.
+        IntIterator it3 = copy.iterator();
+        it3.nextPrimitive();
+        copy.addPrimitive((int) 1);
+        copy.removePrimitive((int) 5000);
+        it3.remove();
+        assertFalse(copy.containsPrimitive((int) 0));
+    }
+
+    @Test
+    public void bulkOperationsAndEquality() {
+        IntBTreeSet a = new IntBTreeSet();
+        for (int i = 0; i < 3000; i++)
+            a.addPrimitive(randomKey(1 << 12));
+        IntBTreeSet b = new IntBTreeSet();
+        assertTrue(b.addAll(a));
+        assertFalse(b.addAll(a));
+        assertFalse(b.addAll(b));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(new TreeSet<>(a), b);
+        b.removePrimitive(b.lastPrimitive());
+        assertNotEquals(a, b);
+        b.addPrimitive(Integer.MIN_VALUE);
+        b.removePrimitive(a.firstPrimitive());
+        if (b.size() == a.size())
+            assertNotEquals(a, b);
+        assertTrue(a.sizeInBytes() >= (long) a.size() * Integer.BYTES);
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertFalse(b.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> b.iterator().nextPrimitive());
+        assertThrows(IllegalStateException.class, () -> b.iterator().remove());
+    }
+}
@@ -0,0 +1,260 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntHashSetTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    /**
+     * Keys from a small range, so that adds and removes hit each other, with 0 and the extremes among them;
+     * every other one shifted left, so that they share their low bits and collide before mixing.
+     */
+    static int randomKey() {
+        switch (rnd.nextInt(8)) {
+            case 0:
+                return 0;
+            case 1:
+                return Integer.MIN_VALUE;
+            case 2:
+                return Integer.MAX_VALUE;
+            case 3:
+            case 4:
+                return (int) rnd.nextInt(1 << 10) << 20;
+            default:
+                return (int) (rnd.nextInt(1 << 11) - (1 << 10));
+        }
+    }
+
+    static void assertSameKeys(Set<Integer> expected, IntHashSet set) {
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected.isEmpty(), set.isEmpty());
+        Set<Integer> seen = new HashSet<>();
+        for (IntIterator it = set.iterator(); it.hasNext(); ) {
+            int key = it.nextPrimitive();
+            assertTrue(seen.add(key), "returned twice: " + key);
+            assertTrue(set.containsPrimitive(key));
+        }
+        assertEquals(expected, seen);
+        int[] a = set.toArrayPrimitive(new int[0]);
+        Arrays.sort(a);
+        int[] b = new int[expected.size()];
+        int i = 0;
+        for (Integer key : expected)
+            b[i++] = key;
+        Arrays.sort(b);
+        assertArrayEquals(b, a);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+    }
+
+    @Test
+    public void behavesLikeHashSet() {
+        for (int round = 0; round < 20; round++) {
+            IntHashSet set = new IntHashSet(rnd.nextInt(4));
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < 5000; i++) {
+                int key = randomKey();
+                switch (rnd.nextInt(4)) {
+                    case 0:
+                        assertEquals(expected.remove(key), set.removePrimitive(key));
+                        break;
+                    case 1:
+                        assertEquals(expected.contains(key), set.containsPrimitive(key));
+                        break;
+                    default:
+                        assertEquals(expected.add(key), set.addPrimitive(key));
+                        break;
+                }
+                assertEquals(expected.size(), set.size());
+            }
+            assertSameKeys(expected, set);
+        }
+    }
+
+    @Test
+    public void boxedMethods() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.add((int) 1));
+        assertFalse(set.add((int) 1));
+        assertTrue(set.contains((int) 1));
+        assertFalse(set.contains("1"));
+        assertFalse(set.contains(null));
+        assertFalse(set.remove("1"));
+        assertTrue(set.remove((Integer) (int) 1));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 50; round++) {
+            IntHashSet set = new IntHashSet();
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < 1000; i++) {
+                int key = randomKey();
+                set.addPrimitive(key);
+                expected.add(key);
+            }
+            // removing shifts keys from the start of the table to its end; none may be skipped or returned twice.
+            Set<Integer> original = new HashSet<>(expected);
+            Set<Integer> seen = new HashSet<>();
+            for (IntIterator it = set.iterator(); it.hasNext(); ) {
+                int key = it.nextPrimitive();
+                assertTrue(seen.add(key), "returned twice: " + key);
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    expected.remove(key);
+                    assertThrows(IllegalStateException.class, it::remove);
+                }
+            }
+            assertEquals(original, seen);
+            assertSameKeys(expected, set);
+        }
+    }
+
+    @Test
+    public void tableHoldsExpectedSizeWithoutGrowing() {
+        assertEquals(2, IntHashSet.tableSizeFor(0, IntHashSet.DEFAULT_LOAD_FACTOR));
+        assertEquals(16, IntHashSet.tableSizeFor(12, 0.75f));
+        assertEquals(32, IntHashSet.tableSizeFor(13, 0.75f));
+        IntHashSet set = new IntHashSet(12);
+        for (int i = 1; i <= 12; i++)
+            set.addPrimitive(i);
+        assertEquals(16, set.keys.length);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossTheEndOfTheTable() {
+        IntHashSet set = new IntHashSet();
+        int mask = IntHashSet.tableSizeFor(16, IntHashSet.DEFAULT_LOAD_FACTOR) - 1;
+        // keys whose home is the last slot; all but the first wrap around to the start of the table.
+        Set<Integer> expected = new HashSet<>();
+        for (int key = 1; expected.size() < 4; key++) {
+            if ((IntHashSet.mix(key) & mask) == mask) {
+                set.addPrimitive(key);
+                expected.add(key);
+            }
+        }
+        Set<Integer> seen = new HashSet<>();
+        for (IntIterator it = set.iterator(); it.hasNext(); ) {
+            int key = it.nextPrimitive();
+            assertTrue(seen.add(key), "returned twice: " + key);
+            it.remove();
+        }
+        assertEquals(expected, seen);
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void iteratorIsFailFast() {
+        IntHashSet set = new IntHashSet();
+        set.addPrimitive((int) 1);
+        set.addPrimitive((int) 2);
+        IntIterator it = set.iterator();
+        it.nextPrimitive();
+        set.addPrimitive((int) 3);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        IntIterator empty = new IntHashSet().iterator();
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextPrimitive);
+        assertThrows(IllegalStateException.class, empty::remove);
+    }
+
+    @Test
+    public void bulkOperations() {
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        int[] a = new int[3000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = randomKey();
+        assertTrue(set.addAllPrimitive(a, 100, 2000));
+        for (int i = 100; i < 2100; i++)
+            expected.add(a[i]);
+        assertSameKeys(expected, set);
+        assertFalse(set.addAllPrimitive(a, 100, 2000));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.addAllPrimitive(a, 2000, 2000));
+
+        IntHashSet other = new IntHashSet();
+        List<Integer> boxed = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int key = randomKey();
+            other.addPrimitive(key);
+            boxed.add(key);
+        }
+        set.addAll(other);
+        expected.addAll(other);
+        assertSameKeys(expected, set);
+        set.addAll(boxed);
+        expected.addAll(boxed);
+        assertSameKeys(expected, set);
+        assertFalse(set.addAll(set));
+
+        assertTrue(set.removeIfPrimitive(key -> key % 3 == 0));
+        expected.removeIf(key -> key % 3 == 0);
+        assertSameKeys(expected, set);
+        assertFalse(set.removeIf(key -> key % 3 == 0));
+        set.retainAll(boxed);
+        expected.retainAll(boxed);
+        assertSameKeys(expected, set);
+        set.clear();
+        expected.clear();
+        assertSameKeys(expected, set);
+    }
+
+    @Test
+    public void equalsHashCodeAndClone() {
+        IntHashSet a = new IntHashSet();
+        for (int i = 0; i < 500; i++)
+            a.addPrimitive(randomKey());
+        a.addPrimitive((int) 0);
+        IntHashSet b = a.clone();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(new HashSet<>(a), b);
+        assertEquals(b, new HashSet<>(a));
+        // same keys, added in another order into a table of another size.
+        IntHashSet c = new IntHashSet(10_000);
+        int[] keys = a.toArrayPrimitive(new int[0]);
+        for (int i = keys.length - 1; i >= 0; i--)
+            c.addPrimitive(keys[i]);
+        assertEquals(a, c);
+        assertEquals(a.hashCode(), c.hashCode());
+        b.removePrimitive((int) 0);
+        assertNotEquals(a, b);
+        assertTrue(a.containsPrimitive((int) 0));
+        assertFalse(b.containsPrimitive((int) 0));
+        assertEquals(new IntHashSet(), new HashSet<Integer>());
+    }
+
+    @Test
+    public void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(10, Float.NaN));
+        IntHashSet set = new IntHashSet(0, 0.5f);
+        for (int i = 0; i < 1000; i++)
+            set.addPrimitive((int) i);
+        assertEquals(1000, set.size());
+        set.ensureCapacity(100_000);
+        for (int i = 0; i < 1000; i++)
+            assertTrue(set.containsPrimitive((int) i));
+    }
+}
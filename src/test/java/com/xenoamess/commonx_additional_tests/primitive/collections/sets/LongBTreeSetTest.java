@@ -0,0 +1,286 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongBTreeSetTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static long randomKey(int range) {
+        switch (rnd.nextInt(100)) {
+            case 0:
+                return Long.MIN_VALUE;
+            case 1:
+                return Long.MAX_VALUE;
+            default:
+                return ((long) rnd.nextInt(range) - range / 2) << 33 | rnd.nextInt(4);
+        }
+    }
+
+    static long[] toArray(Iterable<Long> c) {
+        List<Long> list = new ArrayList<>();
+        for (Long e : c)
+            list.add(e);
+        long[] a = new long[list.size()];
+        for (int i = 0; i < a.length; i++)
+            a[i] = list.get(i);
+        return a;
+    }
+
+    static void assertSameKeys(NavigableSet<Long> expected, LongBTreeSet set) {
+        assertEquals(expected.size(), set.size());
+        long[] a = toArray(expected);
+        assertArrayEquals(a, set.toArrayPrimitive(new long[0]));
+        int i = 0;
+        for (LongIterator it = set.iterator(); it.hasNext(); )
+            assertEquals(a[i++], it.nextPrimitive());
+        assertEquals(a.length, i);
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        if (!expected.isEmpty()) {
+            assertEquals((long) expected.first(), set.firstPrimitive());
+            assertEquals((long) expected.last(), set.lastPrimitive());
+        }
+    }
+
+    static void assertNavigation(NavigableSet<Long> expected, LongBTreeSet set, long key) {
+        assertEquals(expected.ceiling(key), set.ceiling(key));
+        assertEquals(expected.floor(key), set.floor(key));
+        assertEquals(expected.higher(key), set.higher(key));
+        assertEquals(expected.lower(key), set.lower(key));
+        if (expected.ceiling(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.ceilingPrimitive(key));
+        else
+            assertEquals((long) expected.ceiling(key), set.ceilingPrimitive(key));
+        if (expected.floor(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.floorPrimitive(key));
+        else
+            assertEquals((long) expected.floor(key), set.floorPrimitive(key));
+        if (expected.higher(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.higherPrimitive(key));
+        else
+            assertEquals((long) expected.higher(key), set.higherPrimitive(key));
+        if (expected.lower(key) == null)
+            assertThrows(NoSuchElementException.class, () -> set.lowerPrimitive(key));
+        else
+            assertEquals((long) expected.lower(key), set.lowerPrimitive(key));
+    }
+
+    /**
+     * Grows the tree to several levels, then shrinks it back to nothing,
+     * so that leaves and branches split, borrow and merge on the way.
+     */
+    @Test
+    public void behavesLikeTreeSet() {
+        for (int round = 0; round < 5; round++) {
+            int range = 1 << (8 + 3 * round);
+            LongBTreeSet set = new LongBTreeSet();
+            TreeSet<Long> expected = new TreeSet<>();
+            for (int i = 0; i < 20000; i++) {
+                long key = randomKey(range);
+                assertEquals(expected.add(key), set.addPrimitive(key));
+                if (rnd.nextInt(8) == 0) {
+                    long other = randomKey(range);
+                    assertEquals(expected.remove(other), set.removePrimitive(other));
+                }
+                if (rnd.nextInt(16) == 0) {
+                    long other = randomKey(range);
+                    assertEquals(expected.contains(other), set.containsPrimitive(other));
+                    assertNavigation(expected, set, other);
+                }
+            }
+            assertSameKeys(expected, set);
+            while (!expected.isEmpty()) {
+                long key = rnd.nextBoolean() ? expected.first() : randomKey(range);
+                assertEquals(expected.remove(key), set.remove(key));
+                assertFalse(set.contains(key));
+                if (rnd.nextInt(256) == 0) {
+                    assertSameKeys(expected, set);
+                    assertNavigation(expected, set, randomKey(range));
+                }
+            }
+            assertSameKeys(expected, set);
+            assertTrue(set.isEmpty());
+            assertThrows(NoSuchElementException.class, set::firstPrimitive);
+            assertThrows(NoSuchElementException.class, set::lastPrimitive);
+            assertNavigation(expected, set, randomKey(range));
+        }
+    }
+
+    @Test
+    public void subSetsBehaveLikeTreeSetViews() {
+        LongBTreeSet set = new LongBTreeSet();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            long key = randomKey(1 << 14);
+            set.addPrimitive(key);
+            expected.add(key);
+        }
+        for (int round = 0; round < 500; round++) {
+            long from = randomKey(1 << 14);
+            long to = randomKey(1 << 14);
+            if (from > to) {
+                long t = from;
+                from = to;
+                to = t;
+            }
+            boolean fromInclusive = rnd.nextBoolean();
+            boolean toInclusive = rnd.nextBoolean();
+            NavigableSet<Long> expectedView = expected.subSet(from, fromInclusive, to, toInclusive);
+            LongBTreeSet.SubSet view = set.subSet(from, fromInclusive, to, toInclusive);
+            assertEquals(expectedView.size(), view.size());
+            assertEquals(expectedView.isEmpty(), view.isEmpty());
+            assertArrayEquals(toArray(expectedView), view.toArrayPrimitive(new long[0]));
+            assertEquals(expectedView, view);
+            if (expectedView.isEmpty()) {
+                assertThrows(NoSuchElementException.class, view::firstPrimitive);
+                assertThrows(NoSuchElementException.class, view::lastPrimitive);
+            } else {
+                assertEquals((long) expectedView.first(), view.firstPrimitive());
+                assertEquals((long) expectedView.last(), view.lastPrimitive());
+            }
+            long key = randomKey(1 << 14);
+            assertEquals(expectedView.contains(key), view.containsPrimitive(key));
+            boolean inRange = (fromInclusive ? key >= from : key > from) && (toInclusive ? key <= to : key < to);
+            if (inRange) {
+                assertEquals(expectedView.add(key), view.addPrimitive(key));
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> view.addPrimitive(key));
+                assertFalse(view.removePrimitive(key));
+            }
+            if (rnd.nextInt(4) == 0) {
+                // removes through the view show in the set.
+                Iterator<Long> expectedIt = expectedView.iterator();
+                for (LongIterator it = view.iterator(); it.hasNext(); ) {
+                    assertEquals(expectedIt.next(), (Long) it.nextPrimitive());
+                    if (rnd.nextInt(3) == 0) {
+                        it.remove();
+                        expectedIt.remove();
+                    }
+                }
+                assertFalse(expectedIt.hasNext());
+            }
+            assertSameKeys(expected, set);
+        }
+        long key = randomKey(1 << 14);
+        assertEquals(expected.headSet(key), set.headSet(key));
+        assertEquals(expected.tailSet(key), set.tailSet(key));
+        assertEquals(expected.subSet(key, key), set.subSet(key, key));
+        assertTrue(set.subSet(Long.MAX_VALUE, false, Long.MAX_VALUE, true).isEmpty());
+        assertTrue(set.headSet(Long.MIN_VALUE).isEmpty());
+        assertEquals(0, set.subSet(Long.MIN_VALUE, true, Long.MIN_VALUE, false).size());
+        assertThrows(IllegalArgumentException.class, () -> set.subSet((long) 1, (long) 0));
+        assertThrows(IllegalArgumentException.class, () -> set.headSet(Long.MIN_VALUE).addPrimitive(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 20; round++) {
+            LongBTreeSet set = new LongBTreeSet();
+            TreeSet<Long> expected = new TreeSet<>();
+            for (int i = 0; i < 10000; i++) {
+                long key = randomKey(1 << 16);
+                set.addPrimitive(key);
+                expected.add(key);
+            }
+            long[] original = toArray(expected);
+            // remove runs of keys, so that whole leaves empty out under the iterator.
+            List<Long> seen = new ArrayList<>();
+            boolean removing = false;
+            for (LongIterator it = set.iterator(); it.hasNext(); ) {
+                long key = it.nextPrimitive();
+                seen.add(key);
+                if (rnd.nextInt(50) == 0)
+                    removing = !removing;
+                if (removing) {
+                    it.remove();
+                    assertThrows(IllegalStateException.class, it::remove);
+                    expected.remove(key);
+                }
+            }
+            assertArrayEquals(original, toArray(seen));
+            assertSameKeys(expected, set);
+            assertEquals(expected.removeIf(e -> e % 3 == 0), set.removeIfPrimitive(e -> e % 3 == 0));
+            assertSameKeys(expected, set);
+        }
+    }
+
+    /**
+     * As jdk/java/util/AbstractList/FailFastIteratorTest checks of list iterators:
+     * the iterator notices the change before it removes anything.
+     */
+    @Test
+    public void iteratorIsFailFast() {
+        LongBTreeSet orig = new LongBTreeSet();
+        for (int i = 0; i < 1000; i++)
+            orig.addPrimitive((long) i);
+        LongBTreeSet copy = new LongBTreeSet(orig);
+
+        LongIterator it = copy.iterator();
+        it.nextPrimitive();
+        copy.removePrimitive((long) 999);
+        copy.addPrimitive((long) 999);
+        assertThrows(ConcurrentModificationException.class, it::remove);
+        assertEquals(orig, copy);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+
+        LongIterator it2 = copy.subSet((long) 100, (long) 200).iterator();
+        it2.nextPrimitive();
+        copy.addPrimitive((long) 5000);
+        assertThrows(ConcurrentModificationException.class, it2::remove);
+        assertThrows(ConcurrentModificationException.class, it2::nextPrimitive);
+        copy.removePrimitive((long) 5000);
+        assertEquals(orig, copy);
+
+        // changes that change nothing are not modifications.
+        LongIterator it3 = copy.iterator();
+        it3.nextPrimitive();
+        copy.addPrimitive((long) 1);
+        copy.removePrimitive((long) 5000);
+        it3.remove();
+        assertFalse(copy.containsPrimitive((long) 0));
+    }
+
+    @Test
+    public void bulkOperationsAndEquality() {
+        LongBTreeSet a = new LongBTreeSet();
+        for (int i = 0; i < 3000; i++)
+            a.addPrimitive(randomKey(1 << 12));
+        LongBTreeSet b = new LongBTreeSet();
+        assertTrue(b.addAll(a));
+        assertFalse(b.addAll(a));
+        assertFalse(b.addAll(b));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(new TreeSet<>(a), b);
+        b.removePrimitive(b.lastPrimitive());
+        assertNotEquals(a, b);
+        b.addPrimitive(Long.MIN_VALUE);
+        b.removePrimitive(a.firstPrimitive());
+        if (b.size() == a.size())
+            assertNotEquals(a, b);
+        assertTrue(a.sizeInBytes() >= (long) a.size() * Long.BYTES);
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertFalse(b.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> b.iterator().nextPrimitive());
+        assertThrows(IllegalStateException.class, () -> b.iterator().remove());
+    }
+}
@@ -0,0 +1,281 @@
+package com.xenoamess.commonx_additional_tests.primitive.collections.sets;
+
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongHashSetTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    /**
+     * Keys from a small range, so that adds and removes hit each other, with 0 and the extremes among them;
+     * every other one shifted left, so that they share their low bits and collide before mixing.
+     */
+    static long randomKey() {
+        switch (rnd.nextInt(8)) {
+            case 0:
+                return 0;
+            case 1:
+                return Long.MIN_VALUE;
+            case 2:
+                return Long.MAX_VALUE;
+            case 3:
+            case 4:
+                return (long) rnd.nextInt(1 << 10) << 20;
+            default:
+                return (long) (rnd.nextInt(1 << 11) - (1 << 10));
+        }
+    }
+
+    static void assertSameKeys(Set<Long> expected, LongHashSet set) {
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected.isEmpty(), set.isEmpty());
+        Set<Long> seen = new HashSet<>();
+        for (LongIterator it = set.iterator(); it.hasNext(); ) {
+            long key = it.nextPrimitive();
+            assertTrue(seen.add(key), "returned twice: " + key);
+            assertTrue(set.containsPrimitive(key));
+        }
+        assertEquals(expected, seen);
+        long[] a = set.toArrayPrimitive(new long[0]);
+        Arrays.sort(a);
+        long[] b = new long[expected.size()];
+        int i = 0;
+        for (Long key : expected)
+            b[i++] = key;
+        Arrays.sort(b);
+        assertArrayEquals(b, a);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+    }
+
+    @Test
+    public void behavesLikeHashSet() {
+        for (int round = 0; round < 20; round++) {
+            LongHashSet set = new LongHashSet(rnd.nextInt(4));
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < 5000; i++) {
+                long key = randomKey();
+                switch (rnd.nextInt(4)) {
+                    case 0:
+                        assertEquals(expected.remove(key), set.removePrimitive(key));
+                        break;
+                    case 1:
+                        assertEquals(expected.contains(key), set.containsPrimitive(key));
+                        break;
+                    default:
+                        assertEquals(expected.add(key), set.addPrimitive(key));
+                        break;
+                }
+                assertEquals(expected.size(), set.size());
+            }
+            assertSameKeys(expected, set);
+        }
+    }
+
+    @Test
+    public void boxedMethods() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add((long) 1));
+        assertFalse(set.add((long) 1));
+        assertTrue(set.contains((long) 1));
+        assertFalse(set.contains("1"));
+        assertFalse(set.contains(null));
+        assertFalse(set.remove("1"));
+        assertTrue(set.remove((Long) (long) 1));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void iteratorRemove() {
+        for (int round = 0; round < 50; round++) {
+            LongHashSet set = new LongHashSet();
+            Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < 1000; i++) {
+                long key = randomKey();
+                set.addPrimitive(key);
+                expected.add(key);
+            }
+            // removing shifts keys from the start of the table to its end; none may be skipped or returned twice.
+            Set<Long> original = new HashSet<>(expected);
+            Set<Long> seen = new HashSet<>();
+            for (LongIterator it = set.iterator(); it.hasNext(); ) {
+                long key = it.nextPrimitive();
+                assertTrue(seen.add(key), "returned twice: " + key);
+                if (rnd.nextBoolean()) {
+                    it.remove();
+                    expected.remove(key);
+                    assertThrows(IllegalStateException.class, it::remove);
+                }
+            }
+            assertEquals(original, seen);
+            assertSameKeys(expected, set);
+        }
+    }
+
+    @Test
+    public void tableHoldsExpectedSizeWithoutGrowing() {
+        assertEquals(2, LongHashSet.tableSizeFor(0, LongHashSet.DEFAULT_LOAD_FACTOR));
+        assertEquals(16, LongHashSet.tableSizeFor(12, 0.75f));
+        assertEquals(32, LongHashSet.tableSizeFor(13, 0.75f));
+        LongHashSet set = new LongHashSet(12);
+        for (int i = 1; i <= 12; i++)
+            set.addPrimitive(i);
+        assertEquals(16, set.keys.length);
+    }
+
+    /**
+     * Keys that differ only in their high 32 bits, which a hash of the low bits alone would put in one slot.
+     * mix must still spread them over the table.
+     */
+    @Test
+    public void keysDifferingInHighBitsSpread() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            long key = (long) i << 32;
+            set.addPrimitive(key);
+            expected.add(key);
+        }
+        assertSameKeys(expected, set);
+        int mask = set.keys.length - 1;
+        Set<Integer> homes = new HashSet<>();
+        for (long key : expected)
+            homes.add(LongHashSet.mix(key) & mask);
+        assertTrue(homes.size() > expected.size() / 2, "only " + homes.size() + " home slots");
+    }
+
+    @Test
+    public void iteratorRemoveAcrossTheEndOfTheTable() {
+        LongHashSet set = new LongHashSet();
+        int mask = LongHashSet.tableSizeFor(16, LongHashSet.DEFAULT_LOAD_FACTOR) - 1;
+        // keys whose home is the last slot; all but the first wrap around to the start of the table.
+        Set<Long> expected = new HashSet<>();
+        for (long key = 1; expected.size() < 4; key++) {
+            if ((LongHashSet.mix(key) & mask) == mask) {
+                set.addPrimitive(key);
+                expected.add(key);
+            }
+        }
+        Set<Long> seen = new HashSet<>();
+        for (LongIterator it = set.iterator(); it.hasNext(); ) {
+            long key = it.nextPrimitive();
+            assertTrue(seen.add(key), "returned twice: " + key);
+            it.remove();
+        }
+        assertEquals(expected, seen);
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void iteratorIsFailFast() {
+        LongHashSet set = new LongHashSet();
+        set.addPrimitive((long) 1);
+        set.addPrimitive((long) 2);
+        LongIterator it = set.iterator();
+        it.nextPrimitive();
+        set.addPrimitive((long) 3);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+        LongIterator empty = new LongHashSet().iterator();
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::nextPrimitive);
+        assertThrows(IllegalStateException.class, empty::remove);
+    }
+
+    @Test
+    public void bulkOperations() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        long[] a = new long[3000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = randomKey();
+        assertTrue(set.addAllPrimitive(a, 100, 2000));
+        for (int i = 100; i < 2100; i++)
+            expected.add(a[i]);
+        assertSameKeys(expected, set);
+        assertFalse(set.addAllPrimitive(a, 100, 2000));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.addAllPrimitive(a, 2000, 2000));
+
+        LongHashSet other = new LongHashSet();
+        List<Long> boxed = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            long key = randomKey();
+            other.addPrimitive(key);
+            boxed.add(key);
+        }
+        set.addAll(other);
+        expected.addAll(other);
+        assertSameKeys(expected, set);
+        set.addAll(boxed);
+        expected.addAll(boxed);
+        assertSameKeys(expected, set);
+        assertFalse(set.addAll(set));
+
+        assertTrue(set.removeIfPrimitive(key -> key % 3 == 0));
+        expected.removeIf(key -> key % 3 == 0);
+        assertSameKeys(expected, set);
+        assertFalse(set.removeIf(key -> key % 3 == 0));
+        set.retainAll(boxed);
+        expected.retainAll(boxed);
+        assertSameKeys(expected, set);
+        set.clear();
+        expected.clear();
+        assertSameKeys(expected, set);
+    }
+
+    @Test
+    public void equalsHashCodeAndClone() {
+        LongHashSet a = new LongHashSet();
+        for (int i = 0; i < 500; i++)
+            a.addPrimitive(randomKey());
+        a.addPrimitive((long) 0);
+        LongHashSet b = a.clone();
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(new HashSet<>(a), b);
+        assertEquals(b, new HashSet<>(a));
+        // same keys, added in another order into a table of another size.
+        LongHashSet c = new LongHashSet(10_000);
+        long[] keys = a.toArrayPrimitive(new long[0]);
+        for (int i = keys.length - 1; i >= 0; i--)
+            c.addPrimitive(keys[i]);
+        assertEquals(a, c);
+        assertEquals(a.hashCode(), c.hashCode());
+        b.removePrimitive((long) 0);
+        assertNotEquals(a, b);
+        assertTrue(a.containsPrimitive((long) 0));
+        assertFalse(b.containsPrimitive((long) 0));
+        assertEquals(new LongHashSet(), new HashSet<Long>());
+    }
+
+    @Test
+    public void rejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, Float.NaN));
+        LongHashSet set = new LongHashSet(0, 0.5f);
+        for (int i = 0; i < 1000; i++)
+            set.addPrimitive((long) i);
+        assertEquals(1000, set.size());
+        set.ensureCapacity(100_000);
+        for (int i = 0; i < 1000; i++)
+            assertTrue(set.containsPrimitive((long) i));
+    }
+}
@@ -0,0 +1,170 @@
+package com.xenoamess.commonx_additional_tests.primitive.spliterators;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.DoubleLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleListSpliteratorTest {
+    static final int SIZE = 1000;
+
+    static DoubleArrayList list(int size) {
+        DoubleArrayList list = new DoubleArrayList(size);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, (double) i);
+        return list;
+    }
+
+    static double[] drain(Spliterator.OfDouble spliterator) {
+        DoubleArrayList result = new DoubleArrayList();
+        spliterator.forEachRemaining((double e) -> result.addPrimitive(result.size(), e));
+        return result.toArrayPrimitive(new double[result.size()]);
+    }
+
+    @Test
+    public void forEachRemainingVisitsAllInOrder() {
+        DoubleArrayList list = list(SIZE);
+        assertArrayEquals(list.toArrayPrimitive(new double[SIZE]), drain(new DoubleListSpliterator(list)));
+    }
+
+    @Test
+    public void tryAdvanceVisitsAllInOrder() {
+        DoubleArrayList list = list(SIZE);
+        DoubleListSpliterator spliterator = new DoubleListSpliterator(list);
+        double[] result = new double[SIZE];
+        int[] count = new int[1];
+        while (spliterator.tryAdvance((double e) -> result[count[0]++] = e)) {
+        }
+        assertEquals(SIZE, count[0]);
+        assertArrayEquals(list.toArrayPrimitive(new double[SIZE]), result);
+        assertFalse(spliterator.tryAdvance((double e) -> {
+            throw new AssertionError();
+        }));
+    }
+
+    @Test
+    public void trySplitIsBalancedAndExact() {
+        DoubleListSpliterator right = new DoubleListSpliterator(list(SIZE + 1));
+        DoubleListSpliterator left = right.trySplit();
+        assertEquals(SIZE / 2, left.estimateSize());
+        assertEquals(SIZE / 2 + 1, right.estimateSize());
+        assertEquals(left.estimateSize(), left.getExactSizeIfKnown());
+        assertEquals(right.estimateSize(), drain(right).length);
+        assertEquals(left.estimateSize(), drain(left).length);
+    }
+
+    @Test
+    public void trySplitKeepsEncounterOrder() {
+        DoubleArrayList list = list(SIZE);
+        DoubleListSpliterator right = new DoubleListSpliterator(list);
+        DoubleListSpliterator left = right.trySplit();
+        double[] leftElements = drain(left);
+        double[] rightElements = drain(right);
+        assertEquals(list.getPrimitive(0), leftElements[0]);
+        assertEquals(list.getPrimitive(SIZE / 2), rightElements[0]);
+        assertEquals(list.getPrimitive(SIZE - 1), rightElements[rightElements.length - 1]);
+    }
+
+    @Test
+    public void trySplitStopsAtOneElement() {
+        DoubleListSpliterator spliterator = new DoubleListSpliterator(list(1));
+        assertNull(spliterator.trySplit());
+        assertNull(new DoubleListSpliterator(list(0)).trySplit());
+    }
+
+    @Test
+    public void characteristics() {
+        DoubleListSpliterator spliterator = new DoubleListSpliterator(list(SIZE));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void lateBinding() {
+        DoubleArrayList list = list(SIZE);
+        DoubleListSpliterator spliterator = new DoubleListSpliterator(list);
+        list.addPrimitive(SIZE, (double) 1);
+        assertEquals(SIZE + 1, drain(spliterator).length);
+    }
+
+    @Test
+    public void subList() {
+        DoubleArrayList list = list(SIZE);
+        assertArrayEquals(list.subList(10, 20).toArrayPrimitive(new double[10]),
+                drain(new DoubleListSpliterator(list.subList(10, 20))));
+    }
+
+    @Test
+    public void failFast() {
+        DoubleArrayList list = list(SIZE);
+        DoubleListSpliterator spliterator = new DoubleListSpliterator(list);
+        assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.forEachRemaining((double e) -> list.addPrimitive(SIZE, e)));
+        DoubleListSpliterator advancing = new DoubleListSpliterator(list);
+        assertTrue(advancing.tryAdvance((double e) -> {
+        }));
+        list.remove(0);
+        assertThrows(ConcurrentModificationException.class, () -> advancing.tryAdvance((double e) -> {
+        }));
+        // split halves share the modCount the list had when they were split.
+        DoubleListSpliterator right = new DoubleListSpliterator(list);
+        DoubleListSpliterator left = right.trySplit();
+        assertNotNull(left);
+        list.setPrimitive(0, (double) 1);
+        assertEquals(left.estimateSize(), drain(left).length);
+        list.addPrimitive(0, (double) 1);
+        assertThrows(ConcurrentModificationException.class, () -> drain(right));
+    }
+
+    /**
+     * A linked list is not RandomAccess: the constructor refuses it,
+     * and spliterator and the streams read it with its iterator.
+     */
+    @Test
+    public void nonRandomAccessListsUseTheIterator() {
+        DoubleLinkedList linked = new DoubleLinkedList();
+        for (int i = 0; i < SIZE; i++)
+            linked.addPrimitive(i, (double) i);
+        assertThrows(IllegalArgumentException.class, () -> new DoubleListSpliterator(linked));
+        Spliterator.OfDouble spliterator = DoubleListSpliterator.spliterator(linked);
+        assertFalse(spliterator instanceof DoubleListSpliterator);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        assertArrayEquals(list(SIZE).toArrayPrimitive(new double[SIZE]), drain(spliterator));
+        assertArrayEquals(list(SIZE).toArrayPrimitive(new double[SIZE]),
+                DoubleListSpliterator.parallelDoubleStream(linked).toArray());
+        assertTrue(DoubleListSpliterator.spliterator(list(SIZE)) instanceof DoubleListSpliterator);
+    }
+
+    @Test
+    public void nullAction() {
+        DoubleListSpliterator spliterator = new DoubleListSpliterator(list(SIZE));
+        assertThrows(NullPointerException.class, () -> spliterator.tryAdvance((java.util.function.DoubleConsumer) null));
+        assertThrows(NullPointerException.class, () -> spliterator.forEachRemaining((java.util.function.DoubleConsumer) null));
+    }
+
+    @Test
+    public void streams() {
+        DoubleArrayList list = list(SIZE);
+        double sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += list.getPrimitive(i);
+        assertEquals(sum, DoubleListSpliterator.doubleStream(list).sum());
+        assertEquals(sum, DoubleListSpliterator.parallelDoubleStream(list).sum());
+        assertTrue(DoubleListSpliterator.parallelDoubleStream(list).isParallel());
+        assertArrayEquals(list.toArrayPrimitive(new double[SIZE]),
+                DoubleListSpliterator.parallelDoubleStream(list).toArray());
+    }
+}
@@ -0,0 +1,170 @@
+package com.xenoamess.commonx_additional_tests.primitive.spliterators;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.IntArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.IntLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntListSpliteratorTest {
+    static final int SIZE = 1000;
+
+    static IntArrayList list(int size) {
+        IntArrayList list = new IntArrayList(size);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, (int) i);
+        return list;
+    }
+
+    static int[] drain(Spliterator.OfInt spliterator) {
+        IntArrayList result = new IntArrayList();
+        spliterator.forEachRemaining((int e) -> result.addPrimitive(result.size(), e));
+        return result.toArrayPrimitive(new int[result.size()]);
+    }
+
+    @Test
+    public void forEachRemainingVisitsAllInOrder() {
+        IntArrayList list = list(SIZE);
+        assertArrayEquals(list.toArrayPrimitive(new int[SIZE]), drain(new IntListSpliterator(list)));
+    }
+
+    @Test
+    public void tryAdvanceVisitsAllInOrder() {
+        IntArrayList list = list(SIZE);
+        IntListSpliterator spliterator = new IntListSpliterator(list);
+        int[] result = new int[SIZE];
+        int[] count = new int[1];
+        while (spliterator.tryAdvance((int e) -> result[count[0]++] = e)) {
+        }
+        assertEquals(SIZE, count[0]);
+        assertArrayEquals(list.toArrayPrimitive(new int[SIZE]), result);
+        assertFalse(spliterator.tryAdvance((int e) -> {
+            throw new AssertionError();
+        }));
+    }
+
+    @Test
+    public void trySplitIsBalancedAndExact() {
+        IntListSpliterator right = new IntListSpliterator(list(SIZE + 1));
+        IntListSpliterator left = right.trySplit();
+        assertEquals(SIZE / 2, left.estimateSize());
+        assertEquals(SIZE / 2 + 1, right.estimateSize());
+        assertEquals(left.estimateSize(), left.getExactSizeIfKnown());
+        assertEquals(right.estimateSize(), drain(right).length);
+        assertEquals(left.estimateSize(), drain(left).length);
+    }
+
+    @Test
+    public void trySplitKeepsEncounterOrder() {
+        IntArrayList list = list(SIZE);
+        IntListSpliterator right = new IntListSpliterator(list);
+        IntListSpliterator left = right.trySplit();
+        int[] leftElements = drain(left);
+        int[] rightElements = drain(right);
+        assertEquals(list.getPrimitive(0), leftElements[0]);
+        assertEquals(list.getPrimitive(SIZE / 2), rightElements[0]);
+        assertEquals(list.getPrimitive(SIZE - 1), rightElements[rightElements.length - 1]);
+    }
+
+    @Test
+    public void trySplitStopsAtOneElement() {
+        IntListSpliterator spliterator = new IntListSpliterator(list(1));
+        assertNull(spliterator.trySplit());
+        assertNull(new IntListSpliterator(list(0)).trySplit());
+    }
+
+    @Test
+    public void characteristics() {
+        IntListSpliterator spliterator = new IntListSpliterator(list(SIZE));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void lateBinding() {
+        IntArrayList list = list(SIZE);
+        IntListSpliterator spliterator = new IntListSpliterator(list);
+        list.addPrimitive(SIZE, (int) 1);
+        assertEquals(SIZE + 1, drain(spliterator).length);
+    }
+
+    @Test
+    public void subList() {
+        IntArrayList list = list(SIZE);
+        assertArrayEquals(list.subList(10, 20).toArrayPrimitive(new int[10]),
+                drain(new IntListSpliterator(list.subList(10, 20))));
+    }
+
+    @Test
+    public void failFast() {
+        IntArrayList list = list(SIZE);
+        IntListSpliterator spliterator = new IntListSpliterator(list);
+        assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.forEachRemaining((int e) -> list.addPrimitive(SIZE, e)));
+        IntListSpliterator advancing = new IntListSpliterator(list);
+        assertTrue(advancing.tryAdvance((int e) -> {
+        }));
+        list.remove(0);
+        assertThrows(ConcurrentModificationException.class, () -> advancing.tryAdvance((int e) -> {
+        }));
+        // split halves share the modCount the list had when they were split.
+        IntListSpliterator right = new IntListSpliterator(list);
+        IntListSpliterator left = right.trySplit();
+        assertNotNull(left);
+        list.setPrimitive(0, (int) 1);
+        assertEquals(left.estimateSize(), drain(left).length);
+        list.addPrimitive(0, (int) 1);
+        assertThrows(ConcurrentModificationException.class, () -> drain(right));
+    }
+
+    /**
+     * A linked list is not RandomAccess: the constructor refuses it,
+     * and spliterator and the streams read it with its iterator.
+     */
+    @Test
+    public void nonRandomAccessListsUseTheIterator() {
+        IntLinkedList linked = new IntLinkedList();
+        for (int i = 0; i < SIZE; i++)
+            linked.addPrimitive(i, (int) i);
+        assertThrows(IllegalArgumentException.class, () -> new IntListSpliterator(linked));
+        Spliterator.OfInt spliterator = IntListSpliterator.spliterator(linked);
+        assertFalse(spliterator instanceof IntListSpliterator);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        assertArrayEquals(list(SIZE).toArrayPrimitive(new int[SIZE]), drain(spliterator));
+        assertArrayEquals(list(SIZE).toArrayPrimitive(new int[SIZE]),
+                IntListSpliterator.parallelIntStream(linked).toArray());
+        assertTrue(IntListSpliterator.spliterator(list(SIZE)) instanceof IntListSpliterator);
+    }
+
+    @Test
+    public void nullAction() {
+        IntListSpliterator spliterator = new IntListSpliterator(list(SIZE));
+        assertThrows(NullPointerException.class, () -> spliterator.tryAdvance((java.util.function.IntConsumer) null));
+        assertThrows(NullPointerException.class, () -> spliterator.forEachRemaining((java.util.function.IntConsumer) null));
+    }
+
+    @Test
+    public void streams() {
+        IntArrayList list = list(SIZE);
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += list.getPrimitive(i);
+        assertEquals(sum, IntListSpliterator.intStream(list).sum());
+        assertEquals(sum, IntListSpliterator.parallelIntStream(list).sum());
+        assertTrue(IntListSpliterator.parallelIntStream(list).isParallel());
+        assertArrayEquals(list.toArrayPrimitive(new int[SIZE]),
+                IntListSpliterator.parallelIntStream(list).toArray());
+    }
+}
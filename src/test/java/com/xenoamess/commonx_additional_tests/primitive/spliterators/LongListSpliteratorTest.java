@@ -0,0 +1,170 @@
+package com.xenoamess.commonx_additional_tests.primitive.spliterators;
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.LongArrayList;
+import com.xenoamess.commons.primitive.collections.lists.linked_lists.LongLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongListSpliteratorTest {
+    static final int SIZE = 1000;
+
+    static LongArrayList list(int size) {
+        LongArrayList list = new LongArrayList(size);
+        for (int i = 0; i < size; i++)
+            list.addPrimitive(i, (long) i);
+        return list;
+    }
+
+    static long[] drain(Spliterator.OfLong spliterator) {
+        LongArrayList result = new LongArrayList();
+        spliterator.forEachRemaining((long e) -> result.addPrimitive(result.size(), e));
+        return result.toArrayPrimitive(new long[result.size()]);
+    }
+
+    @Test
+    public void forEachRemainingVisitsAllInOrder() {
+        LongArrayList list = list(SIZE);
+        assertArrayEquals(list.toArrayPrimitive(new long[SIZE]), drain(new LongListSpliterator(list)));
+    }
+
+    @Test
+    public void tryAdvanceVisitsAllInOrder() {
+        LongArrayList list = list(SIZE);
+        LongListSpliterator spliterator = new LongListSpliterator(list);
+        long[] result = new long[SIZE];
+        int[] count = new int[1];
+        while (spliterator.tryAdvance((long e) -> result[count[0]++] = e)) {
+        }
+        assertEquals(SIZE, count[0]);
+        assertArrayEquals(list.toArrayPrimitive(new long[SIZE]), result);
+        assertFalse(spliterator.tryAdvance((long e) -> {
+            throw new AssertionError();
+        }));
+    }
+
+    @Test
+    public void trySplitIsBalancedAndExact() {
+        LongListSpliterator right = new LongListSpliterator(list(SIZE + 1));
+        LongListSpliterator left = right.trySplit();
+        assertEquals(SIZE / 2, left.estimateSize());
+        assertEquals(SIZE / 2 + 1, right.estimateSize());
+        assertEquals(left.estimateSize(), left.getExactSizeIfKnown());
+        assertEquals(right.estimateSize(), drain(right).length);
+        assertEquals(left.estimateSize(), drain(left).length);
+    }
+
+    @Test
+    public void trySplitKeepsEncounterOrder() {
+        LongArrayList list = list(SIZE);
+        LongListSpliterator right = new LongListSpliterator(list);
+        LongListSpliterator left = right.trySplit();
+        long[] leftElements = drain(left);
+        long[] rightElements = drain(right);
+        assertEquals(list.getPrimitive(0), leftElements[0]);
+        assertEquals(list.getPrimitive(SIZE / 2), rightElements[0]);
+        assertEquals(list.getPrimitive(SIZE - 1), rightElements[rightElements.length - 1]);
+    }
+
+    @Test
+    public void trySplitStopsAtOneElement() {
+        LongListSpliterator spliterator = new LongListSpliterator(list(1));
+        assertNull(spliterator.trySplit());
+        assertNull(new LongListSpliterator(list(0)).trySplit());
+    }
+
+    @Test
+    public void characteristics() {
+        LongListSpliterator spliterator = new LongListSpliterator(list(SIZE));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void lateBinding() {
+        LongArrayList list = list(SIZE);
+        LongListSpliterator spliterator = new LongListSpliterator(list);
+        list.addPrimitive(SIZE, (long) 1);
+        assertEquals(SIZE + 1, drain(spliterator).length);
+    }
+
+    @Test
+    public void subList() {
+        LongArrayList list = list(SIZE);
+        assertArrayEquals(list.subList(10, 20).toArrayPrimitive(new long[10]),
+                drain(new LongListSpliterator(list.subList(10, 20))));
+    }
+
+    @Test
+    public void failFast() {
+        LongArrayList list = list(SIZE);
+        LongListSpliterator spliterator = new LongListSpliterator(list);
+        assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.forEachRemaining((long e) -> list.addPrimitive(SIZE, e)));
+        LongListSpliterator advancing = new LongListSpliterator(list);
+        assertTrue(advancing.tryAdvance((long e) -> {
+        }));
+        list.remove(0);
+        assertThrows(ConcurrentModificationException.class, () -> advancing.tryAdvance((long e) -> {
+        }));
+        // split halves share the modCount the list had when they were split.
+        LongListSpliterator right = new LongListSpliterator(list);
+        LongListSpliterator left = right.trySplit();
+        assertNotNull(left);
+        list.setPrimitive(0, (long) 1);
+        assertEquals(left.estimateSize(), drain(left).length);
+        list.addPrimitive(0, (long) 1);
+        assertThrows(ConcurrentModificationException.class, () -> drain(right));
+    }
+
+    /**
+     * A linked list is not RandomAccess: the constructor refuses it,
+     * and spliterator and the streams read it with its iterator.
+     */
+    @Test
+    public void nonRandomAccessListsUseTheIterator() {
+        LongLinkedList linked = new LongLinkedList();
+        for (int i = 0; i < SIZE; i++)
+            linked.addPrimitive(i, (long) i);
+        assertThrows(IllegalArgumentException.class, () -> new LongListSpliterator(linked));
+        Spliterator.OfLong spliterator = LongListSpliterator.spliterator(linked);
+        assertFalse(spliterator instanceof LongListSpliterator);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        assertArrayEquals(list(SIZE).toArrayPrimitive(new long[SIZE]), drain(spliterator));
+        assertArrayEquals(list(SIZE).toArrayPrimitive(new long[SIZE]),
+                LongListSpliterator.parallelLongStream(linked).toArray());
+        assertTrue(LongListSpliterator.spliterator(list(SIZE)) instanceof LongListSpliterator);
+    }
+
+    @Test
+    public void nullAction() {
+        LongListSpliterator spliterator = new LongListSpliterator(list(SIZE));
+        assertThrows(NullPointerException.class, () -> spliterator.tryAdvance((java.util.function.LongConsumer) null));
+        assertThrows(NullPointerException.class, () -> spliterator.forEachRemaining((java.util.function.LongConsumer) null));
+    }
+
+    @Test
+    public void streams() {
+        LongArrayList list = list(SIZE);
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += list.getPrimitive(i);
+        assertEquals(sum, LongListSpliterator.longStream(list).sum());
+        assertEquals(sum, LongListSpliterator.parallelLongStream(list).sum());
+        assertTrue(LongListSpliterator.parallelLongStream(list).isParallel());
+        assertArrayEquals(list.toArrayPrimitive(new long[SIZE]),
+                LongListSpliterator.parallelLongStream(list).toArray());
+    }
+}
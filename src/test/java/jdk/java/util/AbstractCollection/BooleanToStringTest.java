@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2001, 2005, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.AbstractCollection;
+
+/*
+ * @test
+ * @bug 4486049 6282555 6318622
+ * @summary toString method fails if size changes in between a call to size
+ *           and an attempt to iterate.
+ * @author Josh Bloch, Martin Buchholz
+ */
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.BooleanArrayList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.BooleanCollections;
+import com.xenoamess.commonx_additional_tests.primitive.collections.deques.BooleanArrayDeque;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.BooleanArrayLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.GrowthPolicy;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.GrowthPolicyBooleanArrayList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteBooleanArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BooleanToStringTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final boolean X = true;
+    static final boolean Y = false;
+    static final boolean Z = true;
+
+    @Test
+    public void testCollections() {
+        testCollection(new BooleanArrayDeque() {
+            @Override
+            public int size() {
+                return super.size() + 1; // Lies, lies, all lies!
+            }
+        });
+        testCollection(new BooleanArrayDeque());
+        testCollection(new CopyOnWriteBooleanArrayList());
+        testCollection(new GrowthPolicyBooleanArrayList(GrowthPolicy.DOUBLING));
+    }
+
+    private static void testCollection(Collection<Boolean> c) {
+        assertEquals("[]", c.toString());
+        assertTrue(c.add(X));
+        assertEquals("[" + X + "]", c.toString());
+        assertTrue(c.add(Y));
+        assertEquals("[" + X + ", " + Y + "]", c.toString());
+        // a boolean collection holds no null; an extreme value instead.
+        assertTrue(c.add(Z));
+        assertEquals("[" + X + ", " + Y + ", " + Z + "]", c.toString());
+        // nor can it hold itself, so a boxed collection holds both it and itself.
+        List<Object> outer = new ArrayList<>();
+        outer.add(c);
+        outer.add(outer);
+        assertEquals("[[" + X + ", " + Y + ", " + Z + "], (this Collection)]", outer.toString());
+    }
+
+    static boolean randomBoolean() {
+        return rnd.nextBoolean();
+    }
+
+    @Test
+    public void testSameTextAsBoxed() throws IOException {
+        // the largest take several chunks of appendTo.
+        for (int size : new int[]{0, 1, 2, 100, 5000}) {
+            boolean[] a = new boolean[size];
+            for (int i = 0; i < size; i++)
+                a[i] = randomBoolean();
+            String expected = Arrays.toString(a);
+
+            BooleanArrayList list = new BooleanArrayList(size);
+            BooleanArrayDeque deque = new BooleanArrayDeque();
+            GrowthPolicyBooleanArrayList growth = new GrowthPolicyBooleanArrayList(GrowthPolicy.DOUBLING);
+            for (int i = 0; i < size; i++) {
+                list.addPrimitive(i, a[i]);
+                deque.addLastPrimitive(a[i]);
+                growth.addPrimitive(i, a[i]);
+            }
+            CopyOnWriteBooleanArrayList cow = new CopyOnWriteBooleanArrayList(a);
+            assertEquals(expected, new ArrayList<>(list).toString());
+            check(expected, BooleanArrayLists.toString(list), out -> BooleanArrayLists.appendTo(list, out));
+            check(expected, BooleanCollections.toString(list), out -> BooleanCollections.appendTo(list, out));
+            check(expected, deque.toString(), deque::appendTo);
+            check(expected, growth.toString(), growth::appendTo);
+            check(expected, cow.toString(), cow::appendTo);
+
+            final int off = size / 3;
+            final int len = size / 3;
+            check(Arrays.toString(Arrays.copyOfRange(a, off, off + len)),
+                    BooleanCollections.toString(a, off, len), out -> BooleanCollections.appendTo(a, off, len, out));
+        }
+    }
+
+    @Test
+    public void testRangeChecks() {
+        boolean[] a = new boolean[4];
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanCollections.toString(a, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanCollections.toString(a, 1, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanCollections.toString(a, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> BooleanCollections.appendTo(a, 5, 0, new StringBuilder()));
+        assertThrows(NullPointerException.class, () -> BooleanCollections.appendTo(a, 0, 4, null));
+        assertEquals("[]", BooleanCollections.toString(a, 4, 0));
+    }
+
+    interface Appender {
+        Appendable appendTo(Appendable out) throws IOException;
+    }
+
+    /**
+     * Checks actual, then what appender appends to a StringBuilder, a Writer, and any other Appendable.
+     */
+    private static void check(String expected, String actual, Appender appender) throws IOException {
+        assertEquals(expected, actual);
+        StringBuilder sb = new StringBuilder("x");
+        assertSame(sb, appender.appendTo(sb));
+        assertEquals("x" + expected, sb.toString());
+        StringWriter writer = new StringWriter();
+        assertSame(writer, appender.appendTo(writer));
+        assertEquals(expected, writer.toString());
+        ChunkCheckingAppendable other = new ChunkCheckingAppendable();
+        assertSame(other, appender.appendTo(other));
+        assertEquals(expected, other.sb.toString());
+    }
+
+    /**
+     * Neither a StringBuilder nor a Writer, and takes no chunk longer than the chunk buffer.
+     */
+    static final class ChunkCheckingAppendable implements Appendable {
+        final StringBuilder sb = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            assertTrue(csq.length() <= BooleanCollections.CHUNK_SIZE + 32, "chunk of " + csq.length());
+            sb.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) {
+            sb.append(c);
+            return this;
+        }
+    }
+}
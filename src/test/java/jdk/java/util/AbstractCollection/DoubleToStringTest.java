@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2001, 2005, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.AbstractCollection;
+
+/*
+ * @test
+ * @bug 4486049 6282555 6318622
+ * @summary toString method fails if size changes in between a call to size
+ *           and an attempt to iterate.
+ * @author Josh Bloch, Martin Buchholz
+ */
+
+import com.xenoamess.commons.primitive.collections.lists.array_lists.DoubleArrayList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.DoubleCollections;
+import com.xenoamess.commonx_additional_tests.primitive.collections.deques.DoubleArrayDeque;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.DoubleArrayLists;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.GrowthPolicy;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.array_lists.GrowthPolicyDoubleArrayList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteDoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleToStringTest {
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static final double X = 1.0;
+    static final double Y = 2.5;
+    static final double Z = Double.NaN;
+
+    @Test
+    public void testCollections() {
+        testCollection(new DoubleArrayDeque() {
+            @Override
+            public int size() {
+                return super.size() + 1; // Lies, lies, all lies!
+            }
+        });
+        testCollection(new DoubleArrayDeque());
+        testCollection(new CopyOnWriteDoubleArrayList());
+        testCollection(new GrowthPolicyDoubleArrayList(GrowthPolicy.DOUBLING));
+    }
+
+    private static void testCollection(Collection<Double> c) {
+        assertEquals("[]", c.toString());
+        assertTrue(c.add(X));
+        assertEquals("[" + X + "]", c.toString());
+        assertTrue(c.add(Y));
+        assertEquals("[" + X + ", " + Y + "]", c.toString());
+        // a double collection holds no null; an extreme value instead.
+        assertTrue(c.add(Z));
+        assertEquals("[" + X + ", " + Y + ", " + Z + "]", c.toString());
+        // nor can it hold itself, so a boxed collection holds both it and itself.
+        List<Object> outer = new ArrayList<>();
+        outer.add(c);
+        outer.add(outer);
+        assertEquals("[[" + X + ", " + Y + ", " + Z + "], (this Collection)]", outer.toString());
+    }
+
+    static double randomDouble() {
+        switch (rnd.nextInt(8)) {
+            case 0:
+                return Double.NaN;
+            case 1:
+                return -0.0;
+            case 2:
+                return Double.NEGATIVE_INFINITY;
+            case 3:
+                return Double.MIN_VALUE;
+            default:
+                return Double.longBitsToDouble(rnd.nextLong());
+        }
+    }
+
+    @Test
+    public void testSameTextAsBoxed() throws IOException {
+        // the largest take several chunks of appendTo.
+        for (int size : new int[]{0, 1, 2, 100, 5000}) {
+            double[] a = new double[size];
+            for (int i = 0; i < size; i++)
+                a[i] = randomDouble();
+            String expected = Arrays.toString(a);
+
+            DoubleArrayList list = new DoubleArrayList(size);
+            DoubleArrayDeque deque = new DoubleArrayDeque();
+            GrowthPolicyDoubleArrayList growth = new GrowthPolicyDoubleArrayList(GrowthPolicy.DOUBLING);
+            for (int i = 0; i < size; i++) {
+                list.addPrimitive(i, a[i]);
+                deque.addLastPrimitive(a[i]);
+                growth.addPrimitive(i, a[i]);
+            }
+            CopyOnWriteDoubleArrayList cow = new CopyOnWriteDoubleArrayList(a);
+            assertEquals(expected, new ArrayList<>(list).toString());
+            check(expected, DoubleArrayLists.toString(list), out -> DoubleArrayLists.appendTo(list, out));
+            check(expected, DoubleCollections.toString(list), out -> DoubleCollections.appendTo(list, out));
+            check(expected, deque.toString(), deque::appendTo);
+            check(expected, growth.toString(), growth::appendTo);
+            check(expected, cow.toString(), cow::appendTo);
+
+            final int off = size / 3;
+            final int len = size / 3;
+            check(Arrays.toString(Arrays.copyOfRange(a, off, off + len)),
+                    DoubleCollections.toString(a, off, len), out -> DoubleCollections.appendTo(a, off, len, out));
+        }
+    }
+
+    @Test
+    public void testRangeChecks() {
+        double[] a = new double[4];
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleCollections.toString(a, -1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleCollections.toString(a, 1, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleCollections.toString(a, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> DoubleCollections.appendTo(a, 5, 0, new StringBuilder()));
+        assertThrows(NullPointerException.class, () -> DoubleCollections.appendTo(a, 0, 4, null));
+        assertEquals("[]", DoubleCollections.toString(a, 4, 0));
+    }
+
+    interface Appender {
+        Appendable appendTo(Appendable out) throws IOException;
+    }
+
+    /**
+     * Checks actual, then what appender appends to a StringBuilder, a Writer, and any other Appendable.
+     */
+    private static void check(String expected, String actual, Appender appender) throws IOException {
+        assertEquals(expected, actual);
+        StringBuilder sb = new StringBuilder("x");
+        assertSame(sb, appender.appendTo(sb));
+        assertEquals("x" + expected, sb.toString());
+        StringWriter writer = new StringWriter();
+        assertSame(writer, appender.appendTo(writer));
+        assertEquals(expected, writer.toString());
+        ChunkCheckingAppendable other = new ChunkCheckingAppendable();
+        assertSame(other, appender.appendTo(other));
+        assertEquals(expected, other.sb.toString());
+    }
+
+    /**
+     * Neither a StringBuilder nor a Writer, and takes no chunk longer than the chunk buffer.
+     */
+    static final class ChunkCheckingAppendable implements Appendable {
+        final StringBuilder sb = new StringBuilder();
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            assertTrue(csq.length() <= DoubleCollections.CHUNK_SIZE + 32, "chunk of " + csq.length());
+            sb.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) {
+            sb.append(c);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 1998, 1999, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.ArrayDeque;
+
+/*
+ * @test
+ * @bug 4163207
+ * @summary AddAll was prepending instead of appending!
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.deques.DoubleArrayDeque;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class DoubleAddAllTest {
+    @Test
+    public void main() {
+        List<Double> head = Collections.nCopies(7, (double) 0);
+        List<Double> tail = Collections.nCopies(4, (double) 1);
+        DoubleArrayDeque d1 = new DoubleArrayDeque(head);
+        ArrayDeque<Double> d2 = new ArrayDeque<>(head);
+        d1.addAll(tail);
+        d2.addAll(tail);
+        assert (Arrays.equals(d1.toArray(), d2.toArray()));
+        d1.addAll(d1);
+        // java.util.ArrayDeque itself does not allow adding itself.
+        d2.addAll(new ArrayDeque<>(d2));
+        assert (Arrays.equals(d1.toArray(), d2.toArray()));
+        assert (d1.size() == 22);
+        ArrayDeque<Double> t1 = new ArrayDeque<>();
+        t1.addAll(d1);
+        d1.addAll(d2);
+        d2.addAll(t1);
+        assert (Arrays.equals(d1.toArray(), d2.toArray()));
+    }
+}
@@ -116,4 +116,23 @@ public class BooleanArrayManagementTest {
             }
         }
     }
+
+    @Test
+    public void trimToSize() {
+        for (int size : new int[]{0, 1, DEFAULT_CAPACITY, 100}) {
+            BooleanArrayList list = new BooleanArrayList(size + 7);
+            for (int i = 0; i < size; i++)
+                list.addPrimitive(i, i % 2 == 0);
+            boolean[] elements = list.toArrayPrimitive(new boolean[0]);
+            int oldModCount = modCount(list);
+            list.trimToSize();
+            assertEquals(size, capacity(list));
+            assertEquals(oldModCount + 1, modCount(list));
+            assertArrayEquals(elements, list.toArrayPrimitive(new boolean[0]));
+            // already trimmed, so the array is kept.
+            boolean[] elementData = elementData(list);
+            list.trimToSize();
+            assertSame(elementData, elementData(list));
+        }
+    }
 }
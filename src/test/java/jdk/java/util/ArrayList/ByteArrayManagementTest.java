@@ -116,4 +116,23 @@ public class ByteArrayManagementTest {
             }
         }
     }
+
+    @Test
+    public void trimToSize() {
+        for (int size : new int[]{0, 1, DEFAULT_CAPACITY, 100}) {
+            ByteArrayList list = new ByteArrayList(size + 7);
+            for (int i = 0; i < size; i++)
+                list.addPrimitive(i, (byte) i);
+            byte[] elements = list.toArrayPrimitive(new byte[0]);
+            int oldModCount = modCount(list);
+            list.trimToSize();
+            assertEquals(size, capacity(list));
+            assertEquals(oldModCount + 1, modCount(list));
+            assertArrayEquals(elements, list.toArrayPrimitive(new byte[0]));
+            // already trimmed, so the array is kept.
+            byte[] elementData = elementData(list);
+            list.trimToSize();
+            assertSame(elementData, elementData(list));
+        }
+    }
 }
@@ -34,6 +34,7 @@ package jdk.java.util.ArrayList;/*
 
 import com.xenoamess.commons.primitive.collections.lists.ByteList;
 import com.xenoamess.commons.primitive.collections.lists.array_lists.ByteArrayList;
+import com.xenoamess.commons.primitive.iterators.ByteIterator;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -167,6 +168,14 @@ public class ByteRangeCheckMicroBenchmarkTest {
                 throw new Error();
     }
 
+    private static void deoptimizePrimitive(ByteArrayList list) {
+        int n = 0;
+        for (ByteIterator it = list.iterator(); it.hasNext(); n++)
+            it.nextPrimitive();
+        if (n != list.size())
+            throw new Error();
+    }
+
     /**
      * Usage: [iterations=N] [size=N] [filter=REGEXP]
      */
@@ -201,6 +210,26 @@ public class ByteRangeCheckMicroBenchmarkTest {
                         deoptimize(list);
                     }
                 },
+                new Job("getPrimitive") {
+                    void work() {
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size; k++)
+                                if (list.getPrimitive(k) == 42)
+                                    throw new Error();
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
+                new Job("setPrimitive") {
+                    void work() {
+                        byte[] xs = list.toArrayPrimitive(new byte[size]);
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size; k++)
+                                list.setPrimitive(k, xs[k]);
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
                 new Job("get/set") {
                     void work() {
                         for (int i = 0; i < iterations; i++) {
@@ -210,6 +239,15 @@ public class ByteRangeCheckMicroBenchmarkTest {
                         deoptimize(list);
                     }
                 },
+                new Job("getPrimitive/setPrimitive") {
+                    void work() {
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size; k++)
+                                list.setPrimitive(k, list.getPrimitive(size - k - 1));
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
                 new Job("add/remove at end") {
                     void work() {
                         Byte x = (byte) rnd.nextLong();
@@ -222,6 +260,18 @@ public class ByteRangeCheckMicroBenchmarkTest {
                         deoptimize(list);
                     }
                 },
+                new Job("addPrimitive/remove at end") {
+                    void work() {
+                        byte x = (byte) rnd.nextLong();
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size - 1; k++) {
+                                list.addPrimitive(size, x);
+                                list.remove(size);
+                            }
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
                 new Job("subList get") {
                     void work() {
                         ByteList sublist = list.subList(0, list.size());
@@ -244,6 +294,28 @@ public class ByteRangeCheckMicroBenchmarkTest {
                         deoptimize(list);
                     }
                 },
+                new Job("subList getPrimitive") {
+                    void work() {
+                        ByteList sublist = list.subList(0, list.size());
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size; k++)
+                                if (sublist.getPrimitive(k) == 42)
+                                    throw new Error();
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
+                new Job("subList setPrimitive") {
+                    void work() {
+                        ByteList sublist = list.subList(0, list.size());
+                        byte[] xs = sublist.toArrayPrimitive(new byte[size]);
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size; k++)
+                                sublist.setPrimitive(k, xs[k]);
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
                 new Job("subList get/set") {
                     void work() {
                         ByteList sublist = list.subList(0, list.size());
@@ -254,6 +326,16 @@ public class ByteRangeCheckMicroBenchmarkTest {
                         deoptimize(list);
                     }
                 },
+                new Job("subList getPrimitive/setPrimitive") {
+                    void work() {
+                        ByteList sublist = list.subList(0, list.size());
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size; k++)
+                                sublist.setPrimitive(k, sublist.getPrimitive(size - k - 1));
+                        }
+                        deoptimizePrimitive(list);
+                    }
+                },
                 new Job("subList add/remove at end") {
                     void work() {
                         ByteList sublist = list.subList(0, list.size());
@@ -266,6 +348,19 @@ public class ByteRangeCheckMicroBenchmarkTest {
                         }
                         deoptimize(list);
                     }
+                },
+                new Job("subList addPrimitive/remove at end") {
+                    void work() {
+                        ByteList sublist = list.subList(0, list.size());
+                        byte x = (byte) rnd.nextLong();
+                        for (int i = 0; i < iterations; i++) {
+                            for (int k = 0; k < size - 1; k++) {
+                                sublist.addPrimitive(size, x);
+                                sublist.remove(size);
+                            }
+                        }
+                        deoptimizePrimitive(list);
+                    }
                 }
         };
 
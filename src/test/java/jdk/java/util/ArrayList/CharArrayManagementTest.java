@@ -116,4 +116,23 @@ public class CharArrayManagementTest {
             }
         }
     }
+
+    @Test
+    public void trimToSize() {
+        for (int size : new int[]{0, 1, DEFAULT_CAPACITY, 100}) {
+            CharArrayList list = new CharArrayList(size + 7);
+            for (int i = 0; i < size; i++)
+                list.addPrimitive(i, (char) i);
+            char[] elements = list.toArrayPrimitive(new char[0]);
+            int oldModCount = modCount(list);
+            list.trimToSize();
+            assertEquals(size, capacity(list));
+            assertEquals(oldModCount + 1, modCount(list));
+            assertArrayEquals(elements, list.toArrayPrimitive(new char[0]));
+            // already trimmed, so the array is kept.
+            char[] elementData = elementData(list);
+            list.trimToSize();
+            assertSame(elementData, elementData(list));
+        }
+    }
 }
@@ -116,4 +116,23 @@ public class FloatArrayManagementTest {
             }
         }
     }
+
+    @Test
+    public void trimToSize() {
+        for (int size : new int[]{0, 1, DEFAULT_CAPACITY, 100}) {
+            FloatArrayList list = new FloatArrayList(size + 7);
+            for (int i = 0; i < size; i++)
+                list.addPrimitive(i, (float) i);
+            float[] elements = list.toArrayPrimitive(new float[0]);
+            int oldModCount = modCount(list);
+            list.trimToSize();
+            assertEquals(size, capacity(list));
+            assertEquals(oldModCount + 1, modCount(list));
+            assertArrayEquals(elements, list.toArrayPrimitive(new float[0]));
+            // already trimmed, so the array is kept.
+            float[] elementData = elementData(list);
+            list.trimToSize();
+            assertSame(elementData, elementData(list));
+        }
+    }
 }
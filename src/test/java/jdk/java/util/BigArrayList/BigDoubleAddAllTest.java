@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.BigArrayList;
+
+/*
+ * @test
+ * @bug     4715206
+ * @summary Ensure that addAll method can cope with underestimate by size().
+ * @author  Josh Bloch
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.big_lists.BigDoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BigDoubleAddAllTest {
+    public static void main(String[] args) {
+        for (int j = 0; j < 1; j++) {
+            Map m = new WeakHashMap(100000);
+            for (int i = 0; i < 100000; i++)
+                m.put((double) i, Boolean.TRUE);
+            new BigDoubleArrayList().addAll(m.keySet());
+        }
+    }
+
+    @Test
+    public void testAddAllAcrossChunks() {
+        BigDoubleArrayList list = new BigDoubleArrayList(0, 3);
+        double[] src = new double[20];
+        for (int i = 0; i < src.length; i++)
+            src[i] = (double) i;
+        list.addPrimitive((double) 0);
+        list.addAll(src, 1, 19);
+        assertEquals(20, list.size());
+        for (int i = 0; i < 20; i++)
+            assertEquals((double) i, list.getPrimitive(i));
+    }
+
+    @Test
+    public void testAddAllSelf() {
+        BigDoubleArrayList list = new BigDoubleArrayList(0, 2);
+        for (int i = 0; i < 7; i++)
+            list.addPrimitive((double) i);
+        list.addAll(list);
+        assertEquals(14, list.size());
+        for (int i = 0; i < 14; i++)
+            assertEquals((double) (i % 7), list.getPrimitive(i));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016 Google, Inc.  All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package jdk.java.util.BigArrayList;
+
+/*
+ * @test
+ * @bug 8146568
+ * @summary repro for: NegativeArraySizeException in ArrayList.grow(int)
+ * @run main/othervm -Xmx40g Bug8146568
+ * @ignore This test has huge memory requirements
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.big_lists.BigIntArrayList;
+
+public class BigIntBug8146568Test {
+    public static void main(String[] args) {
+        int size = Integer.MAX_VALUE - 2;
+        BigIntArrayList huge = new BigIntArrayList(size);
+        for (int i = 0; i < size; i++)
+            huge.addPrimitive((int) 0);
+        // unlike IntArrayList, a big list goes past Integer.MAX_VALUE
+        huge.addAll(huge);
+        if (huge.size() != 2L * size)
+            throw new Error("size: " + huge.size());
+    }
+}
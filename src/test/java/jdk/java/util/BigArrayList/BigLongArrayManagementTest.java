@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 Google, Inc.  All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.BigArrayList;
+
+/*
+ * @test
+ * @bug 8146568
+ * @summary brittle white box test of internal array management
+ * @modules java.base/java.util:open
+ * @run testng ArrayManagement
+ */
+
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.big_lists.BigLongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class BigLongArrayManagementTest {
+    static final int CHUNK_SHIFT = 4;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    static final Field CHUNKS;
+    static final Field MODCOUNT;
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static {
+        try {
+            CHUNKS = BigLongArrayList.class.getDeclaredField("chunks");
+            CHUNKS.setAccessible(true);
+            MODCOUNT = BigLongArrayList.class.getDeclaredField("modCount");
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static long[][] chunks(BigLongArrayList list) {
+        try {
+            return (long[][]) CHUNKS.get(list);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int modCount(BigLongArrayList list) {
+        try {
+            return MODCOUNT.getInt(list);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static void ensureCapacity(BigLongArrayList list, long capacity) {
+        long oldCapacity = list.capacity();
+        int oldModCount = modCount(list);
+        list.ensureCapacity(capacity);
+        assertTrue(list.capacity() >= capacity);
+        assertEquals(modCount(list),
+                (list.capacity() == oldCapacity)
+                        ? oldModCount
+                        : oldModCount + 1);
+    }
+
+    @Test
+    public void emptyArraysAreShared() {
+        assertSame(chunks(new BigLongArrayList()),
+                chunks(new BigLongArrayList()));
+        assertSame(chunks(new BigLongArrayList(0)),
+                chunks(new BigLongArrayList(0)));
+        assertSame(chunks(new BigLongArrayList()),
+                chunks(new BigLongArrayList(0)));
+    }
+
+    @Test
+    public void negativeCapacity() {
+        for (long capacity : new long[]{-1, Integer.MIN_VALUE, Long.MIN_VALUE}) {
+            try {
+                new BigLongArrayList(capacity);
+                fail("should throw");
+            } catch (IllegalArgumentException success) {
+            }
+        }
+    }
+
+    @Test
+    public void illegalChunkShift() {
+        for (int chunkShift : new int[]{-1, 31}) {
+            try {
+                new BigLongArrayList(0, chunkShift);
+                fail("should throw");
+            } catch (IllegalArgumentException success) {
+            }
+        }
+    }
+
+    @Test
+    public void capacityIsWholeChunks() {
+        BigLongArrayList list = new BigLongArrayList(CHUNK_SIZE + 1, CHUNK_SHIFT);
+        assertEquals(2 * CHUNK_SIZE, list.capacity());
+        assertEquals(0, list.size());
+        for (int i = 0; i < 5; i++)
+            ensureCapacity(list, rnd.nextInt(20 * CHUNK_SIZE));
+        ensureCapacity(list, -1);
+    }
+
+    @Test
+    public void growthKeepsChunks() {
+        BigLongArrayList list = new BigLongArrayList(0, CHUNK_SHIFT);
+        list.addPrimitive((long) 1);
+        long[] first = chunks(list)[0];
+        assertEquals(CHUNK_SIZE, first.length);
+        for (int i = 1; i < 100 * CHUNK_SIZE; i++)
+            list.addPrimitive((long) 1);
+        // existing chunks are never copied on growth
+        assertSame(first, chunks(list)[0]);
+        assertEquals(100L * CHUNK_SIZE, list.size());
+        assertEquals(100L * CHUNK_SIZE, list.capacity());
+    }
+
+    @Test
+    public void trimToSize() {
+        BigLongArrayList list = new BigLongArrayList(10 * CHUNK_SIZE, CHUNK_SHIFT);
+        list.addPrimitive((long) 1);
+        long[] first = chunks(list)[0];
+        list.trimToSize();
+        assertEquals(1, chunks(list).length);
+        assertSame(first, chunks(list)[0]);
+        assertEquals(CHUNK_SIZE, list.capacity());
+        list.clear();
+        list.trimToSize();
+        assertEquals(0, chunks(list).length);
+        assertEquals(0, list.capacity());
+    }
+
+    @Test
+    public void insertAndRemoveAcrossChunks() {
+        BigLongArrayList list = new BigLongArrayList(0, 2);
+        java.util.ArrayList<Long> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long x = (long) rnd.nextInt(100);
+            int index = rnd.nextInt(expected.size() + 1);
+            list.addPrimitive(index, x);
+            expected.add(index, x);
+        }
+        for (int i = 0; i < 20; i++) {
+            int index = rnd.nextInt(expected.size());
+            assertEquals((long) expected.remove(index), list.removeByIndex(index));
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals((long) expected.get(i), list.getPrimitive(i));
+    }
+
+    @Test
+    public void rangeCheck() {
+        BigLongArrayList list = new BigLongArrayList(0, CHUNK_SHIFT);
+        list.addPrimitive((long) 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setPrimitive(1, (long) 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(2, (long) 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeByIndex(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void iteratorIsFailFast() {
+        BigLongArrayList list = new BigLongArrayList(0, CHUNK_SHIFT);
+        for (int i = 0; i < 3 * CHUNK_SIZE; i++)
+            list.addPrimitive((long) i);
+        LongIterator it = list.iterator();
+        it.nextPrimitive();
+        list.addPrimitive((long) 1);
+        assertThrows(ConcurrentModificationException.class, it::nextPrimitive);
+
+        it = list.iterator();
+        int n = 0;
+        while (it.hasNext()) {
+            it.nextPrimitive();
+            if (n++ % 2 == 0)
+                it.remove();
+        }
+        assertEquals((3 * CHUNK_SIZE + 1) / 2, list.size());
+    }
+}
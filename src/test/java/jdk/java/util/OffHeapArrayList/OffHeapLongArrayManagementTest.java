@@ -0,0 +1,261 @@
+/*
+ * Copyright 2016 Google, Inc.  All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.OffHeapArrayList;
+
+/*
+ * @test
+ * @bug 8146568
+ * @summary brittle white box test of internal array management
+ * @modules java.base/java.util:open
+ * @run testng ArrayManagement
+ */
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractLongList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.off_heap_lists.OffHeapLongArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class OffHeapLongArrayManagementTest {
+    static final int DEFAULT_CAPACITY = 10;
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static {
+        try {
+            ELEMENT_DATA = OffHeapLongArrayList.class.getDeclaredField("elementData");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT = AbstractLongList.class.getDeclaredField("modCount");
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static LongBuffer elementData(OffHeapLongArrayList list) {
+        try {
+            return (LongBuffer) ELEMENT_DATA.get(list);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int modCount(OffHeapLongArrayList list) {
+        try {
+            return MODCOUNT.getInt(list);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(OffHeapLongArrayList list) {
+        return elementData(list).capacity();
+    }
+
+    static int newCapacity(int oldCapacity) {
+        return oldCapacity + (oldCapacity >> 1);
+    }
+
+    static void ensureCapacity(OffHeapLongArrayList list, int capacity) {
+        int oldCapacity = capacity(list);
+        int oldModCount = modCount(list);
+        list.ensureCapacity(capacity);
+        assertTrue(capacity(list) >= capacity || capacity(list) == 0);
+        assertEquals(modCount(list),
+                (capacity(list) == oldCapacity)
+                        ? oldModCount
+                        : oldModCount + 1);
+    }
+
+    static void addOneElement(OffHeapLongArrayList list) {
+        int size = list.size();
+        int oldCapacity = capacity(list);
+        int oldModCount = modCount(list);
+        list.addPrimitive((long) 42);
+        assertEquals(modCount(list), oldModCount + 1);
+        assertEquals(list.size(), size + 1);
+        if (size < oldCapacity) {
+            assertEquals(capacity(list), oldCapacity);
+        } else {
+            assertEquals(capacity(list), Math.max(size + 1, newCapacity(oldCapacity)));
+        }
+    }
+
+    @Test
+    public void emptyArraysAreShared() {
+        assertSame(elementData(new OffHeapLongArrayList()),
+                elementData(new OffHeapLongArrayList()));
+        assertSame(elementData(new OffHeapLongArrayList(0)),
+                elementData(new OffHeapLongArrayList(0)));
+    }
+
+    @Test
+    public void emptyArraysDifferBetweenDefaultAndExplicit() {
+        assertNotSame(elementData(new OffHeapLongArrayList()),
+                elementData(new OffHeapLongArrayList(0)));
+    }
+
+    @Test
+    public void negativeCapacity() {
+        for (int capacity : new int[]{-1, Integer.MIN_VALUE, OffHeapLongArrayList.MAX_CAPACITY + 1}) {
+            try {
+                new OffHeapLongArrayList(capacity);
+                fail("should throw");
+            } catch (IllegalArgumentException success) {
+            }
+        }
+    }
+
+    @Test
+    public void elementDataIsDirect() {
+        OffHeapLongArrayList list = new OffHeapLongArrayList(rnd.nextInt(1, 100));
+        assertTrue(elementData(list).isDirect());
+        list.close();
+    }
+
+    @Test
+    public void defaultCapacity() {
+        OffHeapLongArrayList list = new OffHeapLongArrayList();
+        assertEquals(capacity(new OffHeapLongArrayList()), 0);
+        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+            list.addPrimitive((long) 42);
+            assertEquals(capacity(list), DEFAULT_CAPACITY);
+        }
+        addOneElement(list);
+        assertEquals(capacity(list), newCapacity(DEFAULT_CAPACITY));
+        list.close();
+    }
+
+    @Test
+    public void defaultCapacityEnsureCapacity() {
+        OffHeapLongArrayList list = new OffHeapLongArrayList();
+        for (int i = 0; i <= DEFAULT_CAPACITY; i++) {
+            ensureCapacity(list, i);     // no-op!
+            assertSame(elementData(list), elementData(new OffHeapLongArrayList()));
+        }
+        ensureCapacity(list, DEFAULT_CAPACITY + 1);
+        assertEquals(capacity(list), DEFAULT_CAPACITY + 1);
+        for (int i = 0; i < 10; i++) {
+            int oldCapacity = capacity(list);
+            int minCapacity = oldCapacity + 1 + rnd.nextInt(10);
+            ensureCapacity(list, minCapacity);
+            assertEquals(capacity(list), Math.max(minCapacity, newCapacity(oldCapacity)));
+        }
+        list.close();
+    }
+
+    @Test
+    public void explicitCapacity() {
+        for (int initialCapacity = 1; initialCapacity < 100; initialCapacity++) {
+            OffHeapLongArrayList list = new OffHeapLongArrayList(initialCapacity);
+            assertEquals(capacity(list), initialCapacity);
+            for (int i = 0; i < initialCapacity; i++) {
+                list.addPrimitive((long) 42);
+                assertEquals(capacity(list), initialCapacity);
+            }
+            addOneElement(list);
+            assertEquals(capacity(list), Math.max(initialCapacity + 1, newCapacity(initialCapacity)));
+            list.close();
+        }
+    }
+
+    @Test
+    public void elementsSurviveGrowthAndTrim() {
+        OffHeapLongArrayList list = new OffHeapLongArrayList(1);
+        for (int i = 0; i < 1000; i++)
+            list.addPrimitive((long) i);
+        list.trimToSize();
+        assertEquals(capacity(list), 1000);
+        for (int i = 0; i < 1000; i++)
+            assertEquals((long) i, list.getPrimitive(i));
+        list.clear();
+        list.trimToSize();
+        assertEquals(capacity(list), 0);
+        list.close();
+    }
+
+    @Test
+    public void insertAndRemoveShiftTheTail() {
+        for (int size = 1; size <= 20; size++) {
+            for (int index = 0; index <= size; index++) {
+                OffHeapLongArrayList list = new OffHeapLongArrayList();
+                List<Long> expected = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    list.addPrimitive((long) i);
+                    expected.add((long) i);
+                }
+                list.addPrimitive(index, (long) -1);
+                expected.add(index, (long) -1);
+                assertEquals(expected, list);
+                assertEquals(expected.remove(index), list.remove(index));
+                assertEquals(expected, list);
+                if (index < size) {
+                    assertEquals(expected.remove(index), list.remove(index));
+                    assertEquals(expected, list);
+                }
+                list.close();
+            }
+        }
+    }
+
+    @Test
+    public void negativeIndexThrowsIndexOutOfBounds() {
+        OffHeapLongArrayList list = new OffHeapLongArrayList(10);
+        list.addPrimitive((long) 1);
+        int oldModCount = modCount(list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.setPrimitive(-1, (long) 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(-1, (long) 2));
+        assertEquals(modCount(list), oldModCount);
+        assertEquals(1, list.size());
+        assertEquals((long) 1, list.getPrimitive(0));
+        list.close();
+    }
+
+    @Test
+    public void close() {
+        OffHeapLongArrayList list = new OffHeapLongArrayList(10);
+        list.addPrimitive((long) 1);
+        int oldModCount = modCount(list);
+        list.close();
+        assertTrue(list.isClosed());
+        assertEquals(modCount(list), oldModCount + 1);
+        list.close();
+        assertEquals(modCount(list), oldModCount + 1);
+        assertEquals(0, list.size());
+        assertEquals(capacity(list), 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(0));
+        assertThrows(IllegalStateException.class, () -> list.addPrimitive((long) 1));
+        assertThrows(IllegalStateException.class, () -> list.ensureCapacity(1));
+    }
+}
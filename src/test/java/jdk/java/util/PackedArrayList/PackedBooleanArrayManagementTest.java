@@ -0,0 +1,242 @@
+/*
+ * Copyright 2016 Google, Inc.  All Rights Reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.PackedArrayList;
+
+/*
+ * @test
+ * @bug 8146568
+ * @summary brittle white box test of internal array management
+ * @modules java.base/java.util:open
+ * @run testng ArrayManagement
+ */
+
+import com.xenoamess.commons.primitive.collections.lists.AbstractBooleanList;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.packed_lists.PackedBooleanArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class PackedBooleanArrayManagementTest {
+    static final int DEFAULT_CAPACITY = Long.SIZE;
+    static final Field ELEMENT_DATA;
+    static final Field MODCOUNT;
+    static final SplittableRandom rnd = new SplittableRandom();
+
+    static {
+        try {
+            ELEMENT_DATA = PackedBooleanArrayList.class.getDeclaredField("words");
+            ELEMENT_DATA.setAccessible(true);
+            MODCOUNT = AbstractBooleanList.class.getDeclaredField("modCount");
+            MODCOUNT.setAccessible(true);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static long[] elementData(PackedBooleanArrayList list) {
+        try {
+            return (long[]) ELEMENT_DATA.get(list);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int modCount(PackedBooleanArrayList list) {
+        try {
+            return MODCOUNT.getInt(list);
+        } catch (ReflectiveOperationException huh) {
+            throw new AssertionError(huh);
+        }
+    }
+
+    static int capacity(PackedBooleanArrayList list) {
+        return elementData(list).length * Long.SIZE;
+    }
+
+    static int words(int capacity) {
+        return (capacity + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    static int newCapacity(int oldCapacity) {
+        int oldWords = words(oldCapacity);
+        return (oldWords + (oldWords >> 1)) * Long.SIZE;
+    }
+
+    static void ensureCapacity(PackedBooleanArrayList list, int capacity) {
+        int oldCapacity = capacity(list);
+        int oldModCount = modCount(list);
+        list.ensureCapacity(capacity);
+        assertTrue(capacity(list) >= capacity || capacity(list) == 0);
+        assertEquals(modCount(list),
+                (capacity(list) == oldCapacity)
+                        ? oldModCount
+                        : oldModCount + 1);
+    }
+
+    static void addOneElement(PackedBooleanArrayList list) {
+        int size = list.size();
+        int oldCapacity = capacity(list);
+        int oldModCount = modCount(list);
+        list.addPrimitive(true);
+        assertEquals(modCount(list), oldModCount + 1);
+        assertEquals(list.size(), size + 1);
+        if (size < oldCapacity) {
+            assertEquals(capacity(list), oldCapacity);
+        } else {
+            assertEquals(capacity(list), Math.max(words(size + 1) * Long.SIZE, newCapacity(oldCapacity)));
+        }
+    }
+
+    /**
+     * Checks the bits past the end are clear, which cardinality and the bulk operations rely on.
+     */
+    static void assertUnusedBitsClear(PackedBooleanArrayList list) {
+        long[] words = elementData(list);
+        for (int i = list.size(); i < words.length * Long.SIZE; i++)
+            assertEquals(0L, words[i / Long.SIZE] & (1L << i), "bit " + i);
+    }
+
+    @Test
+    public void emptyArraysAreShared() {
+        assertSame(elementData(new PackedBooleanArrayList()),
+                elementData(new PackedBooleanArrayList()));
+        assertSame(elementData(new PackedBooleanArrayList(0)),
+                elementData(new PackedBooleanArrayList(0)));
+    }
+
+    @Test
+    public void emptyArraysDifferBetweenDefaultAndExplicit() {
+        assertNotSame(elementData(new PackedBooleanArrayList()),
+                elementData(new PackedBooleanArrayList(0)));
+    }
+
+    @Test
+    public void negativeCapacity() {
+        for (int capacity : new int[]{-1, Integer.MIN_VALUE}) {
+            try {
+                new PackedBooleanArrayList(capacity);
+                fail("should throw");
+            } catch (IllegalArgumentException success) {
+            }
+        }
+    }
+
+    @Test
+    public void eightTimesSmallerThanBooleanArray() {
+        for (int capacity : new int[]{1, 63, 64, 65, 1000, 1 << 20}) {
+            PackedBooleanArrayList list = new PackedBooleanArrayList(capacity);
+            assertEquals(words(capacity), elementData(list).length);
+            assertEquals(list.capacity(), capacity(list));
+        }
+    }
+
+    @Test
+    public void defaultCapacity() {
+        PackedBooleanArrayList list = new PackedBooleanArrayList();
+        assertEquals(capacity(new PackedBooleanArrayList()), 0);
+        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+            list.addPrimitive(true);
+            assertEquals(capacity(list), DEFAULT_CAPACITY);
+        }
+        addOneElement(list);
+        assertEquals(capacity(list), 2 * DEFAULT_CAPACITY);
+    }
+
+    @Test
+    public void defaultCapacityEnsureCapacity() {
+        PackedBooleanArrayList list = new PackedBooleanArrayList();
+        for (int i = 0; i <= DEFAULT_CAPACITY; i++) {
+            ensureCapacity(list, i);     // no-op!
+            assertSame(elementData(list), elementData(new PackedBooleanArrayList()));
+        }
+        ensureCapacity(list, DEFAULT_CAPACITY + 1);
+        assertEquals(capacity(list), 2 * DEFAULT_CAPACITY);
+        for (int i = 0; i < 10; i++) {
+            int oldCapacity = capacity(list);
+            int minCapacity = oldCapacity + 1 + rnd.nextInt(1000);
+            ensureCapacity(list, minCapacity);
+            assertEquals(capacity(list), Math.max(words(minCapacity) * Long.SIZE, newCapacity(oldCapacity)));
+        }
+    }
+
+    @Test
+    public void explicitCapacity() {
+        for (int initialCapacity = 1; initialCapacity < 300; initialCapacity++) {
+            PackedBooleanArrayList list = new PackedBooleanArrayList(initialCapacity);
+            int capacity = words(initialCapacity) * Long.SIZE;
+            assertEquals(capacity(list), capacity);
+            for (int i = 0; i < capacity; i++) {
+                list.addPrimitive(true);
+                assertEquals(capacity(list), capacity);
+            }
+            addOneElement(list);
+            assertEquals(capacity(list), Math.max(capacity + Long.SIZE, newCapacity(capacity)));
+        }
+    }
+
+    @Test
+    public void trimToSize() {
+        for (int size : new int[]{0, 1, DEFAULT_CAPACITY, 100}) {
+            PackedBooleanArrayList list = new PackedBooleanArrayList(size + 700);
+            for (int i = 0; i < size; i++)
+                list.addPrimitive(i, i % 2 == 0);
+            boolean[] elements = list.toArrayPrimitive(new boolean[0]);
+            int oldModCount = modCount(list);
+            list.trimToSize();
+            assertEquals(words(size), elementData(list).length);
+            assertEquals(oldModCount + 1, modCount(list));
+            assertArrayEquals(elements, list.toArrayPrimitive(new boolean[0]));
+            // already trimmed, so the array is kept.
+            long[] elementData = elementData(list);
+            list.trimToSize();
+            assertSame(elementData, elementData(list));
+        }
+    }
+
+    @Test
+    public void unusedBitsStayClear() {
+        PackedBooleanArrayList list = new PackedBooleanArrayList();
+        PackedBooleanArrayList ones = new PackedBooleanArrayList();
+        for (int i = 0; i < 300; i++)
+            ones.addPrimitive(true);
+        for (int i = 0; i < 200; i++) {
+            list.addPrimitive(rnd.nextBoolean());
+            list.addPrimitive(rnd.nextInt(list.size() + 1), true);
+            list.remove(rnd.nextInt(list.size()));
+            assertUnusedBitsClear(list);
+        }
+        list.or(ones);
+        assertUnusedBitsClear(list);
+        list.xor(ones);
+        assertUnusedBitsClear(list);
+        list.addAll(list);
+        assertUnusedBitsClear(list);
+        list.clear();
+        assertUnusedBitsClear(list);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2003, 2010, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.PriorityQueue;
+
+/*
+ * @test
+ * @bug 4486658
+ * @summary Checks that a priority queue returns elements in sorted order across various operations
+ */
+
+import com.xenoamess.commons.primitive.iterators.IntIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.queues.IntHeapPriorityQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IntPriorityQueueSortTest {
+    static final int n = 10000;
+
+    static int compare(int x, int y) {
+        return Integer.compare(x, y);
+    }
+
+    @Test
+    public void main() {
+        for (int arity = 2; arity <= 8; arity *= 2)
+            test(arity);
+    }
+
+    void test(int arity) {
+        List<Integer> sorted = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            sorted.add((int) i);
+        List<Integer> shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled);
+
+        Queue<Integer> pq = new IntHeapPriorityQueue(arity, n, IntPriorityQueueSortTest::compare);
+        for (Iterator<Integer> i = shuffled.iterator(); i.hasNext(); )
+            pq.add(i.next());
+
+        List<Integer> recons = new ArrayList<>();
+        while (!pq.isEmpty())
+            recons.add(pq.remove());
+        assertEquals(sorted, recons, "Sort test failed");
+
+        recons.clear();
+        pq = new IntHeapPriorityQueue(shuffled, arity, null);
+        while (!pq.isEmpty())
+            recons.add(pq.remove());
+        assertEquals(sorted, recons, "Heapify test failed");
+
+        // Remove all odd elements from queue
+        IntHeapPriorityQueue primitive = new IntHeapPriorityQueue(shuffled, arity, null);
+        for (IntIterator i = primitive.iterator(); i.hasNext(); )
+            if ((i.nextPrimitive() & 1) == 1)
+                i.remove();
+        recons.clear();
+        while (!primitive.isEmpty())
+            recons.add(primitive.pollPrimitive());
+
+        for (Iterator<Integer> i = sorted.iterator(); i.hasNext(); )
+            if ((i.next() & 1) == 1)
+                i.remove();
+
+        assertEquals(sorted, recons, "Iterator remove test failed.");
+    }
+}
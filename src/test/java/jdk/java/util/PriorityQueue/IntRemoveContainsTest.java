@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.PriorityQueue;
+
+/*
+ * @test
+ * @bug 6785442
+ * @summary Checks that Queue implementations use equals, not compareTo
+ * @author Martin Buchholz
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.queues.IntHeapPriorityQueue;
+import com.xenoamess.commonx_additional_tests.primitive.functions.IntComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntRemoveContainsTest {
+    /**
+     * Orders by the hundreds only, as the original's firstChar orders words by their first letter.
+     */
+    static final IntComparator firstDigit = (x, y) -> Integer.compare(x / 100, y / 100);
+
+    @Test
+    public void main() {
+        test(new IntHeapPriorityQueue(2, 11, firstDigit));
+        test(new IntHeapPriorityQueue(4, 10, firstDigit));
+        test(new IntHeapPriorityQueue(3, 0, firstDigit));
+    }
+
+    private static void test(Queue<Integer> q) {
+        List<Integer> words = Arrays.asList((int) 601, (int) 655, (int) 610, (int) 615, (int) 621, (int) 512);
+        q.addAll(words);
+        for (Integer word : words)
+            assertTrue(q.contains(word));
+        assertFalse(q.contains((int) 699));
+
+        assertTrue(q.remove((int) 655));
+        assertFalse(q.contains((int) 655));
+        assertFalse(q.remove((int) 655));
+        assertTrue(q.remove((int) 610));
+        assertFalse(q.remove((int) 699));
+        assertFalse(q.contains((int) 610));
+        assertEquals(4, q.size());
+        assertEquals(512, (long) q.poll());
+        assertEquals(6, q.poll() / 100);
+        assertEquals(2, q.size());
+    }
+}
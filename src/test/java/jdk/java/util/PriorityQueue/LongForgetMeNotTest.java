@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2006, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.PriorityQueue;
+
+/*
+ * @test
+ * @bug 6394004
+ * @summary Test ForgetMeNot implementation feature (and more)
+ * @author Martin Buchholz
+ */
+
+import com.xenoamess.commons.primitive.iterators.LongIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.queues.LongHeapPriorityQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongForgetMeNotTest {
+    private static void checkQ(LongHeapPriorityQueue q, long... elts) {
+        assertArrayEquals(elts, q.toArrayPrimitive(new long[0]));
+    }
+
+    private static void noMoreElements(final LongIterator it) {
+        for (int j = 0; j < 2; j++) {
+            assertThrows(NoSuchElementException.class, it::nextPrimitive);
+            assertFalse(it.hasNext());
+        }
+    }
+
+    private static void removeIsCurrentlyIllegal(final LongIterator it) {
+        for (int j = 0; j < 2; j++) {
+            assertThrows(IllegalStateException.class, it::remove);
+        }
+    }
+
+    private static void remove(LongIterator it, Queue<Long> q) {
+        int size = q.size();
+        it.remove();
+        removeIsCurrentlyIllegal(it);
+        assertEquals(size, q.size() + 1);
+    }
+
+    /**
+     * The sequence below is chosen for a binary heap, so the queue is built with arity 2.
+     */
+    @Test
+    public void realMain() {
+        final LongHeapPriorityQueue q = new LongHeapPriorityQueue(2, 11, null);
+        LongIterator it;
+
+        //----------------------------------------------------------------
+        // Empty
+        //----------------------------------------------------------------
+        checkQ(q);
+        assertTrue(q.isEmpty());
+        assertFalse(q.containsPrimitive((long) 1));
+        it = q.iterator();
+        removeIsCurrentlyIllegal(it);
+        noMoreElements(it);
+        q.clear();
+        assertTrue(q.isEmpty());
+
+        //----------------------------------------------------------------
+        // Singleton
+        //----------------------------------------------------------------
+        q.addPrimitive((long) 1);
+        checkQ(q, (long) 1);
+        assertFalse(q.isEmpty());
+        assertTrue(q.containsPrimitive((long) 1));
+        it = q.iterator();
+        removeIsCurrentlyIllegal(it);
+        assertTrue(it.hasNext());
+        assertEquals((long) 1, it.nextPrimitive());
+        noMoreElements(it);
+        remove(it, q);
+        assertTrue(q.isEmpty());
+        noMoreElements(it);
+        checkQ(q);
+        q.clear();
+
+        //----------------------------------------------------------------
+        // @see PriorityQueue.forgetMeNot
+        //----------------------------------------------------------------
+        final long[] a = {0, 4, 1, 6, 7, 2, 3}; // Carefully chosen!
+        for (long e : a)
+            q.addPrimitive(e);
+        checkQ(q, a);
+        it = q.iterator();
+        checkQ(q, a);
+        removeIsCurrentlyIllegal(it);
+        checkQ(q, a);
+        assertTrue(it.hasNext());
+        removeIsCurrentlyIllegal(it);
+        checkQ(q, a);
+        assertTrue(it.hasNext());
+        assertEquals((long) 0, it.nextPrimitive());
+        assertEquals((long) 4, it.nextPrimitive());
+        assertEquals((long) 1, it.nextPrimitive());
+        assertEquals((long) 6, it.nextPrimitive());
+        assertTrue(it.hasNext());
+        checkQ(q, a);
+        remove(it, q);
+        checkQ(q, (long) 0, (long) 3, (long) 1, (long) 4, (long) 7, (long) 2);
+        assertTrue(it.hasNext());
+        removeIsCurrentlyIllegal(it);
+        assertEquals((long) 7, it.nextPrimitive());
+        remove(it, q);
+        checkQ(q, (long) 0, (long) 2, (long) 1, (long) 4, (long) 3);
+        assertTrue(it.hasNext());
+        removeIsCurrentlyIllegal(it);
+        assertTrue(it.hasNext());
+        assertEquals((long) 3, it.nextPrimitive());
+        assertEquals((long) 2, it.nextPrimitive());
+        assertFalse(it.hasNext());
+        remove(it, q);
+        checkQ(q, (long) 0, (long) 3, (long) 1, (long) 4);
+        assertFalse(it.hasNext());
+        noMoreElements(it);
+        removeIsCurrentlyIllegal(it);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 1999, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.UnrolledLinkedList;
+
+/*
+ * @test
+ * @bug     4216997
+ * @summary Cloning a subclass of LinkedList results in an object that isn't
+ *          an instance of the subclass.
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.linked_lists.UnrolledBooleanLinkedList;
+import org.junit.jupiter.api.Test;
+
+public class UnrolledBooleanCloneTest {
+    @Test
+    public void main() {
+        UnrolledBooleanLinkedList2 l = new UnrolledBooleanLinkedList2();
+        UnrolledBooleanLinkedList2 lClone = (UnrolledBooleanLinkedList2) l.clone();
+        if (!(l.equals(lClone) && lClone.equals(l)))
+            throw new RuntimeException("LinkedList.clone() is broken 1.");
+        l.add(true);
+        lClone = (UnrolledBooleanLinkedList2) l.clone();
+        if (!(l.equals(lClone) && lClone.equals(l)))
+            throw new RuntimeException("LinkedList.clone() is broken 2.");
+        l.add(false);
+        lClone = (UnrolledBooleanLinkedList2) l.clone();
+        if (!(l.equals(lClone) && lClone.equals(l)))
+            throw new RuntimeException("LinkedList.clone() is broken 2.");
+    }
+
+    private static class UnrolledBooleanLinkedList2 extends UnrolledBooleanLinkedList {}
+}
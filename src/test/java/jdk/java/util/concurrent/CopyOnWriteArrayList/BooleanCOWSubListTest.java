@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2013, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * @test
+ * @bug 8011645
+ * @summary CopyOnWriteArrayList.COWSubList.subList does not validate range properly
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteBooleanArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BooleanCOWSubListTest {
+    static boolean v(int i) {
+        return i % 2 == 0;
+    }
+
+    @Test
+    public void main() {
+        List<Boolean> list = new CopyOnWriteBooleanArrayList();
+        list.add(v(1));
+        list.add(v(2));
+        List<Boolean> sub = list.subList(1, 2);
+        try {
+            sub.subList(1, 3); // throws expected IndexOutOfBoundsException
+            throw new RuntimeException("Sublist range not validated");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    @Test
+    public void writesThrough() {
+        CopyOnWriteBooleanArrayList list = new CopyOnWriteBooleanArrayList();
+        for (int i = 0; i < 6; i++)
+            list.addPrimitive(v(i));
+        List<Boolean> sub = list.subList(1, 5);
+        sub.set(0, v(7));
+        sub.add(v(8));
+        sub.remove(1);
+        assertEquals(4, sub.size());
+        assertEquals(v(7), (boolean) sub.get(0));
+        assertEquals(v(8), (boolean) sub.get(3));
+        List<Boolean> subSub = sub.subList(1, 3);
+        subSub.clear();
+        // like java.util.concurrent.CopyOnWriteArrayList, a change through subSub is one sub has not seen.
+        assertThrows(ConcurrentModificationException.class, sub::size);
+        assertEquals(4, list.size());
+        assertEquals(v(0), list.getPrimitive(0));
+        assertEquals(v(7), list.getPrimitive(1));
+        assertEquals(v(8), list.getPrimitive(2));
+        assertEquals(v(5), list.getPrimitive(3));
+    }
+
+    @Test
+    public void comodification() {
+        CopyOnWriteBooleanArrayList list = new CopyOnWriteBooleanArrayList();
+        for (int i = 0; i < 4; i++)
+            list.addPrimitive(v(i));
+        List<Boolean> sub = list.subList(1, 3);
+        list.addPrimitive(v(4));
+        assertThrows(ConcurrentModificationException.class, sub::size);
+        assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+        assertThrows(ConcurrentModificationException.class, () -> sub.set(0, v(0)));
+        assertThrows(ConcurrentModificationException.class, () -> sub.add(v(0)));
+        assertThrows(ConcurrentModificationException.class, () -> sub.remove(0));
+        assertThrows(ConcurrentModificationException.class, sub::iterator);
+        assertThrows(ConcurrentModificationException.class, sub::clear);
+        assertThrows(ConcurrentModificationException.class, () -> sub.subList(0, 1));
+        assertEquals(5, list.size());
+    }
+}
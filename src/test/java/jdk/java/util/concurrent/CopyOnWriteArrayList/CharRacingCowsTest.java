@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2005, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * @test
+ * @bug 6330307 6355645
+ * @summary Check for race conditions in COWArray classes
+ * @author Martin Buchholz
+ */
+
+import com.xenoamess.commons.primitive.iterators.CharIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteCharArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharRacingCowsTest {
+    static final int iterations = 100000;
+
+    static char v(int i) {
+        return (char) i;
+    }
+
+    abstract static class CheckedThread extends Thread {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        protected abstract void realRun() throws Throwable;
+
+        @Override
+        public void run() {
+            try {
+                realRun();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        }
+
+        void joinChecked() throws InterruptedException {
+            join();
+            assertNull(failure.get());
+        }
+    }
+
+    @Test
+    public void equalsRace() throws Throwable {
+        final Character one = v(1);
+        final Character two = v(2);
+        final CopyOnWriteCharArrayList l1 = new CopyOnWriteCharArrayList();
+        final CopyOnWriteCharArrayList l2 = new CopyOnWriteCharArrayList();
+        l1.add(one);
+
+        final CheckedThread t = new CheckedThread() {
+            @Override
+            protected void realRun() {
+                for (int i = 0; i < iterations; i++) {
+                    l2.add(two);
+                    l2.remove(two);
+                }
+            }
+        };
+        t.start();
+        for (int i = 0; i < iterations; i++) {
+            assertFalse(l1.equals(l2));
+            assertFalse(l2.equals(l1));
+        }
+        t.joinChecked();
+    }
+
+    @Test
+    public void hashCodeRace() throws Throwable {
+        final Character one = v(1);
+        final Character two = v(2);
+        final CopyOnWriteCharArrayList l = new CopyOnWriteCharArrayList();
+        l.add(one);
+        final int oneHashCode = Arrays.asList(one).hashCode();
+        final int twoHashCode = Arrays.asList(one, two).hashCode();
+
+        final CheckedThread t = new CheckedThread() {
+            @Override
+            protected void realRun() {
+                for (int i = 0; i < iterations; i++) {
+                    l.add(two);
+                    l.remove(1);
+                }
+            }
+        };
+        t.start();
+        for (int i = 0; i < iterations; i++) {
+            int hashCode = l.hashCode();
+            assertTrue(hashCode == oneHashCode || hashCode == twoHashCode);
+        }
+        t.joinChecked();
+    }
+
+    @Test
+    public void iteratorRace() throws Throwable {
+        final Character one = v(1);
+        final Character two = v(2);
+        final CopyOnWriteCharArrayList l = new CopyOnWriteCharArrayList();
+        l.add(one);
+
+        final CheckedThread t = new CheckedThread() {
+            @Override
+            protected void realRun() {
+                for (int i = 0; i < iterations; i++) {
+                    l.addPrimitive(0, two);
+                    l.remove(0);
+                }
+            }
+        };
+        t.start();
+        for (int i = 0; i < iterations; i++) {
+            // a snapshot is either [one] or [two, one], never anything in between.
+            int n = 0;
+            char last = two;
+            for (CharIterator it = l.iterator(); it.hasNext(); n++)
+                last = it.nextPrimitive();
+            assertTrue(n == 1 || n == 2);
+            assertEquals(one, (Character) last);
+        }
+        t.joinChecked();
+    }
+
+    @Test
+    public void addIfAbsentRace() throws Throwable {
+        final int distinct = 100;
+        for (int round = 0; round < 100; round++) {
+            final CopyOnWriteCharArrayList l = new CopyOnWriteCharArrayList();
+            final CountDownLatch start = new CountDownLatch(1);
+            List<CheckedThread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int offset = t;
+                CheckedThread thread = new CheckedThread() {
+                    @Override
+                    protected void realRun() throws InterruptedException {
+                        start.await();
+                        for (int i = 0; i < distinct; i++)
+                            l.addIfAbsentPrimitive(v((i + offset) % distinct));
+                    }
+                };
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (CheckedThread thread : threads)
+                thread.joinChecked();
+            assertEquals(distinct, l.size());
+            for (int i = 0; i < distinct; i++)
+                assertEquals(l.indexOf(v(i)), l.lastIndexOf(v(i)));
+        }
+    }
+}
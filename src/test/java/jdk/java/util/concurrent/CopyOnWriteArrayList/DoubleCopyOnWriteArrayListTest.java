@@ -0,0 +1,461 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/publicdomain/zero/1.0/
+ * Other contributors include Andrew Wright, Jeffrey Hayes,
+ * Pat Fisher, Mike Judd.
+ */
+
+package jdk.java.util.concurrent.CopyOnWriteArrayList;
+
+import com.xenoamess.commons.primitive.iterators.DoubleIterator;
+import com.xenoamess.commons.primitive.iterators.DoubleListIterator;
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteDoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleCopyOnWriteArrayListTest {
+    static final int SIZE = 5;
+
+    static double v(int i) {
+        return (double) i;
+    }
+
+    static CopyOnWriteDoubleArrayList populatedList(int n) {
+        CopyOnWriteDoubleArrayList list = new CopyOnWriteDoubleArrayList();
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < n; i++)
+            list.addPrimitive(v(i));
+        assertEquals(n <= 0, list.isEmpty());
+        assertEquals(n, list.size());
+        return list;
+    }
+
+    /**
+     * a new list is empty
+     */
+    @Test
+    public void testConstructor() {
+        CopyOnWriteDoubleArrayList list = new CopyOnWriteDoubleArrayList();
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * new list contains all elements of initializing array
+     */
+    @Test
+    public void testConstructor2() {
+        double[] elts = new double[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            elts[i] = v(i);
+        CopyOnWriteDoubleArrayList list = new CopyOnWriteDoubleArrayList(elts);
+        elts[0] = v(SIZE);
+        for (int i = 0; i < SIZE; i++)
+            assertEquals(v(i), list.getPrimitive(i));
+    }
+
+    /**
+     * new list contains all elements of initializing collection
+     */
+    @Test
+    public void testConstructor3() {
+        List<Double> elts = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++)
+            elts.add(v(i));
+        CopyOnWriteDoubleArrayList list = new CopyOnWriteDoubleArrayList(elts);
+        for (int i = 0; i < SIZE; i++)
+            assertEquals(v(i), list.getPrimitive(i));
+        assertEquals(list, new CopyOnWriteDoubleArrayList(list));
+    }
+
+    /**
+     * addAll adds each element from the given collection, including duplicates
+     */
+    @Test
+    public void testAddAll() {
+        CopyOnWriteDoubleArrayList list = populatedList(3);
+        assertTrue(list.addAll(Arrays.asList(v(3), v(4), v(5))));
+        assertEquals(6, list.size());
+        assertTrue(list.addAll(Arrays.asList(v(3), v(4), v(5))));
+        assertEquals(9, list.size());
+        assertTrue(list.addAll(list));
+        assertEquals(18, list.size());
+        assertFalse(list.addAll(Collections.<Double>emptyList()));
+        assertEquals(18, list.size());
+    }
+
+    /**
+     * addAll appends at the end of the list as it is when the copy is made,
+     * even while another thread keeps clearing it
+     */
+    @Test
+    public void testAddAllRacingClear() throws InterruptedException {
+        CopyOnWriteDoubleArrayList list = populatedList(0);
+        List<Double> more = Arrays.asList(v(1), v(2));
+        AtomicBoolean done = new AtomicBoolean();
+        Thread clearer = new Thread(() -> {
+            while (!done.get())
+                list.clear();
+        });
+        clearer.start();
+        try {
+            for (int i = 0; i < 100_000; i++)
+                assertTrue(list.addAll(more));
+        } finally {
+            done.set(true);
+            clearer.join();
+        }
+        assertEquals(0, list.size() % 2);
+    }
+
+    /**
+     * addIfAbsent will not add the element if it already exists in the list
+     */
+    @Test
+    public void testAddIfAbsent() {
+        CopyOnWriteDoubleArrayList list = populatedList(SIZE);
+        assertFalse(list.addIfAbsentPrimitive(v(1)));
+        assertFalse(list.addIfAbsent(v(1)));
+        assertEquals(SIZE, list.size());
+        assertTrue(list.addIfAbsentPrimitive(v(SIZE)));
+        assertEquals(SIZE + 1, list.size());
+        assertFalse(list.addIfAbsentPrimitive(v(SIZE)));
+        assertEquals(SIZE + 1, list.size());
+    }
+
+    /**
+     * addAll inserts at the given index, and appends an array range
+     */
+    @Test
+    public void testAddAllIndex() {
+        CopyOnWriteDoubleArrayList list = populatedList(2);
+        list.addAll(1, Arrays.asList(v(2), v(3)));
+        assertEquals(Arrays.asList(v(0), v(2), v(3), v(1)), list);
+        double[] elts = {v(4), v(5), v(6)};
+        assertTrue(list.addAllPrimitive(elts, 1, 2));
+        assertEquals(Arrays.asList(v(0), v(2), v(3), v(1), v(5), v(6)), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(-1, Arrays.asList(v(0))));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(7, Arrays.asList(v(0))));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAllPrimitive(elts, 2, 2));
+    }
+
+    /**
+     * clear removes all elements from the list
+     */
+    @Test
+    public void testClear() {
+        CopyOnWriteDoubleArrayList list = populatedList(SIZE);
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * contains is true for added elements
+     */
+    @Test
+    public void testContains() {
+        CopyOnWriteDoubleArrayList list = populatedList(3);
+        assertTrue(list.contains(v(1)));
+        assertFalse(list.contains(v(5)));
+        assertFalse(list.contains(null));
+        assertFalse(list.contains("1"));
+    }
+
+    /**
+     * adding at an index places it in the indicated index
+     */
+    @Test
+    public void testAddIndex() {
+        CopyOnWriteDoubleArrayList list = populatedList(3);
+        list.add(0, v(3));
+        assertEquals(4, list.size());
+        assertEquals(v(3), list.getPrimitive(0));
+        assertEquals(v(0), list.getPrimitive(1));
+
+        list.addPrimitive(2, v(4));
+        assertEquals(5, list.size());
+        assertEquals(v(4), list.getPrimitive(2));
+        assertEquals(v(2), list.getPrimitive(4));
+    }
+
+    /**
+     * lists with same elements are equal and have same hashCode
+     */
+    @Test
+    public void testEquals() {
+        CopyOnWriteDoubleArrayList a = populatedList(3);
+        CopyOnWriteDoubleArrayList b = populatedList(3);
+        assertTrue(a.equals(b));
+        assertTrue(b.equals(a));
+        assertTrue(a.equals(new ArrayList<>(b)));
+        assertTrue(new ArrayList<>(b).equals(a));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(new ArrayList<>(a).hashCode(), a.hashCode());
+        a.add(v(3));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(a));
+        assertFalse(a.equals(new ArrayList<>(b)));
+        assertFalse(new ArrayList<>(b).equals(a));
+        b.add(v(3));
+        assertTrue(a.equals(b));
+        assertTrue(b.equals(a));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(Arrays.asList(v(0), v(1), v(2), null)));
+    }
+
+    /**
+     * the hash code kept for an array is dropped with it
+     */
+    @Test
+    public void testHashCodeFollowsChanges() {
+        CopyOnWriteDoubleArrayList list = populatedList(SIZE);
+        List<Double> expected = new ArrayList<>(list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(expected.hashCode(), list.hashCode());
+        list.setPrimitive(0, v(SIZE));
+        expected.set(0, v(SIZE));
+        assertEquals(expected.hashCode(), list.hashCode());
+        list.addPrimitive(v(1));
+        expected.add(v(1));
+        assertEquals(expected.hashCode(), list.hashCode());
+        list.subList(0, 2).clear();
+        expected.subList(0, 2).clear();
+        assertEquals(expected.hashCode(), list.hashCode());
+        list.clear();
+        assertEquals(1, list.hashCode());
+    }
+
+    /**
+     * indexOf and lastIndexOf return the index of the first and last occurrence of the element
+     */
+    @Test
+    public void testIndexOf() {
+        CopyOnWriteDoubleArrayList list = populatedList(3);
+        assertEquals(-1, list.indexOf(v(SIZE)));
+        assertEquals(-1, list.indexOf(null));
+        assertEquals(-1, list.lastIndexOf(v(SIZE)));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, list.indexOf(v(i)));
+            assertEquals(i, list.lastIndexOf(v(i)));
+        }
+        list.addAll(Arrays.asList(v(0), v(1), v(2)));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, list.indexOf(v(i)));
+            assertEquals(i + 3, list.lastIndexOf(v(i)));
+        }
+    }
+
+    /**
+     * iterator() returns an iterator containing the elements of the list in insertion order
+     */
+    @Test
+    public void testIterator() {
+        CopyOnWriteDoubleArrayList full = populatedList(SIZE);
+        DoubleIterator it = full.iterator();
+        for (int j = 0; j < SIZE; j++) {
+            assertTrue(it.hasNext());
+            assertEquals(v(j), it.nextPrimitive());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextPrimitive);
+        assertFalse(new CopyOnWriteDoubleArrayList().iterator().hasNext());
+    }
+
+    /**
+     * iterator.remove throws UnsupportedOperationException
+     */
+    @Test
+    public void testIteratorRemove() {
+        CopyOnWriteDoubleArrayList list = populatedList(SIZE);
+        DoubleIterator it = list.iterator();
+        it.next();
+        assertThrows(UnsupportedOperationException.class, it::remove);
+    }
+
+    /**
+     * an iterator keeps traversing the elements it was created over,
+     * and never throws ConcurrentModificationException
+     */
+    @Test
+    public void testIteratorIsASnapshot() {
+        CopyOnWriteDoubleArrayList list = populatedList(3);
+        DoubleIterator it = list.iterator();
+        assertEquals(v(0), it.nextPrimitive());
+        list.remove(1);
+        list.setPrimitive(1, v(4));
+        list.addPrimitive(v(3));
+        assertEquals(v(1), it.nextPrimitive());
+        assertEquals(v(2), it.nextPrimitive());
+        assertFalse(it.hasNext());
+        assertEquals(Arrays.asList(v(0), v(4), v(3)), list);
+    }
+
+    /**
+     * listIterator traverses all elements
+     */
+    @Test
+    public void testListIterator1() {
+        CopyOnWriteDoubleArrayList full = populatedList(SIZE);
+        DoubleListIterator i = full.listIterator();
+        int j;
+        for (j = 0; i.hasNext(); j++)
+            assertEquals(v(j), i.nextPrimitive());
+        assertEquals(SIZE, j);
+        for (j = SIZE - 1; i.hasPrevious(); j--)
+            assertEquals(v(j), i.previousPrimitive());
+        assertEquals(-1, j);
+        assertThrows(NoSuchElementException.class, i::previousPrimitive);
+    }
+
+    /**
+     * listIterator only returns those elements after the given index
+     */
+    @Test
+    public void testListIterator2() {
+        CopyOnWriteDoubleArrayList full = populatedList(3);
+        DoubleListIterator i = full.listIterator(1);
+        int j;
+        for (j = 0; i.hasNext(); j++)
+            assertEquals(v(j + 1), i.nextPrimitive());
+        assertEquals(2, j);
+        assertThrows(IndexOutOfBoundsException.class, () -> full.listIterator(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> full.listIterator(4));
+    }
+
+    /**
+     * list iterators do not support set or add
+     */
+    @Test
+    public void testListIteratorUnsupported() {
+        CopyOnWriteDoubleArrayList list = populatedList(3);
+        DoubleListIterator i = list.listIterator();
+        i.nextPrimitive();
+        assertThrows(UnsupportedOperationException.class, () -> i.setPrimitive(v(0)));
+        assertThrows(UnsupportedOperationException.class, () -> i.addPrimitive(v(0)));
+        assertThrows(UnsupportedOperationException.class, i::remove);
+    }
+
+    /**
+     * remove(int) removes and returns the object at the given index
+     */
+    @Test
+    public void testRemove_int() {
+        int SIZE = 3;
+        for (int i = 0; i < SIZE; i++) {
+            CopyOnWriteDoubleArrayList full = populatedList(SIZE);
+            assertEquals(v(i), (double) full.remove(i));
+            assertEquals(SIZE - 1, full.size());
+            assertFalse(full.contains(v(i)));
+        }
+    }
+
+    /**
+     * remove(Object) removes the object if found and returns true
+     */
+    @Test
+    public void testRemove_Object() {
+        int SIZE = 3;
+        for (int i = 0; i < SIZE; i++) {
+            CopyOnWriteDoubleArrayList full = populatedList(SIZE);
+            assertFalse(full.remove((Object) v(SIZE)));
+            assertTrue(full.remove((Object) v(i)));
+            assertEquals(SIZE - 1, full.size());
+            assertFalse(full.contains(v(i)));
+        }
+        CopyOnWriteDoubleArrayList x = new CopyOnWriteDoubleArrayList(Arrays.asList(v(4), v(5), v(6)));
+        assertTrue(x.remove((Object) v(6)));
+        assertEquals(Arrays.asList(v(4), v(5)), x);
+        assertTrue(x.remove((Object) v(4)));
+        assertEquals(Arrays.asList(v(5)), x);
+        assertTrue(x.remove((Object) v(5)));
+        assertTrue(x.isEmpty());
+        assertFalse(x.remove((Object) v(5)));
+    }
+
+    /**
+     * set changes the element at the given index
+     */
+    @Test
+    public void testSet() {
+        CopyOnWriteDoubleArrayList full = populatedList(3);
+        assertEquals(v(2), full.setPrimitive(2, v(4)));
+        assertEquals(v(4), full.getPrimitive(2));
+        assertEquals(v(4), (double) full.set(2, v(4)));
+    }
+
+    /**
+     * toArrayPrimitive returns the elements in insertion order, in an array of its own
+     */
+    @Test
+    public void testToArray() {
+        CopyOnWriteDoubleArrayList full = populatedList(3);
+        double[] a = full.toArrayPrimitive(new double[0]);
+        assertArrayEquals(new double[]{v(0), v(1), v(2)}, a);
+        a[0] = v(SIZE);
+        assertEquals(v(0), full.getPrimitive(0));
+        double[] big = new double[4];
+        assertTrue(big == full.toArrayPrimitive(big));
+        assertEquals(v(2), big[2]);
+        assertArrayEquals(new Object[]{v(0), v(1), v(2)}, full.toArray());
+    }
+
+    /**
+     * sublists contain elements at indexes offset from their base
+     */
+    @Test
+    public void testSubList() {
+        CopyOnWriteDoubleArrayList a = populatedList(10);
+        assertTrue(a.subList(1, 1).isEmpty());
+        for (int j = 0; j < 9; ++j) {
+            for (int i = j; i < 10; ++i) {
+                List<Double> b = a.subList(j, i);
+                for (int k = j; k < i; ++k) {
+                    assertEquals(v(k), (double) b.get(k - j));
+                }
+            }
+        }
+
+        List<Double> s = a.subList(2, 5);
+        assertEquals(3, s.size());
+        s.set(2, v(11));
+        assertEquals(v(11), a.getPrimitive(4));
+        s.clear();
+        assertEquals(7, a.size());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> a.subList(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> a.subList(0, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> a.subList(3, 1));
+    }
+
+    /**
+     * get, set, add and remove throw IndexOutOfBoundsException for an index out of range
+     */
+    @Test
+    public void testIndexOutOfBounds() {
+        CopyOnWriteDoubleArrayList list = populatedList(SIZE);
+        for (int index : new int[]{-1, SIZE}) {
+            assertThrows(IndexOutOfBoundsException.class, () -> list.getPrimitive(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.setPrimitive(index, v(0)));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.remove(index));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(-1, v(0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addPrimitive(SIZE + 1, v(0)));
+        assertEquals(populatedList(SIZE), list);
+        assertNotEquals(populatedList(SIZE - 1), list);
+    }
+}
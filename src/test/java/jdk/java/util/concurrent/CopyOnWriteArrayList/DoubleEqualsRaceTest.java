@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2005, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package jdk.java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * @test
+ * @bug 6318638
+ * @summary CopyOnWriteArrayList.equals should be thread-safe
+ * @author Martin Buchholz
+ */
+
+import com.xenoamess.commonx_additional_tests.primitive.collections.lists.concurrent_lists.CopyOnWriteDoubleArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DoubleEqualsRaceTest {
+    @Test
+    public void main() throws Throwable {
+        final int iterations = 100000;
+        final CopyOnWriteDoubleArrayList list = new CopyOnWriteDoubleArrayList();
+        final Double one = (double) 1;
+        final List<Double> oneElementList = Arrays.asList(one);
+        final CopyOnWriteDoubleArrayList twoElementList = new CopyOnWriteDoubleArrayList(Arrays.asList(one, one));
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread t = new Thread(() -> {
+            try {
+                for (int i = 0; i < iterations; i++) {
+                    list.add(one);
+                    list.remove(one);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        t.start();
+        for (int i = 0; i < iterations; i++) {
+            list.equals(oneElementList);
+            list.equals(Collections.EMPTY_LIST);
+            assertFalse(list.equals(twoElementList));
+            assertFalse(twoElementList.equals(list));
+            list.hashCode();
+        }
+        t.join();
+        assertNull(failure.get());
+        assertEquals(0, list.size());
+    }
+}